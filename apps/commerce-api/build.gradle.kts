@@ -34,6 +34,12 @@ dependencies {
     // Redis Cache
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // Local Cache (L1)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Cache Codec (binary JSON)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+
     // Feign Client
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign:4.3.0")
 
@@ -69,6 +75,28 @@ tasks.register("runLargeSeeder", JavaExec::class) {
     environment("MYSQL_DATABASE", "loopers")
 }
 
+// 대용량 데이터 테스트(large-data 태그)는 기본 test 에서 제외하고 별도 태스크로 실행
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("large-data")
+    }
+}
+
+tasks.register("largeDataTest", Test::class) {
+    group = "verification"
+    description = "Run tests tagged large-data (LargeSeeder data)"
+
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("large-data")
+    }
+    maxParallelForks = 1
+    systemProperty("user.timezone", "Asia/Seoul")
+    systemProperty("spring.profiles.active", "test")
+    jvmArgs("-Xshare:off")
+}
+
 tasks.withType<org.springframework.boot.gradle.tasks.run.BootRun> {
     jvmArgs = listOf("-Xmx4g", "-XX:+HeapDumpOnOutOfMemoryError", "-XX:HeapDumpPath=./dumps/")
 }
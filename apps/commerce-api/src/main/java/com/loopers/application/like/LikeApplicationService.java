@@ -1,12 +1,11 @@
 package com.loopers.application.like;
 
+import com.loopers.application.product.ProductApplicationService;
 import com.loopers.application.product.ProductOutputInfo;
-import com.loopers.domain.brand.BrandModel;
-import com.loopers.domain.brand.BrandRepository;
-import com.loopers.domain.category.CategoryModel;
-import com.loopers.domain.category.CategoryRepository;
 import com.loopers.domain.like.LikeModel;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProduct;
+import com.loopers.domain.like.LikedProductCursor;
 import com.loopers.domain.like.ProductLikeDomainService;
 import com.loopers.domain.like.event.ProductLikePublisher;
 import com.loopers.domain.like.event.ProductLikedEvent;
@@ -32,12 +31,13 @@ public class LikeApplicationService {
     private final LikeRepository likeRepository;
     private final ProductRepository productRepository;
     private final ProductLikeDomainService productLikeDomainService;
-    private final BrandRepository brandRepository;
-    private final CategoryRepository categoryRepository;
+    private final ProductApplicationService productApplicationService;
 
     private final ProductLikePublisher likeEventPublisher;
     private final ProductUnLikePublisher unLikeEventPublisher;
 
+    private static final int MAX_LIKED_PRODUCTS_PAGE_SIZE = 100;
+
     /**
      * 사용자가 상품을 좋아요 추가
      */
@@ -77,64 +77,57 @@ public class LikeApplicationService {
     }
 
     /**
-     * 사용자가 상품을 좋아요 했는지 확인
+     * 사용자가 상품을 좋아요 했는지 확인 (사용자별 좋아요 집합을 먼저 확인)
      */
     public boolean isLiked(UserId userId, Long productId) {
         return productLikeDomainService.isLiked(productId, userId);
     }
 
     /**
-     * 사용자의 좋아요 목록 조회
+     * 목록의 상품 중 사용자가 좋아요한 상품 ID (페이지 크기와 무관하게 최대 한 번 조회)
      */
-    public List<ProductOutputInfo> getLikedProducts(UserId userId) {
+    public Set<Long> getLikedProductIds(UserId userId, Collection<Long> productIds) {
+        return productLikeDomainService.findLikedProductIds(userId, productIds);
+    }
 
-        // 좋아요한 상품 ID 목록 조회
-        List<Long> productIds = productLikeDomainService.getLikedProductIds(userId);
+    /**
+     * 사용자의 좋아요 목록 조회 (최근 좋아요 순, 커서 기반)
+     * 한 페이지의 좋아요만 읽고 해당 상품은 상품 일괄 조회(상세 캐시, 반영 대기 중인 좋아요 수 포함)로 채운다.
+     */
+    @Transactional(readOnly = true)
+    public LikedProductPageInfo getLikedProducts(UserId userId, LikedProductCursor cursor, int size) {
+        if (size <= 0 || size > MAX_LIKED_PRODUCTS_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1~" + MAX_LIKED_PRODUCTS_PAGE_SIZE + " 사이여야 합니다.");
+        }
 
-        if (productIds.isEmpty()) {
-            return new ArrayList<>();
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        List<LikedProduct> likes = likeRepository.findLikedProducts(userId, cursor, size + 1);
+        boolean hasNext = likes.size() > size;
+        if (hasNext) {
+            likes = likes.subList(0, size);
+        }
+        if (likes.isEmpty()) {
+            return new LikedProductPageInfo(List.of(), null);
         }
 
-        // 모든 상품 정보를 한 번에 조회
-        Map<Long, ProductModel> productMap = productRepository.findAllByIds(productIds)
+        Map<Long, ProductOutputInfo> productMap = productApplicationService.getProductDetails(
+                        likes.stream().map(LikedProduct::productId).toList())
                 .stream()
-                .collect(Collectors.toMap(ProductModel::getId, product -> product));
-
-        // 모든 브랜드 ID와 카테고리 ID를 수집
-        Set<Long> brandIds = productMap.values().stream()
-                .map(ProductModel::getBrandId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        Set<Long> categoryIds = productMap.values().stream()
-                .map(ProductModel::getCategoryId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        // 모든 브랜드/카테고리 정보를 한 번에 조회
-        Map<Long, BrandModel> brandMap = brandRepository.findAllById(brandIds).stream()
-                .collect(Collectors.toMap(BrandModel::getId, brand -> brand));
-        Map<Long, CategoryModel> categoryMap = categoryRepository.findAllById(categoryIds).stream()
-                .collect(Collectors.toMap(CategoryModel::getId, category -> category));
-
-        List<ProductOutputInfo> productOutputInfoList = new ArrayList<>();
-
-        for (Long productId : productIds) {
-            ProductModel productModel = productMap.get(productId);
-
-            // 만약 좋아요 기록은 있으나 상품이 삭제되어 없을 경우 
-            if (productModel == null) {
-                continue; // 일단 스킵하고 다음 좋아요 기록으로 넘어감
-            }
+                .collect(Collectors.toMap(ProductOutputInfo::id, product -> product));
 
-            BrandModel brandModel = brandMap.get(productModel.getBrandId());
-            CategoryModel categoryModel = categoryMap.get(productModel.getCategoryId());
+        List<LikedProductInfo> products = new ArrayList<>(likes.size());
+        for (LikedProduct like : likes) {
+            ProductOutputInfo product = productMap.get(like.productId());
 
-            ProductOutputInfo outputInfo = ProductOutputInfo.convertToInfo(productModel, brandModel, categoryModel);
-            productOutputInfoList.add(outputInfo);
+            // 좋아요 기록은 있으나 상품이 삭제되어 없으면 건너뜀 (커서는 좋아요 기준이므로 다음 페이지에 영향 없음)
+            if (product == null) {
+                continue;
+            }
+            products.add(new LikedProductInfo(product, like.likedAt()));
         }
 
-        return productOutputInfoList;
-
+        LikedProductCursor nextCursor = hasNext ? likes.get(likes.size() - 1).toCursor() : null;
+        return new LikedProductPageInfo(products, nextCursor);
     }
 
 }
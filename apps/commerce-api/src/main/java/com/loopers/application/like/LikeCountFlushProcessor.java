@@ -0,0 +1,59 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeCountBatch;
+import com.loopers.domain.like.LikeCountFlushRepository;
+import com.loopers.domain.like.LikeCountShardRepository;
+import com.loopers.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 누적된 좋아요 수 변경분을 상품 행에 반영
+ * - 변경분 묶음: 반영 기록을 먼저 INSERT 하므로 같은 묶음을 동시에 반영하려는 다른 노드는 PK 잠금에서 기다렸다가 중복 키로 롤백된다.
+ * - 분할 행: 상품의 분할 행을 잠근 채 합계를 더하고 삭제하므로, 그동안 들어온 좋아요는 삭제 후 새 분할 행에 쌓인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountFlushProcessor {
+
+    private final ProductRepository productRepository;
+    private final LikeCountFlushRepository likeCountFlushRepository;
+    private final LikeCountShardRepository likeCountShardRepository;
+
+    /**
+     * 묶음 반영 (이미 반영된 묶음이면 false, 중복 반영 시도는 DataIntegrityViolationException)
+     */
+    @Transactional
+    public boolean apply(LikeCountBatch batch) {
+        if (likeCountFlushRepository.isFlushed(batch.batchId())) {
+            return false;
+        }
+        likeCountFlushRepository.markFlushed(batch.batchId());
+
+        // 노드 간 행 잠금 순서를 맞춰 교착 상태를 피함
+        for (Map.Entry<Long, Long> entry : new TreeMap<>(batch.deltas()).entrySet()) {
+            productRepository.addLikesCount(entry.getKey(), Math.toIntExact(entry.getValue()));
+        }
+        log.debug("좋아요 수 변경분 반영 - 묶음: {}, 상품 수: {}", batch.batchId(), batch.deltas().size());
+        return true;
+    }
+
+    /**
+     * 상품의 분할 행을 상품 행에 합침 (합친 변경분이 있으면 true)
+     */
+    @Transactional
+    public boolean compactShards(Long productId) {
+        long delta = likeCountShardRepository.drain(productId);
+        if (delta == 0) {
+            return false;
+        }
+        productRepository.addLikesCount(productId, Math.toIntExact(delta));
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeCountBatch;
+import com.loopers.domain.like.LikeCountBuffer;
+import com.loopers.domain.like.LikeCountFlushRepository;
+import com.loopers.domain.like.LikeCountShardRepository;
+import com.loopers.domain.product.ProductPageIndex;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.support.scheduling.config.SchedulingConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 좋아요 수 write-behind 반영
+ * 주기마다 버퍼에 쌓인 변경분을 하나의 묶음으로 넘겨받아 상품별로 합친 값을 한 번에 DB 에 반영한다.
+ * 반영 도중 노드가 죽어 남은 묶음은 ORPHAN_AFTER_MILLIS 가 지나면 어느 노드든 이어서 반영한다.
+ * 분할 행에 쌓인 변경분도 별도 주기로 상품 행에 합친다.
+ *
+ * 반영/합치기는 전용 스케줄러에서 실행해, 기본 스케줄러의 오래 걸리는 재구축 작업과 무관하게 주기를 지킨다.
+ * 반영 기록은 FLUSH_RECORD_RETENTION 이 지나면 지우되, 버퍼에 아직 남아 다시 반영될 수 있는 묶음의 기록은 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountFlusher {
+
+    // 정상 반영 중인 묶음을 다른 노드가 가로채지 않도록 두는 여유 시간
+    static final long ORPHAN_AFTER_MILLIS = 30_000;
+
+    // 반영 기록 보관 기간 (묶음을 이어서 반영하는 여유 시간보다 충분히 길게)
+    static final Duration FLUSH_RECORD_RETENTION = Duration.ofHours(1);
+
+    // 한 주기에 합칠 최대 상품 수
+    private static final int COMPACT_BATCH_SIZE = 500;
+
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeCountShardRepository likeCountShardRepository;
+    private final LikeCountFlushProcessor likeCountFlushProcessor;
+    private final LikeCountFlushRepository likeCountFlushRepository;
+    private final ProductRepository productRepository;
+    private final ProductPageIndex productPageIndex;
+
+    @Scheduled(fixedDelayString = "${like.write-behind.flush-interval:1000}", scheduler = SchedulingConfig.LIKE_COUNT_FLUSH_SCHEDULER)
+    public void flushPeriodically() {
+        if (!likeCountBuffer.isEnabled()) {
+            return;
+        }
+        try {
+            recoverOrphans();
+            likeCountBuffer.claim().ifPresent(this::flush);
+        } catch (Exception e) {
+            log.error("좋아요 수 변경분 반영 실패 - 에러: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${like.count-shards.compact-interval:5000}", scheduler = SchedulingConfig.LIKE_COUNT_FLUSH_SCHEDULER)
+    public void compactShardsPeriodically() {
+        if (!likeCountShardRepository.isEnabled()) {
+            return;
+        }
+        List<Long> compacted = new ArrayList<>();
+        try {
+            for (Long productId : likeCountShardRepository.findProductIds(COMPACT_BATCH_SIZE)) {
+                if (likeCountFlushProcessor.compactShards(productId)) {
+                    compacted.add(productId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("좋아요 수 분할 행 합치기 실패 - 에러: {}", e.getMessage(), e);
+        }
+        reindex(compacted);
+    }
+
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void purgeFlushRecordsPeriodically() {
+        if (!likeCountBuffer.isEnabled()) {
+            return;
+        }
+        try {
+            List<String> unfinishedBatchIds = likeCountBuffer.unfinishedBatches().stream()
+                    .map(LikeCountBatch::batchId)
+                    .toList();
+            int deleted = likeCountFlushRepository.deleteFlushedBefore(
+                    ZonedDateTime.now().minus(FLUSH_RECORD_RETENTION), unfinishedBatchIds);
+            if (deleted > 0) {
+                log.info("좋아요 수 반영 기록 정리 - 삭제 수: {}", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 수 반영 기록 정리 실패 - 에러: {}", e.getMessage());
+        }
+    }
+
+    private void recoverOrphans() {
+        long now = System.currentTimeMillis();
+        for (LikeCountBatch batch : likeCountBuffer.unfinishedBatches()) {
+            if (now - batch.createdAtMillis() >= ORPHAN_AFTER_MILLIS) {
+                log.warn("완료되지 않은 좋아요 수 묶음 재반영 - 묶음: {}", batch.batchId());
+                flush(batch);
+            }
+        }
+    }
+
+    /**
+     * 묶음 반영 후 버퍼에서 제거 (이미 반영된 묶음은 반영 없이 제거)
+     * 반영에 실패한 묶음은 버퍼에 남아 복구 대상이 된다.
+     */
+    void flush(LikeCountBatch batch) {
+        boolean applied;
+        try {
+            applied = likeCountFlushProcessor.apply(batch);
+        } catch (DataIntegrityViolationException e) {
+            applied = false;
+        }
+        likeCountBuffer.complete(batch.batchId());
+
+        if (applied) {
+            reindex(batch.deltas().keySet());
+        }
+    }
+
+    /**
+     * 좋아요 변경 시점에는 DB 값이 그대로이므로 반영 후 정렬 인덱스를 갱신
+     */
+    private void reindex(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            productPageIndex.index(productRepository.findAllByIds(List.copyOf(productIds)));
+        } catch (Exception e) {
+            log.warn("좋아요 수 반영 후 인덱스 갱신 실패 - 상품 수: {}, 에러: {}", productIds.size(), e.getMessage());
+        }
+    }
+}
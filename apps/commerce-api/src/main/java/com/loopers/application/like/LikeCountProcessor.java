@@ -1,5 +1,7 @@
 package com.loopers.application.like;
 
+import com.loopers.domain.like.LikeCountBuffer;
+import com.loopers.domain.like.LikeCountShardRepository;
 import com.loopers.domain.like.event.LikeChangePublisher;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.domain.product.ProductRepository;
@@ -11,6 +13,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import io.github.resilience4j.retry.annotation.Retry;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -18,11 +22,20 @@ public class LikeCountProcessor {
 
     private final ProductRepository productRepository;
     private final LikeChangePublisher likeChangePublisher;
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeCountShardRepository likeCountShardRepository;
 
 
     @Retry(name = "optimisticLockRetry")
     @Transactional
     public void updateProductLikeCount(Long productId, UserId userId, int countDelta) {
+        if (likeCountBuffer.isEnabled() && bufferProductLikeCount(productId, userId, countDelta)) {
+            return;
+        }
+        if (likeCountShardRepository.isEnabled()) {
+            shardProductLikeCount(productId, userId, countDelta);
+            return;
+        }
         try {
             ProductModel product = productRepository.findById(productId)
                     .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
@@ -54,4 +67,57 @@ public class LikeCountProcessor {
                     productId, countDelta, e.getMessage(), e);
         }
     }
+
+    /**
+     * 변경분을 버퍼에 누적 (DB 반영은 LikeCountFlusher 가 묶어서 처리)
+     * 이벤트의 좋아요 수는 DB 값에 아직 반영되지 않은 변경분을 더한 값이며, 버퍼를 쓸 수 없으면 false 를 반환해 DB 에 바로 반영한다.
+     */
+    private boolean bufferProductLikeCount(Long productId, UserId userId, int countDelta) {
+        long pending;
+        try {
+            pending = likeCountBuffer.add(productId, countDelta);
+        } catch (Exception e) {
+            log.warn("[LikeEventHandler] 좋아요 수 버퍼 누적 실패, DB 에 바로 반영 - ProductId: {}, Error: {}",
+                    productId, e.getMessage());
+            return false;
+        }
+
+        try {
+            publishWithPending(productId, userId, countDelta, pending);
+        } catch (Exception e) {
+            log.error("[LikeEventHandler] 좋아요 변경 이벤트 발행 실패 - ProductId: {}, CountDelta: {}, Error: {}",
+                    productId, countDelta, e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * 상품 행 대신 임의의 분할 행에 변경분을 더함 (분할 행은 LikeCountFlusher 가 주기적으로 상품 행에 합침)
+     * 같은 상품의 동시 좋아요가 서로 다른 행을 갱신하므로 상품 행 버전 충돌로 인한 재시도가 없다.
+     */
+    private void shardProductLikeCount(Long productId, UserId userId, int countDelta) {
+        try {
+            likeCountShardRepository.add(productId, countDelta);
+            long pending = likeCountShardRepository.sumByProductIds(List.of(productId)).getOrDefault(productId, 0L);
+            publishWithPending(productId, userId, countDelta, pending);
+        } catch (Exception e) {
+            log.error("[LikeEventHandler] 좋아요 수 분할 행 갱신 실패 - ProductId: {}, CountDelta: {}, Error: {}",
+                    productId, countDelta, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 상품 행의 좋아요 수에 아직 합쳐지지 않은 변경분(이번 변경 포함)을 더한 값으로 이벤트 발행
+     */
+    private void publishWithPending(Long productId, UserId userId, int countDelta, long pending) {
+        int durableCount = productRepository.findById(productId)
+                .map(ProductModel::getLikesCount)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        int newCount = (int) Math.max(0, durableCount + pending);
+        int oldCount = (int) Math.max(0, durableCount + pending - countDelta);
+
+        likeChangePublisher.publish(countDelta > 0
+                ? LikeChangedEvent.liked(productId, userId.getValue(), oldCount, newCount)
+                : LikeChangedEvent.unliked(productId, userId.getValue(), oldCount, newCount));
+    }
 }
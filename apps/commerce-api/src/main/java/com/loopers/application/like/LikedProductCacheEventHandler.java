@@ -0,0 +1,30 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikedProductCache;
+import com.loopers.domain.like.event.ProductLikedEvent;
+import com.loopers.domain.like.event.ProductUnlikedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 좋아요/취소를 사용자별 좋아요 집합과 좋아요 필터에 반영
+ * 바로 이어지는 좋아요 여부 확인이 반영된 값을 보도록 비동기로 처리하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedProductCacheEventHandler {
+
+    private final LikedProductCache likedProductCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductLiked(ProductLikedEvent event) {
+        likedProductCache.added(event.getUserId(), event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductUnliked(ProductUnlikedEvent event) {
+        likedProductCache.removed(event.getUserId(), event.getProductId());
+    }
+}
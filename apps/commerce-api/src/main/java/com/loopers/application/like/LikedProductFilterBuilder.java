@@ -0,0 +1,71 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeKey;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProductFilter;
+import com.loopers.support.collection.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좋아요 필터 구축
+ * 기동 시 좋아요 전체의 (사용자, 상품) 쌍만 인덱스 순으로 읽어 필터를 만들고, 취소된 좋아요와 누락된 전파를 정리하기 위해 주기적으로 다시 만든다.
+ * 행 전체가 아닌 idx_likes_user_created 만 읽으므로 노드마다 재구축해도 테이블 스캔이 일어나지 않는다.
+ * 구축이 끝나기 전까지는 필터 없이 집합 캐시/DB 로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikedProductFilterBuilder {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final LikeRepository likeRepository;
+    private final LikedProductFilter likedProductFilter;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 3_600_000)
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        if (!likedProductFilter.isEnabled()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        BloomFilter filter = likedProductFilter.startBuild();
+        try {
+            long inserted = 0;
+            LikeKey last = null;
+            while (true) {
+                List<LikeKey> chunk = likeRepository.findKeysAfter(last, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                for (LikeKey like : chunk) {
+                    filter.put(LikedProductFilter.key(like.userId(), like.productId()));
+                }
+                inserted += chunk.size();
+                last = chunk.get(chunk.size() - 1);
+            }
+            likedProductFilter.completeBuild(filter, inserted);
+            log.debug("좋아요 필터 구축 소요시간: {}ms", System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            likedProductFilter.abortBuild();
+            log.error("좋아요 필터 구축 실패 - 기존 필터 유지, 에러: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.application.like;
+
+import com.loopers.application.product.ProductOutputInfo;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 목록의 상품 한 건 (좋아요 시각 포함)
+ */
+public record LikedProductInfo(
+        ProductOutputInfo product,
+        ZonedDateTime likedAt
+) {
+}
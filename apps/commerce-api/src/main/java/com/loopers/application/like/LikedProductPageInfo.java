@@ -0,0 +1,14 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikedProductCursor;
+
+import java.util.List;
+
+/**
+ * 좋아요 목록 한 페이지 (다음 페이지가 없으면 nextCursor 는 null)
+ */
+public record LikedProductPageInfo(
+        List<LikedProductInfo> products,
+        LikedProductCursor nextCursor
+) {
+}
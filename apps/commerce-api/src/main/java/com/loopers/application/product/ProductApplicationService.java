@@ -1,21 +1,35 @@
 package com.loopers.application.product;
 
-import com.loopers.domain.brand.BrandModel;
-import com.loopers.domain.brand.BrandRepository;
-import com.loopers.domain.category.CategoryModel;
-import com.loopers.domain.category.CategoryRepository;
+import com.loopers.domain.catalog.CatalogEntry;
+import com.loopers.domain.catalog.CatalogSnapshotService;
+import com.loopers.domain.like.PendingLikeCountService;
+import com.loopers.domain.product.ProductFacetIndex;
+import com.loopers.domain.product.ProductFacets;
+import com.loopers.domain.product.ProductListQueryRepository;
+import com.loopers.domain.product.ProductListViewRepository;
 import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductNameCandidates;
+import com.loopers.domain.product.ProductNameIndex;
+import com.loopers.domain.product.ProductPageIndex;
+import com.loopers.domain.product.ProductRangeFilter;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSearchDomainService;
-import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSelectivity;
+import com.loopers.domain.product.ProductSortScore;
+import com.loopers.domain.product.ProductSummary;
 import com.loopers.domain.product.event.ProductDetailViewedPublisher;
 import com.loopers.domain.product.event.ProductViewedEvent;
+import com.loopers.support.http.RenderedResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -23,142 +37,241 @@ import java.util.stream.Collectors;
 public class ProductApplicationService {
 
     private final ProductRepository productRepository;
-    private final BrandRepository brandRepository;
-    private final CategoryRepository categoryRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
     private final ProductSearchDomainService productSearchDomainService;
     private final ProductCacheService productCacheService;
+    private final ProductPageIndex productPageIndex;
+    private final ProductNameIndex productNameIndex;
+    private final ProductListViewRepository productListViewRepository;
+    private final ProductFacetIndex productFacetIndex;
+    private final PendingLikeCountService pendingLikeCountService;
 
     private final ProductDetailViewedPublisher detailViewedPublisher;
 
+    // 집계에서 보여줄 브랜드/카테고리 수 (상품 수 상위)
+    private static final int FACET_TOP_N = 20;
+
+    // 후보가 이보다 많으면 흔한 검색어이므로 LIKE 조회가 정렬 인덱스를 따라 빨리 끝남
+    private static final int MAX_NAME_SEARCH_CANDIDATES = 2000;
+
     /**
      * 상품 목록 조회 (페이징 / 정렬 - 최신순(기본값), 좋아요순, 가격 낮은 순, 가격 높은 순)
      */
     public List<ProductOutputInfo> getProductList(ProductQuery query) {
 
+        validateQuery(query);
+
+        List<ProductSummary> products;
+
+        // 1. 첫 페이지 요청일 경우 캐시 조회 (미스 시 동시 요청은 하나의 DB 조회로 합쳐짐)
+        if (ProductListCacheKey.isCacheable(query)) {
+            products = productCacheService.getOrLoadFirstPageProducts(ProductListCacheKey.from(query), () -> withPendingLikes(findProducts(query)));
+        } else {
+            // 2. 첫 페이지가 아닐 경우 DB에서 바로 조회
+            products = withPendingLikes(findProducts(query));
+        }
+
+        return convertToProductOutputInfoList(products);
+    }
+
+    /**
+     * 상품 목록 직렬화 응답 조회 (첫 페이지는 직렬화된 바이트를 캐시해 재사용)
+     */
+    public RenderedResponse getRenderedProductList(ProductQuery query, Function<List<ProductOutputInfo>, RenderedResponse> renderer) {
+        if (!ProductListCacheKey.isCacheable(query)) {
+            return renderer.apply(getProductList(query));
+        }
+        validateQuery(query);
+        return productCacheService.getOrRenderFirstPage(ProductListCacheKey.from(query), () -> getProductList(query), renderer);
+    }
+
+    /**
+     * 브랜드/카테고리 필터 범위의 브랜드/카테고리/가격 구간별 상품 수 (메모리 집계에서 조회, 집계가 준비되지 않았으면 empty)
+     * 가격 범위/재고/상품명 필터는 적용되지 않는다.
+     */
+    public Optional<ProductFacetInfo> getProductFacets(Long brandId, Long categoryId) {
+        Optional<ProductFacets> facets = productFacetIndex.facets(brandId, categoryId, FACET_TOP_N);
+        if (facets.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<Long> brandIds = facets.get().brands().stream().map(ProductFacets.Count::id).collect(Collectors.toSet());
+        Set<Long> categoryIds = facets.get().categories().stream().map(ProductFacets.Count::id).collect(Collectors.toSet());
+        return Optional.of(ProductFacetInfo.of(
+                facets.get(),
+                brandId != null || categoryId != null,
+                brandIds.isEmpty() ? Map.of() : catalogSnapshotService.getBrands(brandIds),
+                categoryIds.isEmpty() ? Map.of() : catalogSnapshotService.getCategories(categoryIds)
+        ));
+    }
+
+    private void validateQuery(ProductQuery query) {
         productSearchDomainService.validateSearchCriteria(query.getProductName(), query.getSize());
         productSearchDomainService.validateFilterCriteria(query.getBrandId(), query.getCategoryId());
         productSearchDomainService.validateSortCriteria(query.getSortBy());
+        productSearchDomainService.validateRangeCriteria(query.getMinPrice(), query.getMaxPrice());
+    }
 
-        List<ProductModel> products;
-
-        // 1. 첫 페이지 요청일 경우 캐시 조회 시도
-        if (isFirstPage(query)) {
-            Optional<List<ProductModel>> cachedProducts = productCacheService.getCachedFirstPageProducts(query.getSortBy());
-            if (cachedProducts.isPresent()) {
-                log.debug("첫 페이지 캐시 히트");
-                products = cachedProducts.get();
-            } else {
-                // 2. 캐시 미스 시 DB 조회 및 캐시 저장
-                log.debug("첫 페이지 캐시 미스");
-                products = productRepository.findSearchProductList(
-                    query.getSize(), query.getProductName(), query.getBrandId(), query.getCategoryId(),
-                    query.getSortBy(), query.getLastId(), query.getLastLikesCount(),
+    private List<ProductSummary> findProducts(ProductQuery query) {
+        // 상품명 검색이 아니면 페이지 인덱스에서 ID 만 구한 뒤 PK 로 조회 (인덱스로 처리할 수 없으면 DB 정렬 조회)
+        // 가격 범위/재고 필터는 페이지 인덱스에 없으므로 DB 조회
+        if (query.getProductName() == null || query.getProductName().isBlank()) {
+            if (!query.getRangeFilter().isEmpty()) {
+                return findFromListSource(query);
+            }
+            Optional<List<Long>> pageIds = productPageIndex.findPageIds(
+                    query.getSortBy(), query.getBrandId(), query.getCategoryId(), query.getLastId(),
+                    ProductSortScore.ofCursor(query.getSortBy(), query.getLastLikesCount(), query.getLastPrice(), query.getLastCreatedAt()),
+                    query.getSize()
+            );
+            if (pageIds.isPresent()) {
+                return findAllInOrder(pageIds.get());
+            }
+        } else {
+            // 상품명 검색은 색인으로 후보를 좁힌 뒤 후보와 색인 이후 추가된 상품 안에서만 조회 (후보가 너무 많거나 색인이 없으면 LIKE 조회)
+            Optional<ProductNameCandidates> candidates = productNameIndex.findCandidateIds(query.getProductName(), MAX_NAME_SEARCH_CANDIDATES);
+            if (candidates.isPresent()) {
+                return listSource().findSearchProductListWithin(
+                    candidates.get().ids(), candidates.get().indexedUpToId(), query.getSize(), query.getProductName(), query.getBrandId(), query.getCategoryId(),
+                    query.getRangeFilter(), query.getSortBy(), query.getLastId(), query.getLastLikesCount(),
                     query.getLastPrice(), query.getLastCreatedAt()
                 );
-                productCacheService.cacheFirstPageProducts(query.getSortBy(), products);
             }
-        } else {
-            // 3. 첫 페이지가 아닐 경우 DB에서 바로 조회
-            products = productRepository.findSearchProductList(
-                query.getSize(), query.getProductName(), query.getBrandId(), query.getCategoryId(),
-                query.getSortBy(), query.getLastId(), query.getLastLikesCount(),
-                query.getLastPrice(), query.getLastCreatedAt()
-            );
         }
+        return findFromListSource(query);
+    }
 
-        return convertToProductOutputInfoList(products);
+    private List<ProductSummary> findFromListSource(ProductQuery query) {
+        return listSource().findSearchProductList(
+            query.getSize(), query.getProductName(), query.getBrandId(), query.getCategoryId(),
+            query.getRangeFilter(), estimateSelectivity(query), query.getSortBy(), query.getLastId(), query.getLastLikesCount(),
+            query.getLastPrice(), query.getLastCreatedAt()
+        );
     }
 
     /**
-     * 첫 페이지 확인
+     * 가격 인덱스 우선 여부를 정할 예상 선택도 (메모리 집계 기준, 가격 범위가 없거나 집계가 없으면 null)
      */
-    private boolean isFirstPage(ProductQuery query) {
-        return query.getLastId() == null &&
-               (query.getSortBy() == null || query.getSortBy() == ProductSortBy.LATEST || query.getSortBy() == ProductSortBy.LIKES);
+    private ProductSelectivity estimateSelectivity(ProductQuery query) {
+        ProductRangeFilter rangeFilter = query.getRangeFilter();
+        if (!rangeFilter.hasPriceRange()) {
+            return null;
+        }
+        return productFacetIndex.estimateSelectivity(query.getBrandId(), query.getCategoryId(), rangeFilter.minPrice(), rangeFilter.maxPrice())
+                .orElse(null);
     }
 
-    private List<ProductOutputInfo> convertToProductOutputInfoList(List<ProductModel> productModels) {
-        if (productModels == null || productModels.isEmpty()) {
-            return Collections.emptyList();
-        }
+    /**
+     * 목록 조회 대상 (읽기 모델을 사용하면 브랜드/카테고리명까지 한 번에 조회)
+     */
+    private ProductListQueryRepository listSource() {
+        return productListViewRepository.isEnabled() ? productListViewRepository : productRepository;
+    }
 
-        Set<Long> brandIds = productModels.stream().map(ProductModel::getBrandId).filter(Objects::nonNull).collect(Collectors.toSet());
-        Set<Long> categoryIds = productModels.stream().map(ProductModel::getCategoryId).filter(Objects::nonNull).collect(Collectors.toSet());
+    /**
+     * 상품 테이블에서 읽은 좋아요 수에 아직 상품 행에 합쳐지지 않은 변경분을 더함
+     * 읽기 모델은 변경분이 포함된 좋아요 변경 이벤트로 갱신되므로 그대로 사용한다.
+     */
+    private List<ProductSummary> withPendingLikes(List<ProductSummary> products) {
+        if (products.isEmpty() || productListViewRepository.isEnabled()) {
+            return products;
+        }
+        Map<Long, Long> pending = pendingLikeCountService.pendingDeltas(products.stream().map(ProductSummary::id).toList());
+        if (pending.isEmpty()) {
+            return products;
+        }
+        return products.stream()
+                .map(product -> pending.containsKey(product.id())
+                        ? product.withLikesCount(mergeLikes(product.likesCount(), pending.get(product.id())))
+                        : product)
+                .toList();
+    }
 
-        Map<Long, BrandModel> brandMap = getBrandsFromCacheOrDb(brandIds);
-        Map<Long, CategoryModel> categoryMap = getCategoriesFromCacheOrDb(categoryIds);
+    private static int mergeLikes(int durableCount, long pendingDelta) {
+        return (int) Math.max(0, durableCount + pendingDelta);
+    }
 
-        List<ProductOutputInfo> productOutputInfoList = new ArrayList<>();
-        for (ProductModel model : productModels) {
-            BrandModel brandModel = brandMap.get(model.getBrandId());
-            CategoryModel categoryModel = categoryMap.get(model.getCategoryId());
-            ProductOutputInfo outputInfo = ProductOutputInfo.convertToInfo(model, brandModel, categoryModel);
-            productOutputInfoList.add(outputInfo);
+    private List<ProductSummary> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
         }
-        return productOutputInfoList;
+        Map<Long, ProductSummary> productMap = listSource().findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(ProductSummary::id, product -> product));
+        return ids.stream().map(productMap::get).filter(Objects::nonNull).toList();
     }
 
-    private Map<Long, BrandModel> getBrandsFromCacheOrDb(Set<Long> brandIds) {
-        if (brandIds == null || brandIds.isEmpty()) return Collections.emptyMap();
-        Map<Long, BrandModel> brandMap = new HashMap<>();
-        Set<Long> missingBrandIds = new HashSet<>();
-
-        for (Long brandId : brandIds) {
-            productCacheService.getCachedBrand(brandId, BrandModel.class)
-                .ifPresentOrElse(brand -> brandMap.put(brandId, brand), () -> missingBrandIds.add(brandId));
+    private List<ProductOutputInfo> convertToProductOutputInfoList(List<ProductSummary> products) {
+        if (products == null || products.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        if (!missingBrandIds.isEmpty()) {
-            List<BrandModel> newBrands = brandRepository.findAllById(missingBrandIds);
-            for (BrandModel brand : newBrands) {
-                brandMap.put(brand.getId(), brand);
-                productCacheService.cacheBrand(brand.getId(), brand);
+        // 읽기 모델에서 이름까지 읽은 상품은 그대로 사용하고, 나머지만 카탈로그 스냅샷에서 조회
+        Set<Long> brandIds = products.stream().filter(product -> !product.hasCatalogNames())
+                .map(ProductSummary::brandId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> categoryIds = products.stream().filter(product -> !product.hasCatalogNames())
+                .map(ProductSummary::categoryId).filter(Objects::nonNull).collect(Collectors.toSet());
+
+        Map<Long, CatalogEntry> brandMap = brandIds.isEmpty() ? Map.of() : catalogSnapshotService.getBrands(brandIds);
+        Map<Long, CatalogEntry> categoryMap = categoryIds.isEmpty() ? Map.of() : catalogSnapshotService.getCategories(categoryIds);
+
+        List<ProductOutputInfo> productOutputInfoList = new ArrayList<>();
+        for (ProductSummary product : products) {
+            if (product.hasCatalogNames()) {
+                productOutputInfoList.add(toOutputInfoWithNames(product));
+                continue;
             }
+            CatalogEntry brand = brandMap.get(product.brandId());
+            CatalogEntry category = categoryMap.get(product.categoryId());
+            productOutputInfoList.add(ProductOutputInfo.of(product, brand, category));
         }
-        return brandMap;
+        return productOutputInfoList;
     }
 
-    private Map<Long, CategoryModel> getCategoriesFromCacheOrDb(Set<Long> categoryIds) {
-        if (categoryIds == null || categoryIds.isEmpty()) return Collections.emptyMap();
-        Map<Long, CategoryModel> categoryMap = new HashMap<>();
-        Set<Long> missingCategoryIds = new HashSet<>();
-
-        for (Long categoryId : categoryIds) {
-            productCacheService.getCachedCategory(categoryId, CategoryModel.class)
-                .ifPresentOrElse(category -> categoryMap.put(categoryId, category), () -> missingCategoryIds.add(categoryId));
-        }
+    private ProductOutputInfo toOutputInfoWithNames(ProductSummary product) {
+        return ProductOutputInfo.of(product,
+                product.brandId() == null ? null : new CatalogEntry(product.brandId(), product.brandName(), null),
+                product.categoryId() == null ? null : new CatalogEntry(product.categoryId(), product.categoryName(), null));
+    }
 
-        if (!missingCategoryIds.isEmpty()) {
-            List<CategoryModel> newCategories = categoryRepository.findAllById(missingCategoryIds);
-            for (CategoryModel category : newCategories) {
-                categoryMap.put(category.getId(), category);
-                productCacheService.cacheCategory(category.getId(), category);
+    /**
+     * 전체 상품 내보내기 (ID 오름차순으로 한 건씩 sink 에 전달하고 전달한 건수를 반환)
+     * 커서로 한 행씩 읽으므로 상품 수와 무관하게 메모리 사용량이 일정하며,
+     * sink 가 소켓 쓰기에서 막히면 조회도 그만큼 늦춰진다.
+     */
+    @Transactional(readOnly = true)
+    public long exportProducts(Consumer<ProductOutputInfo> sink) {
+        long count = 0;
+        try (Stream<ProductSummary> products = productRepository.streamAllWithCatalogNames()) {
+            Iterator<ProductSummary> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(toOutputInfoWithNames(iterator.next()));
+                count++;
             }
         }
-        return categoryMap;
+        return count;
     }
 
     /**
      * 상품 상세 조회
+     * 브랜드/카테고리까지 조합된 결과를 캐시하며, 변경 시 collector 가 상품 태그 단위로 무효화한다.
      */
     public ProductOutputInfo getProductDetail(Long id, String userId) {
 
-        ProductModel productModel = productRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 상품을 찾을 수 없습니다."));
-
-        // 브랜드와 카테고리 정보 조회
-        BrandModel brandModel = null;
-        if (productModel.getBrandId() != null) {
-            brandModel = brandRepository.findById(productModel.getBrandId()).orElse(null);
-        }
-        
-        CategoryModel categoryModel = null;
-        if (productModel.getCategoryId() != null) {
-            categoryModel = categoryRepository.findById(productModel.getCategoryId()).orElse(null);
-        }
+        ProductOutputInfo result = productCacheService.getOrLoadProductDetail(id, () -> loadProductDetail(id));
+        publishDetailViewed(id, userId);
+        return result;
+    }
 
-        ProductOutputInfo result = ProductOutputInfo.convertToInfo(productModel, brandModel, categoryModel);
+    /**
+     * 상품 상세 직렬화 응답 조회 (직렬화 캐시 히트 시에도 조회 이벤트는 발행)
+     */
+    public RenderedResponse getRenderedProductDetail(Long id, String userId, Function<ProductOutputInfo, RenderedResponse> renderer) {
+        RenderedResponse result = productCacheService.getOrRenderProductDetail(id,
+                () -> productCacheService.getOrLoadProductDetail(id, () -> loadProductDetail(id)), renderer);
+        publishDetailViewed(id, userId);
+        return result;
+    }
 
+    private void publishDetailViewed(Long id, String userId) {
         if (userId != null && !userId.isBlank()) {
             try {
                 // 상품 조회 이벤트 발행
@@ -169,6 +282,53 @@ public class ProductApplicationService {
                 log.warn("상품 조회 이벤트 발행 실패 - ProductId: {}, UserId: {}", id, userId, e);
             }
         }
+    }
+
+    /**
+     * 상품 일괄 조회 (장바구니/찜 목록/추천 영역 등)
+     * 상세 캐시를 한 번에 조회하고 미스된 상품만 한 번의 DB 조회로 채운다. 결과는 요청 순서를 따르며 없는 상품은 제외된다.
+     */
+    public List<ProductOutputInfo> getProductDetails(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        productSearchDomainService.validateBatchCriteria(distinctIds.size());
+
+        Map<Long, ProductOutputInfo> products = productCacheService.getOrLoadProductDetails(distinctIds, this::loadProductDetails);
+        return distinctIds.stream().map(products::get).filter(Objects::nonNull).toList();
+    }
+
+    private Map<Long, ProductOutputInfo> loadProductDetails(Set<Long> ids) {
+        List<ProductModel> productModels = productRepository.findAllByIds(List.copyOf(ids));
+        if (productModels.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> brandIds = productModels.stream().map(ProductModel::getBrandId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> categoryIds = productModels.stream().map(ProductModel::getCategoryId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, CatalogEntry> brandMap = brandIds.isEmpty() ? Map.of() : catalogSnapshotService.getBrands(brandIds);
+        Map<Long, CatalogEntry> categoryMap = categoryIds.isEmpty() ? Map.of() : catalogSnapshotService.getCategories(categoryIds);
+
+        Map<Long, Long> pending = pendingLikeCountService.pendingDeltas(ids);
+
+        Map<Long, ProductOutputInfo> result = new HashMap<>();
+        for (ProductModel productModel : productModels) {
+            ProductOutputInfo info = ProductOutputInfo.of(
+                    productModel, brandMap.get(productModel.getBrandId()), categoryMap.get(productModel.getCategoryId()));
+            Long delta = pending.get(productModel.getId());
+            result.put(productModel.getId(), delta == null ? info : info.withLikeCount(mergeLikes(info.likeCount(), delta)));
+        }
         return result;
     }
+
+    private ProductOutputInfo loadProductDetail(Long id) {
+        ProductModel productModel = productRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 상품을 찾을 수 없습니다."));
+
+        ProductOutputInfo info = ProductOutputInfo.of(
+                productModel,
+                catalogSnapshotService.getBrand(productModel.getBrandId()),
+                catalogSnapshotService.getCategory(productModel.getCategoryId())
+        );
+        Long delta = pendingLikeCountService.pendingDeltas(List.of(id)).get(id);
+        return delta == null ? info : info.withLikeCount(mergeLikes(info.likeCount(), delta));
+    }
 }
@@ -1,5 +1,6 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.product.ProductSortBy;
 import com.loopers.domain.product.event.ProductChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,19 +22,21 @@ public class ProductCacheEventListener {
         log.info("상품 변경 이벤트 감지 - 상품ID: {}, 변경 타입: {}", 
                 event.getProductId(), event.getChangeType());
         
+        // 상품 상세와 해당 상품이 포함된 목록은 상품 태그로 함께 무효화
+        productCacheService.evictProductDetailCache(event.getProductId());
+
         switch (event.getChangeType()) {
             case CREATED:
-            case UPDATED:
-                // 상품 상세 캐시 무효화
-                productCacheService.evictProductDetailCache(event.getProductId());
-                // 첫 페이지 캐시 무효화 (상품 순서 변경 가능성)
+                // 새 상품이 어느 목록에 들어갈지 알 수 없으므로 첫 페이지 캐시 전체 무효화
                 productCacheService.evictFirstPageCache();
                 break;
+            case UPDATED:
+                // 가격 변경 시 포함되지 않았던 가격순 목록에 새로 들어갈 수 있음
+                productCacheService.evictFirstPageCache(ProductSortBy.PRICE_ASC);
+                productCacheService.evictFirstPageCache(ProductSortBy.PRICE_DESC);
+                break;
             case DELETED:
-                // 상품 상세 캐시 무효화
-                productCacheService.evictProductDetailCache(event.getProductId());
-                // 첫 페이지 캐시 무효화
-                productCacheService.evictFirstPageCache();
+                // 삭제된 상품이 포함된 목록은 상품 태그로 이미 무효화됨
                 break;
         }
     }
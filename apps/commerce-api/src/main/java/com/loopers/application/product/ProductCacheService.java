@@ -1,15 +1,26 @@
 package com.loopers.application.product;
 
-import com.loopers.domain.product.ProductModel;
-import com.loopers.support.cache.util.CacheUtil;
 import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.support.cache.util.CacheAdmissionFilter;
+import com.loopers.support.cache.util.CacheMetrics;
+import com.loopers.support.cache.util.CachePolicy;
+import com.loopers.support.cache.util.CacheUtil;
+import com.loopers.support.http.RenderedResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -17,6 +28,8 @@ import java.util.Optional;
 public class ProductCacheService {
 
     private final CacheUtil cacheUtil;
+    private final CacheAdmissionFilter cacheAdmissionFilter;
+    private final CacheMetrics cacheMetrics;
     
     // Redis 캐싱을 완전히 비활성화할 수 있는 플래그
     private static final boolean DISABLE_CACHE = Boolean.parseBoolean(
@@ -27,188 +40,201 @@ public class ProductCacheService {
     private static final String PRODUCT_DETAIL_PREFIX = "productdetail";
     private static final String BRAND_PREFIX = "brand";
     private static final String CATEGORY_PREFIX = "category";
+    private static final String PRODUCT_TAG_PREFIX = "product";
+    private static final String RENDERED_PREFIX = "rendered";
+
+    // 논리 TTL 이후 stale 구간 동안은 이전 값을 응답하며 백그라운드에서 갱신
+    // 필터가 좁을수록 키 수가 많고 조회 빈도가 낮으므로 짧게 유지
+    private static final Map<ProductListCacheKey.Family, CachePolicy> PRODUCT_LIST_POLICIES = Map.of(
+            ProductListCacheKey.Family.ALL, CachePolicy.of(Duration.ofMinutes(10), Duration.ofMinutes(5)),
+            ProductListCacheKey.Family.BRAND, CachePolicy.of(Duration.ofMinutes(5), Duration.ofMinutes(3)),
+            ProductListCacheKey.Family.CATEGORY, CachePolicy.of(Duration.ofMinutes(5), Duration.ofMinutes(3)),
+            ProductListCacheKey.Family.BRAND_CATEGORY, CachePolicy.of(Duration.ofMinutes(2), Duration.ofMinutes(1))
+    );
+    private static final CachePolicy PRODUCT_DETAIL_POLICY = CachePolicy.of(Duration.ofMinutes(30), Duration.ofMinutes(10));
 
-    private static final Duration PRODUCT_LIST_TTL = Duration.ofMinutes(10);
-    private static final Duration PRODUCT_DETAIL_TTL = Duration.ofMinutes(30);
-    private static final Duration BRAND_TTL = Duration.ofHours(2);
-    private static final Duration CATEGORY_TTL = Duration.ofHours(2);
+    // 직렬화된 응답은 원본 캐시와 같은 태그로 무효화되므로, 만료는 stale 값이 오래 남지 않을 정도로만 둔다
+    // 상세 응답에는 실시간 랭킹이 포함되므로 더 짧게 유지
+    private static final Duration RENDERED_LIST_TTL = Duration.ofMinutes(1);
+    private static final Duration RENDERED_DETAIL_TTL = Duration.ofSeconds(30);
 
     /**
-     * 첫 페이지 상품 목록 캐싱
+     * 첫 페이지 상품 목록 조회 (미스 시 동시 요청 중 하나만 DB 조회 후 캐시 저장)
+     * 캐시는 항상 먼저 조회하고, 필터가 걸린 조합은 미스 시 일정 횟수 이상 요청된 키만 캐시에 적재
      */
-    public void cacheFirstPageProducts(ProductSortBy sortBy, List<ProductModel> products) {
-        if (!isFirstPage(sortBy)) {
-            return;
+    public List<ProductSummary> getOrLoadFirstPageProducts(ProductListCacheKey key, Supplier<List<ProductSummary>> loader) {
+        if (DISABLE_CACHE) {
+            return loader.get();
         }
-        String cacheKey = generateFirstPageCacheKey(sortBy);
-        cacheUtil.set(cacheKey, products, PRODUCT_LIST_TTL);
-        log.debug("첫 페이지 상품(모델) 캐시 저장 - 정렬: {}, 상품 수: {}", sortBy, products.size());
+        return cacheUtil.getListOrLoad(key.value(), ProductSummary.class, PRODUCT_LIST_POLICIES.get(key.family()),
+                products -> productListTags(key, products), loader,
+                cacheKey -> key.family() == ProductListCacheKey.Family.ALL || cacheAdmissionFilter.admit(cacheKey));
     }
 
     /**
-     * 첫 페이지 상품 목록 캐시 조회
+     * 상품 목록 캐시 태그
+     * - 목록 태그: 신규 상품 등록 시 첫 페이지 목록 전체 무효화
+     * - 정렬별 태그: collector 가 좋아요/재고 변경 시 영향받는 정렬의 목록만 무효화
+     * - 상품/브랜드/카테고리 태그: 목록에 포함된 상품이나 필터 대상이 변경되면 해당 목록만 무효화
      */
-    public Optional<List<ProductModel>> getCachedFirstPageProducts(ProductSortBy sortBy) {
-        if (!isFirstPage(sortBy)) {
-            return Optional.empty();
-        }
-        String cacheKey = generateFirstPageCacheKey(sortBy);
-        Optional<List<ProductModel>> cached = cacheUtil.getList(cacheKey, ProductModel.class);
-
-        if (cached.isPresent()) {
-            log.debug("첫 페이지 상품(모델) 캐시 히트 - 정렬: {}, 키: {}", sortBy, cacheKey);
-        } else {
-            log.debug("첫 페이지 상품(모델) 캐시 미스 - 정렬: {}, 키: {}", sortBy, cacheKey);
+    private Set<String> productListTags(ProductListCacheKey key, List<ProductSummary> products) {
+        Set<String> tags = productListKeyTags(key);
+        for (ProductSummary product : products) {
+            addProductTags(tags, product.id(), product.brandId(), product.categoryId());
         }
-        return cached;
+        return tags;
     }
 
-    /**
-     * 첫 페이지 여부 확인
-     */
-    private boolean isFirstPage(ProductSortBy sortBy) {
-        return sortBy == null || sortBy == ProductSortBy.LATEST || sortBy == ProductSortBy.LIKES;
+    private Set<String> productListKeyTags(ProductListCacheKey key) {
+        Set<String> tags = new HashSet<>();
+        tags.add(PRODUCT_LIST_PREFIX);
+        tags.add(PRODUCT_LIST_PREFIX + ":" + key.sortName());
+        if (key.brandId() != null) {
+            tags.add(tag(BRAND_PREFIX, key.brandId()));
+        }
+        if (key.categoryId() != null) {
+            tags.add(tag(CATEGORY_PREFIX, key.categoryId()));
+        }
+        return tags;
     }
 
     /**
-     * 첫 페이지 캐시 키 생성
+     * 첫 페이지 직렬화 응답 조회 (미스 시 목록 캐시를 거쳐 조회한 뒤 직렬화해 저장)
+     * 목록 캐시와 같은 태그를 등록하므로 목록이 무효화되면 함께 무효화된다.
      */
-    private String generateFirstPageCacheKey(ProductSortBy sortBy) {
-        if (sortBy == null || sortBy == ProductSortBy.LIKES) {
-            return PRODUCT_LIST_PREFIX;
+    public RenderedResponse getOrRenderFirstPage(ProductListCacheKey key, Supplier<List<ProductOutputInfo>> loader,
+                                                 Function<List<ProductOutputInfo>, RenderedResponse> renderer) {
+        if (DISABLE_CACHE) {
+            return renderer.apply(loader.get());
+        }
+        String cacheKey = RENDERED_PREFIX + ":" + key.value();
+        Optional<RenderedResponse> cached = cacheUtil.get(cacheKey, RenderedResponse.class);
+        if (cached.isPresent()) {
+            cacheMetrics.recordRequest(cacheKey, CacheMetrics.Result.HIT);
+            return cached.get();
         }
-        return PRODUCT_LIST_PREFIX + ":" + sortBy.name().toLowerCase();
+        cacheMetrics.recordRequest(cacheKey, CacheMetrics.Result.MISS);
+
+        List<ProductOutputInfo> products = loader.get();
+        RenderedResponse rendered = cacheMetrics.recordLoad(cacheKey, () -> renderer.apply(products));
+        if (key.family() == ProductListCacheKey.Family.ALL || cacheAdmissionFilter.admit(cacheKey)) {
+            Set<String> tags = productListKeyTags(key);
+            for (ProductOutputInfo product : products) {
+                addProductTags(tags, product.id(), product.brandId(), product.categoryId());
+            }
+            cacheUtil.set(cacheKey, rendered, RENDERED_LIST_TTL, tags);
+        }
+        return rendered;
     }
 
     /**
-     * 상품 상세 정보 캐시 저장
+     * 상품 상세 정보 조회 (미스 시 동시 요청 중 하나만 DB 조회 후 캐시 저장)
      */
-    public void cacheProductDetail(Long productId, ProductOutputInfo product) {
-        String cacheKey = PRODUCT_DETAIL_PREFIX + ":" + productId;
-        cacheUtil.set(cacheKey, product, PRODUCT_DETAIL_TTL);
-        log.debug("상품상세 캐시 저장 완료 - 키: {}, 상품명: {}", cacheKey, product.name());
+    public ProductOutputInfo getOrLoadProductDetail(Long productId, Supplier<ProductOutputInfo> loader) {
+        return cacheUtil.getOrLoad(productDetailKey(productId), ProductOutputInfo.class, PRODUCT_DETAIL_POLICY,
+                product -> productDetailTags(productId, product), loader);
     }
 
     /**
-     * 상품 상세 정보 캐시 조회
+     * 여러 상품 상세 정보 일괄 조회 (캐시는 한 번에 조회하고, 미스된 상품만 loader 한 번으로 조회 후 저장)
+     * 결과는 productIds 순서를 따른다.
      */
-    public Optional<ProductOutputInfo> getCachedProductDetail(Long productId) {
-        String cacheKey = PRODUCT_DETAIL_PREFIX + ":" + productId;
-        long startTime = System.currentTimeMillis();
-        
-        try {
-            Optional<ProductOutputInfo> cached = cacheUtil.get(cacheKey, ProductOutputInfo.class);
-            long cacheTime = System.currentTimeMillis() - startTime;
-            
-            if (cached.isPresent()) {
-                log.debug("상품상세 캐시 히트 - 상품ID: {}, 캐시 조회 시간: {}ms, 키: {}", 
-                        productId, cacheTime, cacheKey);
-            } else {
-                log.debug("상품상세 캐시 미스 - 상품ID: {}, 캐시 조회 시간: {}ms, 키: {}", 
-                        productId, cacheTime, cacheKey);
-            }
-            
-            return cached;
-        } catch (Exception e) {
-            long cacheTime = System.currentTimeMillis() - startTime;
-            log.error("상품상세 캐시 조회 실패 - 상품ID: {}, 캐시 조회 시간: {}ms, 키: {}, 에러: {}", 
-                    productId, cacheTime, cacheKey, e.getMessage());
-            return Optional.empty();
+    public Map<Long, ProductOutputInfo> getOrLoadProductDetails(Collection<Long> productIds,
+                                                                Function<Set<Long>, Map<Long, ProductOutputInfo>> loader) {
+        if (DISABLE_CACHE) {
+            return loader.apply(new LinkedHashSet<>(productIds));
         }
+        return cacheUtil.getAllOrLoad(productIds, this::productDetailKey, ProductOutputInfo.class, PRODUCT_DETAIL_POLICY,
+                product -> productDetailTags(product.id(), product), loader);
+    }
+
+    private String productDetailKey(Long productId) {
+        return PRODUCT_DETAIL_PREFIX + ":" + productId;
     }
 
     /**
-     * 브랜드 정보 캐시 저장
+     * 상품 상세 캐시 태그
+     * 상품/브랜드/카테고리 단위로 무효화될 수 있도록 등록
      */
-    public void cacheBrand(Long brandId, Object brand) {
-        String cacheKey = BRAND_PREFIX + ":" + brandId;
-        cacheUtil.set(cacheKey, brand, BRAND_TTL);
-        log.debug("브랜드 캐시 저장 완료 - 키: {}", cacheKey);
+    private Set<String> productDetailTags(Long productId, ProductOutputInfo product) {
+        Set<String> tags = new HashSet<>();
+        addProductTags(tags, productId, product.brandId(), product.categoryId());
+        return tags;
     }
 
     /**
-     * 브랜드 정보 캐시 조회
+     * 상품 상세 직렬화 응답 조회 (미스 시 상세 캐시를 거쳐 조회한 뒤 직렬화해 저장)
      */
-    public <T> Optional<T> getCachedBrand(Long brandId, Class<T> clazz) {
-        String cacheKey = BRAND_PREFIX + ":" + brandId;
-        Optional<T> cached = cacheUtil.get(cacheKey, clazz);
-        
+    public RenderedResponse getOrRenderProductDetail(Long productId, Supplier<ProductOutputInfo> loader,
+                                                     Function<ProductOutputInfo, RenderedResponse> renderer) {
+        if (DISABLE_CACHE) {
+            return renderer.apply(loader.get());
+        }
+        String cacheKey = RENDERED_PREFIX + ":" + productDetailKey(productId);
+        Optional<RenderedResponse> cached = cacheUtil.get(cacheKey, RenderedResponse.class);
         if (cached.isPresent()) {
-            log.debug("브랜드 캐시 히트 - 키: {}", cacheKey);
-        } else {
-            log.debug("브랜드 캐시 미스 - 키: {}", cacheKey);
+            cacheMetrics.recordRequest(cacheKey, CacheMetrics.Result.HIT);
+            return cached.get();
         }
-        
-        return cached;
-    }
+        cacheMetrics.recordRequest(cacheKey, CacheMetrics.Result.MISS);
 
-    /**
-     * 카테고리 정보 캐시 저장
-     */
-    public void cacheCategory(Long categoryId, Object category) {
-        String cacheKey = CATEGORY_PREFIX + ":" + categoryId;
-        cacheUtil.set(cacheKey, category, CATEGORY_TTL);
-        log.debug("카테고리 캐시 저장 완료 - 키: {}", cacheKey);
+        ProductOutputInfo product = loader.get();
+        RenderedResponse rendered = cacheMetrics.recordLoad(cacheKey, () -> renderer.apply(product));
+        cacheUtil.set(cacheKey, rendered, RENDERED_DETAIL_TTL, productDetailTags(productId, product));
+        return rendered;
     }
 
-    /**
-     * 카테고리 정보 캐시 조회
-     */
-    public <T> Optional<T> getCachedCategory(Long categoryId, Class<T> clazz) {
-        String cacheKey = CATEGORY_PREFIX + ":" + categoryId;
-        Optional<T> cached = cacheUtil.get(cacheKey, clazz);
-        
-        if (cached.isPresent()) {
-            log.debug("카테고리 캐시 히트 - 키: {}", cacheKey);
-        } else {
-            log.debug("카테고리 캐시 미스 - 키: {}", cacheKey);
+    private void addProductTags(Set<String> tags, Long productId, Long brandId, Long categoryId) {
+        tags.add(tag(PRODUCT_TAG_PREFIX, productId));
+        if (brandId != null) {
+            tags.add(tag(BRAND_PREFIX, brandId));
+        }
+        if (categoryId != null) {
+            tags.add(tag(CATEGORY_PREFIX, categoryId));
         }
-        
-        return cached;
     }
 
-    /**
-     * 상품 관련 캐시 무효화
-     * 상품 정보가 변경될 때 호출
-     */
-    public void evictProductCache() {
-        cacheUtil.deleteByPattern(PRODUCT_LIST_PREFIX + "*");
-        cacheUtil.deleteByPattern(PRODUCT_DETAIL_PREFIX + "*");
-        log.info("상품 관련 캐시 무효화 완료");
+    private String tag(String prefix, Long id) {
+        return prefix + ":" + id;
     }
 
     /**
      * 첫 페이지 캐시만 무효화
      */
     public void evictFirstPageCache() {
-        cacheUtil.deleteByPattern(PRODUCT_LIST_PREFIX + ":sort:*:first");
+        cacheUtil.deleteByTag(PRODUCT_LIST_PREFIX);
         log.info("첫 페이지 캐시 무효화 완료");
     }
 
     /**
-     * 특정 상품 캐시 무효화
+     * 특정 정렬의 첫 페이지 캐시 무효화 (모든 필터 조합 포함)
+     */
+    public void evictFirstPageCache(ProductSortBy sortBy) {
+        cacheUtil.deleteByTag(PRODUCT_LIST_PREFIX + ":" + sortBy.name().toLowerCase());
+        log.info("첫 페이지 캐시 무효화 - 정렬: {}", sortBy);
+    }
+
+    /**
+     * 특정 상품 캐시 무효화 (상품 상세 및 해당 상품이 포함된 목록)
      */
     public void evictProductDetailCache(Long productId) {
-        String cacheKey = PRODUCT_DETAIL_PREFIX + ":" + productId;
-        cacheUtil.delete(cacheKey);
+        cacheUtil.deleteByTag(tag(PRODUCT_TAG_PREFIX, productId));
         log.info("상품 상세 캐시 무효화 - 상품ID: {}", productId);
     }
 
     /**
-     * 브랜드 관련 캐시 무효화
+     * 특정 브랜드 캐시 무효화 (해당 브랜드 상품 상세, 브랜드 필터 목록, 브랜드 상품이 포함된 목록)
      */
-    public void evictBrandCache() {
-        cacheUtil.deleteByPattern(BRAND_PREFIX + "*");
-        cacheUtil.deleteByPattern(PRODUCT_LIST_PREFIX + "*");
-        log.info("브랜드 관련 캐시 무효화 완료");
+    public void evictBrandCache(Long brandId) {
+        cacheUtil.deleteByTag(tag(BRAND_PREFIX, brandId));
+        log.info("브랜드 캐시 무효화 - 브랜드ID: {}", brandId);
     }
 
     /**
-     * 카테고리 관련 캐시 무효화
+     * 특정 카테고리 캐시 무효화 (해당 카테고리 상품 상세, 카테고리 필터 목록, 카테고리 상품이 포함된 목록)
      */
-    public void evictCategoryCache() {
-        cacheUtil.deleteByPattern(CATEGORY_PREFIX + "*");
-        cacheUtil.deleteByPattern(PRODUCT_LIST_PREFIX + "*");
-        log.info("카테고리 관련 캐시 무효화 완료");
+    public void evictCategoryCache(Long categoryId) {
+        cacheUtil.deleteByTag(tag(CATEGORY_PREFIX, categoryId));
+        log.info("카테고리 캐시 무효화 - 카테고리ID: {}", categoryId);
     }
 }
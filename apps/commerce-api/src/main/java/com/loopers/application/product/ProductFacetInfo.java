@@ -0,0 +1,45 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.catalog.CatalogEntry;
+import com.loopers.domain.product.ProductFacets;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 목록 집계 정보 (브랜드/카테고리명 포함)
+ * filtered 이면 목록 조회의 브랜드/카테고리 필터 범위 집계이고, 아니면 전체 상품 기준 집계이다.
+ */
+public record ProductFacetInfo(
+        boolean filtered,
+        List<Entry> brands,
+        List<Entry> categories,
+        List<PriceBucket> priceBuckets
+) {
+    public record Entry(Long id, String name, int count) {
+    }
+
+    public record PriceBucket(int minPrice, Integer maxPrice, int count) {
+    }
+
+    public static ProductFacetInfo of(ProductFacets facets, boolean filtered,
+                                      Map<Long, CatalogEntry> brands, Map<Long, CatalogEntry> categories) {
+        return new ProductFacetInfo(
+                filtered,
+                entries(facets.brands(), brands),
+                entries(facets.categories(), categories),
+                facets.priceBuckets().stream()
+                        .map(bucket -> new PriceBucket(bucket.minPrice(), bucket.maxPrice(), bucket.count()))
+                        .toList()
+        );
+    }
+
+    private static List<Entry> entries(List<ProductFacets.Count> counts, Map<Long, CatalogEntry> catalog) {
+        return counts.stream()
+                .map(count -> {
+                    CatalogEntry entry = catalog.get(count.id());
+                    return new Entry(count.id(), entry == null ? null : entry.name(), count.count());
+                })
+                .toList();
+    }
+}
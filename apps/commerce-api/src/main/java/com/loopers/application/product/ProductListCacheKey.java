@@ -0,0 +1,73 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductSortBy;
+
+/**
+ * 첫 페이지 상품 목록 캐시 키
+ * 정렬/브랜드/카테고리/페이지 크기 조합을 정규화해 같은 조회는 항상 같은 키를 갖도록 한다.
+ * 상품명 검색은 입력 조합이 무한하므로 캐시 대상에서 제외한다.
+ */
+public record ProductListCacheKey(
+        ProductSortBy sortBy,
+        Long brandId,
+        Long categoryId,
+        int size
+) {
+
+    private static final String PREFIX = "productlist";
+    private static final String ALL = "all";
+
+    /**
+     * 키 패밀리 (필터 조합별로 TTL 을 달리 적용)
+     */
+    public enum Family {
+        ALL,
+        BRAND,
+        CATEGORY,
+        BRAND_CATEGORY
+    }
+
+    public ProductListCacheKey {
+        sortBy = sortBy == null ? ProductSortBy.LIKES : sortBy;
+    }
+
+    public static ProductListCacheKey from(ProductQuery query) {
+        return new ProductListCacheKey(query.getSortBy(), query.getBrandId(), query.getCategoryId(), query.getSize());
+    }
+
+    /**
+     * 캐시 대상 여부 (커서 없는 첫 페이지이며 상품명 검색/가격 범위·재고 필터가 아닌 경우)
+     */
+    public static boolean isCacheable(ProductQuery query) {
+        return query.getLastId() == null
+                && (query.getProductName() == null || query.getProductName().isBlank())
+                && query.getRangeFilter().isEmpty();
+    }
+
+    public Family family() {
+        if (brandId != null && categoryId != null) {
+            return Family.BRAND_CATEGORY;
+        }
+        if (brandId != null) {
+            return Family.BRAND;
+        }
+        if (categoryId != null) {
+            return Family.CATEGORY;
+        }
+        return Family.ALL;
+    }
+
+    public String sortName() {
+        return sortBy.name().toLowerCase();
+    }
+
+    /**
+     * 예: productlist:likes:b=all:c=3:s=20
+     */
+    public String value() {
+        return PREFIX + ":" + sortName()
+                + ":b=" + (brandId == null ? ALL : brandId)
+                + ":c=" + (categoryId == null ? ALL : categoryId)
+                + ":s=" + size;
+    }
+}
@@ -2,8 +2,10 @@ package com.loopers.application.product;
 
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.loopers.domain.brand.BrandModel;
+import com.loopers.domain.catalog.CatalogEntry;
 import com.loopers.domain.category.CategoryModel;
 import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductSummary;
 
 import java.time.ZonedDateTime;
 
@@ -47,4 +49,59 @@ public record ProductOutputInfo(
                 productModel.getCreatedAt()
         );
     }
+
+    /**
+     * 카탈로그 스냅샷의 브랜드/카테고리로 변환
+     */
+    public static ProductOutputInfo of(
+            ProductModel productModel,
+            CatalogEntry brand,
+            CatalogEntry category
+    ) {
+        return new ProductOutputInfo(
+                productModel.getId(),
+                productModel.getName(),
+                productModel.getDescription(),
+                productModel.getPrice(),
+                productModel.getStock(),
+                productModel.getLikesCount(),
+                (brand != null) ? brand.id() : null,
+                (brand != null) ? brand.name() : null,
+                (brand != null) ? brand.description() : null,
+                (category != null) ? category.id() : null,
+                (category != null) ? category.name() : null,
+                (category != null) ? category.description() : null,
+                productModel.getCreatedAt()
+        );
+    }
+
+    /**
+     * 목록 조회용 요약으로 변환 (목록 응답에 없는 상품 설명은 제외)
+     */
+    public static ProductOutputInfo of(
+            ProductSummary product,
+            CatalogEntry brand,
+            CatalogEntry category
+    ) {
+        return new ProductOutputInfo(
+                product.id(),
+                product.name(),
+                null,
+                product.price(),
+                product.stock(),
+                product.likesCount(),
+                (brand != null) ? brand.id() : null,
+                (brand != null) ? brand.name() : null,
+                (brand != null) ? brand.description() : null,
+                (category != null) ? category.id() : null,
+                (category != null) ? category.name() : null,
+                (category != null) ? category.description() : null,
+                product.createdAt()
+        );
+    }
+
+    public ProductOutputInfo withLikeCount(int likeCount) {
+        return new ProductOutputInfo(id, name, description, price, stock, likeCount,
+                brandId, brandName, brandDescription, categoryId, categoryName, categoryDescription, lastCreatedAt);
+    }
 }
@@ -0,0 +1,110 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductPageIndex;
+import com.loopers.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 상품 페이지 인덱스 구축/변경분 대조
+ * 인덱스가 아직 준비되지 않았으면 기동 시 한 노드만 상품 전체를 ID 순으로 순회하며 적재한다.
+ * 구축이 끝나기 전까지 목록 조회는 DB 로 처리된다.
+ *
+ * 이후에는 주기적으로 한 노드가 최근 수정된 상품(updated_at 기준)만 다시 적재해, 이벤트로 반영되지 않은
+ * 신규 상품과 외부 변경을 반영하고 준비 표시의 만료 시간을 연장한다.
+ * 대조 범위는 주기보다 넉넉히 잡아, 다른 노드가 구축 중이라 한두 번 건너뛰어도 변경분이 빠지지 않게 한다.
+ * 행을 물리 삭제하는 경우는 updated_at 으로 잡히지 않으므로 반영되지 않는다 (준비 표시가 만료되면 전체 구축으로 정리).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPageIndexBuilder {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final Duration RECONCILE_WINDOW = Duration.ofMinutes(30);
+
+    private final ProductRepository productRepository;
+    private final ProductPageIndex productPageIndex;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfAbsent() {
+        if (productPageIndex.isReady()) {
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * 준비된 인덱스는 변경분만 대조하고, 준비 표시가 만료되었으면 전체를 다시 구축
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reconcilePeriodically() {
+        if (!productPageIndex.isReady()) {
+            rebuild();
+            return;
+        }
+        reconcile(ZonedDateTime.now().minus(RECONCILE_WINDOW));
+    }
+
+    private void rebuild() {
+        if (!productPageIndex.tryAcquireBuild()) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            long indexed = 0;
+            Long lastId = null;
+            while (true) {
+                List<ProductModel> chunk = productRepository.findAllAfterId(lastId, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                productPageIndex.index(chunk);
+                indexed += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            productPageIndex.markReady();
+            log.info("상품 페이지 인덱스 구축 완료 - 상품 수: {}, 소요시간: {}ms", indexed, System.currentTimeMillis() - startTime);
+        } finally {
+            productPageIndex.releaseBuild();
+        }
+    }
+
+    private void reconcile(ZonedDateTime since) {
+        if (!productPageIndex.tryAcquireBuild()) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            long indexed = 0;
+            ZonedDateTime lastUpdatedAt = since;
+            Long lastId = 0L;
+            while (true) {
+                List<ProductModel> chunk = productRepository.findAllUpdatedAfter(lastUpdatedAt, lastId, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                productPageIndex.index(chunk);
+                indexed += chunk.size();
+                ProductModel last = chunk.get(chunk.size() - 1);
+                lastUpdatedAt = last.getUpdatedAt();
+                lastId = last.getId();
+            }
+            productPageIndex.markReady();
+            log.info("상품 페이지 인덱스 변경분 대조 완료 - 상품 수: {}, 소요시간: {}ms", indexed, System.currentTimeMillis() - startTime);
+        } finally {
+            productPageIndex.releaseBuild();
+        }
+    }
+}
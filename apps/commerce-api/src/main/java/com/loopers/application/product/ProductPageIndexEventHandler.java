@@ -0,0 +1,50 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.like.LikeCountBuffer;
+import com.loopers.domain.like.LikeCountShardRepository;
+import com.loopers.domain.like.event.LikeChangedEvent;
+import com.loopers.domain.product.ProductPageIndex;
+import com.loopers.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 상품 페이지 인덱스 증분 갱신 (좋아요 수 변경)
+ * 커밋된 좋아요 수를 기준으로 해당 상품의 인덱스 점수만 갱신한다.
+ *
+ * 버퍼/분할 행을 쓰면 이벤트 시점의 상품 행에는 아직 변경분이 반영되지 않았으므로 여기서는 갱신하지 않고,
+ * LikeCountFlusher 가 DB 에 반영한 뒤 해당 상품을 다시 색인한다.
+ * 상품 등록/수정/삭제 API 가 없어 상품 변경 이벤트는 발행되지 않으므로, 그 외 변경은
+ * ProductPageIndexBuilder 의 주기적 변경분 대조로 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPageIndexEventHandler {
+
+    private final ProductRepository productRepository;
+    private final ProductPageIndex productPageIndex;
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeCountShardRepository likeCountShardRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLikeChanged(LikeChangedEvent event) {
+        if (likeCountBuffer.isEnabled() || likeCountShardRepository.isEnabled()) {
+            return;
+        }
+        reindex(event.getProductId());
+    }
+
+    private void reindex(Long productId) {
+        productRepository.findById(productId)
+                .ifPresentOrElse(
+                        product -> productPageIndex.index(List.of(product)),
+                        () -> log.warn("인덱스 갱신 대상 상품 없음 - 상품ID: {}", productId)
+                );
+    }
+}
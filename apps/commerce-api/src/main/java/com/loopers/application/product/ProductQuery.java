@@ -1,5 +1,6 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.product.ProductRangeFilter;
 import com.loopers.domain.product.ProductSortBy;
 import lombok.Getter;
 
@@ -17,9 +18,18 @@ public class ProductQuery {
     private Integer lastLikesCount;
     private Integer lastPrice;
     private ZonedDateTime lastCreatedAt;
+    private Integer minPrice;
+    private Integer maxPrice;
+    private boolean inStockOnly;
 
     public static ProductQuery from(String productName, Long brandId, Long categoryId, ProductSortBy sortBy, int size,
                                     Long lastId, Integer lastLikesCount, Integer lastPrice, String lastCreatedAt) {
+        return from(productName, brandId, categoryId, sortBy, size, lastId, lastLikesCount, lastPrice, lastCreatedAt, null, null, null);
+    }
+
+    public static ProductQuery from(String productName, Long brandId, Long categoryId, ProductSortBy sortBy, int size,
+                                    Long lastId, Integer lastLikesCount, Integer lastPrice, String lastCreatedAt,
+                                    Integer minPrice, Integer maxPrice, Boolean inStockOnly) {
         ProductQuery info = new ProductQuery();
         info.productName = productName;
         info.brandId = brandId;
@@ -30,7 +40,14 @@ public class ProductQuery {
         info.lastLikesCount = lastLikesCount;
         info.lastPrice = lastPrice;
         info.lastCreatedAt = lastCreatedAt != null ? ZonedDateTime.parse(lastCreatedAt) : null;
+        info.minPrice = minPrice;
+        info.maxPrice = maxPrice;
+        info.inStockOnly = Boolean.TRUE.equals(inStockOnly);
         return info;
     }
 
+    public ProductRangeFilter getRangeFilter() {
+        return ProductRangeFilter.of(minPrice, maxPrice, inStockOnly);
+    }
+
 }
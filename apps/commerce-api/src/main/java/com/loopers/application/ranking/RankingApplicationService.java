@@ -1,14 +1,17 @@
 package com.loopers.application.ranking;
 
+import com.loopers.domain.like.ProductLikeDomainService;
 import com.loopers.domain.ranking.RankingCacheProcessor;
 import com.loopers.domain.ranking.RankingPage;
 import com.loopers.domain.ranking.RankingQueryRepository;
+import com.loopers.domain.user.UserId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -17,8 +20,16 @@ public class RankingApplicationService {
 
     private final RankingCacheProcessor rankingCacheProcessor;
     private final RankingQueryRepository rankingQueryRepository;
+    private final ProductLikeDomainService productLikeDomainService;
 
     public RankingPageInfo getRankingPage(LocalDate date, String period, int page, int size) {
+        return getRankingPage(date, period, page, size, null);
+    }
+
+    /**
+     * 랭킹 페이지 조회 (userId 가 있으면 페이지 상품의 좋아요 여부를 한 번에 조회해 함께 반환)
+     */
+    public RankingPageInfo getRankingPage(LocalDate date, String period, int page, int size, UserId userId) {
         log.debug("랭킹 페이지 조회 - Date: {}, Period: {}, Page: {}, Size: {}", date, period, page, size);
         
         RankingPage domainRankingPage = getRankingByPeriod(date, period, page, size);
@@ -45,6 +56,12 @@ public class RankingApplicationService {
                     return builder.build();
                 })
                 .toList();
+
+        if (userId != null && !applicationItems.isEmpty()) {
+            Set<Long> likedProductIds = productLikeDomainService.findLikedProductIds(userId,
+                    applicationItems.stream().map(RankingItemInfo::getProductId).toList());
+            applicationItems.forEach(item -> item.withLiked(likedProductIds.contains(item.getProductId())));
+        }
         
         return RankingPageInfo.builder()
                 .items(applicationItems)
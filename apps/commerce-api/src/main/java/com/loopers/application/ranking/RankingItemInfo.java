@@ -11,6 +11,9 @@ public class RankingItemInfo {
     private final Double score;
     
     private ProductInfo productInfo;
+
+    // 요청한 사용자의 좋아요 여부 (사용자 없이 조회하면 null)
+    private Boolean liked;
     
     @Getter
     @Builder
@@ -26,4 +29,9 @@ public class RankingItemInfo {
         this.productInfo = productInfo;
         return this;
     }
+
+    public RankingItemInfo withLiked(Boolean liked) {
+        this.liked = liked;
+        return this;
+    }
 }
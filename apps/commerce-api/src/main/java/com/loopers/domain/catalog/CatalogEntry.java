@@ -0,0 +1,21 @@
+package com.loopers.domain.catalog;
+
+import com.loopers.domain.brand.BrandModel;
+import com.loopers.domain.category.CategoryModel;
+
+/**
+ * 스냅샷에 보관되는 브랜드/카테고리 표시 정보
+ */
+public record CatalogEntry(
+        long id,
+        String name,
+        String description
+) {
+    public static CatalogEntry from(BrandModel brand) {
+        return new CatalogEntry(brand.getId(), brand.getName(), brand.getDescription());
+    }
+
+    public static CatalogEntry from(CategoryModel category) {
+        return new CatalogEntry(category.getId(), category.getName(), category.getDescription());
+    }
+}
@@ -0,0 +1,77 @@
+package com.loopers.domain.catalog;
+
+import com.loopers.support.collection.ImmutableLongMap;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 브랜드/카테고리 전체를 담은 불변 스냅샷
+ * 변경 시 새 스냅샷을 만들어 통째로 교체하며, version 으로 교체 여부를 구분한다.
+ */
+public final class CatalogSnapshot {
+
+    private static final CatalogSnapshot EMPTY = new CatalogSnapshot(
+            0L, null, ImmutableLongMap.empty(), ImmutableLongMap.empty()
+    );
+
+    private final long version;
+    private final ZonedDateTime loadedAt;
+    private final ImmutableLongMap<CatalogEntry> brands;
+    private final ImmutableLongMap<CatalogEntry> categories;
+
+    private CatalogSnapshot(
+            long version,
+            ZonedDateTime loadedAt,
+            ImmutableLongMap<CatalogEntry> brands,
+            ImmutableLongMap<CatalogEntry> categories
+    ) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.brands = brands;
+        this.categories = categories;
+    }
+
+    public static CatalogSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static CatalogSnapshot of(long version, List<CatalogEntry> brands, List<CatalogEntry> categories) {
+        return new CatalogSnapshot(
+                version,
+                ZonedDateTime.now(),
+                ImmutableLongMap.of(brands, CatalogEntry::id),
+                ImmutableLongMap.of(categories, CatalogEntry::id)
+        );
+    }
+
+    /**
+     * 브랜드 조회 (스냅샷에 없으면 null)
+     */
+    public CatalogEntry brand(Long brandId) {
+        return brandId == null ? null : brands.get(brandId);
+    }
+
+    /**
+     * 카테고리 조회 (스냅샷에 없으면 null)
+     */
+    public CatalogEntry category(Long categoryId) {
+        return categoryId == null ? null : categories.get(categoryId);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public ZonedDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    public int brandCount() {
+        return brands.size();
+    }
+
+    public int categoryCount() {
+        return categories.size();
+    }
+}
@@ -0,0 +1,165 @@
+package com.loopers.domain.catalog;
+
+import com.loopers.domain.brand.BrandModel;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.category.CategoryModel;
+import com.loopers.domain.category.CategoryRepository;
+import com.loopers.support.cache.util.CacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 브랜드/카테고리 카탈로그 스냅샷 관리
+ * - 기동 시 전체를 적재하고, 주기적 재적재(5분) 시 새 스냅샷으로 원자적 교체
+ * - 조회는 현재 스냅샷에서 I/O 없이 처리하며, 스냅샷 이후 추가된 항목만 DB 에서 보충
+ *
+ * 브랜드/카테고리는 이 애플리케이션 밖(운영 도구, 배치)에서 변경되므로 변경 이벤트를 받지 않는다.
+ * 기존 항목의 이름 변경/삭제는 다음 재적재까지 최대 5분간 이전 값으로 응답한다.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotService {
+
+    private final BrandRepository brandRepository;
+    private final CategoryRepository categoryRepository;
+    private final CacheMetrics cacheMetrics;
+    private final boolean enabled;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>(CatalogSnapshot.empty());
+
+    public CatalogSnapshotService(
+            BrandRepository brandRepository,
+            CategoryRepository categoryRepository,
+            CacheMetrics cacheMetrics,
+            @Value("${catalog.snapshot.enabled:true}") boolean enabled
+    ) {
+        this.brandRepository = brandRepository;
+        this.categoryRepository = categoryRepository;
+        this.cacheMetrics = cacheMetrics;
+        this.enabled = enabled;
+    }
+
+    public CatalogSnapshot current() {
+        return snapshot.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 외부에서 발생한 변경을 반영하기 위한 주기적 재적재 (브랜드/카테고리 수천 건 수준)
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000)
+    public void refreshPeriodically() {
+        refresh();
+    }
+
+    /**
+     * 전체 브랜드/카테고리를 읽어 새 스냅샷으로 교체
+     */
+    public synchronized CatalogSnapshot refresh() {
+        if (!enabled) {
+            return snapshot.get();
+        }
+        try {
+            List<CatalogEntry> brands = brandRepository.findAll().stream().map(CatalogEntry::from).toList();
+            List<CatalogEntry> categories = categoryRepository.findAll().stream().map(CatalogEntry::from).toList();
+
+            CatalogSnapshot next = CatalogSnapshot.of(snapshot.get().version() + 1, brands, categories);
+            snapshot.set(next);
+            log.info("카탈로그 스냅샷 교체 완료 - 버전: {}, 브랜드 수: {}, 카테고리 수: {}",
+                    next.version(), next.brandCount(), next.categoryCount());
+            return next;
+        } catch (Exception e) {
+            // 적재 실패 시 기존 스냅샷을 유지하고 미스는 DB 보충으로 처리
+            log.error("카탈로그 스냅샷 적재 실패 - 현재 버전 유지: {}, 에러: {}", snapshot.get().version(), e.getMessage());
+            return snapshot.get();
+        }
+    }
+
+    /**
+     * 브랜드 일괄 조회 (스냅샷에 없는 브랜드만 DB 조회)
+     */
+    public Map<Long, CatalogEntry> getBrands(Collection<Long> brandIds) {
+        CatalogSnapshot current = snapshot.get();
+        Map<Long, CatalogEntry> result = new HashMap<>();
+        Set<Long> missingIds = new HashSet<>();
+        for (Long brandId : brandIds) {
+            if (brandId == null) {
+                continue;
+            }
+            CatalogEntry brand = current.brand(brandId);
+            if (brand != null) {
+                result.put(brandId, brand);
+            } else {
+                missingIds.add(brandId);
+            }
+        }
+        cacheMetrics.recordRequests(CacheMetrics.FAMILY_BRAND, result.size(), missingIds.size());
+
+        if (!missingIds.isEmpty()) {
+            log.debug("카탈로그 스냅샷 브랜드 미스 - 버전: {}, 브랜드 ID: {}", current.version(), missingIds);
+            for (BrandModel brand : brandRepository.findAllById(missingIds)) {
+                result.put(brand.getId(), CatalogEntry.from(brand));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 카테고리 일괄 조회 (스냅샷에 없는 카테고리만 DB 조회)
+     */
+    public Map<Long, CatalogEntry> getCategories(Collection<Long> categoryIds) {
+        CatalogSnapshot current = snapshot.get();
+        Map<Long, CatalogEntry> result = new HashMap<>();
+        Set<Long> missingIds = new HashSet<>();
+        for (Long categoryId : categoryIds) {
+            if (categoryId == null) {
+                continue;
+            }
+            CatalogEntry category = current.category(categoryId);
+            if (category != null) {
+                result.put(categoryId, category);
+            } else {
+                missingIds.add(categoryId);
+            }
+        }
+        cacheMetrics.recordRequests(CacheMetrics.FAMILY_CATEGORY, result.size(), missingIds.size());
+
+        if (!missingIds.isEmpty()) {
+            log.debug("카탈로그 스냅샷 카테고리 미스 - 버전: {}, 카테고리 ID: {}", current.version(), missingIds);
+            for (CategoryModel category : categoryRepository.findAllById(missingIds)) {
+                result.put(category.getId(), CatalogEntry.from(category));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 단건 브랜드 조회 (상세 조회용)
+     */
+    public CatalogEntry getBrand(Long brandId) {
+        return brandId == null ? null : getBrands(List.of(brandId)).get(brandId);
+    }
+
+    /**
+     * 단건 카테고리 조회 (상세 조회용)
+     */
+    public CatalogEntry getCategory(Long categoryId) {
+        return categoryId == null ? null : getCategories(List.of(categoryId)).get(categoryId);
+    }
+}
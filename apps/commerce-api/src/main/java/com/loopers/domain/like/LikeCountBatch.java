@@ -0,0 +1,17 @@
+package com.loopers.domain.like;
+
+import java.util.Map;
+
+/**
+ * DB 에 한 번에 반영할 상품별 좋아요 수 변경분 묶음
+ * batchId 는 "생성 시각(ms)-식별자" 형식이며, DB 반영 여부를 기록하는 키로도 사용한다.
+ */
+public record LikeCountBatch(
+        String batchId,
+        Map<Long, Long> deltas
+) {
+    public long createdAtMillis() {
+        int separator = batchId.indexOf('-');
+        return separator < 0 ? 0 : Long.parseLong(batchId.substring(0, separator));
+    }
+}
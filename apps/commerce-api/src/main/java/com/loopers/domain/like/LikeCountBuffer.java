@@ -0,0 +1,41 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 좋아요 수 변경분 버퍼 (write-behind)
+ * 변경분을 원자적으로 누적해 두고, 주기적으로 묶음(batch) 단위로 넘겨받아 DB 에 반영한다.
+ * 넘겨받은 묶음은 반영이 끝나 complete 하기 전까지 남아 있으므로, 반영 도중 노드가 죽어도 다른 노드가 이어서 처리한다.
+ */
+public interface LikeCountBuffer {
+
+    boolean isEnabled();
+
+    /**
+     * 변경분 누적 후 아직 DB 에 반영되지 않은 해당 상품의 변경분 합계를 반환
+     */
+    long add(Long productId, int delta);
+
+    /**
+     * 상품별로 아직 DB 에 반영되지 않은 변경분 (넘겨받았지만 완료되지 않은 묶음 포함, 변경분이 없는 상품은 제외)
+     */
+    Map<Long, Long> pendingDeltas(Collection<Long> productIds);
+
+    /**
+     * 누적된 변경분 전체를 새 묶음으로 넘겨받음 (누적된 변경분이 없으면 empty)
+     */
+    Optional<LikeCountBatch> claim();
+
+    /**
+     * 넘겨받았지만 완료되지 않은 묶음 (장애 복구용)
+     */
+    List<LikeCountBatch> unfinishedBatches();
+
+    /**
+     * DB 반영이 끝난 묶음 제거
+     */
+    void complete(String batchId);
+}
@@ -0,0 +1,22 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+/**
+ * DB 에 반영한 좋아요 수 변경분 묶음 기록 (같은 묶음을 두 번 반영하지 않도록 확인)
+ */
+public interface LikeCountFlushRepository {
+
+    boolean isFlushed(String batchId);
+
+    /**
+     * 반영 기록 저장 (이미 기록된 묶음이면 중복 키 예외)
+     */
+    void markFlushed(String batchId);
+
+    /**
+     * cutoff 이전 반영 기록 삭제 (keepBatchIds 는 버퍼에 남아 다시 반영될 수 있으므로 유지), 삭제 수 반환
+     */
+    int deleteFlushedBefore(ZonedDateTime cutoff, Collection<String> keepBatchIds);
+}
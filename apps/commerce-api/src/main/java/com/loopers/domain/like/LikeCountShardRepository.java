@@ -0,0 +1,35 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품별 좋아요 수 분할 행 (product_like_count_shard)
+ * 좋아요마다 상품 행 대신 상품당 N 개 행 중 하나에 변경분을 더해, 인기 상품 한 행에 갱신이 몰리지 않게 한다.
+ * 분할 행에 쌓인 변경분은 주기적으로 상품의 좋아요 수에 합친 뒤 삭제한다.
+ */
+public interface LikeCountShardRepository {
+
+    boolean isEnabled();
+
+    /**
+     * 임의의 분할 행에 변경분을 더함
+     */
+    void add(Long productId, int delta);
+
+    /**
+     * 상품별로 아직 합쳐지지 않은 변경분 합계 (변경분이 없는 상품은 제외)
+     */
+    Map<Long, Long> sumByProductIds(Collection<Long> productIds);
+
+    /**
+     * 분할 행이 남아 있는 상품 ID (합칠 대상)
+     */
+    List<Long> findProductIds(int limit);
+
+    /**
+     * 상품의 분할 행을 잠그고 합계를 구한 뒤 삭제 (트랜잭션 안에서 호출)
+     */
+    long drain(Long productId);
+}
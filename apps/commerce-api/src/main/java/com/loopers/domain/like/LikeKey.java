@@ -0,0 +1,14 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 한 건의 (사용자, 상품) 쌍 (전체 순회용, 사용자/시각/좋아요 ID 는 다음 조회의 커서로 사용)
+ */
+public record LikeKey(
+        String userId,
+        Long productId,
+        ZonedDateTime likedAt,
+        Long likeId
+) {
+}
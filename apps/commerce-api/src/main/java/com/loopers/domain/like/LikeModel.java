@@ -4,11 +4,16 @@ import com.loopers.domain.BaseEntity;
 import com.loopers.domain.user.UserId;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 
 @Entity
-@Table(name = "likes")
+// 좋아요 목록 커서 조회가 인덱스만 읽도록 조회 컬럼(product_id)까지 포함 (생성은 db/migration/V5, 운영은 ddl-auto: none)
+@Table(
+        name = "likes",
+        indexes = @Index(name = "idx_likes_user_created", columnList = "user_id, created_at, id, product_id")
+)
 @Getter
 public class LikeModel extends BaseEntity {
 
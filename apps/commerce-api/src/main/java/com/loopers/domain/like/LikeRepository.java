@@ -1,8 +1,10 @@
 package com.loopers.domain.like;
 
 import com.loopers.domain.user.UserId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface LikeRepository {
     
@@ -16,6 +18,31 @@ public interface LikeRepository {
 
     void delete(LikeModel like);
     
+    /**
+     * 좋아요 여부 (항상 DB 조회, 좋아요 등록/취소 판단용)
+     */
     boolean existsByUserIdAndProductId(UserId userId, Long productId);
 
+    /**
+     * 좋아요 여부 (조회용, 사용자별 좋아요 집합을 먼저 확인)
+     * 집합이 적재되지 않았을 때 loadOnMiss 면 사용자의 좋아요 전체를 적재하고, 아니면 해당 상품만 DB 에서 확인
+     */
+    boolean isLiked(UserId userId, Long productId, boolean loadOnMiss);
+
+    /**
+     * 주어진 상품 중 사용자가 좋아요한 상품 ID (상품 수와 무관하게 한 번에 조회, 집합 사용 방식은 isLiked 와 같음)
+     */
+    Set<Long> findLikedProductIds(UserId userId, Collection<Long> productIds, boolean loadOnMiss);
+
+    /**
+     * 사용자의 좋아요를 최근 순으로 size 건 조회 (cursor 가 null 이면 처음부터, 아니면 cursor 다음부터)
+     */
+    List<LikedProduct> findLikedProducts(UserId userId, LikedProductCursor cursor, int size);
+
+    /**
+     * after 다음 좋아요의 (사용자, 상품) 쌍을 (사용자, 시각, ID) 순으로 size 건 조회 (전체 순회용, after 가 null 이면 처음부터)
+     * 행 전체 대신 idx_likes_user_created 에 담긴 컬럼만 읽는다.
+     */
+    List<LikeKey> findKeysAfter(LikeKey after, int size);
+
 } 
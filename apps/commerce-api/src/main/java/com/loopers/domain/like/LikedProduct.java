@@ -0,0 +1,16 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 사용자의 좋아요 한 건 (좋아요 목록 조회용, 좋아요 ID 와 시각은 다음 페이지 커서로 사용)
+ */
+public record LikedProduct(
+        Long likeId,
+        Long productId,
+        ZonedDateTime likedAt
+) {
+    public LikedProductCursor toCursor() {
+        return new LikedProductCursor(likedAt, likeId);
+    }
+}
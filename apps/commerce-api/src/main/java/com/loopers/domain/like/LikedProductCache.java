@@ -0,0 +1,43 @@
+package com.loopers.domain.like;
+
+import com.loopers.domain.user.UserId;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 상품 ID 집합 캐시
+ * 사용자의 좋아요 전체를 한 번 적재한 뒤에는 좋아요 여부를 DB 조회 없이 확인한다.
+ * 좋아요/취소가 커밋되면 적재 여부와 무관하게 집합에 반영하며, 적재 표시가 없는 집합은 아직 모르는 것으로 본다.
+ * 조회용 캐시로만 사용하고, 좋아요 등록/취소 판단은 DB 로 확인한다.
+ */
+public interface LikedProductCache {
+
+    boolean isEnabled();
+
+    /**
+     * 좋아요 여부 (사용자의 집합이 적재되지 않았으면 empty)
+     */
+    Optional<Boolean> isLiked(UserId userId, Long productId);
+
+    /**
+     * 주어진 상품 중 좋아요한 상품 ID (한 번의 왕복으로 확인, 사용자의 집합이 적재되지 않았으면 empty)
+     */
+    Optional<Set<Long>> likedAmong(UserId userId, Collection<Long> productIds);
+
+    /**
+     * 사용자 집합의 현재 버전 (취소가 반영될 때마다 바뀜, DB 조회 전에 읽어 load 에 넘김)
+     */
+    long version(UserId userId);
+
+    /**
+     * DB 에서 읽은 사용자의 좋아요 전체를 적재
+     * 조회 전에 읽은 version 이후 취소가 반영되었으면 적재하지 않는다 (다음 확인에서 다시 적재).
+     */
+    void load(UserId userId, long version, Collection<Long> productIds);
+
+    void added(UserId userId, Long productId);
+
+    void removed(UserId userId, Long productId);
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.like;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 목록 커서 (좋아요 시각 내림차순, 같은 시각이면 좋아요 ID 내림차순)
+ */
+public record LikedProductCursor(
+        ZonedDateTime likedAt,
+        Long likeId
+) {
+    public LikedProductCursor {
+        if (likedAt == null || likeId == null) {
+            throw new IllegalArgumentException("커서의 좋아요 시각과 좋아요 ID는 함께 지정해야 합니다.");
+        }
+    }
+}
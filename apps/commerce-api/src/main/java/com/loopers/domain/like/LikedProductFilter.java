@@ -0,0 +1,88 @@
+package com.loopers.domain.like;
+
+import com.loopers.domain.user.UserId;
+import com.loopers.support.collection.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * (사용자, 상품) 좋아요 쌍의 노드 로컬 Bloom filter
+ * 집합 캐시가 적재되지 않은 사용자를 확인할 때, 좋아요 전체를 적재할지(있을 수 있음) 해당 상품만 DB 에서 확인할지(없음) 정하는 힌트로만 쓴다.
+ * - 전체 좋아요로 구축한 뒤 좋아요가 커밋될 때마다 추가한다 (다른 노드의 좋아요는 LikedProductCache 가 전파).
+ * - 취소는 지울 수 없으므로 재구축 전까지 "있을 수 있음"으로 남는다.
+ * - 전파가 누락되면 거짓 음성이 생길 수 있으므로 "없음"도 답으로 쓰지 않고 항상 집합 캐시/DB 로 확인한다.
+ */
+@Slf4j
+@Component
+public class LikedProductFilter {
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile BloomFilter current;
+    // 재구축 중인 필터 (구축 중 들어온 좋아요도 함께 추가)
+    private volatile BloomFilter building;
+
+    public LikedProductFilter(
+            @Value("${like.liked-cache.enabled:true}") boolean enabled,
+            @Value("${like.liked-cache.bloom-expected-insertions:10000000}") long expectedInsertions,
+            @Value("${like.liked-cache.bloom-fpp:0.01}") double fpp
+    ) {
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * 좋아요했을 수 있는지 (필터가 준비되지 않았으면 항상 true)
+     */
+    public boolean mightBeLiked(UserId userId, Long productId) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(key(userId.getValue(), productId));
+    }
+
+    public void add(String userId, Long productId) {
+        String key = key(userId, productId);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(key);
+        }
+    }
+
+    /**
+     * 빈 필터로 재구축 시작 (이후 add 는 새 필터에도 반영)
+     */
+    public synchronized BloomFilter startBuild() {
+        building = BloomFilter.create(expectedInsertions, fpp);
+        return building;
+    }
+
+    public synchronized void completeBuild(BloomFilter filter, long inserted) {
+        current = filter;
+        building = null;
+        log.info("좋아요 필터 구축 완료 - 좋아요 수: {}, 크기: {}KB, 해시 수: {}",
+                inserted, filter.sizeInBytes() / 1024, filter.hashCount());
+    }
+
+    public synchronized void abortBuild() {
+        building = null;
+    }
+
+    public static String key(String userId, Long productId) {
+        return userId + ":" + productId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.domain.like;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 아직 상품 행(likes_count)에 합쳐지지 않은 좋아요 수 변경분 조회
+ * Redis 버퍼에 누적된 변경분과 분할 행에 남은 변경분을 합친다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PendingLikeCountService {
+
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeCountShardRepository likeCountShardRepository;
+
+    /**
+     * 상품별 변경분 합계 (변경분이 없는 상품은 제외)
+     */
+    public Map<Long, Long> pendingDeltas(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> buffered = likeCountBuffer.pendingDeltas(productIds);
+        Map<Long, Long> sharded = likeCountShardRepository.sumByProductIds(productIds);
+        if (sharded.isEmpty()) {
+            return buffered;
+        }
+        if (buffered.isEmpty()) {
+            return sharded;
+        }
+        Map<Long, Long> merged = new HashMap<>(buffered);
+        sharded.forEach((productId, delta) -> merged.merge(productId, delta, Long::sum));
+        merged.values().removeIf(delta -> delta == 0);
+        return merged;
+    }
+}
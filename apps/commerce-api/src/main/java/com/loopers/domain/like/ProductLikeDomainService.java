@@ -5,21 +5,24 @@ import com.loopers.domain.user.UserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ProductLikeDomainService {
 
     private final LikeRepository likeRepository;
+    private final LikedProductFilter likedProductFilter;
 
     /**
      * 상품에 좋아요 추가
      * @return 생성된 LikeModel, 이미 좋아요가 되어 있다면 null
      */
     public LikeModel addLike(ProductModel product, UserId userId) {
-        // 이미 좋아요를 눌렀는지 확인
-        if (isLiked(product.getId(), userId)) {
+        // 이미 좋아요를 눌렀는지 확인 (캐시가 아닌 DB 기준)
+        if (likeRepository.existsByUserIdAndProductId(userId, product.getId())) {
             return null; // 이미 좋아요가 되어 있으면 아무 동작도 하지 않음
         }
         return LikeModel.create(userId, product.getId());
@@ -30,8 +33,8 @@ public class ProductLikeDomainService {
      * @return 제거된 LikeModel, 이미 좋아요가 취소되어 있다면 null
      */
     public LikeModel removeLike(ProductModel product, UserId userId) {
-        // 좋아요를 누르지 않았는지 확인
-        if (!isLiked(product.getId(), userId)) {
+        // 좋아요를 누르지 않았는지 확인 (캐시가 아닌 DB 기준)
+        if (!likeRepository.existsByUserIdAndProductId(userId, product.getId())) {
             return null; // 이미 좋아요가 취소되어 있으면 아무 동작도 하지 않음
         }
         return likeRepository.findByUserIdAndProductId(userId, product.getId())
@@ -39,10 +42,24 @@ public class ProductLikeDomainService {
     }
 
     /**
-     * 상품 좋아요 상태 확인
+     * 상품 좋아요 상태 확인 (조회용)
+     * 좋아요 필터는 집합이 적재되지 않았을 때 좋아요 전체를 적재할지 정하는 데만 쓰고, 답은 항상 집합/DB 로 확인
      */
     public boolean isLiked(Long productId, UserId userId) {
-        return likeRepository.existsByUserIdAndProductId(userId, productId);
+        return likeRepository.isLiked(userId, productId, likedProductFilter.mightBeLiked(userId, productId));
+    }
+
+    /**
+     * 주어진 상품 중 사용자가 좋아요한 상품 ID (한 번에 조회)
+     * 필터가 모두 없다고 답하면 집합이 적재되지 않았을 때 좋아요 전체 대신 주어진 상품만 DB 에서 확인
+     */
+    public Set<Long> findLikedProductIds(UserId userId, Collection<Long> productIds) {
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Set.of();
+        }
+        boolean mightLikeAny = distinctIds.stream().anyMatch(productId -> likedProductFilter.mightBeLiked(userId, productId));
+        return likeRepository.findLikedProductIds(userId, distinctIds, mightLikeAny);
     }
 
     /**
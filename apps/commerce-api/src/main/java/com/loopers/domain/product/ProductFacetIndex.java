@@ -0,0 +1,332 @@
+package com.loopers.domain.product;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 브랜드/카테고리/가격 구간별 상품 수 집계 (조회 시 GROUP BY 없이 메모리에서 응답)
+ * - 브랜드/카테고리 ID 를 인덱스로 하는 int 배열에 상품 수를 보관
+ * - 상품별 소속(브랜드/카테고리/가격 구간)도 상품 ID 인덱스 배열로 보관하여, 같은 상품을 다시 반영하면 이전 소속을 빼고 새 소속을 더한다.
+ * - 주기적 전체 재집계로만 갱신되므로 상품 추가/변경은 다음 재집계까지 반영되지 않는다.
+ * - 브랜드/카테고리 필터가 있으면 상품별 소속 배열을 훑어 필터 범위 안에서 다시 센다.
+ *   브랜드 수는 카테고리 필터만, 카테고리 수는 브랜드 필터만, 가격 구간은 두 필터를 모두 적용한다. (다른 값을 고를 수 있도록 자기 축은 제외)
+ *   가격 범위/재고/상품명 필터는 집계하지 않는 값이므로 적용되지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex {
+
+    private static final int BUILD_CHUNK_SIZE = 1000;
+    // 가격 구간 경계 (원), 마지막 구간은 상한 없음
+    private static final int[] PRICE_BUCKET_BOUNDS = {10_000, 30_000, 50_000, 100_000, 200_000};
+    // ID 를 배열 인덱스로 사용하므로 이보다 큰 ID 는 집계하지 않음
+    private static final long MAX_ID = 50_000_000L;
+    // 필터 범위별 집계 보관 개수
+    private static final int MAX_SCOPED_FACETS = 256;
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+
+    private volatile Counts counts;
+
+    public ProductFacetIndex(
+            ProductRepository productRepository,
+            @Value("${product.facet-index.enabled:true}") boolean enabled
+    ) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelay = 21_600_000, initialDelay = 21_600_000)
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    /**
+     * 상품 전체를 ID 순으로 읽어 새 집계로 교체
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            Counts next = new Counts();
+            long indexed = 0;
+            Long lastId = null;
+            while (true) {
+                List<ProductModel> chunk = productRepository.findAllAfterId(lastId, BUILD_CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                for (ProductModel product : chunk) {
+                    next.apply(product.getId(), product);
+                }
+                indexed += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            counts = next;
+            log.info("상품 집계 구축 완료 - 상품 수: {}, 소요시간: {}ms", indexed, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("상품 집계 구축 실패 - 기존 집계 유지, 에러: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 상품 기준 상품 수 상위 topN 개 브랜드/카테고리와 가격 구간 집계 (집계가 준비되지 않았으면 empty)
+     */
+    public Optional<ProductFacets> facets(int topN) {
+        return facets(null, null, topN);
+    }
+
+    /**
+     * 브랜드/카테고리 필터 범위의 상품 수 상위 topN 개 브랜드/카테고리와 가격 구간 집계 (집계가 준비되지 않았으면 empty)
+     * 필터가 없으면 전체 상품 기준 집계와 같다.
+     */
+    public Optional<ProductFacets> facets(Long brandId, Long categoryId, int topN) {
+        Counts current = counts;
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (brandId == null && categoryId == null) {
+            return Optional.of(current.facets(topN));
+        }
+        return Optional.of(current.scopedFacets(brandId, categoryId, topN));
+    }
+
+    /**
+     * 목록 조회 조건별 예상 선택도 (집계가 준비되지 않았으면 empty)
+     * 가격 범위는 걸치는 가격 구간 전체를 세므로 실제보다 크게 추정된다.
+     */
+    public Optional<ProductSelectivity> estimateSelectivity(Long brandId, Long categoryId, Integer minPrice, Integer maxPrice) {
+        Counts current = counts;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.selectivity(brandId, categoryId, minPrice, maxPrice));
+    }
+
+    public boolean isReady() {
+        return counts != null;
+    }
+
+    static int priceBucket(int price) {
+        int bucket = 0;
+        while (bucket < PRICE_BUCKET_BOUNDS.length && price >= PRICE_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    /**
+     * 배열 기반 집계 (쓰기/읽기 모두 이 객체로 동기화, 변경이 없으면 직전 결과를 재사용)
+     */
+    private static final class Counts {
+
+        // 상품 ID → 브랜드 ID / 카테고리 ID (0: 없음), 가격 구간 + 1 (0: 집계되지 않은 상품)
+        private int[] productBrands = new int[1024];
+        private int[] productCategories = new int[1024];
+        private byte[] productBuckets = new byte[1024];
+
+        private int[] brandCounts = new int[64];
+        private int[] categoryCounts = new int[64];
+        private final int[] bucketCounts = new int[PRICE_BUCKET_BOUNDS.length + 1];
+
+        private long version;
+        private long facetsVersion = -1;
+        private int facetsTopN;
+        private ProductFacets facets;
+
+        // 필터 범위별 집계 (같은 필터 조합은 재집계 전까지 재사용)
+        private long scopedFacetsVersion = -1;
+        private final Map<Scope, ProductFacets> scopedFacets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Scope, ProductFacets> eldest) {
+                return size() > MAX_SCOPED_FACETS;
+            }
+        };
+
+        synchronized void apply(Long productId, ProductModel product) {
+            if (productId == null || productId <= 0 || productId > MAX_ID) {
+                return;
+            }
+            int id = productId.intValue();
+            remove(id);
+            if (product != null && product.getDeletedAt() == null) {
+                add(id, toIndex(product.getBrandId()), toIndex(product.getCategoryId()), priceBucket(product.getPrice()));
+            }
+            version++;
+        }
+
+        private void remove(int id) {
+            if (id >= productBuckets.length || productBuckets[id] == 0) {
+                return;
+            }
+            int brand = productBrands[id];
+            int category = productCategories[id];
+            if (brand > 0) {
+                brandCounts[brand]--;
+            }
+            if (category > 0) {
+                categoryCounts[category]--;
+            }
+            bucketCounts[productBuckets[id] - 1]--;
+            productBrands[id] = 0;
+            productCategories[id] = 0;
+            productBuckets[id] = 0;
+        }
+
+        private void add(int id, int brand, int category, int bucket) {
+            if (id >= productBuckets.length) {
+                int length = grownLength(productBuckets.length, id);
+                productBrands = Arrays.copyOf(productBrands, length);
+                productCategories = Arrays.copyOf(productCategories, length);
+                productBuckets = Arrays.copyOf(productBuckets, length);
+            }
+            if (brand > 0) {
+                if (brand >= brandCounts.length) {
+                    brandCounts = Arrays.copyOf(brandCounts, grownLength(brandCounts.length, brand));
+                }
+                brandCounts[brand]++;
+            }
+            if (category > 0) {
+                if (category >= categoryCounts.length) {
+                    categoryCounts = Arrays.copyOf(categoryCounts, grownLength(categoryCounts.length, category));
+                }
+                categoryCounts[category]++;
+            }
+            bucketCounts[bucket]++;
+            productBrands[id] = brand;
+            productCategories[id] = category;
+            productBuckets[id] = (byte) (bucket + 1);
+        }
+
+        synchronized ProductFacets facets(int topN) {
+            if (facets != null && facetsVersion == version && facetsTopN == topN) {
+                return facets;
+            }
+            facets = toFacets(brandCounts, categoryCounts, bucketCounts, topN);
+            facetsVersion = version;
+            facetsTopN = topN;
+            return facets;
+        }
+
+        synchronized ProductFacets scopedFacets(Long brandId, Long categoryId, int topN) {
+            if (scopedFacetsVersion != version) {
+                scopedFacets.clear();
+                scopedFacetsVersion = version;
+            }
+            Scope scope = new Scope(brandId, categoryId, topN);
+            ProductFacets cached = scopedFacets.get(scope);
+            if (cached != null) {
+                return cached;
+            }
+
+            int brandFilter = toIndex(brandId);
+            int categoryFilter = toIndex(categoryId);
+            int[] scopedBrandCounts = new int[brandCounts.length];
+            int[] scopedCategoryCounts = new int[categoryCounts.length];
+            int[] scopedBucketCounts = new int[bucketCounts.length];
+            for (int id = 1; id < productBuckets.length; id++) {
+                if (productBuckets[id] == 0) {
+                    continue;
+                }
+                int brand = productBrands[id];
+                int category = productCategories[id];
+                boolean brandMatches = brandId == null || (brandFilter > 0 && brand == brandFilter);
+                boolean categoryMatches = categoryId == null || (categoryFilter > 0 && category == categoryFilter);
+                if (categoryMatches && brand > 0) {
+                    scopedBrandCounts[brand]++;
+                }
+                if (brandMatches && category > 0) {
+                    scopedCategoryCounts[category]++;
+                }
+                if (brandMatches && categoryMatches) {
+                    scopedBucketCounts[productBuckets[id] - 1]++;
+                }
+            }
+            ProductFacets result = toFacets(scopedBrandCounts, scopedCategoryCounts, scopedBucketCounts, topN);
+            scopedFacets.put(scope, result);
+            return result;
+        }
+
+        private static ProductFacets toFacets(int[] brandCounts, int[] categoryCounts, int[] bucketCounts, int topN) {
+            List<ProductFacets.PriceBucket> priceBuckets = new ArrayList<>(bucketCounts.length);
+            for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+                int minPrice = bucket == 0 ? 0 : PRICE_BUCKET_BOUNDS[bucket - 1];
+                Integer maxPrice = bucket < PRICE_BUCKET_BOUNDS.length ? PRICE_BUCKET_BOUNDS[bucket] : null;
+                priceBuckets.add(new ProductFacets.PriceBucket(minPrice, maxPrice, bucketCounts[bucket]));
+            }
+            return new ProductFacets(top(brandCounts, topN), top(categoryCounts, topN), List.copyOf(priceBuckets));
+        }
+
+        synchronized ProductSelectivity selectivity(Long brandId, Long categoryId, Integer minPrice, Integer maxPrice) {
+            long total = 0;
+            for (int count : bucketCounts) {
+                total += count;
+            }
+            if (total == 0) {
+                return new ProductSelectivity(0, 1.0, 1.0, 1.0);
+            }
+            double brand = brandId == null ? 1.0 : (double) countAt(brandCounts, toIndex(brandId)) / total;
+            double category = categoryId == null ? 1.0 : (double) countAt(categoryCounts, toIndex(categoryId)) / total;
+            double price = 1.0;
+            if (minPrice != null || maxPrice != null) {
+                int from = minPrice == null ? 0 : priceBucket(minPrice);
+                int to = maxPrice == null ? bucketCounts.length - 1 : priceBucket(maxPrice);
+                long matched = 0;
+                for (int bucket = from; bucket <= to; bucket++) {
+                    matched += bucketCounts[bucket];
+                }
+                price = (double) matched / total;
+            }
+            return new ProductSelectivity(total, brand, category, price);
+        }
+
+        private static int countAt(int[] counts, int index) {
+            return index > 0 && index < counts.length ? counts[index] : 0;
+        }
+
+        private static List<ProductFacets.Count> top(int[] counts, int topN) {
+            List<ProductFacets.Count> result = new ArrayList<>();
+            for (int id = 1; id < counts.length; id++) {
+                if (counts[id] > 0) {
+                    result.add(new ProductFacets.Count((long) id, counts[id]));
+                }
+            }
+            result.sort(Comparator.comparingInt(ProductFacets.Count::count).reversed()
+                    .thenComparing(ProductFacets.Count::id));
+            return List.copyOf(result.subList(0, Math.min(topN, result.size())));
+        }
+
+        private static int toIndex(Long id) {
+            return id == null || id <= 0 || id > MAX_ID ? 0 : id.intValue();
+        }
+
+        private static int grownLength(int length, int index) {
+            return (int) Math.min(MAX_ID + 1, Math.max((long) length * 2, index + 1L));
+        }
+
+        private record Scope(Long brandId, Long categoryId, int topN) {
+        }
+    }
+}
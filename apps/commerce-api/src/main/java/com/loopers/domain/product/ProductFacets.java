@@ -0,0 +1,19 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품 집계 (브랜드별/카테고리별/가격 구간별 상품 수)
+ * 가격 구간의 maxPrice 는 미포함 상한이며, 마지막 구간은 상한이 없다(null).
+ */
+public record ProductFacets(
+        List<Count> brands,
+        List<Count> categories,
+        List<PriceBucket> priceBuckets
+) {
+    public record Count(Long id, int count) {
+    }
+
+    public record PriceBucket(int minPrice, Integer maxPrice, int count) {
+    }
+}
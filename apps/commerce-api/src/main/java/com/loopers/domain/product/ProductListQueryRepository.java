@@ -0,0 +1,29 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 목록 조회 (상품 테이블과 목록 조회용 읽기 모델이 같은 조회 방식을 제공)
+ */
+public interface ProductListQueryRepository {
+
+    /**
+     * rangeFilter 는 비어 있을 수 있음 ({@link ProductRangeFilter#NONE})
+     * selectivity 는 조건 순서를 정할 예상 선택도 (null 이면 조건 순서를 정하지 않고 정렬 인덱스를 그대로 사용)
+     */
+    List<ProductSummary> findSearchProductList(int size, String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter,
+    ProductSelectivity selectivity, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt);
+
+    /**
+     * 후보 상품 ID 와 색인 이후 추가된 상품(indexedUpToId 보다 큰 ID) 안에서만 목록 조회 (상품명 색인으로 후보를 좁힌 검색용)
+     */
+    List<ProductSummary> findSearchProductListWithin(Collection<Long> productIds, long indexedUpToId, int size, String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter,
+    ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt);
+
+    /**
+     * 목록 응답용 요약 일괄 조회 (순서 보장 없음)
+     */
+    List<ProductSummary> findSummariesByIds(Collection<Long> productIds);
+}
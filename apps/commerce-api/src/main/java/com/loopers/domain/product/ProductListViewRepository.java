@@ -0,0 +1,15 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품 목록 조회용 읽기 모델 (product_list_view)
+ * 상품/브랜드/카테고리를 비정규화해 목록 조회 시 조인이나 카탈로그 조회 없이 응답한다.
+ * commerce-collector 가 좋아요 수/재고를 Kafka 이벤트로 갱신하고, 상품/브랜드/카테고리 정보는 읽기 모델이 비어 있을 때의 전체 구축으로만 채운다.
+ * 상품 생성/수정/삭제가 즉시 반영되지 않으므로 기본값은 사용하지 않음(product.list-view.enabled=false)이다.
+ */
+public interface ProductListViewRepository extends ProductListQueryRepository {
+
+    /**
+     * 목록 조회에 읽기 모델을 사용하는지 여부
+     */
+    boolean isEnabled();
+}
@@ -2,12 +2,30 @@ package com.loopers.domain.product;
 
 import com.loopers.domain.BaseEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 
 @Entity
-@Table(name = "product")
+@Table(
+        name = "product",
+        // 정렬 기준별 (필터, 정렬 컬럼, id) 복합 인덱스: 커서 조건과 ORDER BY 를 인덱스 순서대로 처리해 filesort 없이 LIMIT 건수의 행만 읽음
+        // 생성은 db/migration/V2 (운영은 ddl-auto: none)
+        indexes = {
+                @Index(name = "idx_product_likes", columnList = "likes_count, id"),
+                @Index(name = "idx_product_brand_likes", columnList = "brand_id, likes_count, id"),
+                @Index(name = "idx_product_category_likes", columnList = "category_id, likes_count, id"),
+                @Index(name = "idx_product_created", columnList = "created_at, id"),
+                @Index(name = "idx_product_brand_created", columnList = "brand_id, created_at, id"),
+                @Index(name = "idx_product_category_created", columnList = "category_id, created_at, id"),
+                @Index(name = "idx_product_price", columnList = "price, id"),
+                @Index(name = "idx_product_brand_price", columnList = "brand_id, price, id"),
+                @Index(name = "idx_product_category_price", columnList = "category_id, price, id"),
+                // 상품 페이지 인덱스 변경분 대조용 (수정 시각, id) 순 조회
+                @Index(name = "idx_product_updated", columnList = "updated_at, id")
+        }
+)
 @Getter
 public class ProductModel extends BaseEntity {
 
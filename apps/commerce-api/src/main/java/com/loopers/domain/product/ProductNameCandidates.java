@@ -0,0 +1,14 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품명 색인으로 좁힌 검색 후보
+ * - ids: 색인된 상품 중 검색어의 모든 bigram 을 포함한 상품 ID (오름차순)
+ * - indexedUpToId: 마지막 구축 시 읽은 가장 큰 상품 ID (이보다 큰 ID 는 색인에 없으므로 LIKE 로 확인해야 함)
+ */
+public record ProductNameCandidates(
+        List<Long> ids,
+        long indexedUpToId
+) {
+}
@@ -0,0 +1,167 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.collection.PostingList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품명 bigram 역색인
+ * - 상품명을 소문자로 정규화한 뒤 연속한 두 글자(bigram)마다 상품 ID 포스팅 리스트를 압축 보관
+ * - 검색어의 모든 bigram 포스팅 리스트 교집합으로 후보 ID 를 구하고, 실제 부분 일치는 DB 에서 후보 안에서만 확인
+ * - 색인은 주기적 전체 재구축으로만 갱신된다. 구축 이후 추가된 상품(마지막으로 읽은 ID 보다 큰 ID)은
+ *   조회 시 LIKE 로 함께 확인하고, 기존 상품의 이름 변경은 다음 재구축부터 후보에 반영된다.
+ *   (후보는 DB 에서 LIKE 로 다시 확인하므로 이름이 바뀌어 더 이상 일치하지 않는 상품은 결과에 포함되지 않음)
+ */
+@Slf4j
+@Component
+public class ProductNameIndex {
+
+    private static final int BUILD_CHUNK_SIZE = 1000;
+    // 가장 짧은 포스팅 리스트가 이보다 길면 교집합 비용이 커서 색인을 쓰지 않음
+    private static final int MAX_SCAN_POSTINGS = 200_000;
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private record Snapshot(Map<Integer, PostingList> postings, long indexedUpToId) {
+    }
+
+    public ProductNameIndex(
+            ProductRepository productRepository,
+            @Value("${product.name-index.enabled:true}") boolean enabled
+    ) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 이름 변경을 반영하고 LIKE 로 확인할 신규 상품 범위를 줄이도록 주기적으로 전체 재구축
+     */
+    @Scheduled(fixedDelay = 21_600_000, initialDelay = 21_600_000)
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    /**
+     * 상품 전체를 ID 순으로 읽어 새 색인으로 교체
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            Map<Integer, PostingList.Builder> builders = new HashMap<>();
+            Set<Integer> grams = new HashSet<>();
+            long indexed = 0;
+            Long lastId = null;
+            while (true) {
+                List<ProductModel> chunk = productRepository.findAllAfterId(lastId, BUILD_CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                for (ProductModel product : chunk) {
+                    grams.clear();
+                    collectBigrams(normalize(product.getName()), grams);
+                    for (Integer gram : grams) {
+                        builders.computeIfAbsent(gram, g -> PostingList.builder()).add(product.getId());
+                    }
+                }
+                indexed += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+
+            Map<Integer, PostingList> next = new HashMap<>(builders.size() * 2);
+            long bytes = 0;
+            for (Map.Entry<Integer, PostingList.Builder> entry : builders.entrySet()) {
+                PostingList list = entry.getValue().build();
+                next.put(entry.getKey(), list);
+                bytes += list.sizeInBytes();
+            }
+            snapshot.set(new Snapshot(next, lastId == null ? 0L : lastId));
+            log.info("상품명 색인 구축 완료 - 상품 수: {}, bigram 수: {}, 포스팅 크기: {}KB, 소요시간: {}ms",
+                    indexed, next.size(), bytes / 1024, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("상품명 색인 구축 실패 - 기존 색인 유지, 에러: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 색인된 상품 ID 후보
+     * 색인이 준비되지 않았거나 후보가 maxCandidates 를 넘으면 empty (후보가 많으면 LIKE 조회가 더 빨리 끝남)
+     */
+    public Optional<ProductNameCandidates> findCandidateIds(String query, int maxCandidates) {
+        Snapshot current = snapshot.get();
+        if (current == null || query == null) {
+            return Optional.empty();
+        }
+        Set<Integer> grams = new HashSet<>();
+        collectBigrams(normalize(query), grams);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (Integer gram : grams) {
+            PostingList list = current.postings().get(gram);
+            lists.add(list == null ? PostingList.empty() : list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        if (lists.get(0).size() > MAX_SCAN_POSTINGS) {
+            return Optional.empty();
+        }
+
+        long[] candidates = lists.get(0).toArray();
+        int length = candidates.length;
+        for (int i = 1; i < lists.size() && length > 0; i++) {
+            length = lists.get(i).retainAll(candidates, length);
+        }
+        if (length > maxCandidates) {
+            return Optional.empty();
+        }
+        // 포스팅 리스트가 ID 오름차순이므로 교집합도 오름차순
+        return Optional.of(new ProductNameCandidates(
+                Arrays.stream(candidates, 0, length).boxed().toList(),
+                current.indexedUpToId()
+        ));
+    }
+
+    public boolean isReady() {
+        return snapshot.get() != null;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    private static void collectBigrams(String text, Set<Integer> grams) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add((text.charAt(i) << 16) | text.charAt(i + 1));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 목록 페이지 인덱스
+ * 정렬 기준 × (전체/브랜드/카테고리) 별로 정렬된 상품 ID 를 유지해,
+ * 커서 위치부터 size 개의 ID 를 DB 정렬 없이 조회한다.
+ */
+public interface ProductPageIndex {
+
+    /**
+     * 페이지에 해당하는 상품 ID 를 정렬 순서대로 조회
+     * 인덱스가 준비되지 않았거나, 커서 상품의 정렬 값이 바뀌어 위치를 확정할 수 없으면 empty
+     */
+    Optional<List<Long>> findPageIds(ProductSortBy sortBy, Long brandId, Long categoryId,
+                                     Long lastId, Double lastScore, int size);
+
+    /**
+     * 상품의 현재 정렬 값으로 인덱스 갱신 (추가/수정 공통)
+     */
+    void index(Collection<ProductModel> products);
+
+    /**
+     * 인덱스에서 상품 제거 (마지막으로 색인된 브랜드/카테고리 범위 기준)
+     */
+    void remove(Long productId);
+
+    /**
+     * 전체 구축이 끝나 조회에 사용할 수 있는지 여부 (구축/변경분 대조가 일정 시간 없으면 만료)
+     */
+    boolean isReady();
+
+    void markReady();
+
+    /**
+     * 구축 권한 획득 (여러 노드 중 하나만 전체 구축)
+     */
+    boolean tryAcquireBuild();
+
+    void releaseBuild();
+}
@@ -0,0 +1,34 @@
+package com.loopers.domain.product;
+
+/**
+ * 가격 범위/재고 필터 (minPrice 이상 maxPrice 이하, inStockOnly 면 재고가 있는 상품만)
+ */
+public record ProductRangeFilter(
+        Integer minPrice,
+        Integer maxPrice,
+        boolean inStockOnly
+) {
+    public static final ProductRangeFilter NONE = new ProductRangeFilter(null, null, false);
+
+    public static ProductRangeFilter of(Integer minPrice, Integer maxPrice, Boolean inStockOnly) {
+        boolean stockOnly = Boolean.TRUE.equals(inStockOnly);
+        if (minPrice == null && maxPrice == null && !stockOnly) {
+            return NONE;
+        }
+        return new ProductRangeFilter(minPrice, maxPrice, stockOnly);
+    }
+
+    public boolean isEmpty() {
+        return !hasPriceRange() && !inStockOnly;
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean matches(int price, int stock) {
+        return (minPrice == null || price >= minPrice)
+                && (maxPrice == null || price <= maxPrice)
+                && (!inStockOnly || stock > 0);
+    }
+}
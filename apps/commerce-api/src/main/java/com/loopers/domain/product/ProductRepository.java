@@ -3,8 +3,9 @@ package com.loopers.domain.product;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ProductRepository {
+public interface ProductRepository extends ProductListQueryRepository {
     
     Optional<ProductModel> findById(Long id);
 
@@ -14,10 +15,28 @@ public interface ProductRepository {
     
     List<ProductModel> findByCategoryId(Long categoryId);
 
-    List<ProductModel> findSearchProductList(int size, String productName, Long brandId, Long categoryId,
-    ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt);
-    
     ProductModel save(ProductModel product);
 
+    /**
+     * 좋아요 수에 변경분을 바로 더함 (조회 없이 한 번의 UPDATE, 0 미만으로 내려가지 않음)
+     */
+    void addLikesCount(Long productId, int delta);
+
     List<ProductModel> findAllByIds(List<Long> productIds);
+
+    /**
+     * lastId 이후 상품을 ID 오름차순으로 조회 (전체 순회용)
+     */
+    List<ProductModel> findAllAfterId(Long lastId, int size);
+
+    /**
+     * (updatedAt, lastId) 이후 수정된 상품을 (수정 시각, ID) 오름차순으로 조회 (변경분 대조용)
+     */
+    List<ProductModel> findAllUpdatedAfter(ZonedDateTime updatedAt, Long lastId, int size);
+
+    /**
+     * 전체 상품을 브랜드/카테고리명과 함께 ID 오름차순으로 스트리밍 조회
+     * 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    Stream<ProductSummary> streamAllWithCatalogNames();
 }
@@ -7,6 +7,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ProductSearchDomainService {
 
+    public static final int MAX_BATCH_SIZE = 300;
+
     /**
      * 상품 검색 조건 유효성 검증
      */
@@ -46,4 +48,25 @@ public class ProductSearchDomainService {
             throw new IllegalArgumentException("카테고리 ID는 양수여야 합니다.");
         }
     }
+
+    /**
+     * 가격 범위 조건 검증
+     */
+    public void validateRangeCriteria(Integer minPrice, Integer maxPrice) {
+        if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)) {
+            throw new IllegalArgumentException("가격 범위는 0 이상이어야 합니다.");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
+
+    /**
+     * 상품 일괄 조회 조건 검증
+     */
+    public void validateBatchCriteria(int size) {
+        if (size <= 0 || size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 상품은 1~" + MAX_BATCH_SIZE + "개입니다.");
+        }
+    }
 }
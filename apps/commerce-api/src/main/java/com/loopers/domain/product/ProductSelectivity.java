@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+/**
+ * 목록 조건별 예상 선택도 (조건을 만족하는 상품 비율, 조건이 없으면 1.0)
+ */
+public record ProductSelectivity(
+        long totalProducts,
+        double brand,
+        double category,
+        double price
+) {
+    /**
+     * 조건들이 서로 독립이라고 가정한 예상 결과 행 수
+     */
+    public long estimatedRows() {
+        return (long) Math.ceil(totalProducts * brand * category * price);
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 정렬 기준별 인덱스 점수
+ * 동점은 상품 ID 로 정렬되므로 점수에는 1차 정렬 값만 담는다.
+ */
+public final class ProductSortScore {
+
+    private ProductSortScore() {
+    }
+
+    public static double of(ProductSortBy sortBy, ProductModel product) {
+        return switch (normalize(sortBy)) {
+            case LIKES -> product.getLikesCount();
+            case LATEST -> product.getCreatedAt().toInstant().toEpochMilli();
+            case PRICE_ASC, PRICE_DESC -> product.getPrice();
+        };
+    }
+
+    /**
+     * 커서 값으로 점수 계산 (정렬에 필요한 커서 값이 없으면 null)
+     */
+    public static Double ofCursor(ProductSortBy sortBy, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
+        return switch (normalize(sortBy)) {
+            case LIKES -> lastLikesCount == null ? null : lastLikesCount.doubleValue();
+            case LATEST -> lastCreatedAt == null ? null : (double) lastCreatedAt.toInstant().toEpochMilli();
+            case PRICE_ASC, PRICE_DESC -> lastPrice == null ? null : lastPrice.doubleValue();
+        };
+    }
+
+    private static ProductSortBy normalize(ProductSortBy sortBy) {
+        return sortBy == null ? ProductSortBy.LIKES : sortBy;
+    }
+}
@@ -0,0 +1,47 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 목록 조회용 요약 (목록 응답과 커서에 필요한 컬럼만 보관)
+ * 영속성 컨텍스트에 올라가지 않으므로 대량 조회 시 스냅샷/변경 감지 비용이 없다.
+ * 브랜드/카테고리명은 목록 조회용 읽기 모델이나 전체 내보내기 조회에서 읽은 경우에만 채워진다.
+ */
+public record ProductSummary(
+        Long id,
+        Long brandId,
+        Long categoryId,
+        String name,
+        int price,
+        int stock,
+        int likesCount,
+        ZonedDateTime createdAt,
+        String brandName,
+        String categoryName
+) {
+    public ProductSummary(Long id, Long brandId, Long categoryId, String name, int price, int stock, int likesCount,
+                          ZonedDateTime createdAt) {
+        this(id, brandId, categoryId, name, price, stock, likesCount, createdAt, null, null);
+    }
+
+    public static ProductSummary from(ProductModel product) {
+        return new ProductSummary(
+                product.getId(),
+                product.getBrandId(),
+                product.getCategoryId(),
+                product.getName(),
+                product.getPrice(),
+                product.getStock(),
+                product.getLikesCount(),
+                product.getCreatedAt()
+        );
+    }
+
+    public ProductSummary withLikesCount(int likesCount) {
+        return new ProductSummary(id, brandId, categoryId, name, price, stock, likesCount, createdAt, brandName, categoryName);
+    }
+
+    public boolean hasCatalogNames() {
+        return brandName != null || categoryName != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.infrastructure.like;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 좋아요 전파 채널 구독자
+ * 다른 노드에서 커밋된 좋아요를 받아 로컬 좋아요 필터에 추가한다.
+ */
+@RequiredArgsConstructor
+public class LikeAddedListener implements MessageListener {
+
+    private final LikedProductRedisCache likedProductRedisCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        likedProductRedisCache.handleLikeAddedMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.infrastructure.like;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * DB 에 반영한 좋아요 수 변경분 묶음 (묶음 ID 가 PK 이므로 같은 묶음은 한 번만 기록된다)
+ */
+@Entity
+@Table(
+        name = "like_count_flush",
+        // 보관 기간이 지난 기록 정리용
+        indexes = @Index(name = "idx_like_count_flush_flushed_at", columnList = "flushed_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LikeCountFlushEntity {
+
+    @Id
+    @Column(name = "batch_id", nullable = false, length = 64)
+    private String batchId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private ZonedDateTime flushedAt;
+}
@@ -0,0 +1,27 @@
+package com.loopers.infrastructure.like;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+public interface LikeCountFlushJpaRepository extends JpaRepository<LikeCountFlushEntity, String> {
+
+    /**
+     * save 는 ID 가 지정된 엔티티를 merge(조회 후 갱신)하므로 중복 키가 드러나도록 INSERT 로 기록
+     */
+    @Modifying
+    @Query(value = "INSERT INTO like_count_flush (batch_id, flushed_at) VALUES (:batchId, :flushedAt)", nativeQuery = true)
+    int insert(@Param("batchId") String batchId, @Param("flushedAt") ZonedDateTime flushedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM like_count_flush WHERE flushed_at < :cutoff", nativeQuery = true)
+    int deleteFlushedBefore(@Param("cutoff") ZonedDateTime cutoff);
+
+    @Modifying
+    @Query(value = "DELETE FROM like_count_flush WHERE flushed_at < :cutoff AND batch_id NOT IN (:keepBatchIds)", nativeQuery = true)
+    int deleteFlushedBeforeExcept(@Param("cutoff") ZonedDateTime cutoff, @Param("keepBatchIds") Collection<String> keepBatchIds);
+}
@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCountFlushRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+@Component
+@RequiredArgsConstructor
+public class LikeCountFlushRepositoryImpl implements LikeCountFlushRepository {
+
+    private final LikeCountFlushJpaRepository likeCountFlushJpaRepository;
+
+    @Override
+    public boolean isFlushed(String batchId) {
+        return likeCountFlushJpaRepository.existsById(batchId);
+    }
+
+    @Override
+    public void markFlushed(String batchId) {
+        likeCountFlushJpaRepository.insert(batchId, ZonedDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int deleteFlushedBefore(ZonedDateTime cutoff, Collection<String> keepBatchIds) {
+        if (keepBatchIds.isEmpty()) {
+            return likeCountFlushJpaRepository.deleteFlushedBefore(cutoff);
+        }
+        return likeCountFlushJpaRepository.deleteFlushedBeforeExcept(cutoff, keepBatchIds);
+    }
+}
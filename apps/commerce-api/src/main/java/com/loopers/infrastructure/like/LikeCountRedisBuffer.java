@@ -0,0 +1,214 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCountBatch;
+import com.loopers.domain.like.LikeCountBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis Hash 기반 좋아요 수 변경분 버퍼
+ * - {like:count}:pending: 상품 ID -> 누적 변경분 (HINCRBY)
+ * - {like:count}:batch:{batchId}: 넘겨받은 묶음 (pending 을 RENAME 해 만들므로 넘겨받는 순간 이후의 변경분은 새 pending 에 쌓임)
+ * - {like:count}:batches: 완료되지 않은 묶음 ID 집합
+ *
+ * 스크립트가 여러 키를 함께 다루므로 해시 태그로 같은 슬롯에 두고, 스크립트가 다루는 키는 모두 KEYS 로 넘긴다.
+ */
+@Slf4j
+@Component
+public class LikeCountRedisBuffer implements LikeCountBuffer {
+
+    private static final String KEY_PREFIX = "{like:count}:";
+    private static final byte[] PENDING_KEY = bytes(KEY_PREFIX + "pending");
+    private static final byte[] BATCHES_KEY = bytes(KEY_PREFIX + "batches");
+    private static final String BATCH_KEY_PREFIX = KEY_PREFIX + "batch:";
+
+    // 변경분 누적 후 pending 과 완료되지 않은 묶음의 변경분 합계를 반환
+    // 스크립트가 다루는 키는 모두 KEYS 로 넘긴다. (KEYS[3..]: 호출 전에 읽은 묶음 키, ARGV[3..]: 그 묶음 ID)
+    // 호출 전에 읽은 묶음 목록이 그 사이 바뀌었으면 아무것도 하지 않고 nil 을 반환해 다시 읽게 한다.
+    private static final byte[] ADD_SCRIPT = bytes("""
+            local batchCount = #KEYS - 2
+            if redis.call('SCARD', KEYS[2]) ~= batchCount then return false end
+            for i = 1, batchCount do
+                if redis.call('SISMEMBER', KEYS[2], ARGV[i + 2]) == 0 then return false end
+            end
+            local total = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            for i = 3, #KEYS do
+                local delta = redis.call('HGET', KEYS[i], ARGV[1])
+                if delta then total = total + tonumber(delta) end
+            end
+            return total
+            """);
+    // 누적 직전에 묶음이 넘겨진 경우 묶음 목록을 다시 읽는 최대 횟수
+    private static final int MAX_ADD_ATTEMPTS = 3;
+
+    // pending 이 있으면 묶음 키로 옮기고 묶음 ID 를 등록
+    private static final byte[] CLAIM_SCRIPT = bytes("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('SADD', KEYS[3], ARGV[1])
+            return 1
+            """);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean enabled;
+
+    public LikeCountRedisBuffer(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${like.write-behind.enabled:true}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long add(Long productId, int delta) {
+        for (int attempt = 0; attempt < MAX_ADD_ATTEMPTS; attempt++) {
+            List<byte[]> batchIds = readBatchIds();
+            byte[][] keysAndArgs = new byte[2 + batchIds.size() + 2 + batchIds.size()][];
+            int index = 0;
+            keysAndArgs[index++] = PENDING_KEY;
+            keysAndArgs[index++] = BATCHES_KEY;
+            for (byte[] batchId : batchIds) {
+                keysAndArgs[index++] = batchKey(string(batchId));
+            }
+            keysAndArgs[index++] = field(productId);
+            keysAndArgs[index++] = bytes(String.valueOf(delta));
+            for (byte[] batchId : batchIds) {
+                keysAndArgs[index++] = batchId;
+            }
+
+            Long total = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    ADD_SCRIPT, ReturnType.INTEGER, 2 + batchIds.size(), keysAndArgs));
+            if (total != null) {
+                return total;
+            }
+        }
+        throw new IllegalStateException("좋아요 수 변경분 누적 중 묶음 목록이 계속 바뀜 - 상품ID: " + productId);
+    }
+
+    @Override
+    public Map<Long, Long> pendingDeltas(Collection<Long> productIds) {
+        if (!enabled || productIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            List<Long> ids = List.copyOf(productIds);
+            byte[][] fields = ids.stream().map(LikeCountRedisBuffer::field).toArray(byte[][]::new);
+
+            return redisTemplate.execute((RedisCallback<Map<Long, Long>>) connection -> {
+                Map<Long, Long> deltas = new HashMap<>();
+                accumulate(deltas, ids, connection.hashCommands().hMGet(PENDING_KEY, fields));
+                Set<byte[]> batchIds = connection.setCommands().sMembers(BATCHES_KEY);
+                if (batchIds != null) {
+                    for (byte[] batchId : batchIds) {
+                        accumulate(deltas, ids, connection.hashCommands().hMGet(batchKey(string(batchId)), fields));
+                    }
+                }
+                deltas.values().removeIf(delta -> delta == 0);
+                return deltas;
+            });
+        } catch (Exception e) {
+            log.warn("좋아요 수 변경분 조회 실패 - 상품 수: {}, 에러: {}", productIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public Optional<LikeCountBatch> claim() {
+        String batchId = System.currentTimeMillis() + "-" + UUID.randomUUID();
+        Long claimed = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                CLAIM_SCRIPT, ReturnType.INTEGER, 3,
+                PENDING_KEY, batchKey(batchId), BATCHES_KEY, bytes(batchId)));
+        if (claimed == null || claimed == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(readBatch(batchId));
+    }
+
+    @Override
+    public List<LikeCountBatch> unfinishedBatches() {
+        List<byte[]> batchIds = readBatchIds();
+        List<LikeCountBatch> batches = new ArrayList<>(batchIds.size());
+        for (byte[] batchId : batchIds) {
+            batches.add(readBatch(string(batchId)));
+        }
+        return batches;
+    }
+
+    @Override
+    public void complete(String batchId) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(batchKey(batchId));
+            connection.setCommands().sRem(BATCHES_KEY, bytes(batchId));
+            return null;
+        });
+    }
+
+    private List<byte[]> readBatchIds() {
+        Set<byte[]> batchIds = redisTemplate.execute((RedisCallback<Set<byte[]>>) connection ->
+                connection.setCommands().sMembers(BATCHES_KEY));
+        return batchIds == null ? List.of() : List.copyOf(batchIds);
+    }
+
+    private LikeCountBatch readBatch(String batchId) {
+        Map<byte[], byte[]> entries = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+                connection.hashCommands().hGetAll(batchKey(batchId)));
+        Map<Long, Long> deltas = new HashMap<>();
+        if (entries != null) {
+            entries.forEach((productId, delta) -> {
+                long value = Long.parseLong(string(delta));
+                if (value != 0) {
+                    deltas.put(Long.parseLong(string(productId)), value);
+                }
+            });
+        }
+        return new LikeCountBatch(batchId, deltas);
+    }
+
+    private static void accumulate(Map<Long, Long> deltas, List<Long> ids, List<byte[]> values) {
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            byte[] value = values.get(i);
+            if (value != null) {
+                deltas.merge(ids.get(i), Long.parseLong(string(value)), Long::sum);
+            }
+        }
+    }
+
+    private static byte[] batchKey(String batchId) {
+        return bytes(BATCH_KEY_PREFIX + batchId);
+    }
+
+    private static byte[] field(Long productId) {
+        return bytes(String.valueOf(productId));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,69 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCountShardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class LikeCountShardRepositoryImpl implements LikeCountShardRepository {
+
+    private final ProductLikeCountShardJpaRepository shardJpaRepository;
+    private final boolean enabled;
+    private final int shardCount;
+
+    public LikeCountShardRepositoryImpl(
+            ProductLikeCountShardJpaRepository shardJpaRepository,
+            @Value("${like.count-shards.enabled:true}") boolean enabled,
+            @Value("${like.count-shards.count:16}") int shardCount
+    ) {
+        this.shardJpaRepository = shardJpaRepository;
+        this.enabled = enabled;
+        this.shardCount = Math.max(1, shardCount);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void add(Long productId, int delta) {
+        shardJpaRepository.add(productId, ThreadLocalRandom.current().nextInt(shardCount), delta);
+    }
+
+    @Override
+    public Map<Long, Long> sumByProductIds(Collection<Long> productIds) {
+        if (!enabled || productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> sums = new HashMap<>();
+        for (Object[] row : shardJpaRepository.sumByProductIds(productIds)) {
+            long sum = ((Number) row[1]).longValue();
+            if (sum != 0) {
+                sums.put((Long) row[0], sum);
+            }
+        }
+        return sums;
+    }
+
+    @Override
+    public List<Long> findProductIds(int limit) {
+        return shardJpaRepository.findProductIds(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long drain(Long productId) {
+        long sum = shardJpaRepository.findAllByProductIdForUpdate(productId).stream()
+                .mapToLong(ProductLikeCountShardEntity::getCnt)
+                .sum();
+        shardJpaRepository.deleteByProductId(productId);
+        return sum;
+    }
+}
@@ -1,9 +1,16 @@
 package com.loopers.infrastructure.like;
 
+import com.loopers.domain.like.LikeKey;
 import com.loopers.domain.like.LikeModel;
+import com.loopers.domain.like.LikedProduct;
 import com.loopers.domain.user.UserId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +24,31 @@ public interface LikeJpaRepository extends JpaRepository<LikeModel, Long> {
     boolean existsByUserIdAndProductId(UserId userId, Long productId);
 
     int countByProductId(Long productId);
+
+    @Query("SELECT l.productId FROM LikeModel l WHERE l.userId = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") UserId userId);
+
+    @Query("SELECT l.productId FROM LikeModel l WHERE l.userId = :userId AND l.productId IN :productIds")
+    List<Long> findProductIdsByUserIdAndProductIdIn(@Param("userId") UserId userId, @Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT new com.loopers.domain.like.LikedProduct(l.id, l.productId, l.createdAt) FROM LikeModel l " +
+            "WHERE l.userId = :userId ORDER BY l.createdAt DESC, l.id DESC")
+    List<LikedProduct> findLikedProducts(@Param("userId") UserId userId, Pageable pageable);
+
+    @Query("SELECT new com.loopers.domain.like.LikedProduct(l.id, l.productId, l.createdAt) FROM LikeModel l " +
+            "WHERE l.userId = :userId AND (l.createdAt < :likedAt OR (l.createdAt = :likedAt AND l.id < :likeId)) " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    List<LikedProduct> findLikedProductsAfter(@Param("userId") UserId userId, @Param("likedAt") ZonedDateTime likedAt,
+                                              @Param("likeId") Long likeId, Pageable pageable);
+
+    @Query("SELECT new com.loopers.domain.like.LikeKey(l.userId.value, l.productId, l.createdAt, l.id) FROM LikeModel l " +
+            "ORDER BY l.userId.value, l.createdAt, l.id")
+    List<LikeKey> findKeys(Pageable pageable);
+
+    @Query("SELECT new com.loopers.domain.like.LikeKey(l.userId.value, l.productId, l.createdAt, l.id) FROM LikeModel l " +
+            "WHERE l.userId.value > :userId OR (l.userId.value = :userId AND " +
+            "(l.createdAt > :likedAt OR (l.createdAt = :likedAt AND l.id > :likeId))) " +
+            "ORDER BY l.userId.value, l.createdAt, l.id")
+    List<LikeKey> findKeysAfter(@Param("userId") String userId, @Param("likedAt") ZonedDateTime likedAt,
+                                @Param("likeId") Long likeId, Pageable pageable);
 }
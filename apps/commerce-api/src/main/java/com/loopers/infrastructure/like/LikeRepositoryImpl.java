@@ -1,13 +1,21 @@
 package com.loopers.infrastructure.like;
 
+import com.loopers.domain.like.LikeKey;
 import com.loopers.domain.like.LikeModel;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProduct;
+import com.loopers.domain.like.LikedProductCursor;
+import com.loopers.domain.like.LikedProductCache;
 import com.loopers.domain.user.UserId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 @RequiredArgsConstructor
@@ -15,6 +23,7 @@ import java.util.Optional;
 public class LikeRepositoryImpl implements LikeRepository {
 
     private final LikeJpaRepository likeJpaRepository;
+    private final LikedProductCache likedProductCache;
 
     @Override
     public LikeModel save(LikeModel like) {
@@ -33,7 +42,10 @@ public class LikeRepositoryImpl implements LikeRepository {
 
     @Override
     public List<LikeModel> findByUserId(UserId userId) {
-        return likeJpaRepository.findAllByUserId(userId);
+        long version = likedProductCache.version(userId);
+        List<LikeModel> likes = likeJpaRepository.findAllByUserId(userId);
+        likedProductCache.load(userId, version, likes.stream().map(LikeModel::getProductId).toList());
+        return likes;
     }
 
     @Override
@@ -45,4 +57,67 @@ public class LikeRepositoryImpl implements LikeRepository {
     public boolean existsByUserIdAndProductId(UserId userId, Long productId) {
         return likeJpaRepository.existsByUserIdAndProductId(userId, productId);
     }
+
+    @Override
+    public boolean isLiked(UserId userId, Long productId, boolean loadOnMiss) {
+        if (!likedProductCache.isEnabled()) {
+            return likeJpaRepository.existsByUserIdAndProductId(userId, productId);
+        }
+        Optional<Boolean> cached = likedProductCache.isLiked(userId, productId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        if (!loadOnMiss) {
+            return likeJpaRepository.existsByUserIdAndProductId(userId, productId);
+        }
+        // 사용자의 좋아요 전체를 한 번 읽어 적재 (이후 확인은 DB 조회 없음)
+        return loadLikedProductIds(userId).contains(productId);
+    }
+
+    @Override
+    public Set<Long> findLikedProductIds(UserId userId, Collection<Long> productIds, boolean loadOnMiss) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!likedProductCache.isEnabled()) {
+            return new HashSet<>(likeJpaRepository.findProductIdsByUserIdAndProductIdIn(userId, productIds));
+        }
+        Optional<Set<Long>> cached = likedProductCache.likedAmong(userId, productIds);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        if (!loadOnMiss) {
+            return new HashSet<>(likeJpaRepository.findProductIdsByUserIdAndProductIdIn(userId, productIds));
+        }
+        Set<Long> liked = new HashSet<>(loadLikedProductIds(userId));
+        liked.retainAll(productIds);
+        return liked;
+    }
+
+    /**
+     * 사용자의 좋아요 상품 ID 를 DB 에서 읽어 집합에 적재
+     * 조회 전에 버전을 읽어 두어, 조회와 적재 사이에 커밋된 취소가 있으면 적재하지 않는다.
+     */
+    private List<Long> loadLikedProductIds(UserId userId) {
+        long version = likedProductCache.version(userId);
+        List<Long> productIds = likeJpaRepository.findProductIdsByUserId(userId);
+        likedProductCache.load(userId, version, productIds);
+        return productIds;
+    }
+
+    @Override
+    public List<LikedProduct> findLikedProducts(UserId userId, LikedProductCursor cursor, int size) {
+        if (cursor == null) {
+            return likeJpaRepository.findLikedProducts(userId, PageRequest.of(0, size));
+        }
+        return likeJpaRepository.findLikedProductsAfter(userId, cursor.likedAt(), cursor.likeId(), PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<LikeKey> findKeysAfter(LikeKey after, int size) {
+        if (after == null) {
+            return likeJpaRepository.findKeys(PageRequest.of(0, size));
+        }
+        return likeJpaRepository.findKeysAfter(after.userId(), after.likedAt(), after.likeId(), PageRequest.of(0, size));
+    }
 }
@@ -0,0 +1,30 @@
+package com.loopers.infrastructure.like;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class LikedProductCacheConfig {
+
+    /**
+     * 노드 간 좋아요 필터 전파를 위한 Pub/Sub 구독 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(name = "like.liked-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer likeAddedListenerContainer(
+            LettuceConnectionFactory lettuceConnectionFactory,
+            LikedProductRedisCache likedProductRedisCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        container.addMessageListener(
+                new LikeAddedListener(likedProductRedisCache),
+                new ChannelTopic(LikedProductRedisCache.LIKE_ADDED_CHANNEL)
+        );
+        return container;
+    }
+}
@@ -0,0 +1,279 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikedProductCache;
+import com.loopers.domain.like.LikedProductFilter;
+import com.loopers.domain.user.UserId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis Set 기반 사용자별 좋아요 상품 집합
+ * - 키: like:user:{userId}, 멤버: 상품 ID 와 적재 표시(LOADED_MEMBER)
+ * - 좋아요/취소는 적재 여부와 무관하게 SADD/SREM 하고, 적재 시에는 기존 멤버를 지우지 않고 합친다.
+ *   그래서 적재 중(DB 조회 후 저장 전)에 커밋된 좋아요가 집합에서 빠지지 않는다.
+ * - 취소는 버전 키(like:user:{userId}:version)를 올리고, 적재는 DB 조회 전에 읽은 버전이 그대로일 때만 반영한다.
+ *   그래서 적재 중에 커밋된 취소를 이전 조회 결과가 다시 넣지 않는다.
+ * - 반영에 실패하면 집합을 지워 다음 확인이 DB 에서 다시 적재하도록 한다.
+ * - 좋아요는 채널로도 발행해 다른 노드의 좋아요 필터에 추가한다.
+ */
+@Slf4j
+@Component
+public class LikedProductRedisCache implements LikedProductCache {
+
+    public static final String LIKE_ADDED_CHANNEL = "like:added";
+
+    private static final String KEY_PREFIX = "like:user:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final byte[] LOADED_MEMBER = bytes("loaded");
+    // 버전을 읽지 못했을 때 (이 값으로는 적재하지 않음)
+    private static final long UNKNOWN_VERSION = -1L;
+
+    // 적재되지 않았으면 -1, 아니면 좋아요 여부(0/1)
+    private static final byte[] IS_LIKED_SCRIPT = bytes("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then return -1 end
+            return redis.call('SISMEMBER', KEYS[1], ARGV[2])
+            """);
+
+    // 적재되지 않았으면 nil, 아니면 ARGV[2..] 각각의 좋아요 여부(0/1)
+    private static final byte[] LIKED_AMONG_SCRIPT = bytes("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then return false end
+            return redis.call('SMISMEMBER', KEYS[1], unpack(ARGV, 2))
+            """);
+
+    // KEYS = 집합, 버전 / ARGV = 조회 전 버전, TTL(초), 적재 표시, 상품 ID...
+    // 버전이 바뀌었으면(조회 후 취소가 커밋됨) 적재하지 않고 0, 아니면 상품 ID 를 모두 넣은 뒤 적재 표시하고 1
+    private static final byte[] LOAD_SCRIPT = bytes("""
+            if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then return 0 end
+            for i = 4, #ARGV, 1000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('SADD', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """);
+
+    // KEYS = 집합, 버전 / ARGV = 상품 ID, TTL(초)
+    private static final byte[] REMOVE_SCRIPT = bytes("""
+            redis.call('SREM', KEYS[1], ARGV[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """);
+
+    // KEYS = 집합, 버전 / ARGV = TTL(초)
+    // 집합을 지우고 버전도 올려 진행 중인 적재가 지운 집합을 다시 채우지 않도록 함
+    private static final byte[] EVICT_SCRIPT = bytes("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LikedProductFilter likedProductFilter;
+    private final boolean enabled;
+    private final long ttlSeconds;
+
+    public LikedProductRedisCache(
+            RedisTemplate<String, Object> redisTemplate,
+            LikedProductFilter likedProductFilter,
+            @Value("${like.liked-cache.enabled:true}") boolean enabled,
+            @Value("${like.liked-cache.ttl:30m}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.likedProductFilter = likedProductFilter;
+        this.enabled = enabled;
+        this.ttlSeconds = ttl.toSeconds();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Optional<Boolean> isLiked(UserId userId, Long productId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Long result = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    IS_LIKED_SCRIPT, ReturnType.INTEGER, 1, key(userId), LOADED_MEMBER, member(productId)));
+            if (result == null || result < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(result == 1);
+        } catch (Exception e) {
+            log.warn("좋아요 집합 조회 실패 - 사용자: {}, 에러: {}", userId.getValue(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<Set<Long>> likedAmong(UserId userId, Collection<Long> productIds) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (productIds.isEmpty()) {
+            return Optional.of(Set.of());
+        }
+        try {
+            List<Long> ids = List.copyOf(productIds);
+            byte[][] keysAndArgs = new byte[ids.size() + 2][];
+            keysAndArgs[0] = key(userId);
+            keysAndArgs[1] = LOADED_MEMBER;
+            for (int i = 0; i < ids.size(); i++) {
+                keysAndArgs[i + 2] = member(ids.get(i));
+            }
+            List<Object> flags = redisTemplate.execute((RedisCallback<List<Object>>) connection ->
+                    connection.scriptingCommands().eval(LIKED_AMONG_SCRIPT, ReturnType.MULTI, 1, keysAndArgs));
+            if (flags == null || flags.size() != ids.size()) {
+                return Optional.empty();
+            }
+            Set<Long> liked = new HashSet<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (flags.get(i) instanceof Long flag && flag == 1L) {
+                    liked.add(ids.get(i));
+                }
+            }
+            return Optional.of(liked);
+        } catch (Exception e) {
+            log.warn("좋아요 집합 일괄 조회 실패 - 사용자: {}, 상품 수: {}, 에러: {}", userId.getValue(), productIds.size(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long version(UserId userId) {
+        if (!enabled) {
+            return 0L;
+        }
+        try {
+            byte[] version = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(versionKey(userId)));
+            return version == null ? 0L : Long.parseLong(new String(version, StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.warn("좋아요 집합 버전 조회 실패 - 사용자: {}, 에러: {}", userId.getValue(), e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    @Override
+    public void load(UserId userId, long version, Collection<Long> productIds) {
+        if (!enabled || version == UNKNOWN_VERSION) {
+            return;
+        }
+        try {
+            byte[][] keysAndArgs = new byte[productIds.size() + 5][];
+            keysAndArgs[0] = key(userId);
+            keysAndArgs[1] = versionKey(userId);
+            keysAndArgs[2] = bytes(String.valueOf(version));
+            keysAndArgs[3] = bytes(String.valueOf(ttlSeconds));
+            keysAndArgs[4] = LOADED_MEMBER;
+            int index = 5;
+            for (Long productId : productIds) {
+                keysAndArgs[index++] = member(productId);
+            }
+            Long loaded = redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.scriptingCommands().eval(LOAD_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs));
+            if (loaded == null || loaded == 0L) {
+                log.debug("적재 중 좋아요 취소가 반영되어 적재 생략 - 사용자: {}", userId.getValue());
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 집합 적재 실패 - 사용자: {}, 에러: {}", userId.getValue(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void added(UserId userId, Long productId) {
+        likedProductFilter.add(userId.getValue(), productId);
+        if (!enabled) {
+            return;
+        }
+        try {
+            byte[] key = key(userId);
+            byte[] channel = bytes(LIKE_ADDED_CHANNEL);
+            byte[] message = bytes(LikedProductFilter.key(userId.getValue(), productId));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.setCommands().sAdd(key, member(productId));
+                connection.keyCommands().expire(key, ttlSeconds);
+                connection.publish(channel, message);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("좋아요 집합 추가 실패 - 사용자: {}, 상품ID: {}, 에러: {}", userId.getValue(), productId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    @Override
+    public void removed(UserId userId, Long productId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    REMOVE_SCRIPT, ReturnType.INTEGER, 2, key(userId), versionKey(userId), member(productId),
+                    bytes(String.valueOf(ttlSeconds))));
+        } catch (Exception e) {
+            log.warn("좋아요 집합 제거 실패 - 사용자: {}, 상품ID: {}, 에러: {}", userId.getValue(), productId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    /**
+     * 반영에 실패한 집합을 지움 (지우기도 실패하면 TTL 이 지날 때까지 남음)
+     */
+    private void evict(UserId userId) {
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    EVICT_SCRIPT, ReturnType.INTEGER, 2, key(userId), versionKey(userId), bytes(String.valueOf(ttlSeconds))));
+        } catch (Exception e) {
+            log.error("좋아요 집합 삭제 실패 - 사용자: {}, 에러: {}", userId.getValue(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 좋아요를 로컬 필터에 추가 (메시지: {userId}:{productId})
+     */
+    public void handleLikeAddedMessage(String message) {
+        int separator = message.lastIndexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            likedProductFilter.add(message.substring(0, separator), Long.parseLong(message.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 좋아요 전파 메시지 - 메시지: {}", message);
+        }
+    }
+
+    private static byte[] key(UserId userId) {
+        return bytes(KEY_PREFIX + userId.getValue());
+    }
+
+    private static byte[] versionKey(UserId userId) {
+        return bytes(KEY_PREFIX + userId.getValue() + VERSION_SUFFIX);
+    }
+
+    private static byte[] member(Long productId) {
+        return bytes(String.valueOf(productId));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.infrastructure.like;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 좋아요 수 분할 행 (상품당 shard_no 0 ~ N-1, 변경분은 INSERT ... ON DUPLICATE KEY UPDATE 로 누적)
+ */
+@Entity
+@Table(
+        name = "product_like_count_shard",
+        uniqueConstraints = @UniqueConstraint(name = "uk_plcs_product_shard", columnNames = {"product_id", "shard_no"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductLikeCountShardEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(name = "cnt", nullable = false)
+    private Long cnt = 0L;
+}
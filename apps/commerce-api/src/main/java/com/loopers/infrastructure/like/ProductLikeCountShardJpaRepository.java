@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.like;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductLikeCountShardJpaRepository extends JpaRepository<ProductLikeCountShardEntity, Long> {
+
+    /**
+     * 분할 행이 없으면 만들고, 있으면 해당 행만 잠가 변경분을 더함
+     */
+    @Modifying
+    @Query(value = "INSERT INTO product_like_count_shard (product_id, shard_no, cnt) VALUES (:productId, :shardNo, :delta) " +
+            "ON DUPLICATE KEY UPDATE cnt = cnt + :delta", nativeQuery = true)
+    int add(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("delta") long delta);
+
+    @Query("SELECT s.productId, SUM(s.cnt) FROM ProductLikeCountShardEntity s " +
+            "WHERE s.productId IN :productIds GROUP BY s.productId")
+    List<Object[]> sumByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT DISTINCT s.productId FROM ProductLikeCountShardEntity s")
+    List<Long> findProductIds(Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductLikeCountShardEntity s WHERE s.productId = :productId")
+    List<ProductLikeCountShardEntity> findAllByProductIdForUpdate(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("DELETE FROM ProductLikeCountShardEntity s WHERE s.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+}
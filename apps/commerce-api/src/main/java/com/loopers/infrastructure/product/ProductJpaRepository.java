@@ -2,15 +2,21 @@ package com.loopers.infrastructure.product;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductSummary;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface ProductJpaRepository extends JpaRepository<ProductModel, Long> {
 
@@ -21,4 +27,34 @@ public interface ProductJpaRepository extends JpaRepository<ProductModel, Long>
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM ProductModel p WHERE p.id = :id")
     Optional<ProductModel> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 좋아요 수에 변경분을 더함 (0 미만으로 내려가지 않음)
+     * 엔티티를 거치지 않으므로 낙관적 락과 맞도록 version 도 함께 올린다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductModel p SET " +
+            "p.likesCount = CASE WHEN p.likesCount + :delta < 0 THEN 0 ELSE p.likesCount + :delta END, " +
+            "p.version = p.version + 1, p.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE p.id = :id")
+    int addLikesCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 전체 상품을 브랜드/카테고리명과 함께 PK 순으로 스트리밍 조회
+     * fetch size Integer.MIN_VALUE 는 MySQL 드라이버가 결과를 한 행씩 읽어오도록 하는 값 (전체 결과를 메모리에 올리지 않음)
+     * 엔티티가 아닌 요약 객체로 조회하므로 영속성 컨텍스트에도 쌓이지 않는다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.loopers.domain.product.ProductSummary(" +
+            "p.id, p.brandId, p.categoryId, p.name, p.price, p.stock, p.likesCount, p.createdAt, b.name, c.name) " +
+            "FROM ProductModel p " +
+            "LEFT JOIN BrandModel b ON b.id = p.brandId " +
+            "LEFT JOIN CategoryModel c ON c.id = p.categoryId " +
+            "WHERE p.deletedAt IS NULL " +
+            "ORDER BY p.id")
+    Stream<ProductSummary> streamAllWithCatalogNames();
 }
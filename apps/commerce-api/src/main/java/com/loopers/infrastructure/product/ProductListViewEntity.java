@@ -0,0 +1,68 @@
+package com.loopers.infrastructure.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 목록 조회용 읽기 모델 (조회 전용)
+ * 테이블과 인덱스는 commerce-collector 의 db/migration 이 관리하며, 갱신도 commerce-collector 만 한다.
+ */
+@Entity
+@Immutable
+@Table(name = "product_list_view")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductListViewEntity {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "brand_id")
+    private Long brandId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "price", nullable = false)
+    private int price;
+
+    @Column(name = "stock", nullable = false)
+    private int stock;
+
+    @Column(name = "in_stock", nullable = false)
+    private boolean inStock;
+
+    @Column(name = "likes_count", nullable = false)
+    private int likesCount;
+
+    @Column(name = "brand_name")
+    private String brandName;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "product_created_at", nullable = false)
+    private ZonedDateTime productCreatedAt;
+
+    // 좋아요 수/재고 이벤트의 발생 시각 (늦게 도착한 이전 이벤트가 최신 값을 덮어쓰지 않도록 비교)
+    @Column(name = "likes_updated_at")
+    private ZonedDateTime likesUpdatedAt;
+
+    @Column(name = "stock_updated_at")
+    private ZonedDateTime stockUpdatedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+}
@@ -0,0 +1,169 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductListViewRepository;
+import com.loopers.domain.product.ProductRangeFilter;
+import com.loopers.domain.product.ProductSelectivity;
+import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSummary;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.loopers.infrastructure.product.QProductListViewEntity.productListViewEntity;
+
+/**
+ * product_list_view 기반 목록 조회 (조회 전용, 갱신은 commerce-collector 가 담당)
+ * 필터/정렬/커서 조건과 실행 계획(ProductQueryPlan)은 ProductQueryFilter 와 같은 규칙을 읽기 모델 컬럼에 적용한다.
+ */
+@Component
+public class ProductListViewRepositoryImpl implements ProductListViewRepository {
+
+    private static final ConstructorExpression<ProductSummary> SUMMARY_PROJECTION = Projections.constructor(
+            ProductSummary.class,
+            productListViewEntity.productId,
+            productListViewEntity.brandId,
+            productListViewEntity.categoryId,
+            productListViewEntity.name,
+            productListViewEntity.price,
+            productListViewEntity.stock,
+            productListViewEntity.likesCount,
+            productListViewEntity.productCreatedAt,
+            productListViewEntity.brandName,
+            productListViewEntity.categoryName
+    );
+
+    // 좁은 가격 범위를 가격순이 아닌 정렬로 조회할 때 지정하는 인덱스
+    private static final String PRICE_INDEX = "idx_plv_price";
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final boolean enabled;
+
+    public ProductListViewRepositoryImpl(
+            JPAQueryFactory jpaQueryFactory,
+            @Value("${product.list-view.enabled:false}") boolean enabled
+    ) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<ProductSummary> findSearchProductList(int size, String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter, ProductSelectivity selectivity, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
+        ProductQueryPlan plan = ProductQueryPlan.of(productName, brandId, categoryId, rangeFilter, sortBy, Optional.ofNullable(selectivity));
+        BooleanBuilder filter = createFilterBuilder(productName, brandId, categoryId, rangeFilter, sortBy, lastId, lastLikesCount, lastPrice, lastCreatedAt, plan);
+        if (plan.rangeFirst()) {
+            // 가격 인덱스를 지정해 범위로 먼저 좁힌 뒤 정렬한 ID 만 조회하고, 요약은 PK 로 다시 읽음
+            List<Long> productIds = ProductQueryFilter.fetchUsingIndex(jpaQueryFactory
+                    .select(productListViewEntity.productId)
+                    .from(productListViewEntity)
+                    .where(filter)
+                    .orderBy(getOrderSpecifier(sortBy))
+                    .limit(size), PRICE_INDEX);
+            return ProductQueryFilter.inIdOrder(productIds, findSummariesByIds(productIds));
+        }
+        return jpaQueryFactory
+                .select(SUMMARY_PROJECTION)
+                .from(productListViewEntity)
+                .where(filter)
+                .orderBy(getOrderSpecifier(sortBy))
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<ProductSummary> findSearchProductListWithin(Collection<Long> productIds, long indexedUpToId, int size, String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
+        // 후보 ID 로 이미 좁혀졌으므로 가격 인덱스 우선 계획은 쓰지 않음
+        ProductQueryPlan plan = ProductQueryPlan.of(productName, brandId, categoryId, rangeFilter, sortBy, Optional.empty());
+        return jpaQueryFactory
+                .select(SUMMARY_PROJECTION)
+                .from(productListViewEntity)
+                .where(createFilterBuilder(productName, brandId, categoryId, rangeFilter, sortBy, lastId, lastLikesCount, lastPrice, lastCreatedAt, plan)
+                        .and(ProductQueryFilter.withinCandidates(productListViewEntity.productId, productIds, indexedUpToId)))
+                .orderBy(getOrderSpecifier(sortBy))
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(SUMMARY_PROJECTION)
+                .from(productListViewEntity)
+                .where(productListViewEntity.productId.in(productIds))
+                .fetch();
+    }
+
+    /**
+     * 조건은 실행 계획의 조건 목록대로 적용 (ProductQueryFilter 와 같은 규칙)
+     */
+    private BooleanBuilder createFilterBuilder(String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter, ProductSortBy sortBy,
+                                               Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt,
+                                               ProductQueryPlan plan) {
+        BooleanBuilder filter = new BooleanBuilder();
+        for (ProductQueryPlan.Condition condition : plan.conditions()) {
+            switch (condition) {
+                case BRAND -> filter.and(productListViewEntity.brandId.eq(brandId));
+                case CATEGORY -> filter.and(productListViewEntity.categoryId.eq(categoryId));
+                case PRICE -> {
+                    if (rangeFilter.minPrice() != null) {
+                        filter.and(productListViewEntity.price.goe(rangeFilter.minPrice()));
+                    }
+                    if (rangeFilter.maxPrice() != null) {
+                        filter.and(productListViewEntity.price.loe(rangeFilter.maxPrice()));
+                    }
+                }
+                case IN_STOCK -> filter.and(productListViewEntity.inStock.isTrue());
+                case NAME -> filter.and(productListViewEntity.name.containsIgnoreCase(productName));
+            }
+        }
+        if (lastId == null) {
+            return filter;
+        }
+
+        int likes = lastLikesCount != null ? lastLikesCount : 0;
+        int price = lastPrice != null ? lastPrice : 0;
+        if (sortBy == null || sortBy == ProductSortBy.LIKES) {
+            filter.and(productListViewEntity.likesCount.lt(likes)
+                    .or(productListViewEntity.likesCount.eq(likes).and(productListViewEntity.productId.lt(lastId))));
+        } else if (sortBy == ProductSortBy.LATEST) {
+            filter.and(productListViewEntity.productCreatedAt.lt(lastCreatedAt)
+                    .or(productListViewEntity.productCreatedAt.eq(lastCreatedAt).and(productListViewEntity.productId.lt(lastId))));
+        } else if (sortBy == ProductSortBy.PRICE_ASC) {
+            filter.and(productListViewEntity.price.gt(price)
+                    .or(productListViewEntity.price.eq(price).and(productListViewEntity.productId.gt(lastId))));
+        } else if (sortBy == ProductSortBy.PRICE_DESC) {
+            filter.and(productListViewEntity.price.lt(price)
+                    .or(productListViewEntity.price.eq(price).and(productListViewEntity.productId.lt(lastId))));
+        }
+        return filter;
+    }
+
+    private OrderSpecifier<?>[] getOrderSpecifier(ProductSortBy sortBy) {
+        if (sortBy == ProductSortBy.LATEST) {
+            return new OrderSpecifier<?>[] { productListViewEntity.productCreatedAt.desc(), productListViewEntity.productId.desc() };
+        }
+        if (sortBy == ProductSortBy.PRICE_ASC) {
+            return new OrderSpecifier<?>[] { productListViewEntity.price.asc(), productListViewEntity.productId.asc() };
+        }
+        if (sortBy == ProductSortBy.PRICE_DESC) {
+            return new OrderSpecifier<?>[] { productListViewEntity.price.desc(), productListViewEntity.productId.desc() };
+        }
+        return new OrderSpecifier<?>[] { productListViewEntity.likesCount.desc(), productListViewEntity.productId.desc() };
+    }
+}
@@ -0,0 +1,263 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductPageIndex;
+import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSortScore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis Sorted Set 기반 상품 페이지 인덱스
+ * - 키: product:idx:{likes|latest|price}:{all|b:{brandId}|c:{categoryId}}
+ * - 점수: 1차 정렬 값, 멤버: 19자리 0 패딩 상품 ID
+ *   동점인 멤버는 사전순(=ID 순)으로 정렬되므로 (점수, ID) 복합 정렬이 DB 정렬과 일치한다.
+ * - 다음 페이지: 커서 상품의 순위(ZRANK)를 구한 뒤 그 다음부터 ZRANGE (O(log n + size))
+ *
+ * 가격순은 오름/내림차순이 같은 Sorted Set 을 방향만 바꿔 사용한다.
+ * 브랜드와 카테고리를 함께 거는 조합은 인덱스를 두지 않고 DB 로 조회한다.
+ *
+ * 상품별로 등록된 브랜드/카테고리 범위를 product:idx:scopes Hash 에 함께 기록해,
+ * 브랜드/카테고리가 바뀌거나 상품이 삭제되면 이전 범위의 인덱스에서도 제거한다.
+ * 준비 표시(ready)는 만료 시간을 두어, 주기적 재구축이 멈추면 DB 조회로 돌아간다.
+ */
+@Slf4j
+@Component
+public class ProductPageIndexRedisRepository implements ProductPageIndex {
+
+    private static final String KEY_PREFIX = "product:idx:";
+    private static final byte[] READY_KEY = bytes(KEY_PREFIX + "ready");
+    private static final byte[] SCOPES_KEY = bytes(KEY_PREFIX + "scopes");
+    private static final byte[] BUILD_LOCK_KEY = bytes(KEY_PREFIX + "build-lock");
+    private static final Duration BUILD_LOCK_TTL = Duration.ofMinutes(30);
+    // 주기적 재구축(10분) 여러 번을 놓쳐야 만료되도록 여유를 둔다
+    private static final Duration READY_TTL = Duration.ofHours(1);
+    private static final String ALL_SCOPE = "all";
+    private static final String SCOPE_DELIMITER = ",";
+    // 자신이 획득한 구축 락만 해제
+    private static final byte[] RELEASE_BUILD_SCRIPT = bytes(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end");
+    private static final List<ProductSortBy> INDEXED_SORTS = List.of(ProductSortBy.LIKES, ProductSortBy.LATEST, ProductSortBy.PRICE_ASC);
+
+    private final byte[] buildOwner = bytes(UUID.randomUUID().toString());
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean enabled;
+
+    public ProductPageIndexRedisRepository(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${product.page-index.enabled:true}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Optional<List<Long>> findPageIds(ProductSortBy sortBy, Long brandId, Long categoryId,
+                                            Long lastId, Double lastScore, int size) {
+        if (!enabled || (brandId != null && categoryId != null)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] key = bytes(key(sortBy, brandId == null ? null : "b:" + brandId, categoryId == null ? null : "c:" + categoryId));
+            boolean ascending = sortBy == ProductSortBy.PRICE_ASC;
+
+            return redisTemplate.execute((RedisCallback<Optional<List<Long>>>) connection -> {
+                if (!Boolean.TRUE.equals(connection.keyCommands().exists(READY_KEY))) {
+                    return Optional.empty();
+                }
+                long start = 0;
+                if (lastId != null) {
+                    byte[] cursor = member(lastId);
+                    Double score = connection.zSetCommands().zScore(key, cursor);
+                    // 커서 이후 정렬 값이 바뀐 상품은 위치를 확정할 수 없으므로 DB 로 조회
+                    if (score == null || lastScore == null || Double.compare(score, lastScore) != 0) {
+                        return Optional.empty();
+                    }
+                    Long rank = ascending
+                            ? connection.zSetCommands().zRank(key, cursor)
+                            : connection.zSetCommands().zRevRank(key, cursor);
+                    if (rank == null) {
+                        return Optional.empty();
+                    }
+                    start = rank + 1;
+                }
+                Set<byte[]> members = ascending
+                        ? connection.zSetCommands().zRange(key, start, start + size - 1)
+                        : connection.zSetCommands().zRevRange(key, start, start + size - 1);
+                List<Long> ids = new ArrayList<>(members == null ? 0 : members.size());
+                if (members != null) {
+                    members.forEach(member -> ids.add(Long.parseLong(new String(member, StandardCharsets.UTF_8))));
+                }
+                return Optional.of(ids);
+            });
+        } catch (Exception e) {
+            log.warn("상품 페이지 인덱스 조회 실패 - 정렬: {}, 에러: {}", sortBy, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 이전에 기록된 범위를 한 번에 읽어, 더 이상 속하지 않는 범위에서는 제거하고 현재 범위에 등록
+     */
+    @Override
+    public void index(Collection<ProductModel> products) {
+        if (!enabled || products.isEmpty()) {
+            return;
+        }
+        try {
+            List<ProductModel> productList = List.copyOf(products);
+            byte[][] members = productList.stream().map(product -> member(product.getId())).toArray(byte[][]::new);
+            List<byte[]> previousScopes = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.hashCommands().hMGet(SCOPES_KEY, members));
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < productList.size(); i++) {
+                    ProductModel product = productList.get(i);
+                    byte[] member = members[i];
+                    List<String> scopes = scopes(product);
+                    for (String staleScope : parseScopes(previousScopes == null ? null : previousScopes.get(i))) {
+                        if (!scopes.contains(staleScope)) {
+                            for (ProductSortBy sortBy : INDEXED_SORTS) {
+                                connection.zSetCommands().zRem(bytes(key(sortBy, staleScope)), member);
+                            }
+                        }
+                    }
+                    for (ProductSortBy sortBy : INDEXED_SORTS) {
+                        double score = ProductSortScore.of(sortBy, product);
+                        for (String scope : scopes) {
+                            connection.zSetCommands().zAdd(bytes(key(sortBy, scope)), score, member);
+                        }
+                    }
+                    connection.hashCommands().hSet(SCOPES_KEY, member, bytes(formatScopes(scopes)));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("상품 페이지 인덱스 갱신 실패 - 상품 수: {}, 에러: {}", products.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기록된 범위 기준으로 제거하므로 이미 삭제된 상품도 ID 만으로 제거할 수 있다.
+     */
+    @Override
+    public void remove(Long productId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            byte[] member = member(productId);
+            byte[] recorded = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.hashCommands().hGet(SCOPES_KEY, member));
+            List<String> scopes = new ArrayList<>(parseScopes(recorded));
+            if (!scopes.contains(ALL_SCOPE)) {
+                scopes.add(ALL_SCOPE);
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ProductSortBy sortBy : INDEXED_SORTS) {
+                    for (String scope : scopes) {
+                        connection.zSetCommands().zRem(bytes(key(sortBy, scope)), member);
+                    }
+                }
+                connection.hashCommands().hDel(SCOPES_KEY, member);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("상품 페이지 인덱스 제거 실패 - 상품ID: {}, 에러: {}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        if (!enabled) {
+            return false;
+        }
+        Boolean ready = redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(READY_KEY));
+        return Boolean.TRUE.equals(ready);
+    }
+
+    @Override
+    public void markReady() {
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(READY_KEY, bytes("1"), Expiration.from(READY_TTL), SetOption.upsert()));
+    }
+
+    @Override
+    public boolean tryAcquireBuild() {
+        if (!enabled) {
+            return false;
+        }
+        Boolean acquired = redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(BUILD_LOCK_KEY, buildOwner, Expiration.from(BUILD_LOCK_TTL), SetOption.ifAbsent()));
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    @Override
+    public void releaseBuild() {
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.scriptingCommands().eval(RELEASE_BUILD_SCRIPT, ReturnType.INTEGER, 1, BUILD_LOCK_KEY, buildOwner));
+    }
+
+    private List<String> scopes(ProductModel product) {
+        List<String> scopes = new ArrayList<>(3);
+        scopes.add(ALL_SCOPE);
+        if (product.getBrandId() != null) {
+            scopes.add("b:" + product.getBrandId());
+        }
+        if (product.getCategoryId() != null) {
+            scopes.add("c:" + product.getCategoryId());
+        }
+        return scopes;
+    }
+
+    private static String formatScopes(List<String> scopes) {
+        return String.join(SCOPE_DELIMITER, scopes);
+    }
+
+    private static List<String> parseScopes(byte[] recorded) {
+        if (recorded == null || recorded.length == 0) {
+            return List.of();
+        }
+        return List.of(new String(recorded, StandardCharsets.UTF_8).split(SCOPE_DELIMITER));
+    }
+
+    private String key(ProductSortBy sortBy, String brandScope, String categoryScope) {
+        String scope = brandScope != null ? brandScope : categoryScope != null ? categoryScope : ALL_SCOPE;
+        return key(sortBy, scope);
+    }
+
+    private String key(ProductSortBy sortBy, String scope) {
+        return KEY_PREFIX + sortName(sortBy) + ":" + scope;
+    }
+
+    private String sortName(ProductSortBy sortBy) {
+        return switch (sortBy == null ? ProductSortBy.LIKES : sortBy) {
+            case LIKES -> "likes";
+            case LATEST -> "latest";
+            case PRICE_ASC, PRICE_DESC -> "price";
+        };
+    }
+
+    private static byte[] member(Long productId) {
+        return bytes(String.format("%019d", productId));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
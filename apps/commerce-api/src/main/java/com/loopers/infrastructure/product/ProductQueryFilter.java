@@ -1,8 +1,20 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.product.ProductRangeFilter;
 import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSummary;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.loopers.domain.product.QProductModel.productModel;
 
@@ -13,23 +25,31 @@ public class ProductQueryFilter {
             String productName,
             Long brandId,
             Long categoryId,
+            ProductRangeFilter rangeFilter,
             ProductSortBy sortBy,
             // 커서 기반 페이지네이션을 위한 추가 파라미터
-            CursorFilter cursorFilter
+            CursorFilter cursorFilter,
+            // 적용할 조건 목록
+            ProductQueryPlan plan
 
     ) {
         BooleanBuilder filter = new BooleanBuilder();
 
-        if (productName != null && !productName.isEmpty()) {
-            filter.and(productModel.name.containsIgnoreCase(productName));
-        }
-
-        if (brandId != null) {
-            filter.and(productModel.brandId.eq(brandId));
-        }
-
-        if (categoryId != null) {
-            filter.and(productModel.categoryId.eq(categoryId));
+        for (ProductQueryPlan.Condition condition : plan.conditions()) {
+            switch (condition) {
+                case BRAND -> filter.and(productModel.brandId.eq(brandId));
+                case CATEGORY -> filter.and(productModel.categoryId.eq(categoryId));
+                case PRICE -> {
+                    if (rangeFilter.minPrice() != null) {
+                        filter.and(productModel.price.goe(rangeFilter.minPrice()));
+                    }
+                    if (rangeFilter.maxPrice() != null) {
+                        filter.and(productModel.price.loe(rangeFilter.maxPrice()));
+                    }
+                }
+                case IN_STOCK -> filter.and(productModel.stock.gt(0));
+                case NAME -> filter.and(productModel.name.containsIgnoreCase(productName));
+            }
         }
 
         // --- 커서 기반 페이지네이션 조건 ---
@@ -79,4 +99,36 @@ public class ProductQueryFilter {
         // 1차 정렬 기준과 2차 정렬 기준을 함께 사용
         return new OrderSpecifier<?>[] { primaryOrder, secondaryOrder };
     }
+
+    /**
+     * 상품명 색인 후보 ID 이거나 색인 이후 추가된 상품 (후보가 비어 있으면 색인 이후 추가된 상품만)
+     */
+    public static BooleanExpression withinCandidates(NumberPath<Long> id, Collection<Long> candidateIds, long indexedUpToId) {
+        BooleanExpression addedAfterIndex = id.gt(indexedUpToId);
+        return candidateIds.isEmpty() ? addedAfterIndex : id.in(candidateIds).or(addedAfterIndex);
+    }
+
+    /**
+     * 지정한 인덱스만 쓰도록 힌트를 붙여 조회 (MySQL 방언이 FROM 절 뒤에 USE INDEX 로 붙임)
+     * QueryDSL 의 생성자 프로젝션은 fetch() 에서만 적용되므로 단일 컬럼 조회에만 사용한다.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> fetchUsingIndex(JPAQuery<T> query, String indexName) {
+        return query.createQuery()
+                .unwrap(org.hibernate.query.Query.class)
+                .addQueryHint(indexName)
+                .getResultList();
+    }
+
+    /**
+     * ID 순서대로 요약을 정렬 (PK 로 다시 읽은 요약에 조회 순서를 되돌림)
+     */
+    static List<ProductSummary> inIdOrder(List<Long> productIds, Collection<ProductSummary> summaries) {
+        Map<Long, ProductSummary> byId = summaries.stream()
+                .collect(Collectors.toMap(ProductSummary::id, Function.identity()));
+        return productIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductRangeFilter;
+import com.loopers.domain.product.ProductSelectivity;
+import com.loopers.domain.product.ProductSortBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 목록 조회 실행 계획
+ * - conditions: 요청에 포함된 조건 목록 (브랜드, 카테고리, 가격 범위, 재고 여부, 상품명 순으로 고정)
+ *   WHERE 조건 순서는 MySQL 옵티마이저의 계획에 영향을 주지 않으므로 선택도로 순서를 바꾸지 않는다.
+ * - rangeFirst: 가격순 정렬이 아닌데 가격 범위가 좁으면, 정렬 인덱스를 따라 훑으며 대부분을 버리는 대신
+ *   가격 인덱스를 지정(USE INDEX)해 범위로 먼저 좁힌 뒤 정렬한다.
+ * - 재고 여부로 시작하는 인덱스는 product_list_view(기본 비활성) 에만 있으므로, product 테이블에서 재고 조건은 잔여 조건으로 거른다.
+ */
+public record ProductQueryPlan(
+        List<Condition> conditions,
+        boolean rangeFirst
+) {
+
+    // 가격 범위가 이 비율 이하로 좁고, 남는 행이 이 수 이하일 때만 가격 인덱스로 먼저 좁힘 (정렬할 행 수 상한)
+    static final double RANGE_FIRST_MAX_SELECTIVITY = 0.05;
+    static final long RANGE_FIRST_MAX_ROWS = 20_000;
+
+    public enum Condition {
+        BRAND,
+        CATEGORY,
+        PRICE,
+        IN_STOCK,
+        NAME
+    }
+
+    public static ProductQueryPlan of(String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter,
+                                      ProductSortBy sortBy, Optional<ProductSelectivity> selectivity) {
+        List<Condition> conditions = new ArrayList<>();
+        if (brandId != null) {
+            conditions.add(Condition.BRAND);
+        }
+        if (categoryId != null) {
+            conditions.add(Condition.CATEGORY);
+        }
+        if (rangeFilter.hasPriceRange()) {
+            conditions.add(Condition.PRICE);
+        }
+        if (rangeFilter.inStockOnly()) {
+            conditions.add(Condition.IN_STOCK);
+        }
+        if (productName != null && !productName.isEmpty()) {
+            conditions.add(Condition.NAME);
+        }
+
+        boolean priceSort = sortBy == ProductSortBy.PRICE_ASC || sortBy == ProductSortBy.PRICE_DESC;
+        boolean rangeFirst = !priceSort && rangeFilter.hasPriceRange() && selectivity
+                .filter(estimate -> estimate.price() <= RANGE_FIRST_MAX_SELECTIVITY)
+                .filter(estimate -> estimate.estimatedRows() <= RANGE_FIRST_MAX_ROWS)
+                .isPresent();
+        return new ProductQueryPlan(List.copyOf(conditions), rangeFirst);
+    }
+}
@@ -1,17 +1,24 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductRangeFilter;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSelectivity;
 import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSummary;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.loopers.domain.product.QProductModel.productModel;
 
@@ -19,6 +26,22 @@ import static com.loopers.domain.product.QProductModel.productModel;
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
 
+    // 좁은 가격 범위를 가격순이 아닌 정렬로 조회할 때 지정하는 인덱스
+    private static final String PRICE_INDEX = "idx_product_price";
+
+    // 목록 응답에 필요한 컬럼만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    private static final ConstructorExpression<ProductSummary> SUMMARY_PROJECTION = Projections.constructor(
+            ProductSummary.class,
+            productModel.id,
+            productModel.brandId,
+            productModel.categoryId,
+            productModel.name,
+            productModel.price,
+            productModel.stock,
+            productModel.likesCount,
+            productModel.createdAt
+    );
+
     private final ProductJpaRepository productJpaRepository;
     private final JPAQueryFactory jpaQueryFactory;
 
@@ -43,16 +66,29 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public List<ProductModel> findSearchProductList(int size, String productName, Long brandId, Long categoryId, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
+    public List<ProductSummary> findSearchProductList(int size, String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter, ProductSelectivity selectivity, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
         // 필터링
         CursorFilter cursorFilter = CursorFilter.from(lastId, lastLikesCount != null ? lastLikesCount : 0, lastPrice != null ? lastPrice : 0, lastCreatedAt);
-        BooleanBuilder filterBuilder = ProductQueryFilter.createFilterBuilder(productName, brandId, categoryId, sortBy, cursorFilter);
+        ProductQueryPlan plan = ProductQueryPlan.of(productName, brandId, categoryId, rangeFilter, sortBy, Optional.ofNullable(selectivity));
+        BooleanBuilder filterBuilder = ProductQueryFilter.createFilterBuilder(productName, brandId, categoryId, rangeFilter, sortBy, cursorFilter, plan);
 
         // 정렬
         OrderSpecifier<?>[] orderSpecifier = ProductQueryFilter.getOrderSpecifier(sortBy);
 
+        if (plan.rangeFirst()) {
+            // 가격 인덱스를 지정해 범위로 먼저 좁힌 뒤 정렬한 ID 만 조회하고, 요약은 PK 로 다시 읽음
+            List<Long> productIds = ProductQueryFilter.fetchUsingIndex(jpaQueryFactory
+                    .select(productModel.id)
+                    .from(productModel)
+                    .where(filterBuilder)
+                    .orderBy(orderSpecifier)
+                    .limit(size), PRICE_INDEX);
+            return ProductQueryFilter.inIdOrder(productIds, findSummariesByIds(productIds));
+        }
+
         return jpaQueryFactory
-                .selectFrom(productModel)
+                .select(SUMMARY_PROJECTION)
+                .from(productModel)
                 .where(filterBuilder)
                 .orderBy(orderSpecifier)
                 .limit(size)
@@ -60,14 +96,73 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     }
 
+    @Override
+    public List<ProductSummary> findSearchProductListWithin(Collection<Long> productIds, long indexedUpToId, int size, String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
+        CursorFilter cursorFilter = CursorFilter.from(lastId, lastLikesCount != null ? lastLikesCount : 0, lastPrice != null ? lastPrice : 0, lastCreatedAt);
+        // 후보 ID 로 이미 좁혀졌으므로 가격 인덱스 우선 계획은 쓰지 않음
+        ProductQueryPlan plan = ProductQueryPlan.of(productName, brandId, categoryId, rangeFilter, sortBy, Optional.empty());
+        BooleanBuilder filterBuilder = ProductQueryFilter.createFilterBuilder(productName, brandId, categoryId, rangeFilter, sortBy, cursorFilter, plan)
+                .and(ProductQueryFilter.withinCandidates(productModel.id, productIds, indexedUpToId));
+
+        return jpaQueryFactory
+                .select(SUMMARY_PROJECTION)
+                .from(productModel)
+                .where(filterBuilder)
+                .orderBy(ProductQueryFilter.getOrderSpecifier(sortBy))
+                .limit(size)
+                .fetch();
+    }
+
     @Override
     public ProductModel save(ProductModel product) {
         return productJpaRepository.save(product);
     }
 
+    @Override
+    public void addLikesCount(Long productId, int delta) {
+        productJpaRepository.addLikesCount(productId, delta);
+    }
+
     @Override
     public List<ProductModel> findAllByIds(List<Long> productIds) {
         return productJpaRepository.findAllById(productIds);
     }
 
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(SUMMARY_PROJECTION)
+                .from(productModel)
+                .where(productModel.id.in(productIds))
+                .fetch();
+    }
+
+    @Override
+    public List<ProductModel> findAllAfterId(Long lastId, int size) {
+        return jpaQueryFactory
+                .selectFrom(productModel)
+                .where(lastId == null ? null : productModel.id.gt(lastId))
+                .orderBy(productModel.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<ProductModel> findAllUpdatedAfter(ZonedDateTime updatedAt, Long lastId, int size) {
+        return jpaQueryFactory
+                .selectFrom(productModel)
+                .where(productModel.updatedAt.gt(updatedAt)
+                        .or(productModel.updatedAt.eq(updatedAt).and(productModel.id.gt(lastId))))
+                .orderBy(productModel.updatedAt.asc(), productModel.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public Stream<ProductSummary> streamAllWithCatalogNames() {
+        return productJpaRepository.streamAllWithCatalogNames();
+    }
 }
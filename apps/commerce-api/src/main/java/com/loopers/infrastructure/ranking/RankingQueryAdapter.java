@@ -1,11 +1,14 @@
 package com.loopers.infrastructure.ranking;
 
+import com.loopers.domain.catalog.CatalogEntry;
+import com.loopers.domain.catalog.CatalogSnapshotService;
 import com.loopers.domain.ranking.RankingCacheProcessor;
 import com.loopers.domain.ranking.RankingItem;
 import com.loopers.domain.ranking.RankingPage;
 import com.loopers.domain.ranking.RankingQueryRepository;
 import com.loopers.infrastructure.product.ProductJpaRepository;
 import com.loopers.domain.product.ProductModel;
+import com.loopers.support.cache.util.CacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -28,6 +31,8 @@ import java.util.stream.Collectors;
 public class RankingQueryAdapter implements RankingQueryRepository {
 
     private final RankingCacheProcessor rankingCacheProcessor;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final CacheMetrics cacheMetrics;
     private final ProductJpaRepository productRepository;
     private final WeeklyRankingJpaQueryRepository weeklyRankingRepository;
     private final MonthlyRankingJpaQueryRepository monthlyRankingRepository;
@@ -38,6 +43,7 @@ public class RankingQueryAdapter implements RankingQueryRepository {
         
         // 1. Redis에서 랭킹 조회
         Set<Object> rankingProductIds = rankingCacheProcessor.getRankingByPage(date, page, size);
+        cacheMetrics.recordRequests(CacheMetrics.FAMILY_RANKING, rankingProductIds.isEmpty() ? 0 : 1, rankingProductIds.isEmpty() ? 1 : 0);
         
         if (rankingProductIds.isEmpty()) {
             log.debug("랭킹 데이터가 없습니다 - Date: {}", date);
@@ -54,7 +60,8 @@ public class RankingQueryAdapter implements RankingQueryRepository {
         Map<Long, ProductModel> productMap = products.stream()
                 .collect(Collectors.toMap(ProductModel::getId, Function.identity()));
         
-        // 4. 랭킹 아이템 정보 구성
+        // 4. 랭킹 아이템 정보 구성 (브랜드명은 카탈로그 스냅샷에서 조회)
+        Map<Long, CatalogEntry> brandMap = catalogSnapshotService.getBrands(products.stream().map(ProductModel::getBrandId).toList());
         List<RankingItem> rankingItems = productIds.stream()
                 .map(productId -> {
                     Long rank = rankingCacheProcessor.getProductRank(productId, date);
@@ -71,7 +78,7 @@ public class RankingQueryAdapter implements RankingQueryRepository {
                                 .name(product.getName())
                                 .description(product.getDescription())
                                 .price(product.getPrice())
-                                .brandName("Brand " + product.getBrandId()) // 임시로 브랜드 ID 사용
+                                .brandName(brandName(brandMap, product.getBrandId()))
                                 .likeCount(product.getLikesCount())
                                 .build();
                         
@@ -156,6 +163,7 @@ public class RankingQueryAdapter implements RankingQueryRepository {
         Map<Long, ProductModel> productMap = products.stream()
                 .collect(Collectors.toMap(ProductModel::getId, Function.identity()));
         
+        Map<Long, CatalogEntry> brandMap = catalogSnapshotService.getBrands(products.stream().map(ProductModel::getBrandId).toList());
         List<RankingItem> rankingItems = weeklyRankings.getContent().stream()
                 .map(entity -> {
                     ProductModel product = productMap.get(entity.getProductId());
@@ -170,7 +178,7 @@ public class RankingQueryAdapter implements RankingQueryRepository {
                                 .name(product.getName())
                                 .description(product.getDescription())
                                 .price(product.getPrice())
-                                .brandName("Brand " + product.getBrandId())
+                                .brandName(brandName(brandMap, product.getBrandId()))
                                 .likeCount(product.getLikesCount())
                                 .build();
                         
@@ -200,6 +208,7 @@ public class RankingQueryAdapter implements RankingQueryRepository {
         Map<Long, ProductModel> productMap = products.stream()
                 .collect(Collectors.toMap(ProductModel::getId, Function.identity()));
         
+        Map<Long, CatalogEntry> brandMap = catalogSnapshotService.getBrands(products.stream().map(ProductModel::getBrandId).toList());
         List<RankingItem> rankingItems = monthlyRankings.getContent().stream()
                 .map(entity -> {
                     ProductModel product = productMap.get(entity.getProductId());
@@ -214,7 +223,7 @@ public class RankingQueryAdapter implements RankingQueryRepository {
                                 .name(product.getName())
                                 .description(product.getDescription())
                                 .price(product.getPrice())
-                                .brandName("Brand " + product.getBrandId())
+                                .brandName(brandName(brandMap, product.getBrandId()))
                                 .likeCount(product.getLikesCount())
                                 .build();
                         
@@ -234,4 +243,9 @@ public class RankingQueryAdapter implements RankingQueryRepository {
                 .hasNext(monthlyRankings.hasNext())
                 .build();
     }
+
+    private String brandName(Map<Long, CatalogEntry> brandMap, Long brandId) {
+        CatalogEntry brand = brandMap.get(brandId);
+        return brand != null ? brand.name() : null;
+    }
 }
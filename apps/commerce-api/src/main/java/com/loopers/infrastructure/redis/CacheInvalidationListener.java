@@ -0,0 +1,26 @@
+package com.loopers.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 캐시 무효화 채널 구독자
+ * 다른 노드에서 발행한 무효화 메시지를 받아 로컬(L1) 캐시를 정리한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TieredCacheRepository tieredCacheRepository;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("캐시 무효화 메시지 수신 - 메시지: {}", body);
+        tieredCacheRepository.handleInvalidationMessage(body);
+    }
+}
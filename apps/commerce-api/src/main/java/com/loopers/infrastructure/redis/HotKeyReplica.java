@@ -0,0 +1,95 @@
+package com.loopers.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.support.cache.config.HotKeyProperties;
+import com.loopers.support.cache.util.HotKeyDetector;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 핫 키의 인코딩된 값을 노드 로컬에 짧게 복제
+ * Redis 조회를 감지기에 기록하고, 핫 키로 감지된 키의 값은 pinTtl 동안 Redis 대신 로컬 복제본에서 응답한다.
+ * 인코딩된 바이트를 보관하므로 조회 타입과 무관하게 같은 복제본을 사용한다.
+ *
+ * 같은 노드의 변경/삭제는 즉시 복제본을 지우고, 다른 노드의 변경은 pinTtl 이내에 반영된다.
+ */
+@Slf4j
+@Component
+public class HotKeyReplica {
+
+    private final boolean enabled;
+    private final HotKeyDetector detector;
+    private final Cache<String, byte[]> pinned;
+
+    public HotKeyReplica(HotKeyProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.detector = new HotKeyDetector(properties.sampleRate(), properties.window().toMillis(),
+                properties.threshold(), properties.maxHotKeys());
+        this.pinned = Caffeine.newBuilder()
+                .maximumSize(properties.maxHotKeys())
+                .expireAfterWrite(properties.pinTtl())
+                .build();
+
+        Gauge.builder("cache.hotkey.pinned", pinned, cache -> cache.estimatedSize())
+                .description("로컬에 복제된 핫 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로컬 복제본 조회 (복제본 조회도 접근으로 기록해 핫 키 상태를 유지)
+     */
+    public byte[] get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        byte[] value = pinned.getIfPresent(key);
+        if (value != null) {
+            detector.record(key);
+        }
+        return value;
+    }
+
+    /**
+     * Redis 에서 읽은 값을 기록하고, 핫 키면 로컬에 복제
+     */
+    public void onRemoteRead(String key, byte[] value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        if (detector.record(key)) {
+            if (pinned.getIfPresent(key) == null) {
+                log.info("핫 키 로컬 복제 - 키: {}", key);
+            }
+            pinned.put(key, value);
+        }
+    }
+
+    public void evict(String key) {
+        pinned.invalidate(key);
+    }
+
+    public void evictAll(Collection<String> keys) {
+        pinned.invalidateAll(keys);
+    }
+
+    public void clear() {
+        pinned.invalidateAll();
+    }
+
+    /**
+     * 현재 핫 키와 추정 조회 횟수
+     */
+    public Map<String, HotKeyDetector.HotKey> hotKeys() {
+        return detector.hotKeys();
+    }
+
+    public boolean isPinned(String key) {
+        return pinned.getIfPresent(key) != null;
+    }
+}
@@ -1,29 +1,92 @@
 package com.loopers.infrastructure.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.loopers.cache.RedisCacheKeys;
+import com.loopers.support.cache.codec.CacheCodec;
+import com.loopers.support.cache.repository.CacheEnvelope;
 import com.loopers.support.cache.repository.CacheRepository;
+import com.loopers.support.cache.util.CacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RedisCacheRepositoryImpl implements CacheRepository {
 
+    private static final int UNLINK_BATCH_SIZE = 500;
+
+    /**
+     * 태그 등록
+     * 이미 만료된 멤버를 먼저 정리한 뒤 새 키를 만료 시각과 함께 등록하고,
+     * 태그 인덱스는 가장 늦게 만료되는 멤버까지만 유지한다. (Redis 서버 시각 기준)
+     * KEYS[1]: 태그 인덱스, ARGV[1]: 캐시 TTL(ms), ARGV[2..]: 캐시 키
+     */
+    private static final byte[] TAG_SCRIPT = ("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local ttl = tonumber(ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            for i = 2, #ARGV do
+                redis.call('ZADD', KEYS[1], now + ttl, ARGV[i])
+            end
+            if redis.call('PTTL', KEYS[1]) < ttl then
+                redis.call('PEXPIRE', KEYS[1], ttl)
+            end
+            return 0
+            """).getBytes(StandardCharsets.UTF_8);
+    private static final long SCAN_COUNT = 1000;
+
+    // 자신이 획득한 락만 해제하도록 값을 비교 후 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    // 노드 식별자 (같은 노드 내 동일 키 재구성은 CacheUtil 에서 한 스레드로 합쳐짐)
+    private final String lockOwner = UUID.randomUUID().toString();
+    // Redis 장애 시 대신 사용하는 노드 로컬 락 (락 키 → 만료 시각 nanoTime)
+    private final ConcurrentMap<String, Long> localLocks = new ConcurrentHashMap<>();
+
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> cacheBinaryRedisTemplate;
+    private final CacheCodec cacheCodec;
+    private final CacheMetrics cacheMetrics;
+    private final HotKeyReplica hotKeyReplica;
 
     @Override
     public <T> void set(String key, T value, Duration ttl) {
         try {
-            redisTemplate.opsForValue().set(key, value, ttl);
+            byte[] encoded = cacheCodec.encode(value);
+            cacheMetrics.recordSize(key, encoded.length);
+            cacheBinaryRedisTemplate.opsForValue().set(key, encoded, ttl);
+            hotKeyReplica.evict(key);
             log.debug("Redis 캐시 저장 완료 - 키: {}, TTL: {}", key, ttl);
         } catch (Exception e) {
             log.error("Redis 객체 저장 실패 - 키: {}, 에러: {}", key, e.getMessage());
@@ -36,54 +99,161 @@ public class RedisCacheRepositoryImpl implements CacheRepository {
     }
 
     @Override
-    public <T> Optional<T> get(String key, Class<T> clazz) {
+    public <T> void set(String key, T value, Duration ttl, Set<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            set(key, value, ttl);
+            return;
+        }
+        setAll(Map.of(key, value), ttl, Map.of(key, tags));
+    }
+
+    /**
+     * 값 저장과 태그 등록을 한 번의 파이프라인으로 처리
+     * 태그 인덱스의 멤버는 캐시 키의 UTF-8 바이트 (collector 도 동일 형식으로 읽음)
+     */
+    @Override
+    public <T> void setAll(Map<String, T> values, Duration ttl, Map<String, Set<String>> tagsByKey) {
+        if (values.isEmpty()) {
+            return;
+        }
         try {
-            Object value = redisTemplate.opsForValue().get(key);
-            if (value == null) {
-                return Optional.empty();
-            }
-            
-            // Explicitly convert LinkedHashMap to target class using objectMapper
-            T convertedValue = objectMapper.convertValue(value, clazz);
+            Map<byte[], byte[]> encoded = new LinkedHashMap<>();
+            values.forEach((key, value) -> {
+                byte[] encodedValue = cacheCodec.encode(value);
+                cacheMetrics.recordSize(key, encodedValue.length);
+                encoded.put(bytes(key), encodedValue);
+            });
+
+            Map<String, List<byte[]>> keysByTag = new HashMap<>();
+            values.keySet().forEach(key -> {
+                for (String tag : tagsByKey.getOrDefault(key, Set.of())) {
+                    keysByTag.computeIfAbsent(tag, ignored -> new ArrayList<>()).add(bytes(key));
+                }
+            });
+
+            byte[] ttlMillis = bytes(String.valueOf(ttl.toMillis()));
+            cacheBinaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                encoded.forEach((key, value) ->
+                        connection.stringCommands().set(key, value, Expiration.from(ttl), SetOption.upsert()));
+                keysByTag.forEach((tag, keys) -> {
+                    List<byte[]> keysAndArgs = new ArrayList<>(keys.size() + 2);
+                    keysAndArgs.add(bytes(RedisCacheKeys.tagKey(tag)));
+                    keysAndArgs.add(ttlMillis);
+                    keysAndArgs.addAll(keys);
+                    connection.scriptingCommands().eval(TAG_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs.toArray(new byte[0][]));
+                });
+                return null;
+            });
+            hotKeyReplica.evictAll(values.keySet());
+            log.debug("Redis 캐시 저장 완료 - 키 수: {}, TTL: {}", values.size(), ttl);
+        } catch (Exception e) {
+            log.error("Redis 객체 저장 실패 - 키: {}, 에러: {}", values.keySet(), e.getMessage());
+        }
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> clazz) {
+        return read(key, cacheCodec.typeFactory().constructType(clazz));
+    }
+
+    /**
+     * MGET 한 번으로 조회하고 역직렬화에 실패한 값은 미스로 처리
+     */
+    @Override
+    public <T> Map<String, CacheEnvelope<T>> getAllEnvelopes(Collection<String> keys, Class<T> clazz) {
+        TypeFactory typeFactory = cacheCodec.typeFactory();
+        return readAll(keys, typeFactory.constructParametricType(CacheEnvelope.class, typeFactory.constructType(clazz)));
+    }
 
-            if (convertedValue != null) {
-                log.debug("Redis 캐시 조회 완료 - 키: {}", key);
-                return Optional.of(convertedValue);
+    private <T> Map<String, T> readAll(Collection<String> keys, JavaType type) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        // 핫 키 복제본이 있는 키는 Redis 를 조회하지 않음
+        Map<String, byte[]> rawValues = new HashMap<>();
+        List<String> keyList = new ArrayList<>();
+        for (String key : keys) {
+            byte[] replica = hotKeyReplica.get(key);
+            if (replica != null) {
+                rawValues.put(key, replica);
             } else {
-                log.warn("Redis 캐시 변환 실패 - 키: {}, 예상 타입: {}, 실제 값: {}", 
-                    key, clazz.getSimpleName(), value);
-                return Optional.empty();
+                keyList.add(key);
             }
+        }
+        Map<String, T> result = new HashMap<>();
+        try {
+            if (!keyList.isEmpty()) {
+                List<byte[]> values = cacheBinaryRedisTemplate.opsForValue().multiGet(keyList);
+                if (values == null) {
+                    return result;
+                }
+                for (int i = 0; i < keyList.size(); i++) {
+                    byte[] value = values.get(i);
+                    hotKeyReplica.onRemoteRead(keyList.get(i), value);
+                    if (value != null) {
+                        rawValues.put(keyList.get(i), value);
+                    }
+                }
+            }
+            for (Map.Entry<String, byte[]> entry : rawValues.entrySet()) {
+                String key = entry.getKey();
+                byte[] value = entry.getValue();
+                try {
+                    T decoded = cacheCodec.decode(value, type);
+                    result.put(key, decoded);
+                } catch (RuntimeException e) {
+                    log.warn("Redis 캐시 변환 실패 - 키: {}, 예상 타입: {}", key, type);
+                }
+            }
+            log.debug("Redis 캐시 일괄 조회 완료 - 요청 키 수: {}, 히트 수: {}", keys.size(), result.size());
         } catch (Exception e) {
-            log.error("Redis 객체 조회 실패 - 키: {}, 에러: {}", key, e.getMessage());
-            return Optional.empty();
+            log.error("Redis 객체 일괄 조회 실패 - 키 수: {}, 에러: {}", keys.size(), e.getMessage());
         }
+        return result;
     }
 
     @Override
     public <T> Optional<List<T>> getList(String key, Class<T> clazz) {
+        return read(key, listType(clazz));
+    }
+
+    @Override
+    public <T> Optional<CacheEnvelope<T>> getEnvelope(String key, Class<T> clazz) {
+        TypeFactory typeFactory = cacheCodec.typeFactory();
+        return read(key, typeFactory.constructParametricType(CacheEnvelope.class, typeFactory.constructType(clazz)));
+    }
+
+    @Override
+    public <T> Optional<CacheEnvelope<List<T>>> getListEnvelope(String key, Class<T> clazz) {
+        return read(key, cacheCodec.typeFactory().constructParametricType(CacheEnvelope.class, listType(clazz)));
+    }
+
+    /**
+     * 지정한 타입으로 바로 역직렬화 (형식이 다른 이전 값은 미스로 처리하여 재구성 시 덮어쓴다)
+     */
+    private <T> Optional<T> read(String key, JavaType type) {
         try {
-            Object value = redisTemplate.opsForValue().get(key);
+            byte[] value = hotKeyReplica.get(key);
             if (value == null) {
-                return Optional.empty();
+                value = cacheBinaryRedisTemplate.opsForValue().get(key);
+                hotKeyReplica.onRemoteRead(key, value);
             }
-            
-            if (value instanceof List<?> list) {
-                List<T> typedList = list.stream()
-                                        .map(element -> objectMapper.convertValue(element, clazz))
-                                        .collect(java.util.stream.Collectors.toList());
-                log.debug("Redis List 캐시 조회 완료 - 키: {}", key);
-                return Optional.of(typedList);
-            } else {
-                log.warn("Redis 캐시가 List 타입이 아님 - 키: {}, 실제 타입: {}", key, value.getClass().getSimpleName());
+            if (value == null) {
                 return Optional.empty();
             }
+            T decoded = cacheCodec.decode(value, type);
+            log.debug("Redis 캐시 조회 완료 - 키: {}", key);
+            return Optional.ofNullable(decoded);
         } catch (Exception e) {
-            log.error("Redis List 객체 조회 실패 - 키: {}, 에러: {}", key, e.getMessage());
+            log.warn("Redis 캐시 조회 실패 - 키: {}, 예상 타입: {}, 에러: {}", key, type, e.getMessage());
             return Optional.empty();
         }
     }
 
+    private JavaType listType(Class<?> clazz) {
+        return cacheCodec.typeFactory().constructCollectionType(List.class, clazz);
+    }
+
     @Override
     public boolean exists(String key) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
@@ -92,16 +262,104 @@ public class RedisCacheRepositoryImpl implements CacheRepository {
     @Override
     public void delete(String key) {
         redisTemplate.delete(key);
+        hotKeyReplica.evict(key);
+        cacheMetrics.recordInvalidations(List.of(key), "key");
         log.debug("Redis 캐시 삭제 완료 - 키: {}", key);
     }
 
+    /**
+     * KEYS 대신 SCAN 으로 키스페이스를 나누어 순회하며 UNLINK
+     * 상품/브랜드/카테고리 캐시 무효화는 태그 삭제(deleteByTag)로 하며 이 경로를 쓰지 않는다.
+     * 키스페이스 전체를 순회하므로 운영 중 수동 정리처럼 태그로 찾을 수 없는 키를 지울 때만 사용
+     */
     @Override
     public void deleteByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.debug("Redis 패턴 캐시 삭제 완료 - 패턴: {}, 삭제된 키 수: {}", pattern, keys.size());
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        List<String> batch = new ArrayList<>();
+        int deletedCount = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= UNLINK_BATCH_SIZE) {
+                    redisTemplate.unlink(batch);
+                    deletedCount += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisTemplate.unlink(batch);
+                deletedCount += batch.size();
+            }
+        } catch (Exception e) {
+            log.error("Redis 패턴 캐시 삭제 실패 - 패턴: {}, 에러: {}", pattern, e.getMessage());
         }
+        // 패턴 삭제는 드물게 쓰이므로 복제본 전체를 비움
+        hotKeyReplica.clear();
+        log.debug("Redis 패턴 캐시 삭제 완료 - 패턴: {}, 삭제된 키 수: {}", pattern, deletedCount);
+    }
+
+    @Override
+    public void deleteByTag(String tag) {
+        deleteByTagAndGetKeys(tag);
+    }
+
+    /**
+     * 태그에 등록된 키를 파이프라인 UNLINK 로 삭제하고 삭제한 키 목록을 반환
+     * 태그 인덱스 자체를 지우지 않고 읽어온 멤버만 ZREM 하여, 그 사이 새로 등록된 키는 보존한다.
+     * 커밋 이후 무효화 경로에서 호출되므로 Redis 오류는 던지지 않는다.
+     * - 태그 조회 실패: 지울 키를 알 수 없으므로 빈 목록 (Redis 값은 TTL 로 만료)
+     * - 삭제 실패: 읽어온 키 목록은 그대로 반환해 노드 로컬 캐시 무효화는 이어지도록 함
+     */
+    public Set<String> deleteByTagAndGetKeys(String tag) {
+        byte[] tagKey = bytes(RedisCacheKeys.tagKey(tag));
+        Set<byte[]> members;
+        try {
+            members = cacheBinaryRedisTemplate.execute(
+                    (RedisCallback<Set<byte[]>>) connection -> connection.zSetCommands().zRange(tagKey, 0, -1));
+        } catch (Exception e) {
+            log.error("Redis 태그 조회 실패 - 태그: {}, 에러: {}", tag, e.getMessage());
+            return Set.of();
+        }
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+
+        List<byte[]> keys = List.copyOf(members);
+        try {
+            cacheBinaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int from = 0; from < keys.size(); from += UNLINK_BATCH_SIZE) {
+                    byte[][] chunk = keys.subList(from, Math.min(from + UNLINK_BATCH_SIZE, keys.size())).toArray(new byte[0][]);
+                    connection.keyCommands().unlink(chunk);
+                    connection.zSetCommands().zRem(tagKey, chunk);
+                }
+                return null;
+            });
+            log.debug("Redis 태그 캐시 삭제 완료 - 태그: {}, 삭제된 키 수: {}", tag, keys.size());
+        } catch (Exception e) {
+            log.error("Redis 태그 캐시 삭제 실패 - 태그: {}, 키 수: {}, 에러: {}", tag, keys.size(), e.getMessage());
+        }
+
+        Set<String> deletedKeys = new HashSet<>();
+        keys.forEach(key -> deletedKeys.add(new String(key, StandardCharsets.UTF_8)));
+        hotKeyReplica.evictAll(deletedKeys);
+        cacheMetrics.recordInvalidations(deletedKeys, "tag");
+        return deletedKeys;
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 시 핫 키 복제본 제거
+     */
+    public void evictReplicas(Collection<String> keys) {
+        hotKeyReplica.evictAll(keys);
+    }
+
+    public void clearReplicas() {
+        hotKeyReplica.clear();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
@@ -116,4 +374,39 @@ public class RedisCacheRepositoryImpl implements CacheRepository {
         log.debug("Redis TTL 설정 완료 - 키: {}, TTL: {}", key, ttl);
     }
 
-} 
+    @Override
+    public boolean tryLock(String lockKey, Duration leaseTime) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, lockOwner, leaseTime));
+        } catch (Exception e) {
+            // Redis 장애 시에는 노드 로컬 락으로 대체하여 노드 내에서만이라도 재구성을 하나로 합친다
+            log.error("Redis 락 획득 실패, 로컬 락으로 대체 - 키: {}, 에러: {}", lockKey, e.getMessage());
+            return tryLocalLock(lockKey, leaseTime);
+        }
+    }
+
+    private boolean tryLocalLock(String lockKey, Duration leaseTime) {
+        long now = System.nanoTime();
+        boolean[] acquired = {false};
+        localLocks.compute(lockKey, (key, expiresAt) -> {
+            if (expiresAt != null && expiresAt - now > 0) {
+                return expiresAt;
+            }
+            acquired[0] = true;
+            return now + leaseTime.toNanos();
+        });
+        return acquired[0];
+    }
+
+    @Override
+    public void unlock(String lockKey) {
+        localLocks.remove(lockKey);
+        try {
+            // 값 직렬화 방식과 동일하게 비교하기 위해 value serializer 로 인자를 전달
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), lockOwner);
+        } catch (Exception e) {
+            log.error("Redis 락 해제 실패 - 키: {}, 에러: {}", lockKey, e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,292 @@
+package com.loopers.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.support.cache.config.LocalCacheProperties;
+import com.loopers.support.cache.repository.CacheEnvelope;
+import com.loopers.support.cache.repository.CacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static com.loopers.cache.RedisCacheKeys.INVALIDATION_CHANNEL;
+import static com.loopers.cache.RedisCacheKeys.KEYS_DELIMITER;
+import static com.loopers.cache.RedisCacheKeys.KEYS_MESSAGE_PREFIX;
+import static com.loopers.cache.RedisCacheKeys.KEY_MESSAGE_PREFIX;
+import static com.loopers.cache.RedisCacheKeys.PATTERN_MESSAGE_PREFIX;
+
+/**
+ * 2단 캐시 저장소 (L1: 노드 로컬 힙, L2: Redis)
+ * - 조회: L1 → Redis 순으로 조회하고, Redis 히트 시 변환된 객체를 L1 에 적재
+ * - 저장: Redis 에 쓰고 L1 에도 적재 (write-through)
+ * - 삭제: L1/Redis 삭제 후 Redis Pub/Sub 으로 다른 노드의 L1 무효화를 전파
+ *
+ * 덮어쓰기(set)는 전파하지 않는다. 다른 노드의 L1 에 남은 이전 값은 L1 TTL 이내에 만료된다.
+ */
+@Slf4j
+public class TieredCacheRepository implements CacheRepository {
+
+    public static final String L1_CACHE_NAME = "cache.l1";
+
+    private final RedisCacheRepositoryImpl redisCacheRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, Object> localCache;
+
+    public TieredCacheRepository(
+            RedisCacheRepositoryImpl redisCacheRepository,
+            RedisTemplate<String, Object> redisTemplate,
+            LocalCacheProperties properties
+    ) {
+        this.redisCacheRepository = redisCacheRepository;
+        this.redisTemplate = redisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * L1 히트/미스, 크기, 용량·만료 축출 지표 등록
+     */
+    public void bindMetrics(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, L1_CACHE_NAME);
+    }
+
+    @Override
+    public <T> void set(String key, T value, Duration ttl) {
+        redisCacheRepository.set(key, value, ttl);
+        putLocal(key, value);
+    }
+
+    @Override
+    public <T> void set(String key, T value) {
+        redisCacheRepository.set(key, value);
+        putLocal(key, value);
+    }
+
+    @Override
+    public <T> void set(String key, T value, Duration ttl, Set<String> tags) {
+        redisCacheRepository.set(key, value, ttl, tags);
+        putLocal(key, value);
+    }
+
+    @Override
+    public <T> void setAll(Map<String, T> values, Duration ttl, Map<String, Set<String>> tagsByKey) {
+        redisCacheRepository.setAll(values, ttl, tagsByKey);
+        values.forEach(this::putLocal);
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> clazz) {
+        Object local = localCache.getIfPresent(key);
+        if (clazz.isInstance(local)) {
+            log.debug("L1 캐시 히트 - 키: {}", key);
+            return Optional.of(clazz.cast(local));
+        }
+
+        Optional<T> remote = redisCacheRepository.get(key, clazz);
+        remote.ifPresent(value -> putLocal(key, value));
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<List<T>> getList(String key, Class<T> clazz) {
+        Object local = localCache.getIfPresent(key);
+        if (local instanceof List<?> list && (list.isEmpty() || clazz.isInstance(list.get(0)))) {
+            log.debug("L1 List 캐시 히트 - 키: {}", key);
+            return Optional.of((List<T>) list);
+        }
+
+        Optional<List<T>> remote = redisCacheRepository.getList(key, clazz);
+        remote.ifPresent(value -> putLocal(key, value));
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<CacheEnvelope<T>> getEnvelope(String key, Class<T> clazz) {
+        Object local = localCache.getIfPresent(key);
+        if (local instanceof CacheEnvelope<?> envelope && clazz.isInstance(envelope.getValue())) {
+            log.debug("L1 캐시 히트 - 키: {}", key);
+            return Optional.of((CacheEnvelope<T>) envelope);
+        }
+
+        Optional<CacheEnvelope<T>> remote = redisCacheRepository.getEnvelope(key, clazz);
+        remote.ifPresent(envelope -> putLocal(key, envelope));
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<CacheEnvelope<List<T>>> getListEnvelope(String key, Class<T> clazz) {
+        Object local = localCache.getIfPresent(key);
+        if (local instanceof CacheEnvelope<?> envelope
+                && envelope.getValue() instanceof List<?> list
+                && (list.isEmpty() || clazz.isInstance(list.get(0)))) {
+            log.debug("L1 List 캐시 히트 - 키: {}", key);
+            return Optional.of((CacheEnvelope<List<T>>) envelope);
+        }
+
+        Optional<CacheEnvelope<List<T>>> remote = redisCacheRepository.getListEnvelope(key, clazz);
+        remote.ifPresent(envelope -> putLocal(key, envelope));
+        return remote;
+    }
+
+    /**
+     * L1 에서 먼저 찾고, 없는 키만 Redis 에 한 번에 조회
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, CacheEnvelope<T>> getAllEnvelopes(Collection<String> keys, Class<T> clazz) {
+        Map<String, CacheEnvelope<T>> result = new HashMap<>();
+        List<String> missingKeys = new ArrayList<>();
+        for (String key : keys) {
+            Object local = localCache.getIfPresent(key);
+            if (local instanceof CacheEnvelope<?> envelope && clazz.isInstance(envelope.getValue())) {
+                result.put(key, (CacheEnvelope<T>) envelope);
+            } else {
+                missingKeys.add(key);
+            }
+        }
+        if (missingKeys.isEmpty()) {
+            return result;
+        }
+
+        Map<String, CacheEnvelope<T>> remote = redisCacheRepository.getAllEnvelopes(missingKeys, clazz);
+        remote.forEach(this::putLocal);
+        result.putAll(remote);
+        return result;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return localCache.getIfPresent(key) != null || redisCacheRepository.exists(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        localCache.invalidate(key);
+        redisCacheRepository.delete(key);
+        publishInvalidation(KEY_MESSAGE_PREFIX + key);
+    }
+
+    @Override
+    public void deleteByPattern(String pattern) {
+        evictLocalByPattern(pattern);
+        redisCacheRepository.deleteByPattern(pattern);
+        publishInvalidation(PATTERN_MESSAGE_PREFIX + pattern);
+    }
+
+    /**
+     * 다른 노드의 L1 은 태그를 알 수 없으므로, Redis 에서 삭제된 키 목록을 그대로 전파
+     */
+    @Override
+    public void deleteByTag(String tag) {
+        Set<String> keys = redisCacheRepository.deleteByTagAndGetKeys(tag);
+        if (keys.isEmpty()) {
+            return;
+        }
+        localCache.invalidateAll(keys);
+        publishInvalidation(KEYS_MESSAGE_PREFIX + String.join(KEYS_DELIMITER, keys));
+    }
+
+    @Override
+    public Duration getTtl(String key) {
+        return redisCacheRepository.getTtl(key);
+    }
+
+    @Override
+    public void expire(String key, Duration ttl) {
+        redisCacheRepository.expire(key, ttl);
+    }
+
+    @Override
+    public boolean tryLock(String lockKey, Duration leaseTime) {
+        return redisCacheRepository.tryLock(lockKey, leaseTime);
+    }
+
+    @Override
+    public void unlock(String lockKey) {
+        redisCacheRepository.unlock(lockKey);
+    }
+
+    /**
+     * 다른 노드로부터 수신한 무효화 메시지 처리 (L1 과 핫 키 복제본만 제거)
+     */
+    public void handleInvalidationMessage(String message) {
+        if (message.startsWith(KEY_MESSAGE_PREFIX)) {
+            String key = message.substring(KEY_MESSAGE_PREFIX.length());
+            localCache.invalidate(key);
+            redisCacheRepository.evictReplicas(List.of(key));
+        } else if (message.startsWith(KEYS_MESSAGE_PREFIX)) {
+            List<String> keys = List.of(message.substring(KEYS_MESSAGE_PREFIX.length()).split(KEYS_DELIMITER));
+            localCache.invalidateAll(keys);
+            redisCacheRepository.evictReplicas(keys);
+        } else if (message.startsWith(PATTERN_MESSAGE_PREFIX)) {
+            evictLocalByPattern(message.substring(PATTERN_MESSAGE_PREFIX.length()));
+            redisCacheRepository.clearReplicas();
+        } else {
+            log.warn("알 수 없는 캐시 무효화 메시지 - 메시지: {}", message);
+        }
+    }
+
+    private void putLocal(String key, Object value) {
+        if (value == null) {
+            return;
+        }
+        // L1 에 보관된 리스트는 여러 요청이 공유하므로 불변 리스트로 보관
+        Object stored = value;
+        if (value instanceof List<?> list) {
+            stored = List.copyOf(list);
+        } else if (value instanceof CacheEnvelope<?> envelope && envelope.getValue() instanceof List<?> list) {
+            stored = envelope.withValue(List.copyOf(list));
+        }
+        localCache.put(key, stored);
+    }
+
+    private void evictLocalByPattern(String pattern) {
+        Pattern regex = globToRegex(pattern);
+        localCache.asMap().keySet().removeIf(key -> regex.matcher(key).matches());
+    }
+
+    private void publishInvalidation(String message) {
+        try {
+            byte[] channel = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+            byte[] body = message.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.execute((RedisCallback<Long>) (RedisConnection connection) -> connection.publish(channel, body));
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지 발행 실패 - 메시지: {}, 에러: {}", message, e.getMessage());
+        }
+    }
+
+    /**
+     * Redis glob 패턴(*, ?)을 정규식으로 변환
+     */
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
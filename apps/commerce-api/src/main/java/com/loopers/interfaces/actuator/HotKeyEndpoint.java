@@ -0,0 +1,41 @@
+package com.loopers.interfaces.actuator;
+
+import com.loopers.infrastructure.redis.HotKeyReplica;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 현재 노드가 감지한 핫 키 조회 (/actuator/hotkeys)
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeyEndpoint {
+
+    private final HotKeyReplica hotKeyReplica;
+
+    @ReadOperation
+    public List<HotKeyResponse> hotKeys() {
+        return hotKeyReplica.hotKeys().entrySet().stream()
+                .map(entry -> new HotKeyResponse(
+                        entry.getKey(),
+                        entry.getValue().estimatedCount(),
+                        Instant.ofEpochMilli(entry.getValue().detectedAtMillis()),
+                        hotKeyReplica.isPinned(entry.getKey())
+                ))
+                .toList();
+    }
+
+    public record HotKeyResponse(
+            String key,
+            long estimatedReads,
+            Instant detectedAt,
+            boolean pinned
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.interfaces.api.like;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.ZonedDateTime;
+
+@Tag(name = "Like V1 API", description = "좋아요 조회 API")
+public interface LikeV1ApiSpec {
+
+    @Operation(
+            summary = "좋아요한 상품 목록 조회",
+            description = "사용자가 좋아요한 상품을 최근 좋아요 순으로 조회합니다. 다음 페이지는 응답의 nextCursor 로 조회하며, 마지막 페이지면 nextCursor 가 null 입니다."
+    )
+    ApiResponse<LikeV1Dto.LikedProductListResponse> getLikedProducts(
+            @RequestHeader("X-USER-ID") String userId,
+
+            @Parameter(description = "페이지 크기 (1-100, 기본값: 20)", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size,
+
+            @Parameter(description = "마지막 좋아요 시각 (커서, ISO-8601)")
+            @RequestParam(name = "lastLikedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime lastLikedAt,
+
+            @Parameter(description = "마지막 좋아요 ID (커서)")
+            @RequestParam(name = "lastLikeId", required = false) Long lastLikeId
+    );
+}
@@ -0,0 +1,48 @@
+package com.loopers.interfaces.api.like;
+
+import com.loopers.application.like.LikeApplicationService;
+import com.loopers.application.like.LikedProductPageInfo;
+import com.loopers.domain.like.LikedProductCursor;
+import com.loopers.domain.user.UserId;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.ZonedDateTime;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/like")
+@RequiredArgsConstructor
+public class LikeV1Controller implements LikeV1ApiSpec {
+
+    private final LikeApplicationService likeApplicationService;
+
+    @Override
+    @GetMapping("/products")
+    public ApiResponse<LikeV1Dto.LikedProductListResponse> getLikedProducts(
+            @RequestHeader(value = "X-USER-ID", required = true) String userId,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "lastLikedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime lastLikedAt,
+            @RequestParam(name = "lastLikeId", required = false) Long lastLikeId) {
+
+        if ((lastLikedAt == null) != (lastLikeId == null)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "lastLikedAt 과 lastLikeId 는 함께 지정해야 합니다.");
+        }
+
+        log.info("좋아요 목록 조회 요청 - userId: {}, size: {}, lastLikedAt: {}, lastLikeId: {}", userId, size, lastLikedAt, lastLikeId);
+
+        LikedProductCursor cursor = lastLikedAt == null ? null : new LikedProductCursor(lastLikedAt, lastLikeId);
+        LikedProductPageInfo page = likeApplicationService.getLikedProducts(UserId.of(userId), cursor, size);
+
+        return ApiResponse.success(LikeV1Dto.LikedProductListResponse.from(page));
+    }
+}
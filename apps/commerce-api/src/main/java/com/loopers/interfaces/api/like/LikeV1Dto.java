@@ -0,0 +1,53 @@
+package com.loopers.interfaces.api.like;
+
+import com.loopers.application.like.LikedProductInfo;
+import com.loopers.application.like.LikedProductPageInfo;
+import com.loopers.application.product.ProductOutputInfo;
+import com.loopers.domain.like.LikedProductCursor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public class LikeV1Dto {
+
+    public record LikedProductResponse(
+            Long id,
+            String productName,
+            String brandName,
+            String categoryName,
+            int price,
+            int likeCount,
+            int stockCount,
+            ZonedDateTime likedAt
+    ) {
+        public static LikedProductResponse from(LikedProductInfo info) {
+            ProductOutputInfo product = info.product();
+            return new LikedProductResponse(
+                    product.id(), product.name(), product.brandName(), product.categoryName(),
+                    product.price(), product.likeCount(), product.stock(), info.likedAt()
+            );
+        }
+    }
+
+    public record LikedProductListResponse(
+            List<LikedProductResponse> products,
+            // 다음 페이지 조회를 위한 커서 정보 (마지막 페이지면 null)
+            CursorInfo nextCursor
+    ) {
+        public static LikedProductListResponse from(LikedProductPageInfo page) {
+            return new LikedProductListResponse(
+                    page.products().stream().map(LikedProductResponse::from).toList(),
+                    page.nextCursor() == null ? null : CursorInfo.from(page.nextCursor())
+            );
+        }
+    }
+
+    public record CursorInfo(
+            ZonedDateTime lastLikedAt,
+            Long lastLikeId
+    ) {
+        public static CursorInfo from(LikedProductCursor cursor) {
+            return new CursorInfo(cursor.likedAt(), cursor.likeId());
+        }
+    }
+}
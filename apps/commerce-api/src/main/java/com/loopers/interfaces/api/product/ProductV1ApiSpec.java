@@ -4,25 +4,43 @@ import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @Tag(name = "Product V1 API", description = "상품 조회 API")
 public interface ProductV1ApiSpec {
 
     @GetMapping
-    @Operation(summary = "상품 목록 조회", description = "브랜드, 카테고리 필터링 및 정렬 기능을 제공합니다.")
-    ApiResponse<ProductV1Dto.ProductListResponse> getProductList(
+    @Operation(summary = "상품 목록 조회", description = "브랜드, 카테고리 필터링 및 정렬 기능을 제공합니다. 첫 페이지의 facets 는 브랜드/카테고리 필터 범위로 집계하며(브랜드 수는 카테고리 필터만, 카테고리 수는 브랜드 필터만 적용), 가격 범위/재고/상품명 필터는 반영하지 않습니다. 응답 본문은 ApiResponse<ProductListResponse> JSON 이며, 약한 ETag/If-None-Match 를 지원합니다.")
+    ResponseEntity<byte[]> getProductList(
             @RequestHeader(value = "X-USER-ID", required = false) String userId,
-            @ModelAttribute ProductV1Dto.ProductListRequest productListRequest
+            @ModelAttribute ProductV1Dto.ProductListRequest productListRequest,
+            @Parameter(hidden = true) HttpServletRequest servletRequest
     );
 
     @GetMapping("/{productId}")
-    @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다.")
-    ApiResponse<ProductV1Dto.ProductResponseDto> getProductDetail(
+    @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다. 응답 본문은 ApiResponse<ProductResponseDto> JSON 이며, 약한 ETag/If-None-Match 를 지원합니다.")
+    ResponseEntity<byte[]> getProductDetail(
             @RequestHeader(value = "X-USER-ID", required = false) String userId,
-            @Parameter(description = "상품 ID") @PathVariable(value = "productId") Long productId
+            @Parameter(description = "상품 ID") @PathVariable(value = "productId") Long productId,
+            @Parameter(hidden = true) HttpServletRequest servletRequest
+    );
+
+    @GetMapping("/batch")
+    @Operation(summary = "상품 일괄 조회", description = "여러 상품 ID(최대 300개)를 한 번에 조회합니다. 요청 순서대로 반환하며 존재하지 않는 상품은 제외됩니다.")
+    ApiResponse<ProductV1Dto.ProductBatchResponse> getProductBatch(
+            @Parameter(description = "상품 ID 목록 (쉼표 구분)") @RequestParam("ids") List<Long> ids
     );
+
+    @GetMapping("/export")
+    @Operation(summary = "전체 상품 내보내기", description = "전체 상품을 브랜드/카테고리명과 함께 한 줄에 한 상품씩 NDJSON 으로 스트리밍합니다.")
+    ResponseEntity<StreamingResponseBody> exportProducts();
 }
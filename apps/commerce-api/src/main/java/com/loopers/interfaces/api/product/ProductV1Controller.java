@@ -1,20 +1,37 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.like.LikeApplicationService;
 import com.loopers.application.product.ProductApplicationService;
+import com.loopers.application.product.ProductFacetInfo;
 import com.loopers.application.product.ProductOutputInfo;
 import com.loopers.application.product.ProductQuery;
 import com.loopers.application.ranking.RankingApplicationService;
 import com.loopers.application.ranking.RankingInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.loopers.domain.user.UserId;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.http.RenderedResponse;
+import com.loopers.support.http.RenderedResponseWriter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -24,50 +41,111 @@ public class ProductV1Controller implements ProductV1ApiSpec {
 
     private final ProductApplicationService productApplicationService;
     private final RankingApplicationService rankingApplicationService;
+    private final LikeApplicationService likeApplicationService;
+    private final RenderedResponseWriter renderedResponseWriter;
+    private final ObjectMapper objectMapper;
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
 
     @Override
     @GetMapping
-    public ApiResponse<ProductV1Dto.ProductListResponse> getProductList(
+    public ResponseEntity<byte[]> getProductList(
             @RequestHeader(value = "X-USER-ID", required = false) String userId,
-            ProductV1Dto.ProductListRequest request) {
+            ProductV1Dto.ProductListRequest request,
+            HttpServletRequest servletRequest) {
 
-        log.info("상품 목록 조회 요청 - productName: {}, brandId: {}, categoryId: {}, sortBy: {}, pageSize: {}, lastId: {}, lastLikesCount: {}, lastPrice: {}, lastCreatedAt: {}",
+        log.info("상품 목록 조회 요청 - productName: {}, brandId: {}, categoryId: {}, sortBy: {}, pageSize: {}, lastId: {}, lastLikesCount: {}, lastPrice: {}, lastCreatedAt: {}, minPrice: {}, maxPrice: {}, inStockOnly: {}",
                 request.productName(), request.brandId(), request.categoryId(), request.sortBy(), request.pageSize(),
-                request.lastId(), request.lastLikesCount(), request.lastPrice(), request.lastCreatedAt());
+                request.lastId(), request.lastLikesCount(), request.lastPrice(), request.lastCreatedAt(),
+                request.minPrice(), request.maxPrice(), request.inStockOnly());
 
 
         ProductQuery query = ProductQuery.from(
                 request.productName(), request.brandId(), request.categoryId(), request.sortBy(),
-                request.pageSize(), request.lastId(), request.lastLikesCount(), request.lastPrice(), request.lastCreatedAt()
+                request.pageSize(), request.lastId(), request.lastLikesCount(), request.lastPrice(), request.lastCreatedAt(),
+                request.minPrice(), request.maxPrice(), request.inStockOnly()
         );
-        
-        List<ProductOutputInfo> products = productApplicationService.getProductList(query);
 
-        ProductV1Dto.ProductListResponse responseBody = ProductV1Dto.ProductListResponse.from(products, request.pageSize());
+        // 사용자별 좋아요 여부는 캐시된 응답에 넣을 수 없으므로 목록(캐시)에 한 번의 조회로 얻은 좋아요 여부를 붙여 직렬화
+        if (userId != null && !userId.isBlank()) {
+            List<ProductOutputInfo> products = productApplicationService.getProductList(query);
+            Set<Long> likedProductIds = likeApplicationService.getLikedProductIds(
+                    UserId.of(userId), products.stream().map(ProductOutputInfo::id).toList());
+            ProductFacetInfo facets = query.getLastId() == null ? productApplicationService.getProductFacets(query.getBrandId(), query.getCategoryId()).orElse(null) : null;
+            RenderedResponse rendered = renderedResponseWriter.render(ApiResponse.success(
+                    ProductV1Dto.ProductListResponse.from(products, request.pageSize(), facets, likedProductIds)));
+            return renderedResponseWriter.toResponseEntity(rendered, servletRequest);
+        }
+
+        // 첫 페이지는 직렬화된 응답 바이트를 캐시에서 그대로 내보냄 (집계는 첫 페이지에만 포함)
+        RenderedResponse rendered = productApplicationService.getRenderedProductList(query, products -> {
+            ProductFacetInfo facets = query.getLastId() == null ? productApplicationService.getProductFacets(query.getBrandId(), query.getCategoryId()).orElse(null) : null;
+            return renderedResponseWriter.render(ApiResponse.success(ProductV1Dto.ProductListResponse.from(products, request.pageSize(), facets)));
+        });
 
-        return ApiResponse.success(responseBody);
+        return renderedResponseWriter.toResponseEntity(rendered, servletRequest);
     }
 
     @Override
     @GetMapping("/{productId}")
-    public ApiResponse<ProductV1Dto.ProductResponseDto> getProductDetail(
+    public ResponseEntity<byte[]> getProductDetail(
             @RequestHeader(value = "X-USER-ID", required = false) String userId,
-            Long productId) {
-
-        ProductOutputInfo product = productApplicationService.getProductDetail(productId, userId);
-        
-        // 오늘 날짜 기준 랭킹 정보 조회
-        RankingInfo rankingInfo = rankingApplicationService.getProductRankingInfo(productId, LocalDate.now());
-        ProductV1Dto.RankingInfoDto rankingDto = null;
-        if (rankingInfo.getRank() != null) {
-            rankingDto = ProductV1Dto.RankingInfoDto.from(rankingInfo.getRank(), rankingInfo.getScore());
-        }
-        
-        ProductV1Dto.ProductResponseDto responseBody = ProductV1Dto.ProductResponseDto.from(
-                product.id(), product.name(), product.brandName(), product.categoryName(),
-                product.price(), product.likeCount(), product.stock(), rankingDto
-        );
+            Long productId,
+            HttpServletRequest servletRequest) {
 
-        return ApiResponse.success(responseBody);
+        RenderedResponse rendered = productApplicationService.getRenderedProductDetail(productId, userId, product -> {
+            // 오늘 날짜 기준 랭킹 정보 조회
+            RankingInfo rankingInfo = rankingApplicationService.getProductRankingInfo(productId, LocalDate.now());
+            ProductV1Dto.RankingInfoDto rankingDto = null;
+            if (rankingInfo.getRank() != null) {
+                rankingDto = ProductV1Dto.RankingInfoDto.from(rankingInfo.getRank(), rankingInfo.getScore());
+            }
+
+            ProductV1Dto.ProductResponseDto responseBody = ProductV1Dto.ProductResponseDto.from(
+                    product.id(), product.name(), product.brandName(), product.categoryName(),
+                    product.price(), product.likeCount(), product.stock(), rankingDto
+            );
+            return renderedResponseWriter.render(ApiResponse.success(responseBody));
+        });
+
+        return renderedResponseWriter.toResponseEntity(rendered, servletRequest);
+    }
+
+    @Override
+    @GetMapping("/batch")
+    public ApiResponse<ProductV1Dto.ProductBatchResponse> getProductBatch(
+            @RequestParam("ids") List<Long> ids) {
+
+        return ApiResponse.success(ProductV1Dto.ProductBatchResponse.from(productApplicationService.getProductDetails(ids)));
+    }
+
+    @Override
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        ObjectWriter lineWriter = objectMapper.writerFor(ProductV1Dto.ProductExportLine.class);
+
+        // 한 줄씩 버퍼에 쓰고 버퍼가 차면 소켓으로 내보냄 (클라이언트가 느리면 쓰기에서 대기하며 DB 커서 읽기도 멈춤)
+        StreamingResponseBody body = outputStream -> {
+            long startTime = System.currentTimeMillis();
+            BufferedOutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+            long count = productApplicationService.exportProducts(product ->
+                    writeLine(out, lineWriter, ProductV1Dto.ProductExportLine.from(product)));
+            out.flush();
+            log.info("상품 내보내기 완료 - 건수: {}, 소요시간: {}ms", count, System.currentTimeMillis() - startTime);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static void writeLine(OutputStream out, ObjectWriter lineWriter, Object line) {
+        try {
+            out.write(lineWriter.writeValueAsBytes(line));
+            out.write('\n');
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 시 조회를 중단하도록 전파
+            throw new UncheckedIOException(e);
+        }
     }
 }
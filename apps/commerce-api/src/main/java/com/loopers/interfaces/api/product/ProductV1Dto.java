@@ -1,11 +1,13 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductFacetInfo;
 import com.loopers.application.product.ProductOutputInfo;
 import com.loopers.domain.product.ProductSortBy;
 import io.swagger.v3.oas.annotations.Parameter;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Set;
 
 public class ProductV1Dto {
 
@@ -27,7 +29,13 @@ public class ProductV1Dto {
             @Parameter(description = "마지막 상품 가격 (커서)")
             Integer lastPrice,
             @Parameter(description = "마지막 상품 생성일시 (커서)")
-            String lastCreatedAt
+            String lastCreatedAt,
+            @Parameter(description = "최소 가격 (이상)")
+            Integer minPrice,
+            @Parameter(description = "최대 가격 (이하)")
+            Integer maxPrice,
+            @Parameter(description = "재고 있는 상품만 조회", example = "false")
+            Boolean inStockOnly
     ) {}
 
     public record ProductResponseDto(
@@ -38,7 +46,9 @@ public class ProductV1Dto {
             int price,
             int likeCount,
             int stockCount,
-            RankingInfoDto rankingInfo
+            RankingInfoDto rankingInfo,
+            // 요청한 사용자의 좋아요 여부 (목록을 사용자 없이 조회하면 null)
+            Boolean liked
     ) {
         public static ProductResponseDto from(
                 Long id,
@@ -50,7 +60,7 @@ public class ProductV1Dto {
                 int stockCount,
                 RankingInfoDto rankingInfo
         ) {
-            return new ProductResponseDto(id, productName, brandName, categoryName, price, likeCount, stockCount, rankingInfo);
+            return new ProductResponseDto(id, productName, brandName, categoryName, price, likeCount, stockCount, rankingInfo, null);
         }
 
         public static ProductResponseDto from(
@@ -62,7 +72,43 @@ public class ProductV1Dto {
                 int likeCount,
                 int stockCount
         ) {
-            return new ProductResponseDto(id, productName, brandName, categoryName, price, likeCount, stockCount, null);
+            return new ProductResponseDto(id, productName, brandName, categoryName, price, likeCount, stockCount, null, null);
+        }
+    }
+
+    public record ProductBatchResponse(
+            List<ProductResponseDto> products
+    ) {
+        public static ProductBatchResponse from(List<ProductOutputInfo> productList) {
+            return new ProductBatchResponse(productList.stream()
+                    .map(product -> ProductResponseDto.from(
+                            product.id(), product.name(), product.brandName(), product.categoryName(),
+                            product.price(), product.likeCount(), product.stock()))
+                    .toList());
+        }
+    }
+
+    /**
+     * 전체 상품 내보내기 한 줄 (NDJSON)
+     */
+    public record ProductExportLine(
+            Long id,
+            String productName,
+            Long brandId,
+            String brandName,
+            Long categoryId,
+            String categoryName,
+            int price,
+            int likeCount,
+            int stockCount
+    ) {
+        public static ProductExportLine from(ProductOutputInfo product) {
+            return new ProductExportLine(
+                    product.id(), product.name(),
+                    product.brandId(), product.brandName(),
+                    product.categoryId(), product.categoryName(),
+                    product.price(), product.likeCount(), product.stock()
+            );
         }
     }
 
@@ -70,9 +116,23 @@ public class ProductV1Dto {
             int pageSize,
             List<ProductResponseDto> products,
             // 다음 페이지 조회를 위한 커서 정보
-            CursorInfo nextCursor
+            CursorInfo nextCursor,
+            // 브랜드/카테고리/가격 구간별 상품 수 (첫 페이지에만 포함, 요청의 브랜드/카테고리 필터 범위 기준)
+            FacetsDto facets
     ) {
         public static ProductListResponse from(List<ProductOutputInfo> productList, int pageSize) {
+            return from(productList, pageSize, null);
+        }
+
+        public static ProductListResponse from(List<ProductOutputInfo> productList, int pageSize, ProductFacetInfo facets) {
+            return from(productList, pageSize, facets, null);
+        }
+
+        /**
+         * likedProductIds 가 있으면 상품별 좋아요 여부를 함께 채움 (null 이면 좋아요 여부 제외)
+         */
+        public static ProductListResponse from(List<ProductOutputInfo> productList, int pageSize, ProductFacetInfo facets,
+                                               Set<Long> likedProductIds) {
             List<ProductResponseDto> productResponses = productList.stream()
                     .map(product -> new ProductResponseDto(
                             product.id(),
@@ -82,17 +142,48 @@ public class ProductV1Dto {
                             product.price(),
                             product.likeCount(),
                             product.stock(),
-                            null // 목록에서는 랭킹 정보 제외
+                            null, // 목록에서는 랭킹 정보 제외
+                            likedProductIds == null ? null : likedProductIds.contains(product.id())
                     )).toList();
 
             // 마지막 상품의 정보로 다음 커서 생성
             CursorInfo nextCursor = productList.isEmpty() ? null : 
                 CursorInfo.from(productList.get(productList.size() - 1));
 
-            return new ProductListResponse(pageSize, productResponses, nextCursor);
+            return new ProductListResponse(pageSize, productResponses, nextCursor, facets == null ? null : FacetsDto.from(facets));
         }
     }
 
+    public record FacetsDto(
+            // 집계 범위 (CATALOG: 전체 상품 기준, FILTERED: 요청의 브랜드/카테고리 필터 범위 기준)
+            // FILTERED 의 브랜드 수는 카테고리 필터만, 카테고리 수는 브랜드 필터만 적용하며 가격 범위/재고/상품명 필터는 적용하지 않음
+            String scope,
+            List<FacetDto> brands,
+            List<FacetDto> categories,
+            List<PriceBucketDto> priceBuckets
+    ) {
+        public static final String SCOPE_CATALOG = "CATALOG";
+        public static final String SCOPE_FILTERED = "FILTERED";
+
+        public static FacetsDto from(ProductFacetInfo facets) {
+            return new FacetsDto(
+                    facets.filtered() ? SCOPE_FILTERED : SCOPE_CATALOG,
+                    facets.brands().stream().map(entry -> new FacetDto(entry.id(), entry.name(), entry.count())).toList(),
+                    facets.categories().stream().map(entry -> new FacetDto(entry.id(), entry.name(), entry.count())).toList(),
+                    facets.priceBuckets().stream()
+                            .map(bucket -> new PriceBucketDto(bucket.minPrice(), bucket.maxPrice(), bucket.count()))
+                            .toList()
+            );
+        }
+    }
+
+    public record FacetDto(Long id, String name, int count) {
+    }
+
+    // maxPrice 는 미포함 상한 (마지막 구간은 null)
+    public record PriceBucketDto(int minPrice, Integer maxPrice, int count) {
+    }
+
     public record CursorInfo(
             Long lastId,
             Integer lastLikesCount,
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.time.LocalDate;
@@ -17,6 +18,9 @@ public interface RankingV1ApiSpec {
             description = "특정 날짜의 상품 랭킹을 기간별(일간/주간/월간)로 페이지네이션하여 조회합니다."
     )
     ApiResponse<RankingV1Dto.RankingPageResponse> getRankings(
+            @Parameter(description = "사용자 ID (있으면 항목별 좋아요 여부 포함)")
+            @RequestHeader(value = "X-USER-ID", required = false) String userId,
+
             @Parameter(description = "조회할 날짜 (yyyyMMdd 형식)", required = true, example = "20231215")
             @RequestParam(name = "date") @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date,
             
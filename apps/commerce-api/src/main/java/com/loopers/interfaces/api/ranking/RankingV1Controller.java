@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.ranking;
 
 import com.loopers.application.ranking.RankingApplicationService;
 import com.loopers.application.ranking.RankingPageInfo;
+import com.loopers.domain.user.UserId;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,7 @@ public class RankingV1Controller implements RankingV1ApiSpec {
 
     @GetMapping
     public ApiResponse<RankingV1Dto.RankingPageResponse> getRankings(
+            @RequestHeader(value = "X-USER-ID", required = false) String userId,
             @RequestParam(name = "date") @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date,
             @RequestParam(name = "period", defaultValue = "daily") String period,
             @RequestParam(name = "size", defaultValue = "20") int size,
@@ -35,7 +37,8 @@ public class RankingV1Controller implements RankingV1ApiSpec {
             size = 20;
         }
         
-        RankingPageInfo rankingPageInfo = rankingApplicationService.getRankingPage(date, period, page, size);
+        RankingPageInfo rankingPageInfo = rankingApplicationService.getRankingPage(date, period, page, size,
+                userId == null || userId.isBlank() ? null : UserId.of(userId));
         RankingV1Dto.RankingPageResponse response = RankingV1Dto.RankingPageResponse.from(rankingPageInfo);
         
         return ApiResponse.success(response);
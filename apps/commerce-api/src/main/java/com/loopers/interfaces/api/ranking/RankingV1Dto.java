@@ -40,6 +40,7 @@ public class RankingV1Dto {
         private final Long rank;
         private final Double score;
         private final ProductInfoResponse productInfo;
+        private final Boolean liked;
 
         public static RankingItemResponse from(RankingItemInfo info) {
             return RankingItemResponse.builder()
@@ -48,6 +49,7 @@ public class RankingV1Dto {
                     .score(info.getScore())
                     .productInfo(info.getProductInfo() != null ? 
                             ProductInfoResponse.from(info.getProductInfo()) : null)
+                    .liked(info.getLiked())
                     .build();
         }
     }
@@ -0,0 +1,26 @@
+package com.loopers.support.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Redis 캐시 값 직렬화 방식
+ * 타입 정보를 값에 싣지 않고, 조회 시 호출자가 지정한 타입으로 바로 역직렬화한다.
+ */
+public interface CacheCodec {
+
+    /**
+     * 메트릭 태그 등에 사용하는 코덱 이름
+     */
+    String name();
+
+    byte[] encode(Object value);
+
+    <T> T decode(byte[] bytes, JavaType type);
+
+    TypeFactory typeFactory();
+
+    default <T> T decode(byte[] bytes, Class<T> clazz) {
+        return decode(bytes, typeFactory().constructType(clazz));
+    }
+}
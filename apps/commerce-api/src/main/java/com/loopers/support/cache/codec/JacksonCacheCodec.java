@@ -0,0 +1,165 @@
+package com.loopers.support.cache.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Jackson 기반 캐시 코덱 (JSON / Smile)
+ * - 첫 바이트는 압축 여부 헤더 (0: 원본, 1: Deflate)
+ * - 인코딩 결과가 임계값 이상이면 압축하여 큰 목록의 Redis 메모리를 줄인다.
+ * - 인코딩/디코딩 시간과 저장 크기를 메트릭으로 기록
+ */
+public class JacksonCacheCodec implements CacheCodec {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    private final String name;
+    private final ObjectMapper mapper;
+    private final int compressThresholdBytes;
+
+    private final Timer encodeTimer;
+    private final Timer decodeTimer;
+    private final DistributionSummary rawSize;
+    private final DistributionSummary storedSize;
+
+    private JacksonCacheCodec(String name, JsonFactory factory, int compressThresholdBytes, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.mapper = new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.compressThresholdBytes = compressThresholdBytes;
+
+        this.encodeTimer = Timer.builder("cache.codec.encode")
+                .description("캐시 값 직렬화 시간")
+                .tag("codec", name)
+                .register(meterRegistry);
+        this.decodeTimer = Timer.builder("cache.codec.decode")
+                .description("캐시 값 역직렬화 시간")
+                .tag("codec", name)
+                .register(meterRegistry);
+        this.rawSize = DistributionSummary.builder("cache.codec.raw.size")
+                .description("압축 전 직렬화 크기")
+                .baseUnit("bytes")
+                .tag("codec", name)
+                .register(meterRegistry);
+        this.storedSize = DistributionSummary.builder("cache.codec.stored.size")
+                .description("Redis 에 저장되는 크기")
+                .baseUnit("bytes")
+                .tag("codec", name)
+                .register(meterRegistry);
+    }
+
+    public static JacksonCacheCodec json(int compressThresholdBytes, MeterRegistry meterRegistry) {
+        return new JacksonCacheCodec("json", new JsonFactory(), compressThresholdBytes, meterRegistry);
+    }
+
+    public static JacksonCacheCodec smile(int compressThresholdBytes, MeterRegistry meterRegistry) {
+        return new JacksonCacheCodec("smile", new SmileFactory(), compressThresholdBytes, meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public TypeFactory typeFactory() {
+        return mapper.getTypeFactory();
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return encodeTimer.record(() -> {
+            byte[] serialized = serialize(value);
+            rawSize.record(serialized.length);
+
+            byte[] stored = serialized.length >= compressThresholdBytes
+                    ? withHeader(DEFLATED, deflate(serialized))
+                    : withHeader(RAW, serialized);
+            storedSize.record(stored.length);
+            return stored;
+        });
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, JavaType type) {
+        return decodeTimer.record(() -> {
+            byte[] body = Arrays.copyOfRange(bytes, 1, bytes.length);
+            byte[] serialized = bytes[0] == DEFLATED ? inflate(body) : body;
+            try {
+                return mapper.readValue(serialized, type);
+            } catch (IOException e) {
+                throw new UncheckedIOException("캐시 값 역직렬화 실패 - 타입: " + type, e);
+            }
+        });
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 값 직렬화 실패 - 타입: " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] result = new byte[body.length + 1];
+        result[0] = header;
+        System.arraycopy(body, 0, result, 1, body.length);
+        return result;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 캐시 값이 손상되었습니다.");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 캐시 값 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
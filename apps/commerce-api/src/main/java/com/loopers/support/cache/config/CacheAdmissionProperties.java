@@ -0,0 +1,30 @@
+package com.loopers.support.cache.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 캐시 적재(admission) 설정
+ * - threshold: window 내에 이 횟수 이상 요청된 키만 캐시에 적재
+ * - window: 요청 횟수를 집계하는 구간
+ * - maxTrackedKeys: 노드당 집계할 최대 키 수 (초과 시 오래된 키부터 제거)
+ */
+@ConfigurationProperties(value = "cache.admission")
+public record CacheAdmissionProperties(
+        int threshold,
+        Duration window,
+        long maxTrackedKeys
+) {
+    public CacheAdmissionProperties {
+        if (threshold <= 0) {
+            threshold = 2;
+        }
+        if (window == null || window.isZero() || window.isNegative()) {
+            window = Duration.ofMinutes(1);
+        }
+        if (maxTrackedKeys <= 0) {
+            maxTrackedKeys = 50_000;
+        }
+    }
+}
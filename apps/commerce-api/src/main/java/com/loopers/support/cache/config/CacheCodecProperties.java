@@ -0,0 +1,23 @@
+package com.loopers.support.cache.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 캐시 값 직렬화 설정
+ * - type: json | smile
+ * - compressThresholdBytes: 이 크기 이상으로 직렬화된 값은 압축하여 저장
+ */
+@ConfigurationProperties(value = "cache.codec")
+public record CacheCodecProperties(
+        String type,
+        int compressThresholdBytes
+) {
+    public CacheCodecProperties {
+        if (type == null || type.isBlank()) {
+            type = "smile";
+        }
+        if (compressThresholdBytes <= 0) {
+            compressThresholdBytes = 2048;
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.loopers.support.cache.config;
 
+import com.loopers.cache.RedisCacheKeys;
+import com.loopers.infrastructure.redis.CacheInvalidationListener;
 import com.loopers.infrastructure.redis.RedisCacheRepositoryImpl;
+import com.loopers.infrastructure.redis.TieredCacheRepository;
+import com.loopers.support.cache.codec.CacheCodec;
+import com.loopers.support.cache.codec.JacksonCacheCodec;
 import com.loopers.support.cache.repository.CacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Slf4j
 @Configuration
@@ -22,4 +34,68 @@ public class CacheConfig {
         return redisCacheRepositoryImpl;
     }
 
+    /**
+     * 로컬(L1) + Redis(L2) 2단 캐시 저장소
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "cache.type", havingValue = "tiered")
+    public TieredCacheRepository tieredCacheRepository(
+            RedisCacheRepositoryImpl redisCacheRepositoryImpl,
+            RedisTemplate<String, Object> redisTemplate,
+            LocalCacheProperties localCacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        log.info("2단 캐시 사용 - L1 최대 엔트리: {}, L1 TTL: {}",
+                localCacheProperties.maxSize(), localCacheProperties.ttl());
+        TieredCacheRepository tieredCacheRepository = new TieredCacheRepository(redisCacheRepositoryImpl, redisTemplate, localCacheProperties);
+        tieredCacheRepository.bindMetrics(meterRegistry);
+        return tieredCacheRepository;
+    }
+
+    /**
+     * 캐시 값 코덱 (cache.codec.type 으로 선택)
+     */
+    @Bean
+    public CacheCodec cacheCodec(CacheCodecProperties cacheCodecProperties, MeterRegistry meterRegistry) {
+        log.info("캐시 코덱 사용 - 타입: {}, 압축 임계값: {} bytes",
+                cacheCodecProperties.type(), cacheCodecProperties.compressThresholdBytes());
+        return switch (cacheCodecProperties.type()) {
+            case "json" -> JacksonCacheCodec.json(cacheCodecProperties.compressThresholdBytes(), meterRegistry);
+            case "smile" -> JacksonCacheCodec.smile(cacheCodecProperties.compressThresholdBytes(), meterRegistry);
+            default -> throw new IllegalArgumentException("지원하지 않는 캐시 코덱입니다: " + cacheCodecProperties.type());
+        };
+    }
+
+    /**
+     * 코덱으로 인코딩한 바이트를 그대로 저장하는 캐시 전용 템플릿
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> cacheBinaryRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(lettuceConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+        return redisTemplate;
+    }
+
+    /**
+     * 노드 간 L1 무효화 전파를 위한 Pub/Sub 구독 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.type", havingValue = "tiered")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            LettuceConnectionFactory lettuceConnectionFactory,
+            TieredCacheRepository tieredCacheRepository
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener(tieredCacheRepository),
+                new ChannelTopic(RedisCacheKeys.INVALIDATION_CHANNEL)
+        );
+        return container;
+    }
+
 }
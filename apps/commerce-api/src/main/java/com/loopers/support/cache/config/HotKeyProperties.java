@@ -0,0 +1,42 @@
+package com.loopers.support.cache.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 핫 키 감지/로컬 복제 설정
+ * - enabled: false 면 감지와 로컬 복제를 모두 생략
+ * - sampleRate: Redis 조회 중 집계할 비율 (0~1, 추정 횟수는 1/sampleRate 로 보정)
+ * - window: 조회 횟수를 집계하는 구간
+ * - threshold: window 내 (추정) 조회 횟수가 이 값 이상이면 핫 키
+ * - maxHotKeys: 노드당 핫 키로 유지할 최대 키 수
+ * - pinTtl: 핫 키 값의 로컬 복제본 유지 시간 (다른 노드 변경이 늦게 보이는 최대 구간)
+ */
+@ConfigurationProperties(value = "cache.hot-key")
+public record HotKeyProperties(
+        boolean enabled,
+        double sampleRate,
+        Duration window,
+        long threshold,
+        int maxHotKeys,
+        Duration pinTtl
+) {
+    public HotKeyProperties {
+        if (sampleRate <= 0 || sampleRate > 1) {
+            sampleRate = 0.1;
+        }
+        if (window == null || window.isZero() || window.isNegative()) {
+            window = Duration.ofSeconds(10);
+        }
+        if (threshold <= 0) {
+            threshold = 1_000;
+        }
+        if (maxHotKeys <= 0) {
+            maxHotKeys = 100;
+        }
+        if (pinTtl == null || pinTtl.isZero() || pinTtl.isNegative()) {
+            pinTtl = Duration.ofSeconds(2);
+        }
+    }
+}
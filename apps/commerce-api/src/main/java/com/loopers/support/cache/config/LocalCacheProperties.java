@@ -0,0 +1,25 @@
+package com.loopers.support.cache.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 로컬(L1) 캐시 설정
+ * - maxSize: 노드당 보관할 최대 엔트리 수
+ * - ttl: L1 엔트리 만료 시간 (Redis TTL 보다 짧게 유지해 노드 간 불일치 구간을 제한)
+ */
+@ConfigurationProperties(value = "cache.local")
+public record LocalCacheProperties(
+        long maxSize,
+        Duration ttl
+) {
+    public LocalCacheProperties {
+        if (maxSize <= 0) {
+            maxSize = 10_000;
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            ttl = Duration.ofSeconds(30);
+        }
+    }
+}
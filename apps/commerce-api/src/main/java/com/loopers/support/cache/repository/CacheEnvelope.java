@@ -0,0 +1,53 @@
+package com.loopers.support.cache.repository;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 캐시 값과 재계산 메타데이터를 함께 보관하는 래퍼
+ * - computeTimeMillis: 값을 만드는 데 걸린 시간 (XFetch 의 delta)
+ * - expireAtMillis: 논리 만료 시각 (물리 TTL 은 이보다 길게 두어 만료 후에도 이전 값을 제공)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheEnvelope<T> {
+
+    private T value;
+    private long computeTimeMillis;
+    private long expireAtMillis;
+
+    public CacheEnvelope(T value, long computeTimeMillis, long expireAtMillis) {
+        this.value = value;
+        this.computeTimeMillis = computeTimeMillis;
+        this.expireAtMillis = expireAtMillis;
+    }
+
+    public static <T> CacheEnvelope<T> of(T value, long computeTimeMillis, Duration ttl) {
+        return new CacheEnvelope<>(value, computeTimeMillis, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    /**
+     * 논리 만료 여부 (만료되었더라도 물리 TTL 이내라면 이전 값으로 응답 가능)
+     */
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expireAtMillis;
+    }
+
+    /**
+     * XFetch 확률적 조기 갱신 여부
+     * now - delta * beta * ln(random) >= expiry 이면 갱신
+     * 재계산 비용(delta)이 클수록, 만료가 가까울수록 갱신 확률이 높아진다.
+     *
+     * @param random (0, 1] 구간의 난수
+     */
+    public boolean shouldRefreshEarly(long nowMillis, double beta, double random) {
+        return nowMillis - computeTimeMillis * beta * Math.log(random) >= expireAtMillis;
+    }
+
+    public <R> CacheEnvelope<R> withValue(R newValue) {
+        return new CacheEnvelope<>(newValue, computeTimeMillis, expireAtMillis);
+    }
+}
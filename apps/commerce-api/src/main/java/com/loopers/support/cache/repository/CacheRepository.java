@@ -1,8 +1,11 @@
 package com.loopers.support.cache.repository;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CacheRepository {
 
@@ -16,6 +19,16 @@ public interface CacheRepository {
      */
     <T> void set(String key, T value);
 
+    /**
+     * 태그와 함께 객체 저장 (태그 단위 무효화 대상으로 등록)
+     */
+    <T> void set(String key, T value, Duration ttl, Set<String> tags);
+
+    /**
+     * 여러 객체를 한 번의 왕복으로 저장 (tagsByKey 에 없는 키는 태그 없이 저장)
+     */
+    <T> void setAll(Map<String, T> values, Duration ttl, Map<String, Set<String>> tagsByKey);
+
     /**
      * 캐시에서 객체 조회
      */
@@ -26,6 +39,21 @@ public interface CacheRepository {
      */
     <T> Optional<List<T>> getList(String key, Class<T> clazz);
 
+    /**
+     * 만료 메타데이터와 함께 저장된 객체 조회 (envelope 가 아닌 값은 미스로 처리)
+     */
+    <T> Optional<CacheEnvelope<T>> getEnvelope(String key, Class<T> clazz);
+
+    /**
+     * 만료 메타데이터와 함께 저장된 List 객체 조회
+     */
+    <T> Optional<CacheEnvelope<List<T>>> getListEnvelope(String key, Class<T> clazz);
+
+    /**
+     * 만료 메타데이터와 함께 저장된 여러 객체를 한 번의 왕복으로 조회 (히트한 키만 반환)
+     */
+    <T> Map<String, CacheEnvelope<T>> getAllEnvelopes(Collection<String> keys, Class<T> clazz);
+
     /**
      * 캐시 존재 여부 확인
      */
@@ -37,10 +65,15 @@ public interface CacheRepository {
     void delete(String key);
 
     /**
-     * 패턴에 맞는 모든 키 삭제
+     * 패턴에 맞는 모든 키 삭제 (키스페이스 전체 순회, 태그로 찾을 수 없는 키의 수동 정리용)
      */
     void deleteByPattern(String pattern);
 
+    /**
+     * 태그에 등록된 모든 키 삭제
+     */
+    void deleteByTag(String tag);
+
     /**
      * TTL 조회
      */
@@ -51,4 +84,14 @@ public interface CacheRepository {
      */
     void expire(String key, Duration ttl);
 
+    /**
+     * 분산 락 획득 (캐시 재구성 권한, leaseTime 이후 자동 해제)
+     */
+    boolean tryLock(String lockKey, Duration leaseTime);
+
+    /**
+     * 분산 락 해제 (자신이 획득한 락만 해제)
+     */
+    void unlock(String lockKey);
+
 } 
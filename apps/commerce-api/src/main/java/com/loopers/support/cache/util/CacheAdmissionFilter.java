@@ -0,0 +1,38 @@
+package com.loopers.support.cache.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.support.cache.config.CacheAdmissionProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캐시 적재 필터
+ * 조합이 많은 키(필터별 목록 등)는 한 번 요청된 키까지 모두 적재하면 Redis 메모리만 차지하므로,
+ * 노드별로 window 내 요청 횟수를 세어 threshold 이상 요청된 키만 적재를 허용한다.
+ */
+@Component
+public class CacheAdmissionFilter {
+
+    private final int threshold;
+    private final Cache<String, AtomicInteger> hits;
+
+    public CacheAdmissionFilter(CacheAdmissionProperties properties) {
+        this.threshold = properties.threshold();
+        this.hits = Caffeine.newBuilder()
+                .maximumSize(properties.maxTrackedKeys())
+                .expireAfterWrite(properties.window())
+                .build();
+    }
+
+    /**
+     * 요청 횟수를 기록하고 적재 허용 여부 반환
+     */
+    public boolean admit(String key) {
+        if (threshold <= 1) {
+            return true;
+        }
+        return hits.get(key, k -> new AtomicInteger()).incrementAndGet() >= threshold;
+    }
+}
@@ -0,0 +1,154 @@
+package com.loopers.support.cache.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 계열(family)별 지표
+ * - cache.requests: 조회 결과(hit / stale / miss)별 횟수 (히트율 = hit+stale / 전체)
+ * - cache.load.latency: 미스/갱신 시 원본 조회 시간
+ * - cache.value.size: Redis 에 저장된 값의 크기
+ * - cache.invalidations: 무효화로 삭제된 키 수 (L1 용량/만료 축출은 cache.evictions{cache=cache.l1})
+ *
+ * 계열은 키의 첫 구간(productlist:..., productdetail:...)으로 구분하고, 직렬화 응답(rendered:...)은
+ * 같은 계열에 representation=rendered 로 구분한다. 알 수 없는 계열은 other 로 묶어 태그 수를 제한한다.
+ */
+@Component
+public class CacheMetrics {
+
+    public static final String FAMILY_PRODUCT_LIST = "productlist";
+    public static final String FAMILY_PRODUCT_DETAIL = "productdetail";
+    public static final String FAMILY_BRAND = "brand";
+    public static final String FAMILY_CATEGORY = "category";
+    public static final String FAMILY_RANKING = "ranking";
+
+    private static final Set<String> FAMILIES = Set.of(
+            FAMILY_PRODUCT_LIST, FAMILY_PRODUCT_DETAIL, FAMILY_BRAND, FAMILY_CATEGORY, FAMILY_RANKING);
+    private static final String OTHER_FAMILY = "other";
+    private static final String RENDERED_PREFIX = "rendered:";
+    private static final String OBJECT = "object";
+    private static final String RENDERED = "rendered";
+
+    public enum Result {
+        HIT,
+        STALE,
+        MISS
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Counter> requestCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> invalidationCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> loadTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DistributionSummary> sizeSummaries = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 캐시 키 단건 조회 결과 기록
+     */
+    public void recordRequest(String key, Result result) {
+        requestCounter(familyOf(key), representationOf(key), result).increment();
+    }
+
+    /**
+     * 여러 항목을 한 번에 조회한 결과 기록 (일괄 조회, 스냅샷 조회 등 키가 없는 캐시)
+     */
+    public void recordRequests(String family, long hits, long misses) {
+        String normalized = normalize(family);
+        if (hits > 0) {
+            requestCounter(normalized, OBJECT, Result.HIT).increment(hits);
+        }
+        if (misses > 0) {
+            requestCounter(normalized, OBJECT, Result.MISS).increment(misses);
+        }
+    }
+
+    /**
+     * 원본 조회 시간 기록
+     */
+    public <T> T recordLoad(String key, Supplier<T> loader) {
+        return loadTimer(familyOf(key), representationOf(key)).record(loader);
+    }
+
+    public void recordLoadTime(String family, long elapsedMillis) {
+        loadTimer(normalize(family), OBJECT).record(Duration.ofMillis(elapsedMillis));
+    }
+
+    /**
+     * 저장되는 값(인코딩 후)의 크기 기록
+     */
+    public void recordSize(String key, int bytes) {
+        String family = familyOf(key);
+        String representation = representationOf(key);
+        sizeSummaries.computeIfAbsent(family + "|" + representation, ignored -> DistributionSummary.builder("cache.value.size")
+                .description("캐시에 저장된 값의 크기")
+                .baseUnit("bytes")
+                .tag("family", family)
+                .tag("representation", representation)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(64.0)
+                .maximumExpectedValue(4.0 * 1024 * 1024)
+                .register(meterRegistry)).record(bytes);
+    }
+
+    /**
+     * 무효화로 삭제된 키 기록
+     */
+    public void recordInvalidations(Collection<String> keys, String cause) {
+        for (String key : keys) {
+            String family = familyOf(key);
+            String representation = representationOf(key);
+            invalidationCounters.computeIfAbsent(family + "|" + representation + "|" + cause, ignored -> Counter.builder("cache.invalidations")
+                    .description("무효화로 삭제된 캐시 키 수")
+                    .tag("family", family)
+                    .tag("representation", representation)
+                    .tag("cause", cause)
+                    .register(meterRegistry)).increment();
+        }
+    }
+
+    static String familyOf(String key) {
+        String body = key.startsWith(RENDERED_PREFIX) ? key.substring(RENDERED_PREFIX.length()) : key;
+        int separator = body.indexOf(':');
+        return normalize(separator < 0 ? body : body.substring(0, separator));
+    }
+
+    private static String representationOf(String key) {
+        return key.startsWith(RENDERED_PREFIX) ? RENDERED : OBJECT;
+    }
+
+    private static String normalize(String family) {
+        return FAMILIES.contains(family) ? family : OTHER_FAMILY;
+    }
+
+    private Counter requestCounter(String family, String representation, Result result) {
+        String name = result.name().toLowerCase();
+        return requestCounters.computeIfAbsent(family + "|" + representation + "|" + name, ignored -> Counter.builder("cache.requests")
+                .description("캐시 조회 결과별 요청 수")
+                .tag("family", family)
+                .tag("representation", representation)
+                .tag("result", name)
+                .register(meterRegistry));
+    }
+
+    private Timer loadTimer(String family, String representation) {
+        return loadTimers.computeIfAbsent(family + "|" + representation, ignored -> Timer.builder("cache.load.latency")
+                .description("캐시 미스/갱신 시 원본 조회 시간")
+                .tag("family", family)
+                .tag("representation", representation)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.support.cache.util;
+
+import java.time.Duration;
+
+/**
+ * 캐시 만료 정책
+ * - ttl: 논리 만료 시간 (이후 조회 시 백그라운드 갱신)
+ * - staleTtl: 논리 만료 이후 이전 값을 제공할 수 있는 추가 시간
+ */
+public record CachePolicy(Duration ttl, Duration staleTtl) {
+
+    public static CachePolicy of(Duration ttl, Duration staleTtl) {
+        return new CachePolicy(ttl, staleTtl);
+    }
+
+    /**
+     * Redis 에 설정할 물리 TTL
+     */
+    public Duration physicalTtl() {
+        return ttl.plus(staleTtl);
+    }
+}
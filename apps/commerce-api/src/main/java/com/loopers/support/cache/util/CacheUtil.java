@@ -1,23 +1,95 @@
 package com.loopers.support.cache.util;
 
+import com.loopers.support.cache.repository.CacheEnvelope;
 import com.loopers.support.cache.repository.CacheRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * 캐시 유틸리티 클래스
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CacheUtil {
 
+    private static final String LOCK_PREFIX = "cache:lock:";
+    // 재구성 락 유효 시간 (재구성 노드 장애 시 자동 해제)
+    private static final Duration LOCK_LEASE_TIME = Duration.ofSeconds(5);
+    // 다른 노드의 재구성을 기다리는 최대 시간과 캐시 재확인 간격
+    private static final Duration LOCK_WAIT_TIME = Duration.ofSeconds(2);
+    private static final long LOCK_POLL_INTERVAL_MILLIS = 50;
+    // XFetch 가중치 (1.0 보다 크면 더 일찍 갱신)
+    private static final double XFETCH_BETA = 1.0;
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_QUEUE_CAPACITY = 100;
+    private static final Predicate<String> ALWAYS_ADMIT = key -> true;
+
     private final CacheRepository cacheRepository;
+    private final Executor refreshExecutor;
+    private final CacheMetrics cacheMetrics;
+
+    // 같은 노드에서 동일 키를 재구성 중인 요청 (single-flight)
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    // 같은 노드에서 백그라운드 갱신 중인 키
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CacheUtil(CacheRepository cacheRepository, CacheMetrics cacheMetrics) {
+        this(cacheRepository, new ThreadPoolExecutor(
+                REFRESH_THREADS, REFRESH_THREADS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+                refreshThreadFactory()
+        ), cacheMetrics);
+    }
+
+    CacheUtil(CacheRepository cacheRepository, Executor refreshExecutor, CacheMetrics cacheMetrics) {
+        this.cacheRepository = cacheRepository;
+        this.refreshExecutor = refreshExecutor;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    private static ThreadFactory refreshThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("CacheRefresh-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
 
     /**
      * 객체를 캐시에 저장
@@ -33,6 +105,13 @@ public class CacheUtil {
         cacheRepository.set(key, value);
     }
 
+    /**
+     * 태그와 함께 객체 저장
+     */
+    public <T> void set(String key, T value, Duration ttl, Set<String> tags) {
+        cacheRepository.set(key, value, ttl, tags);
+    }
+
     /**
      * 캐시에서 객체 조회
      */
@@ -47,6 +126,246 @@ public class CacheUtil {
         return cacheRepository.getList(key, clazz);
     }
 
+    /**
+     * 캐시 조회 후 미스 시 한 요청만 loader 로 재구성 (single-flight)
+     * 논리 만료가 가까우면 확률적으로, 지났으면 항상 백그라운드에서 갱신하고 현재 값을 그대로 반환한다.
+     */
+    public <T> T getOrLoad(String key, Class<T> clazz, CachePolicy policy,
+                           Function<T, Set<String>> tagger, Supplier<T> loader) {
+        return readThrough(key, () -> cacheRepository.getEnvelope(key, clazz), policy, tagger, loader, ALWAYS_ADMIT);
+    }
+
+    /**
+     * List 캐시 조회 후 미스 시 한 요청만 loader 로 재구성 (single-flight)
+     */
+    public <T> List<T> getListOrLoad(String key, Class<T> clazz, CachePolicy policy,
+                                     Function<List<T>, Set<String>> tagger, Supplier<List<T>> loader) {
+        return getListOrLoad(key, clazz, policy, tagger, loader, ALWAYS_ADMIT);
+    }
+
+    /**
+     * List 캐시 조회 후 미스 시 admission 을 통과한 키만 재구성해 저장
+     * 이미 캐시된 키는 admission 과 무관하게 캐시에서 응답하고, 통과하지 못한 미스는 저장 없이 loader 결과를 반환한다.
+     */
+    public <T> List<T> getListOrLoad(String key, Class<T> clazz, CachePolicy policy,
+                                     Function<List<T>, Set<String>> tagger, Supplier<List<T>> loader,
+                                     Predicate<String> admission) {
+        return readThrough(key, () -> cacheRepository.getListEnvelope(key, clazz), policy, tagger,
+                () -> new ArrayList<>(loader.get()), admission);
+    }
+
+    /**
+     * 여러 키를 한 번에 조회하고, 미스되거나 논리 만료된 항목만 loader 한 번으로 모아서 재구성
+     * 결과는 ids 순서를 따르며 loader 가 돌려주지 않은 ID 는 제외된다.
+     * (항목별 single-flight 는 적용하지 않으며, 재구성은 묶음 단위 DB 조회 한 번으로 끝난다)
+     */
+    public <K, T> Map<K, T> getAllOrLoad(Collection<K> ids, Function<K, String> keyMapper, Class<T> clazz,
+                                         CachePolicy policy, Function<T, Set<String>> tagger,
+                                         Function<Set<K>, Map<K, T>> loader) {
+        Map<K, String> keysById = new LinkedHashMap<>();
+        for (K id : ids) {
+            keysById.put(id, keyMapper.apply(id));
+        }
+        Map<String, CacheEnvelope<T>> cached = cacheRepository.getAllEnvelopes(List.copyOf(keysById.values()), clazz);
+
+        long now = System.currentTimeMillis();
+        Map<K, T> found = new HashMap<>();
+        Set<K> missingIds = new LinkedHashSet<>();
+        keysById.forEach((id, key) -> {
+            CacheEnvelope<T> envelope = cached.get(key);
+            if (envelope == null || envelope.isExpired(now)) {
+                missingIds.add(id);
+            } else {
+                found.put(id, envelope.getValue());
+            }
+        });
+
+        String family = keysById.isEmpty() ? "" : CacheMetrics.familyOf(keysById.values().iterator().next());
+        cacheMetrics.recordRequests(family, found.size(), missingIds.size());
+
+        if (!missingIds.isEmpty()) {
+            long startedAt = System.currentTimeMillis();
+            Map<K, T> loaded = loader.apply(missingIds);
+            long computeTimeMillis = System.currentTimeMillis() - startedAt;
+            cacheMetrics.recordLoadTime(family, computeTimeMillis);
+
+            Map<String, CacheEnvelope<T>> envelopes = new HashMap<>();
+            Map<String, Set<String>> tagsByKey = new HashMap<>();
+            loaded.forEach((id, value) -> {
+                if (value == null) {
+                    return;
+                }
+                String key = keysById.get(id);
+                envelopes.put(key, CacheEnvelope.of(value, computeTimeMillis, policy.ttl()));
+                tagsByKey.put(key, tagger.apply(value));
+                found.put(id, value);
+            });
+            if (!envelopes.isEmpty()) {
+                cacheRepository.setAll(envelopes, policy.physicalTtl(), tagsByKey);
+            }
+            log.debug("캐시 일괄 조회 - 요청 수: {}, 재구성 수: {}", keysById.size(), missingIds.size());
+        }
+
+        Map<K, T> result = new LinkedHashMap<>();
+        for (K id : keysById.keySet()) {
+            T value = found.get(id);
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
+    private <V> V readThrough(String key, Supplier<Optional<CacheEnvelope<V>>> cacheReader, CachePolicy policy,
+                              Function<V, Set<String>> tagger, Supplier<V> loader, Predicate<String> admission) {
+        Supplier<CacheEnvelope<V>> loadAndStore = () -> loadAndStore(key, policy, tagger, loader);
+
+        Optional<CacheEnvelope<V>> cached = cacheReader.get();
+        if (cached.isEmpty()) {
+            cacheMetrics.recordRequest(key, CacheMetrics.Result.MISS);
+            if (!admission.test(key)) {
+                return cacheMetrics.recordLoad(key, loader);
+            }
+            return loadOnce(key, cacheReader, loadAndStore).getValue();
+        }
+
+        CacheEnvelope<V> envelope = cached.get();
+        long now = System.currentTimeMillis();
+        if (envelope.isExpired(now)) {
+            cacheMetrics.recordRequest(key, CacheMetrics.Result.STALE);
+            log.debug("논리 만료된 캐시 반환 후 백그라운드 갱신 - 키: {}", key);
+            refreshInBackground(key, loadAndStore);
+            return envelope.getValue();
+        }
+
+        cacheMetrics.recordRequest(key, CacheMetrics.Result.HIT);
+        if (envelope.shouldRefreshEarly(now, XFETCH_BETA, 1.0 - ThreadLocalRandom.current().nextDouble())) {
+            log.debug("만료 임박 캐시 조기 갱신 - 키: {}", key);
+            refreshInBackground(key, loadAndStore);
+        }
+        return envelope.getValue();
+    }
+
+    private <V> CacheEnvelope<V> loadAndStore(String key, CachePolicy policy,
+                                              Function<V, Set<String>> tagger, Supplier<V> loader) {
+        long startedAt = System.currentTimeMillis();
+        V value = cacheMetrics.recordLoad(key, loader);
+        CacheEnvelope<V> envelope = CacheEnvelope.of(value, System.currentTimeMillis() - startedAt, policy.ttl());
+        if (value != null) {
+            cacheRepository.set(key, envelope, policy.physicalTtl(), tagger.apply(value));
+        }
+        return envelope;
+    }
+
+    /**
+     * 노드 내에서는 키당 하나의 갱신만, 노드 간에는 재구성 락을 얻은 노드만 갱신한다.
+     * 락을 얻지 못하면 다른 노드가 갱신 중이므로 건너뛴다.
+     */
+    private void refreshInBackground(String key, Supplier<?> loadAndStore) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                String lockKey = LOCK_PREFIX + key;
+                try {
+                    if (cacheRepository.tryLock(lockKey, LOCK_LEASE_TIME)) {
+                        try {
+                            loadAndStore.get();
+                        } finally {
+                            cacheRepository.unlock(lockKey);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("캐시 백그라운드 갱신 실패 - 키: {}, 에러: {}", key, e.getMessage());
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.remove(key);
+            log.warn("캐시 갱신 작업 큐 초과로 갱신 생략 - 키: {}", key);
+        }
+    }
+
+    /**
+     * 노드 내에서는 Future 공유로, 노드 간에는 Redis 락으로 재구성을 한 번으로 합친다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T loadOnce(String key, Supplier<Optional<T>> cacheReader, Supplier<T> loadAndStore) {
+        CompletableFuture<Object> myLoad = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(key, myLoad);
+
+        if (inFlight != null) {
+            return (T) awaitInFlight(key, inFlight, loadAndStore);
+        }
+
+        try {
+            T value = loadAcrossNodes(key, cacheReader, loadAndStore);
+            myLoad.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            myLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, myLoad);
+        }
+    }
+
+    private <T> Object awaitInFlight(String key, CompletableFuture<Object> inFlight, Supplier<T> loadAndStore) {
+        try {
+            return inFlight.get(LOCK_WAIT_TIME.toMillis() + LOCK_LEASE_TIME.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 재구성 대기 중 인터럽트 발생 - 키: " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("캐시 재구성 대기 시간 초과, 직접 조회 - 키: {}", key);
+            return loadAndStore.get();
+        }
+    }
+
+    private <T> T loadAcrossNodes(String key, Supplier<Optional<T>> cacheReader, Supplier<T> loadAndStore) {
+        String lockKey = LOCK_PREFIX + key;
+
+        if (cacheRepository.tryLock(lockKey, LOCK_LEASE_TIME)) {
+            try {
+                // 락 대기 사이 다른 노드가 이미 채웠을 수 있으므로 재확인
+                Optional<T> cached = cacheReader.get();
+                if (cached.isPresent()) {
+                    return cached.get();
+                }
+                log.debug("캐시 재구성 - 키: {}", key);
+                return loadAndStore.get();
+            } finally {
+                cacheRepository.unlock(lockKey);
+            }
+        }
+
+        // 다른 노드가 재구성 중이면 결과가 캐시에 올라올 때까지 대기
+        long deadline = System.nanoTime() + LOCK_WAIT_TIME.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            Optional<T> cached = cacheReader.get();
+            if (cached.isPresent()) {
+                log.debug("다른 노드의 캐시 재구성 결과 사용 - 키: {}", key);
+                return cached.get();
+            }
+        }
+
+        log.warn("다른 노드의 캐시 재구성 대기 시간 초과, 직접 조회 - 키: {}", key);
+        return loadAndStore.get();
+    }
+
     /**
      * 캐시 존재 여부 확인
      */
@@ -68,6 +387,13 @@ public class CacheUtil {
         cacheRepository.deleteByPattern(pattern);
     }
 
+    /**
+     * 태그에 등록된 모든 키 삭제
+     */
+    public void deleteByTag(String tag) {
+        cacheRepository.deleteByTag(tag);
+    }
+
     /**
      * TTL 조회
      */
@@ -0,0 +1,144 @@
+package com.loopers.support.cache.util;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 샘플링 기반 핫 키 감지기
+ * - 접근 중 sampleRate 비율만 Count-Min Sketch 에 기록하고, 추정 횟수를 1/sampleRate 로 보정한다.
+ * - window 마다 스케치를 새로 만들어 오래된 접근은 잊는다.
+ * - 보정한 추정 횟수가 threshold 이상인 키는 핫 키로 표시되며, 마지막 감지 후 두 window 동안 유지된다.
+ *
+ * Count-Min Sketch 는 실제보다 크게만 추정하므로 핫 키를 놓치지 않지만, 드물게 아닌 키를 핫 키로 볼 수 있다.
+ */
+public class HotKeyDetector {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 4096;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final double sampleRate;
+    private final long windowMillis;
+    private final long threshold;
+    private final int maxHotKeys;
+    private final LongSupplier clock;
+
+    private final AtomicReference<Window> current;
+    private final ConcurrentMap<String, HotKey> hotKeys = new ConcurrentHashMap<>();
+
+    public record HotKey(long estimatedCount, long detectedAtMillis) {
+    }
+
+    public HotKeyDetector(double sampleRate, long windowMillis, long threshold, int maxHotKeys) {
+        this(sampleRate, windowMillis, threshold, maxHotKeys, System::currentTimeMillis);
+    }
+
+    HotKeyDetector(double sampleRate, long windowMillis, long threshold, int maxHotKeys, LongSupplier clock) {
+        this.sampleRate = sampleRate;
+        this.windowMillis = windowMillis;
+        this.threshold = threshold;
+        this.maxHotKeys = maxHotKeys;
+        this.clock = clock;
+        this.current = new AtomicReference<>(new Window(clock.getAsLong()));
+    }
+
+    /**
+     * 접근을 (샘플링해) 기록하고 현재 핫 키 여부를 반환
+     */
+    public boolean record(String key) {
+        long now = clock.getAsLong();
+        Window window = currentWindow(now);
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return isHot(key, now);
+        }
+
+        long estimated = (long) (window.increment(key) / sampleRate);
+        if (estimated >= threshold && (hotKeys.containsKey(key) || hotKeys.size() < maxHotKeys)) {
+            hotKeys.put(key, new HotKey(estimated, now));
+            return true;
+        }
+        return isHot(key, now);
+    }
+
+    public boolean isHot(String key) {
+        return isHot(key, clock.getAsLong());
+    }
+
+    /**
+     * 현재 핫 키와 추정 조회 횟수 (추정 횟수 내림차순)
+     */
+    public Map<String, HotKey> hotKeys() {
+        long now = clock.getAsLong();
+        pruneExpired(now);
+        Map<String, HotKey> result = new LinkedHashMap<>();
+        hotKeys.entrySet().stream()
+                .sorted(Map.Entry.<String, HotKey>comparingByValue(Comparator.comparingLong(HotKey::estimatedCount)).reversed())
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private boolean isHot(String key, long now) {
+        HotKey hotKey = hotKeys.get(key);
+        return hotKey != null && !isExpired(hotKey, now);
+    }
+
+    private Window currentWindow(long now) {
+        Window window = current.get();
+        if (now - window.startedAtMillis < windowMillis) {
+            return window;
+        }
+        Window next = new Window(now);
+        if (current.compareAndSet(window, next)) {
+            pruneExpired(now);
+            return next;
+        }
+        return current.get();
+    }
+
+    private void pruneExpired(long now) {
+        hotKeys.values().removeIf(hotKey -> isExpired(hotKey, now));
+    }
+
+    private boolean isExpired(HotKey hotKey, long now) {
+        return now - hotKey.detectedAtMillis() >= windowMillis * 2;
+    }
+
+    private static final class Window {
+
+        private final long startedAtMillis;
+        private final AtomicIntegerArray counters = new AtomicIntegerArray(DEPTH * WIDTH);
+
+        private Window(long startedAtMillis) {
+            this.startedAtMillis = startedAtMillis;
+        }
+
+        /**
+         * 각 행의 카운터를 올리고 그중 최솟값(추정 횟수)을 반환
+         */
+        private int increment(String key) {
+            int hash = key.hashCode();
+            int min = Integer.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = row * WIDTH + Math.floorMod(mix(hash ^ SEEDS[row]), WIDTH);
+                min = Math.min(min, counters.incrementAndGet(index));
+            }
+            return min;
+        }
+
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x7FEB352D;
+            h ^= h >>> 15;
+            h *= 0x846CA68B;
+            h ^= h >>> 16;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.loopers.support.collection;
+
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * long 키 전용 불변 해시 맵 (open addressing, linear probing)
+ * - 키 박싱과 Entry 객체 없이 배열 두 개로 보관하여 조회 시 할당이 없다.
+ * - 생성 후 변경할 수 없으므로 여러 스레드가 락 없이 공유한다.
+ */
+public final class ImmutableLongMap<V> {
+
+    private static final ImmutableLongMap<?> EMPTY = new ImmutableLongMap<>(new long[1], new Object[1], 0);
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final long[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    private ImmutableLongMap(long[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> ImmutableLongMap<V> empty() {
+        return (ImmutableLongMap<V>) EMPTY;
+    }
+
+    /**
+     * 값 목록으로 생성 (키가 중복되면 나중 값이 남는다)
+     */
+    public static <V> ImmutableLongMap<V> of(Iterable<V> items, ToLongFunction<V> keyExtractor) {
+        int count = 0;
+        for (V ignored : items) {
+            count++;
+        }
+        if (count == 0) {
+            return empty();
+        }
+
+        int capacity = tableSizeFor((int) Math.ceil(count / LOAD_FACTOR));
+        long[] keys = new long[capacity];
+        Object[] values = new Object[capacity];
+        int mask = capacity - 1;
+        int size = 0;
+
+        for (V item : items) {
+            Objects.requireNonNull(item, "ImmutableLongMap 은 null 값을 허용하지 않습니다.");
+            long key = keyExtractor.applyAsLong(item);
+            int index = mix(key) & mask;
+            while (values[index] != null && keys[index] != key) {
+                index = (index + 1) & mask;
+            }
+            if (values[index] == null) {
+                size++;
+            }
+            keys[index] = key;
+            values[index] = item;
+        }
+        return new ImmutableLongMap<>(keys, values, size);
+    }
+
+    /**
+     * 키에 해당하는 값 조회 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = mix(key) & mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        return Math.max(n, 2);
+    }
+}
@@ -0,0 +1,134 @@
+package com.loopers.support.collection;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 long ID 목록을 압축해 보관하는 불변 포스팅 리스트
+ * - 인접 ID 의 차이(delta)를 varint 로 기록하여 ID 당 평균 1~3 바이트만 사용한다.
+ * - 순차 디코딩만 지원하며, 교집합은 정렬된 배열과의 병합으로 계산한다.
+ */
+public final class PostingList {
+
+    private static final PostingList EMPTY = new PostingList(new byte[0], 0);
+
+    private final byte[] data;
+    private final int size;
+
+    private PostingList(byte[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    public static PostingList empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int sizeInBytes() {
+        return data.length;
+    }
+
+    public long[] toArray() {
+        long[] ids = new long[size];
+        int position = 0;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    /**
+     * 정렬된 ids[0, length) 중 이 리스트에도 있는 ID 만 앞쪽에 남기고 남은 개수 반환
+     */
+    public int retainAll(long[] ids, int length) {
+        int retained = 0;
+        int position = 0;
+        int decoded = 0;
+        long current = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            long target = ids[i];
+            while (current < target && decoded < size) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                current = (decoded == 0 ? 0 : current) + delta;
+                decoded++;
+            }
+            if (current == target) {
+                ids[retained++] = target;
+            } else if (current < target) {
+                break;
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * 오름차순으로 ID 를 추가하며 바로 압축하는 빌더 (중복 ID 는 무시)
+     */
+    public static final class Builder {
+
+        private byte[] buffer = new byte[8];
+        private int length;
+        private int size;
+        private long last;
+
+        private Builder() {
+        }
+
+        public Builder add(long id) {
+            if (size > 0 && id <= last) {
+                if (id == last) {
+                    return this;
+                }
+                throw new IllegalArgumentException("ID 는 오름차순으로 추가해야 합니다: " + id);
+            }
+            long delta = size == 0 ? id : id - last;
+            ensureCapacity(10);
+            while ((delta & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            buffer[length++] = (byte) delta;
+            last = id;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public PostingList build() {
+            return size == 0 ? EMPTY : new PostingList(Arrays.copyOf(buffer, length), size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.loopers.support.http;
+
+/**
+ * 직렬화가 끝난 응답 본문 (캐시에 보관 후 그대로 출력)
+ * - body: JSON 바이트 (gzipped 이면 gzip 압축된 바이트)
+ * - etag: 압축 전 JSON 의 해시 (따옴표 포함, 응답에는 약한 ETag 로 내보냄)
+ */
+public record RenderedResponse(byte[] body, String etag, boolean gzipped) {
+
+    /**
+     * If-None-Match 헤더에 현재 ETag 가 포함되어 있는지 확인 (약한 비교)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,115 @@
+package com.loopers.support.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 본문을 미리 직렬화하고, 직렬화된 바이트를 그대로 응답으로 내보낸다.
+ * - If-None-Match 가 ETag 와 같으면 본문 없이 304
+ * - 같은 ETag 를 gzip/원본 두 인코딩에 함께 쓰므로 약한 ETag(W/) 로 내보낸다. (바이트 단위 동일성을 보장하지 않음)
+ * - gzip 으로 보관된 본문은 클라이언트가 gzip 을 받을 때만 그대로 전송 (아니면 해제 후 전송)
+ */
+@Component
+public class RenderedResponseWriter {
+
+    private static final String GZIP = "gzip";
+    private static final String WEAK_PREFIX = "W/";
+    private static final int ETAG_HASH_BYTES = 16;
+
+    private final ObjectMapper objectMapper;
+    private final int gzipThresholdBytes;
+
+    public RenderedResponseWriter(
+            ObjectMapper objectMapper,
+            @Value("${http.rendered-response.gzip-threshold-bytes:1024}") int gzipThresholdBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.gzipThresholdBytes = gzipThresholdBytes;
+    }
+
+    public RenderedResponse render(Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+        String etag = etag(json);
+        if (json.length < gzipThresholdBytes) {
+            return new RenderedResponse(json, etag, false);
+        }
+        return new RenderedResponse(gzip(json), etag, true);
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(RenderedResponse rendered, HttpServletRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(WEAK_PREFIX + rendered.etag());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (rendered.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = rendered.body();
+        if (rendered.gzipped()) {
+            if (acceptsGzip(request)) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            } else {
+                body = gunzip(body);
+            }
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, ETAG_HASH_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] input) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(input))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
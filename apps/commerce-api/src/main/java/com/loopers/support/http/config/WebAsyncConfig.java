@@ -0,0 +1,52 @@
+package com.loopers.support.http.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 비동기 응답(StreamingResponseBody) 설정
+ * - 전체 상품 내보내기처럼 오래 걸리는 응답이 이벤트 처리 스레드를 점유하지 않도록 전용 스레드에서 실행
+ * - 동시 스트리밍은 max-concurrency 건으로 제한하고, 초과 요청은 대기 없이 거절
+ * - 수 분이 걸릴 수 있으므로 서블릿 컨테이너 기본 타임아웃 대신 별도 타임아웃 적용
+ *
+ * 실행기를 빈으로 등록하면 @Async 기본 실행기 선택이 모호해지므로 이 설정 안에서만 관리한다.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor streamingTaskExecutor;
+    private final Duration timeout;
+
+    public WebAsyncConfig(
+            @Value("${http.streaming.max-concurrency:4}") int maxConcurrency,
+            @Value("${http.streaming.timeout:30m}") Duration timeout
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("Streaming-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        this.streamingTaskExecutor = executor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingTaskExecutor);
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamingTaskExecutor.shutdown();
+    }
+}
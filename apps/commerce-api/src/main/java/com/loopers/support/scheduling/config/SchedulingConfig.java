@@ -0,0 +1,36 @@
+package com.loopers.support.scheduling.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업 스케줄러 설정
+ * - taskScheduler: 인덱스/스냅샷 재구축처럼 오래 걸리는 주기 작업용 기본 스케줄러 (spring.task.scheduling.* 설정 적용)
+ * - likeCountFlushScheduler: 좋아요 수 반영/분할 행 합치기 전용, 짧은 주기 작업이 재구축 뒤에 밀리지 않도록 분리
+ *
+ * 스케줄러 빈을 직접 등록하면 Spring Boot 가 기본 스케줄러를 만들지 않으므로 기본 스케줄러도 함께 등록한다.
+ * (스케줄러 빈이 여럿이면 scheduler 를 지정하지 않은 @Scheduled 는 이름이 taskScheduler 인 빈을 사용)
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String LIKE_COUNT_FLUSH_SCHEDULER = "likeCountFlushScheduler";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(LIKE_COUNT_FLUSH_SCHEDULER)
+    public ThreadPoolTaskScheduler likeCountFlushScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        // 반영과 분할 행 합치기가 서로 기다리지 않도록 작업 수만큼
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("LikeCountFlush-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
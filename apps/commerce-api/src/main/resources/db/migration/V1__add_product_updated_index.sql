@@ -0,0 +1,2 @@
+-- 상품 페이지 인덱스 변경분 대조용 (수정 시각, 상품 ID) 인덱스
+CREATE INDEX idx_product_updated ON product (updated_at, id);
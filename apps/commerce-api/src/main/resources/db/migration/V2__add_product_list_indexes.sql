@@ -0,0 +1,11 @@
+-- 상품 목록 정렬 기준별 (필터, 정렬 컬럼, 상품 ID) 인덱스
+-- 커서 조건과 ORDER BY 를 인덱스 순서대로 처리해 filesort 없이 LIMIT 건수의 행만 읽음
+CREATE INDEX idx_product_likes ON product (likes_count, id);
+CREATE INDEX idx_product_brand_likes ON product (brand_id, likes_count, id);
+CREATE INDEX idx_product_category_likes ON product (category_id, likes_count, id);
+CREATE INDEX idx_product_created ON product (created_at, id);
+CREATE INDEX idx_product_brand_created ON product (brand_id, created_at, id);
+CREATE INDEX idx_product_category_created ON product (category_id, created_at, id);
+CREATE INDEX idx_product_price ON product (price, id);
+CREATE INDEX idx_product_brand_price ON product (brand_id, price, id);
+CREATE INDEX idx_product_category_price ON product (category_id, price, id);
@@ -0,0 +1,8 @@
+-- DB 에 반영한 좋아요 수 변경분 묶음 기록 (같은 묶음을 두 번 반영하지 않도록 확인)
+CREATE TABLE like_count_flush (
+    batch_id VARCHAR(64) PRIMARY KEY,
+    flushed_at DATETIME(6) NOT NULL
+);
+
+-- 보관 기간이 지난 기록 정리용
+CREATE INDEX idx_like_count_flush_flushed_at ON like_count_flush (flushed_at);
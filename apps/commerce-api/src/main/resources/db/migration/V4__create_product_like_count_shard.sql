@@ -0,0 +1,10 @@
+-- 상품별 좋아요 수 분할 행 (상품당 shard_no 0 ~ N-1, 변경분은 INSERT ... ON DUPLICATE KEY UPDATE 로 누적)
+CREATE TABLE product_like_count_shard (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    shard_no INTEGER NOT NULL,
+    cnt BIGINT NOT NULL DEFAULT 0,
+
+    -- 유니크 (상품별 분할 행 번호, 누적 시 중복 키 기준이며 상품별 합계/잠금 조회에도 사용)
+    UNIQUE KEY uk_plcs_product_shard (product_id, shard_no)
+);
@@ -0,0 +1,2 @@
+-- 사용자별 좋아요 목록 커서 조회 (사용자, 좋아요 시각, 좋아요 ID) 인덱스, 조회 컬럼(product_id)까지 포함해 인덱스만 읽는다
+CREATE INDEX idx_likes_user_created ON likes (user_id, created_at, id, product_id);
@@ -0,0 +1,243 @@
+package com.loopers;
+
+import com.loopers.application.like.LikeApplicationService;
+import com.loopers.application.like.LikedProductInfo;
+import com.loopers.application.product.ProductApplicationService;
+import com.loopers.application.product.ProductFacetInfo;
+import com.loopers.application.product.ProductOutputInfo;
+import com.loopers.application.product.ProductPageIndexBuilder;
+import com.loopers.application.product.ProductQuery;
+import com.loopers.domain.brand.BrandModel;
+import com.loopers.domain.catalog.CatalogSnapshotService;
+import com.loopers.domain.category.CategoryModel;
+import com.loopers.domain.product.ProductFacetIndex;
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductNameIndex;
+import com.loopers.domain.product.ProductPageIndex;
+import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.user.BirthDate;
+import com.loopers.domain.user.Email;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.UserId;
+import com.loopers.domain.user.UserModel;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.category.CategoryJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 운영(application.yml)과 같은 기능 설정으로 상품 목록/좋아요 흐름 확인
+ * 테스트 프로필은 캐시/인덱스/버퍼를 모두 끄므로, 여기서는 운영 값으로 다시 켠다 (읽기 모델은 운영에서도 꺼져 있음).
+ * 색인은 기동 시점의 빈 DB 로 구축되므로 데이터를 넣은 뒤 주기 작업과 같은 경로로 다시 구축한다.
+ */
+@SpringBootTest(properties = {
+        "cache.type=tiered",
+        "cache.hot-key.enabled=true",
+        "catalog.snapshot.enabled=true",
+        "product.page-index.enabled=true",
+        "product.name-index.enabled=true",
+        "product.list-view.enabled=false",
+        "product.facet-index.enabled=true",
+        "like.write-behind.enabled=true",
+        "like.count-shards.enabled=true",
+        "like.liked-cache.enabled=true"
+})
+@Import(MySqlTestContainersConfig.class)
+class CommerceApiProductionFeaturesIntegrationTest {
+
+    private static final UserId USER_ID = UserId.of("seyoung");
+
+    @Autowired
+    private ProductApplicationService productApplicationService;
+
+    @Autowired
+    private LikeApplicationService likeApplicationService;
+
+    @Autowired
+    private ProductPageIndexBuilder productPageIndexBuilder;
+
+    @Autowired
+    private ProductPageIndex productPageIndex;
+
+    @Autowired
+    private ProductNameIndex productNameIndex;
+
+    @Autowired
+    private ProductFacetIndex productFacetIndex;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private BrandModel nike;
+    private CategoryModel shoes;
+    private ProductModel airMax;
+    private ProductModel airForce;
+    private ProductModel superstar;
+
+    @BeforeEach
+    void setUp() {
+        // 기동 시 비동기로 시작된 빈 DB 구축이 아래 재구축을 덮어쓰지 않도록 먼저 끝나기를 기다림
+        await().atMost(Duration.ofSeconds(10)).until(() -> productNameIndex.isReady() && productFacetIndex.isReady());
+
+        nike =brandJpaRepository.save(BrandModel.of("나이키", "스포츠 브랜드"));
+        BrandModel adidas = brandJpaRepository.save(BrandModel.of("아디다스", "스포츠 브랜드"));
+        shoes = categoryJpaRepository.save(CategoryModel.of("신발", "신발 카테고리"));
+        CategoryModel apparel = categoryJpaRepository.save(CategoryModel.of("의류", "의류 카테고리"));
+        userRepository.save(UserModel.of(USER_ID, Email.of("seyoung@loopers.com"), Gender.FEMALE, BirthDate.of("1990-01-01")));
+
+        airMax = productJpaRepository.save(product(nike, shoes, "나이키 에어맥스", 150000, 10));
+        airForce = productJpaRepository.save(product(nike, apparel, "나이키 에어포스 후드", 90000, 30));
+        superstar = productJpaRepository.save(product(adidas, shoes, "아디다스 슈퍼스타", 120000, 20));
+
+        catalogSnapshotService.refresh();
+        productPageIndexBuilder.reconcilePeriodically();
+        productNameIndex.rebuild();
+        productFacetIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private static ProductModel product(BrandModel brand, CategoryModel category, String name, int price, int likesCount) {
+        return ProductModel.builder()
+                .brandId(brand.getId())
+                .categoryId(category.getId())
+                .name(name)
+                .price(price)
+                .stock(10)
+                .description("운영 설정 테스트용 상품")
+                .likesCount(likesCount)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("상품 목록을 조회할 때,")
+    class Get_ProductList {
+
+        @Test
+        @DisplayName("브랜드 필터의 좋아요순 목록을 페이지 인덱스에서 조회하고 브랜드/카테고리명은 스냅샷에서 채운다.")
+        void 페이지_인덱스와_스냅샷으로_조회한다() {
+            // given
+            ProductQuery query = ProductQuery.from(null, nike.getId(), null, ProductSortBy.LIKES, 20, null, null, null, null);
+
+            // when
+            List<ProductOutputInfo> products = productApplicationService.getProductList(query);
+
+            // then
+            assertThat(productPageIndex.isReady()).isTrue();
+            assertThat(products).extracting(ProductOutputInfo::id, ProductOutputInfo::brandName, ProductOutputInfo::likeCount)
+                    .containsExactly(
+                            tuple(airForce.getId(), "나이키", 30),
+                            tuple(airMax.getId(), "나이키", 10)
+                    );
+        }
+
+        @Test
+        @DisplayName("상품명 검색은 색인 후보 안에서 조회한다.")
+        void 상품명_색인으로_검색한다() {
+            // given
+            ProductQuery query = ProductQuery.from("에어", null, null, ProductSortBy.LIKES, 20, null, null, null, null);
+
+            // when
+            List<ProductOutputInfo> products = productApplicationService.getProductList(query);
+
+            // then
+            assertThat(productNameIndex.isReady()).isTrue();
+            assertThat(products).extracting(ProductOutputInfo::id).containsExactly(airForce.getId(), airMax.getId());
+        }
+
+        @Test
+        @DisplayName("집계는 브랜드 필터 범위의 카테고리별 상품 수를 이름과 함께 반환한다.")
+        void 필터_범위의_집계를_반환한다() {
+            // when
+            Optional<ProductFacetInfo> facets = productApplicationService.getProductFacets(nike.getId(), null);
+
+            // then
+            assertThat(facets).hasValueSatisfying(info -> {
+                assertThat(info.filtered()).isTrue();
+                assertThat(info.categories()).extracting(ProductFacetInfo.Entry::name, ProductFacetInfo.Entry::count)
+                        .containsExactlyInAnyOrder(tuple("신발", 1), tuple("의류", 1));
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요를 추가/취소할 때,")
+    class Like_And_Unlike {
+
+        @Test
+        @DisplayName("좋아요 여부는 집합 캐시로 바로 답하고, 좋아요 수는 버퍼를 거쳐 상품 행에 반영된다.")
+        void 좋아요_여부와_좋아요_수가_반영된다() {
+            // when
+            likeApplicationService.like(USER_ID, superstar.getId());
+
+            // then
+            assertThat(likeApplicationService.isLiked(USER_ID, superstar.getId())).isTrue();
+            assertThat(likeApplicationService.getLikedProductIds(USER_ID, List.of(airMax.getId(), superstar.getId())))
+                    .containsExactly(superstar.getId());
+            assertThat(likeApplicationService.getLikedProducts(USER_ID, null, 20).products())
+                    .extracting(LikedProductInfo::product)
+                    .extracting(ProductOutputInfo::id)
+                    .containsExactly(superstar.getId());
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    assertThat(productJpaRepository.findById(superstar.getId()).orElseThrow().getLikesCount()).isEqualTo(21));
+        }
+
+        @Test
+        @DisplayName("취소하면 좋아요 여부가 바로 바뀌고 좋아요 수도 원래대로 돌아온다.")
+        void 취소가_반영된다() {
+            // given
+            likeApplicationService.like(USER_ID, superstar.getId());
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    assertThat(productJpaRepository.findById(superstar.getId()).orElseThrow().getLikesCount()).isEqualTo(21));
+
+            // when
+            likeApplicationService.unlike(USER_ID, superstar.getId());
+
+            // then
+            assertThat(likeApplicationService.isLiked(USER_ID, superstar.getId())).isFalse();
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    assertThat(productJpaRepository.findById(superstar.getId()).orElseThrow().getLikesCount()).isEqualTo(20));
+        }
+    }
+}
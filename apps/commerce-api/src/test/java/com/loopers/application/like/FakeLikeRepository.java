@@ -1,19 +1,30 @@
 package com.loopers.application.like;
 
+import com.loopers.domain.like.LikeKey;
 import com.loopers.domain.like.LikeModel;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProduct;
+import com.loopers.domain.like.LikedProductCursor;
 import com.loopers.domain.user.UserId;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class FakeLikeRepository implements LikeRepository {
     
     private final Map<String, LikeModel> likes = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
     
     @Override
     public LikeModel save(LikeModel like) {
+        if (like.getId() == null) {
+            ReflectionTestUtils.setField(like, "id", sequence.incrementAndGet());
+            ReflectionTestUtils.setField(like, "createdAt", ZonedDateTime.now());
+        }
         String key = generateKey(like.getUserId(), like.getProductId());
         likes.put(key, like);
         return like;
@@ -31,6 +42,18 @@ public class FakeLikeRepository implements LikeRepository {
         return likes.containsKey(key);
     }
     
+    @Override
+    public boolean isLiked(UserId userId, Long productId, boolean loadOnMiss) {
+        return existsByUserIdAndProductId(userId, productId);
+    }
+    
+    @Override
+    public Set<Long> findLikedProductIds(UserId userId, Collection<Long> productIds, boolean loadOnMiss) {
+        return productIds.stream()
+                .filter(productId -> likes.containsKey(generateKey(userId, productId)))
+                .collect(Collectors.toSet());
+    }
+    
     @Override
     public Optional<LikeModel> findByUserIdAndProductId(UserId userId, Long productId) {
         String key = generateKey(userId, productId);
@@ -51,6 +74,35 @@ public class FakeLikeRepository implements LikeRepository {
                 .count();
     }
     
+    @Override
+    public List<LikedProduct> findLikedProducts(UserId userId, LikedProductCursor cursor, int size) {
+        Comparator<LikeModel> latestFirst = Comparator.comparing(LikeModel::getCreatedAt)
+                .thenComparing(LikeModel::getId)
+                .reversed();
+        return likes.values().stream()
+                .filter(like -> like.getUserId().equals(userId))
+                .filter(like -> cursor == null || like.getCreatedAt().isBefore(cursor.likedAt())
+                        || (like.getCreatedAt().isEqual(cursor.likedAt()) && like.getId() < cursor.likeId()))
+                .sorted(latestFirst)
+                .limit(size)
+                .map(like -> new LikedProduct(like.getId(), like.getProductId(), like.getCreatedAt()))
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<LikeKey> findKeysAfter(LikeKey after, int size) {
+        Comparator<LikeKey> keyOrder = Comparator.comparing(LikeKey::userId)
+                .thenComparing(LikeKey::likedAt)
+                .thenComparing(LikeKey::likeId);
+        return likes.values().stream()
+                .filter(like -> like.getId() != null)
+                .map(like -> new LikeKey(like.getUserId().getValue(), like.getProductId(), like.getCreatedAt(), like.getId()))
+                .filter(key -> after == null || keyOrder.compare(key, after) > 0)
+                .sorted(keyOrder)
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+    
     private String generateKey(UserId userId, Long productId) {
         return userId.getValue() + ":" + productId;
     }
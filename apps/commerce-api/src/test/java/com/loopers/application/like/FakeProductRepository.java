@@ -1,14 +1,18 @@
 package com.loopers.application.like;
 
 import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductRangeFilter;
 import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSelectivity;
 import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSummary;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class FakeProductRepository implements ProductRepository {
     
@@ -40,11 +44,12 @@ public class FakeProductRepository implements ProductRepository {
     }
     
     @Override
-    public List<ProductModel> findSearchProductList(int size, String productName, Long brandId, Long categoryId, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
+    public List<ProductSummary> findSearchProductList(int size, String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter, ProductSelectivity selectivity, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
         List<ProductModel> filteredProducts = products.values().stream()
                 .filter(product -> productName == null || product.getName().contains(productName))
                 .filter(product -> brandId == null || Objects.equals(product.getBrandId(), brandId))
                 .filter(product -> categoryId == null || Objects.equals(product.getCategoryId(), categoryId))
+                .filter(product -> rangeFilter.matches(product.getPrice(), product.getStock()))
                 .collect(Collectors.toList());
         
         // 정렬 적용
@@ -59,6 +64,16 @@ public class FakeProductRepository implements ProductRepository {
         
         // 페이지 사이즈만큼 제한
         return filteredProducts.stream()
+                .limit(size)
+                .map(ProductSummary::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ProductSummary> findSearchProductListWithin(Collection<Long> productIds, long indexedUpToId, int size, String productName, Long brandId, Long categoryId, ProductRangeFilter rangeFilter, ProductSortBy sortBy, Long lastId, Integer lastLikesCount, Integer lastPrice, ZonedDateTime lastCreatedAt) {
+        Set<Long> candidates = new HashSet<>(productIds);
+        return findSearchProductList(Integer.MAX_VALUE, productName, brandId, categoryId, rangeFilter, null, sortBy, lastId, lastLikesCount, lastPrice, lastCreatedAt).stream()
+                .filter(product -> candidates.contains(product.id()) || product.id() > indexedUpToId)
                 .limit(size)
                 .collect(Collectors.toList());
     }
@@ -113,6 +128,15 @@ public class FakeProductRepository implements ProductRepository {
         products.put(product.getId(), product);
         return product;
     }
+
+    @Override
+    public void addLikesCount(Long productId, int delta) {
+        ProductModel product = products.get(productId);
+        if (product != null) {
+            int likesCount = Math.max(0, product.getLikesCount() + delta);
+            ReflectionTestUtils.setField(product, "likesCount", likesCount);
+        }
+    }
     
     @Override
     public List<ProductModel> findAllByIds(List<Long> ids) {
@@ -121,7 +145,43 @@ public class FakeProductRepository implements ProductRepository {
                 .filter(Objects::nonNull)
                 .toList();
     }
+
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> ids) {
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(ProductSummary::from)
+                .toList();
+    }
+
+    @Override
+    public List<ProductModel> findAllAfterId(Long lastId, int size) {
+        return products.values().stream()
+                .filter(product -> lastId == null || product.getId() > lastId)
+                .sorted(Comparator.comparing(ProductModel::getId))
+                .limit(size)
+                .toList();
+    }
+
+    @Override
+    public List<ProductModel> findAllUpdatedAfter(ZonedDateTime updatedAt, Long lastId, int size) {
+        return products.values().stream()
+                .filter(product -> product.getUpdatedAt() != null)
+                .filter(product -> product.getUpdatedAt().isAfter(updatedAt)
+                        || (product.getUpdatedAt().isEqual(updatedAt) && product.getId() > lastId))
+                .sorted(Comparator.comparing(ProductModel::getUpdatedAt).thenComparing(ProductModel::getId))
+                .limit(size)
+                .toList();
+    }
     
+    @Override
+    public Stream<ProductSummary> streamAllWithCatalogNames() {
+        return products.values().stream()
+                .sorted(Comparator.comparing(ProductModel::getId))
+                .map(ProductSummary::from);
+    }
+
     private List<ProductModel> sortProducts(List<ProductModel> products, ProductSortBy sortBy) {
         return switch (sortBy) {
             case LATEST -> products.stream()
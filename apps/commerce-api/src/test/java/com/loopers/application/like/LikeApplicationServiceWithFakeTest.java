@@ -1,5 +1,8 @@
 package com.loopers.application.like;
 
+import com.loopers.application.product.ProductApplicationService;
+import com.loopers.application.product.ProductOutputInfo;
+import com.loopers.domain.catalog.CatalogEntry;
 import com.loopers.domain.like.LikeModel;
 import com.loopers.domain.like.ProductLikeDomainService;
 import com.loopers.domain.like.event.ProductLikePublisher;
@@ -16,6 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +33,9 @@ class LikeApplicationServiceWithFakeTest {
     @Mock
     private ProductLikeDomainService productLikeHandler;
     
+    @Mock
+    private ProductApplicationService productApplicationService;
+
     @Mock
     private ProductLikePublisher likeEventPublisher;
     
@@ -50,8 +58,7 @@ class LikeApplicationServiceWithFakeTest {
                 fakeLikeRepository,
                 fakeProductRepository,
                 productLikeHandler,
-                null,
-                null,
+                productApplicationService,
                 likeEventPublisher,
                 unlikeEventPublisher
         );
@@ -224,4 +231,76 @@ class LikeApplicationServiceWithFakeTest {
             verify(productLikeHandler).isLiked(productId, userId);
         }
     }
-} 
+
+    @Nested
+    @DisplayName("좋아요 목록 조회 시")
+    class Get_Liked_Products {
+
+        @BeforeEach
+        void setUp() {
+            // 상품 일괄 조회는 요청 순서대로 있는 상품만 반환
+            when(productApplicationService.getProductDetails(any())).thenAnswer(invocation -> {
+                List<Long> ids = invocation.getArgument(0);
+                return fakeProductRepository.findAllByIds(ids).stream()
+                        .map(productModel -> ProductOutputInfo.of(productModel,
+                                new CatalogEntry(1L, "브랜드", null), new CatalogEntry(1L, "카테고리", null)))
+                        .toList();
+            });
+        }
+
+        @Test
+        @DisplayName("최근 좋아요 순으로 커서를 따라 나누어 조회한다.")
+        void getLikedProductsByCursor() {
+            // given
+            ProductModel second = fakeProductRepository.createProduct("두번째 상품", "설명", 20000, 10);
+            ProductModel third = fakeProductRepository.createProduct("세번째 상품", "설명", 30000, 10);
+            fakeLikeRepository.save(LikeModel.create(userId, product.getId()));
+            fakeLikeRepository.save(LikeModel.create(userId, second.getId()));
+            fakeLikeRepository.save(LikeModel.create(userId, third.getId()));
+
+            // when
+            LikedProductPageInfo firstPage = likeApplicationService.getLikedProducts(userId, null, 2);
+            LikedProductPageInfo lastPage = likeApplicationService.getLikedProducts(userId, firstPage.nextCursor(), 2);
+
+            // then
+            assertThat(firstPage.products()).extracting(info -> info.product().id())
+                    .containsExactly(third.getId(), second.getId());
+            assertThat(firstPage.products().get(0).product().brandName()).isEqualTo("브랜드");
+            assertThat(firstPage.nextCursor()).isNotNull();
+            assertThat(lastPage.products()).extracting(info -> info.product().id())
+                    .containsExactly(product.getId());
+            assertThat(lastPage.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("삭제된 상품은 건너뛰고 다음 페이지 커서는 유지한다.")
+        void skipDeletedProduct() {
+            // given
+            fakeLikeRepository.save(LikeModel.create(userId, product.getId()));
+            fakeLikeRepository.save(LikeModel.create(userId, 999L));
+            fakeLikeRepository.save(LikeModel.create(userId, product.getId() + 1000));
+
+            // when
+            LikedProductPageInfo page = likeApplicationService.getLikedProducts(userId, null, 2);
+
+            // then
+            assertThat(page.products()).isEmpty();
+            assertThat(page.nextCursor()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 목록 페이지 크기 검증 시")
+    class Liked_Products_Page_Size {
+
+        @Test
+        @DisplayName("페이지 크기가 1~100 을 벗어나면 BAD_REQUEST 예외가 발생하고 상품을 조회하지 않는다.")
+        void invalidPageSize() {
+            // when & then
+            assertThatThrownBy(() -> likeApplicationService.getLikedProducts(userId, null, 101))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorType", ErrorType.BAD_REQUEST);
+            verifyNoInteractions(productApplicationService);
+        }
+    }
+}
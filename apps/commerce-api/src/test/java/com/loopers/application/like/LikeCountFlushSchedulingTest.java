@@ -0,0 +1,125 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.brand.BrandModel;
+import com.loopers.domain.category.CategoryModel;
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.user.BirthDate;
+import com.loopers.domain.user.Email;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.UserId;
+import com.loopers.domain.user.UserModel;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.category.CategoryJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 기본 스케줄러가 오래 걸리는 재구축 작업으로 모두 점유되어도 좋아요 수 반영은 전용 스케줄러에서 계속되는지 확인
+ */
+@SpringBootTest(properties = {
+        "like.write-behind.enabled=true",
+        "like.write-behind.flush-interval=100"
+})
+@Import(MySqlTestContainersConfig.class)
+class LikeCountFlushSchedulingTest {
+
+    private static final UserId USER_ID = UserId.of("seyoung");
+
+    @Autowired
+    @Qualifier("taskScheduler")
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    private LikeApplicationService likeApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductJpaRepository productRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private final CountDownLatch rebuildFinished = new CountDownLatch(1);
+
+    private ProductModel product;
+
+    @BeforeEach
+    void setUp() {
+        BrandModel brand = brandJpaRepository.save(BrandModel.of("테스트브랜드", "테스트 브랜드입니다"));
+        CategoryModel category = categoryJpaRepository.save(CategoryModel.of("테스트카테고리", "테스트 카테고리입니다"));
+        userRepository.save(UserModel.of(USER_ID, Email.of("seyoung@loopers.com"), Gender.FEMALE, BirthDate.of("1990-01-01")));
+        product = productRepository.save(ProductModel.builder()
+                .brandId(brand.getId())
+                .categoryId(category.getId())
+                .name("테스트 상품")
+                .price(100000)
+                .stock(10)
+                .description("스케줄러 테스트용 상품")
+                .likesCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        rebuildFinished.countDown();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("재구축 작업이 기본 스케줄러 스레드를 모두 점유하고 있어도 좋아요 수 변경분은 주기대로 DB 에 반영된다.")
+    void 재구축_중에도_좋아요_수가_반영된다() throws InterruptedException {
+        // given
+        int poolSize = taskScheduler.getPoolSize();
+        CountDownLatch rebuildStarted = new CountDownLatch(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            taskScheduler.execute(() -> {
+                rebuildStarted.countDown();
+                try {
+                    rebuildFinished.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(rebuildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        likeApplicationService.like(USER_ID, product.getId());
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(productRepository.findById(product.getId()).orElseThrow().getLikesCount()).isEqualTo(1));
+        assertThat(rebuildFinished.getCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,277 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeCountBatch;
+import com.loopers.domain.like.LikeCountBuffer;
+import com.loopers.domain.like.LikeCountFlushRepository;
+import com.loopers.domain.like.LikeCountShardRepository;
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductPageIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountFlusherTest {
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private LikeCountShardRepository likeCountShardRepository;
+
+    @Mock
+    private ProductPageIndex productPageIndex;
+
+    private FakeProductRepository productRepository;
+    private FakeFlushRepository flushRepository;
+    private LikeCountFlusher likeCountFlusher;
+
+    private ProductModel product1;
+    private ProductModel product2;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new FakeProductRepository();
+        flushRepository = new FakeFlushRepository();
+        likeCountFlusher = new LikeCountFlusher(likeCountBuffer, likeCountShardRepository,
+                new LikeCountFlushProcessor(productRepository, flushRepository, likeCountShardRepository),
+                flushRepository, productRepository, productPageIndex);
+
+        product1 = productRepository.save(new ProductModel(1L, 1L, "상품1", "설명", 1000, 10, 5));
+        product2 = productRepository.save(new ProductModel(1L, 1L, "상품2", "설명", 1000, 10, 1));
+    }
+
+    @Nested
+    @DisplayName("누적된 변경분 반영 시")
+    class Flush {
+
+        @BeforeEach
+        void setUp() {
+            when(likeCountBuffer.isEnabled()).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("상품별로 합친 변경분을 반영하고 묶음을 완료한다.")
+        void 변경분_반영_후_완료() {
+            // given
+            LikeCountBatch batch = batch(System.currentTimeMillis(), Map.of(product1.getId(), 3L, product2.getId(), -1L));
+            when(likeCountBuffer.unfinishedBatches()).thenReturn(List.of());
+            when(likeCountBuffer.claim()).thenReturn(Optional.of(batch));
+
+            // when
+            likeCountFlusher.flushPeriodically();
+
+            // then
+            assertThat(product1.getLikesCount()).isEqualTo(8);
+            assertThat(product2.getLikesCount()).isEqualTo(0);
+            assertThat(flushRepository.isFlushed(batch.batchId())).isTrue();
+            verify(likeCountBuffer).complete(batch.batchId());
+            verify(productPageIndex).index(any());
+        }
+
+        @Test
+        @DisplayName("좋아요 수는 0 미만으로 내려가지 않는다.")
+        void 좋아요_수_하한() {
+            // given
+            LikeCountBatch batch = batch(System.currentTimeMillis(), Map.of(product2.getId(), -5L));
+            when(likeCountBuffer.unfinishedBatches()).thenReturn(List.of());
+            when(likeCountBuffer.claim()).thenReturn(Optional.of(batch));
+
+            // when
+            likeCountFlusher.flushPeriodically();
+
+            // then
+            assertThat(product2.getLikesCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("이미 반영된 묶음은 다시 반영하지 않고 완료만 한다.")
+        void 이미_반영된_묶음() {
+            // given
+            LikeCountBatch batch = batch(System.currentTimeMillis(), Map.of(product1.getId(), 3L));
+            flushRepository.markFlushed(batch.batchId());
+            when(likeCountBuffer.unfinishedBatches()).thenReturn(List.of());
+            when(likeCountBuffer.claim()).thenReturn(Optional.of(batch));
+
+            // when
+            likeCountFlusher.flushPeriodically();
+
+            // then
+            assertThat(product1.getLikesCount()).isEqualTo(5);
+            verify(likeCountBuffer).complete(batch.batchId());
+            verify(productPageIndex, never()).index(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("완료되지 않은 묶음 복구 시")
+    class Recover {
+
+        @BeforeEach
+        void setUp() {
+            when(likeCountBuffer.isEnabled()).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("일정 시간이 지난 묶음만 이어서 반영한다.")
+        void 오래된_묶음만_복구() {
+            // given
+            long now = System.currentTimeMillis();
+            LikeCountBatch orphan = batch(now - LikeCountFlusher.ORPHAN_AFTER_MILLIS - 1, Map.of(product1.getId(), 2L));
+            LikeCountBatch inFlight = batch(now, Map.of(product2.getId(), 4L));
+            when(likeCountBuffer.unfinishedBatches()).thenReturn(List.of(orphan, inFlight));
+            when(likeCountBuffer.claim()).thenReturn(Optional.empty());
+
+            // when
+            likeCountFlusher.flushPeriodically();
+
+            // then
+            assertThat(product1.getLikesCount()).isEqualTo(7);
+            assertThat(product2.getLikesCount()).isEqualTo(1);
+            verify(likeCountBuffer).complete(orphan.batchId());
+            verify(likeCountBuffer, never()).complete(inFlight.batchId());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 먼저 반영해 중복 키가 발생하면 반영 없이 완료한다.")
+        void 동시_반영_중복_키() {
+            // given
+            LikeCountBatch batch = batch(System.currentTimeMillis(), Map.of(product1.getId(), 3L));
+            flushRepository.failOnMark = true;
+            when(likeCountBuffer.unfinishedBatches()).thenReturn(List.of());
+            when(likeCountBuffer.claim()).thenReturn(Optional.of(batch));
+
+            // when
+            likeCountFlusher.flushPeriodically();
+
+            // then
+            assertThat(product1.getLikesCount()).isEqualTo(5);
+            verify(likeCountBuffer).complete(batch.batchId());
+        }
+    }
+
+    @Nested
+    @DisplayName("반영 기록 정리 시")
+    class PurgeFlushRecords {
+
+        @BeforeEach
+        void setUp() {
+            when(likeCountBuffer.isEnabled()).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지난 기록을 지우되, 버퍼에 남은 묶음의 기록은 남긴다.")
+        void 오래된_기록만_정리() {
+            // given
+            ZonedDateTime expired = ZonedDateTime.now().minus(LikeCountFlusher.FLUSH_RECORD_RETENTION).minusMinutes(1);
+            flushRepository.record("old-done", expired);
+            flushRepository.record("old-unfinished", expired);
+            flushRepository.record("recent", ZonedDateTime.now());
+            LikeCountBatch unfinished = new LikeCountBatch("old-unfinished", Map.of(product1.getId(), 1L));
+            when(likeCountBuffer.unfinishedBatches()).thenReturn(List.of(unfinished));
+
+            // when
+            likeCountFlusher.purgeFlushRecordsPeriodically();
+
+            // then
+            assertThat(flushRepository.isFlushed("old-done")).isFalse();
+            assertThat(flushRepository.isFlushed("old-unfinished")).isTrue();
+            assertThat(flushRepository.isFlushed("recent")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("분할 행 합치기 시")
+    class CompactShards {
+
+        @Test
+        @DisplayName("상품별 분할 행 합계를 상품의 좋아요 수에 더한다.")
+        void 분할_행_합계_반영() {
+            // given
+            when(likeCountShardRepository.isEnabled()).thenReturn(true);
+            when(likeCountShardRepository.findProductIds(anyInt())).thenReturn(List.of(product1.getId(), product2.getId()));
+            when(likeCountShardRepository.drain(product1.getId())).thenReturn(3L);
+            when(likeCountShardRepository.drain(product2.getId())).thenReturn(0L);
+
+            // when
+            likeCountFlusher.compactShardsPeriodically();
+
+            // then
+            assertThat(product1.getLikesCount()).isEqualTo(8);
+            assertThat(product2.getLikesCount()).isEqualTo(1);
+            verify(productPageIndex).index(List.of(product1));
+        }
+
+        @Test
+        @DisplayName("분할 행을 사용하지 않으면 아무것도 하지 않는다.")
+        void 비활성화() {
+            // given
+            when(likeCountShardRepository.isEnabled()).thenReturn(false);
+
+            // when
+            likeCountFlusher.compactShardsPeriodically();
+
+            // then
+            verify(likeCountShardRepository, never()).findProductIds(anyInt());
+        }
+    }
+
+    private static LikeCountBatch batch(long createdAtMillis, Map<Long, Long> deltas) {
+        return new LikeCountBatch(createdAtMillis + "-" + deltas.hashCode(), deltas);
+    }
+
+    private static class FakeFlushRepository implements LikeCountFlushRepository {
+
+        private final Map<String, ZonedDateTime> flushed = new HashMap<>();
+        private boolean failOnMark;
+
+        @Override
+        public boolean isFlushed(String batchId) {
+            return flushed.containsKey(batchId);
+        }
+
+        @Override
+        public void markFlushed(String batchId) {
+            if (failOnMark || flushed.putIfAbsent(batchId, ZonedDateTime.now()) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry: " + batchId);
+            }
+        }
+
+        @Override
+        public int deleteFlushedBefore(ZonedDateTime cutoff, Collection<String> keepBatchIds) {
+            Set<String> expired = new HashSet<>();
+            flushed.forEach((batchId, flushedAt) -> {
+                if (flushedAt.isBefore(cutoff) && !keepBatchIds.contains(batchId)) {
+                    expired.add(batchId);
+                }
+            });
+            expired.forEach(flushed::remove);
+            return expired.size();
+        }
+
+        void record(String batchId, ZonedDateTime flushedAt) {
+            flushed.put(batchId, flushedAt);
+        }
+    }
+}
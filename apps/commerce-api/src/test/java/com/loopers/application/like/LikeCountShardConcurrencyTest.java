@@ -0,0 +1,155 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.brand.BrandModel;
+import com.loopers.domain.category.CategoryModel;
+import com.loopers.domain.like.LikeCountShardRepository;
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.user.BirthDate;
+import com.loopers.domain.user.Email;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.UserId;
+import com.loopers.domain.user.UserModel;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.category.CategoryJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 분할 행을 켠 상태의 동시 좋아요 테스트
+ * LikeApplicationServiceOptimisticLockTest 와 같은 시나리오지만, 상품 행 대신 분할 행에 변경분을 쌓으므로
+ * 낙관적 락 충돌로 인한 재시도 없이 합치기 후 같은 좋아요 수가 되어야 한다.
+ * 주기 합치기가 테스트 도중 끼어들지 않도록 주기를 길게 두고 직접 호출한다.
+ */
+@SpringBootTest(properties = {
+        "like.count-shards.enabled=true",
+        "like.count-shards.compact-interval=3600000"
+})
+@Import(MySqlTestContainersConfig.class)
+class LikeCountShardConcurrencyTest {
+
+    private static final int THREAD_COUNT = 10;
+
+    @Autowired
+    private LikeApplicationService likeApplicationService;
+
+    @Autowired
+    private LikeCountFlusher likeCountFlusher;
+
+    @Autowired
+    private LikeCountShardRepository likeCountShardRepository;
+
+    @Autowired
+    private RetryRegistry retryRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductJpaRepository productRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private CategoryJpaRepository categoryJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private ProductModel product;
+
+    @BeforeEach
+    void setUp() {
+        BrandModel brand = brandJpaRepository.save(BrandModel.of("테스트브랜드", "테스트 브랜드입니다"));
+        CategoryModel category = categoryJpaRepository.save(CategoryModel.of("테스트카테고리", "테스트 카테고리입니다"));
+
+        for (int i = 1; i <= THREAD_COUNT; i++) {
+            userRepository.save(UserModel.of(
+                    UserId.of("seyoung" + i),
+                    Email.of("seyoung" + i + "@loopers.com"),
+                    Gender.FEMALE,
+                    BirthDate.of("1990-01-01")
+            ));
+        }
+
+        product = productRepository.save(ProductModel.builder()
+                .brandId(brand.getId())
+                .categoryId(category.getId())
+                .name("테스트 상품")
+                .price(100000)
+                .stock(10)
+                .description("분할 행 테스트용 상품")
+                .likesCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("[분할 행] 동일한 상품에 여러명이 동시에 좋아요를 요청하면, 재시도 없이 합치기 후 좋아요 수가 정상 반영된다.")
+    void 분할_행_동시_좋아요() throws InterruptedException {
+        // given
+        Retry.Metrics retryMetrics = retryRegistry.retry("optimisticLockRetry").getMetrics();
+        long retriedBefore = retryMetrics.getNumberOfSuccessfulCallsWithRetryAttempt()
+                + retryMetrics.getNumberOfFailedCallsWithRetryAttempt();
+
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        AtomicInteger failureCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 1; i <= THREAD_COUNT; i++) {
+            String userId = "seyoung" + i;
+            executorService.submit(() -> {
+                try {
+                    likeApplicationService.like(UserId.of(userId), product.getId());
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // 비동기 이벤트 처리 대기 (모든 변경분이 분할 행에 쌓일 때까지)
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(likeCountShardRepository.sumByProductIds(List.of(product.getId())))
+                        .containsExactly(Map.entry(product.getId(), (long) THREAD_COUNT)));
+
+        likeCountFlusher.compactShardsPeriodically();
+
+        // then
+        assertThat(failureCount.get()).isZero();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getLikesCount()).isEqualTo(THREAD_COUNT);
+        assertThat(likeCountShardRepository.sumByProductIds(List.of(product.getId()))).isEmpty();
+        assertThat(retryMetrics.getNumberOfSuccessfulCallsWithRetryAttempt()
+                + retryMetrics.getNumberOfFailedCallsWithRetryAttempt()).isEqualTo(retriedBefore);
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import com.loopers.testcontainers.MySqlTestContainersConfig;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +33,9 @@ public class ProductApplicationServiceIntegrationTest {
     @Autowired
     private ProductApplicationService productApplicationService;
 
+    @Autowired
+    private ProductCacheService productCacheService;
+
     @Autowired
     private ProductJpaRepository productJpaRepository;
 
@@ -626,8 +630,76 @@ public class ProductApplicationServiceIntegrationTest {
                 assertThat(productDetail.likeCount()).isEqualTo(3);
             }
 
+            @Test
+            @DisplayName("한 번 조회한 상품 상세는 캐시에서 응답하고, 상품 태그로 무효화되면 다시 DB 에서 조회한다.")
+            void getProductDetailReadThrough() {
+                // given
+                ProductModel product = ProductModel.builder()
+                        .brandId(1L)
+                        .categoryId(1L)
+                        .name("Nike Air")
+                        .description("스포츠 신발")
+                        .price(100000)
+                        .stock(100)
+                        .likesCount(3)
+                        .build();
+                ProductModel savedProduct = productJpaRepository.save(product);
+                productApplicationService.getProductDetail(savedProduct.getId(), null);
+                productJpaRepository.deleteAll();
+
+                // when
+                ProductOutputInfo cached = productApplicationService.getProductDetail(savedProduct.getId(), null);
+                productCacheService.evictProductDetailCache(savedProduct.getId());
+
+                // then
+                assertThat(cached.name()).isEqualTo("Nike Air");
+                assertThatThrownBy(() -> productApplicationService.getProductDetail(savedProduct.getId(), null))
+                        .isInstanceOf(IllegalArgumentException.class);
+            }
+
         }
 
     }
 
+    @Nested
+    @DisplayName("전체 상품 내보내기 시,")
+    class Export_Products {
+
+        @Test
+        @DisplayName("삭제되지 않은 상품을 ID 오름차순으로 브랜드/카테고리명과 함께 전달한다.")
+        void exportProducts() {
+            // given
+            BrandModel savedBrand = brandJpaRepository.save(BrandModel.of("Nike", "나이키"));
+            CategoryModel savedCategory = categoryJpaRepository.save(CategoryModel.of("스포츠", "스포츠 용품"));
+            List<ProductModel> savedProducts = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                savedProducts.add(productJpaRepository.save(ProductModel.builder()
+                        .brandId(savedBrand.getId())
+                        .categoryId(savedCategory.getId())
+                        .name("상품" + i)
+                        .description("설명")
+                        .price(1000 * (i + 1))
+                        .stock(10)
+                        .likesCount(i)
+                        .build()));
+            }
+            ProductModel deleted = savedProducts.get(1);
+            deleted.delete();
+            productJpaRepository.save(deleted);
+
+            // when
+            List<ProductOutputInfo> exported = new ArrayList<>();
+            long count = productApplicationService.exportProducts(exported::add);
+
+            // then
+            assertThat(count).isEqualTo(2);
+            assertThat(exported).extracting(ProductOutputInfo::id)
+                    .containsExactly(savedProducts.get(0).getId(), savedProducts.get(2).getId());
+            assertThat(exported).allSatisfy(product -> {
+                assertThat(product.brandName()).isEqualTo("Nike");
+                assertThat(product.categoryName()).isEqualTo("스포츠");
+            });
+        }
+    }
+
 }
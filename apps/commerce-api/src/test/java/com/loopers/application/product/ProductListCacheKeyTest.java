@@ -0,0 +1,80 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductSortBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductListCacheKeyTest {
+
+    @Nested
+    @DisplayName("캐시 키 생성 시,")
+    class Create {
+
+        @Test
+        @DisplayName("정렬이 없으면 좋아요순으로 정규화되어 같은 키를 갖는다.")
+        void 정렬_미지정은_좋아요순과_같은_키() {
+            // given
+            ProductListCacheKey defaultSort = new ProductListCacheKey(null, 1L, null, 20);
+            ProductListCacheKey likes = new ProductListCacheKey(ProductSortBy.LIKES, 1L, null, 20);
+
+            // when & then
+            assertThat(defaultSort.value()).isEqualTo(likes.value());
+            assertThat(likes.value()).isEqualTo("productlist:likes:b=1:c=all:s=20");
+        }
+
+        @Test
+        @DisplayName("필터 조합에 따라 키 패밀리가 결정된다.")
+        void 필터_조합별_패밀리() {
+            assertThat(new ProductListCacheKey(ProductSortBy.LATEST, null, null, 20).family())
+                    .isEqualTo(ProductListCacheKey.Family.ALL);
+            assertThat(new ProductListCacheKey(ProductSortBy.LATEST, 1L, null, 20).family())
+                    .isEqualTo(ProductListCacheKey.Family.BRAND);
+            assertThat(new ProductListCacheKey(ProductSortBy.LATEST, null, 2L, 20).family())
+                    .isEqualTo(ProductListCacheKey.Family.CATEGORY);
+            assertThat(new ProductListCacheKey(ProductSortBy.LATEST, 1L, 2L, 20).family())
+                    .isEqualTo(ProductListCacheKey.Family.BRAND_CATEGORY);
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 대상 여부 판단 시,")
+    class Cacheable {
+
+        @Test
+        @DisplayName("커서 없는 첫 페이지는 정렬과 필터에 관계없이 캐시 대상이다.")
+        void 첫_페이지는_캐시_대상() {
+            // given
+            ProductQuery query = ProductQuery.from(null, 1L, 2L, ProductSortBy.PRICE_ASC, 20, null, null, null, null);
+
+            // when & then
+            assertThat(ProductListCacheKey.isCacheable(query)).isTrue();
+        }
+
+        @Test
+        @DisplayName("상품명 검색이나 다음 페이지 조회는 캐시 대상이 아니다.")
+        void 검색과_다음_페이지는_캐시_제외() {
+            // given
+            ProductQuery search = ProductQuery.from("Nike", null, null, ProductSortBy.LIKES, 20, null, null, null, null);
+            ProductQuery nextPage = ProductQuery.from(null, null, null, ProductSortBy.LIKES, 20, 10L, 100, null, null);
+
+            // when & then
+            assertThat(ProductListCacheKey.isCacheable(search)).isFalse();
+            assertThat(ProductListCacheKey.isCacheable(nextPage)).isFalse();
+        }
+
+        @Test
+        @DisplayName("가격 범위나 재고 필터가 있으면 캐시 대상이 아니다.")
+        void 범위_필터는_캐시_제외() {
+            // given
+            ProductQuery priceRange = ProductQuery.from(null, null, null, ProductSortBy.LIKES, 20, null, null, null, null, 10000, 30000, null);
+            ProductQuery inStockOnly = ProductQuery.from(null, null, null, ProductSortBy.LIKES, 20, null, null, null, null, null, null, true);
+
+            // when & then
+            assertThat(ProductListCacheKey.isCacheable(priceRange)).isFalse();
+            assertThat(ProductListCacheKey.isCacheable(inStockOnly)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.loopers.application.product;
+
+import com.loopers.application.like.FakeProductRepository;
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductPageIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPageIndexBuilderTest {
+
+    @Mock
+    private ProductPageIndex productPageIndex;
+
+    private FakeProductRepository productRepository;
+    private ProductPageIndexBuilder productPageIndexBuilder;
+
+    private ProductModel recentlyUpdated;
+    private ProductModel untouched;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new FakeProductRepository();
+        productPageIndexBuilder = new ProductPageIndexBuilder(productRepository, productPageIndex);
+
+        recentlyUpdated = productRepository.save(new ProductModel(1L, 1L, "최근 수정 상품", "설명", 1000, 10, 5));
+        untouched = productRepository.save(new ProductModel(1L, 1L, "오래된 상품", "설명", 1000, 10, 1));
+        ReflectionTestUtils.setField(recentlyUpdated, "updatedAt", ZonedDateTime.now().minusMinutes(1));
+        ReflectionTestUtils.setField(untouched, "updatedAt", ZonedDateTime.now().minusDays(1));
+    }
+
+    @Nested
+    @DisplayName("주기적으로 대조할 때,")
+    class Reconcile {
+
+        @Test
+        @DisplayName("인덱스가 준비되어 있으면 최근 수정된 상품만 다시 색인한다.")
+        void 최근_수정된_상품만_색인한다() {
+            // given
+            when(productPageIndex.isReady()).thenReturn(true);
+            when(productPageIndex.tryAcquireBuild()).thenReturn(true);
+
+            // when
+            productPageIndexBuilder.reconcilePeriodically();
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<ProductModel>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(productPageIndex).index(captor.capture());
+            assertThat(captor.getValue()).containsExactly(recentlyUpdated);
+            verify(productPageIndex).markReady();
+            verify(productPageIndex).releaseBuild();
+        }
+
+        @Test
+        @DisplayName("인덱스 준비 표시가 만료되었으면 전체 상품을 다시 구축한다.")
+        void 준비되지_않았으면_전체를_구축한다() {
+            // given
+            when(productPageIndex.isReady()).thenReturn(false);
+            when(productPageIndex.tryAcquireBuild()).thenReturn(true);
+
+            // when
+            productPageIndexBuilder.reconcilePeriodically();
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<ProductModel>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(productPageIndex).index(captor.capture());
+            assertThat(captor.getValue()).containsExactly(recentlyUpdated, untouched);
+            verify(productPageIndex).markReady();
+        }
+
+        @Test
+        @DisplayName("다른 노드가 구축 중이면 아무것도 하지 않는다.")
+        void 구축_권한이_없으면_건너뛴다() {
+            // given
+            when(productPageIndex.isReady()).thenReturn(true);
+            when(productPageIndex.tryAcquireBuild()).thenReturn(false);
+
+            // when
+            productPageIndexBuilder.reconcilePeriodically();
+
+            // then
+            verify(productPageIndex, never()).index(any());
+            verify(productPageIndex, never()).markReady();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.loopers.domain.like;
+
+import com.loopers.domain.user.UserId;
+import com.loopers.support.collection.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikedProductFilterTest {
+
+    private final UserId userId = UserId.of("seyoung");
+
+    @Test
+    @DisplayName("필터가 구축되기 전에는 항상 좋아요했을 수 있다고 답한다.")
+    void 구축_전에는_항상_true() {
+        // given
+        LikedProductFilter filter = new LikedProductFilter(true, 1_000, 0.01);
+
+        // when & then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightBeLiked(userId, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("구축된 필터는 좋아요하지 않은 상품을 걸러내고, 이후 추가된 좋아요는 통과시킨다.")
+    void 구축_후_좋아요_여부() {
+        // given
+        LikedProductFilter filter = new LikedProductFilter(true, 1_000, 0.01);
+        BloomFilter building = filter.startBuild();
+        building.put(LikedProductFilter.key("seyoung", 1L));
+        filter.completeBuild(building, 1);
+
+        // when
+        filter.add("seyoung", 2L);
+
+        // then
+        assertThat(filter.mightBeLiked(userId, 1L)).isTrue();
+        assertThat(filter.mightBeLiked(userId, 2L)).isTrue();
+        long passed = LongStream.rangeClosed(3, 102).filter(productId -> filter.mightBeLiked(userId, productId)).count();
+        assertThat(passed).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("재구축 중 추가된 좋아요는 새 필터에도 반영된다.")
+    void 재구축_중_추가() {
+        // given
+        LikedProductFilter filter = new LikedProductFilter(true, 1_000, 0.01);
+        BloomFilter building = filter.startBuild();
+
+        // when
+        filter.add("seyoung", 5L);
+        filter.completeBuild(building, 0);
+
+        // then
+        assertThat(filter.mightBeLiked(userId, 5L)).isTrue();
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.like.FakeProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductFacetIndexTest {
+
+    private FakeProductRepository productRepository;
+    private ProductFacetIndex productFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new FakeProductRepository();
+        productRepository.save(product(1L, 1L, 5_000));
+        productRepository.save(product(1L, 2L, 15_000));
+        productRepository.save(product(2L, 2L, 250_000));
+        productFacetIndex = new ProductFacetIndex(productRepository, true);
+        productFacetIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("브랜드/카테고리는 상품 수 내림차순으로, 가격은 구간별로 집계한다.")
+    void 브랜드_카테고리_가격구간_집계() {
+        // when
+        ProductFacets facets = productFacetIndex.facets(10).orElseThrow();
+
+        // then
+        assertThat(facets.brands()).containsExactly(new ProductFacets.Count(1L, 2), new ProductFacets.Count(2L, 1));
+        assertThat(facets.categories()).containsExactly(new ProductFacets.Count(2L, 2), new ProductFacets.Count(1L, 1));
+        assertThat(facets.priceBuckets()).extracting(ProductFacets.PriceBucket::count).containsExactly(1, 1, 0, 0, 0, 1);
+        assertThat(facets.priceBuckets().get(5).maxPrice()).isNull();
+    }
+
+    @Test
+    @DisplayName("재집계하면 변경된 상품은 이전 소속에서 빠지고 새 소속에 더해진다.")
+    void 재집계_시_변경_반영() {
+        // given
+        ProductModel moved = productRepository.findById(1L).orElseThrow();
+        productRepository.save(product(2L, 2L, 5_000, moved.getId()));
+        productRepository.findById(3L).orElseThrow().delete();
+
+        // when
+        productFacetIndex.rebuild();
+
+        // then
+        ProductFacets facets = productFacetIndex.facets(10).orElseThrow();
+        assertThat(facets.brands()).containsExactly(new ProductFacets.Count(1L, 1), new ProductFacets.Count(2L, 1));
+        assertThat(facets.categories()).containsExactly(new ProductFacets.Count(2L, 2));
+        assertThat(facets.priceBuckets()).extracting(ProductFacets.PriceBucket::count).containsExactly(1, 1, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("topN 개까지만 반환한다.")
+    void 상위_N개만_반환() {
+        assertThat(productFacetIndex.facets(1).orElseThrow().brands()).containsExactly(new ProductFacets.Count(1L, 2));
+    }
+
+    @Test
+    @DisplayName("브랜드 필터가 있으면 카테고리/가격 구간은 해당 브랜드 상품만, 브랜드는 전체 상품으로 집계한다.")
+    void 브랜드_필터_범위_집계() {
+        // when
+        ProductFacets facets = productFacetIndex.facets(1L, null, 10).orElseThrow();
+
+        // then
+        assertThat(facets.brands()).containsExactly(new ProductFacets.Count(1L, 2), new ProductFacets.Count(2L, 1));
+        assertThat(facets.categories()).containsExactly(new ProductFacets.Count(1L, 1), new ProductFacets.Count(2L, 1));
+        assertThat(facets.priceBuckets()).extracting(ProductFacets.PriceBucket::count).containsExactly(1, 1, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("카테고리 필터가 있으면 브랜드/가격 구간은 해당 카테고리 상품만, 카테고리는 전체 상품으로 집계한다.")
+    void 카테고리_필터_범위_집계() {
+        // when
+        ProductFacets facets = productFacetIndex.facets(null, 2L, 10).orElseThrow();
+
+        // then
+        assertThat(facets.brands()).containsExactly(new ProductFacets.Count(1L, 1), new ProductFacets.Count(2L, 1));
+        assertThat(facets.categories()).containsExactly(new ProductFacets.Count(2L, 2), new ProductFacets.Count(1L, 1));
+        assertThat(facets.priceBuckets()).extracting(ProductFacets.PriceBucket::count).containsExactly(0, 1, 0, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("없는 브랜드로 필터하면 브랜드 축 외의 집계는 비어 있다.")
+    void 없는_브랜드_필터_집계() {
+        // when
+        ProductFacets facets = productFacetIndex.facets(99L, null, 10).orElseThrow();
+
+        // then
+        assertThat(facets.brands()).hasSize(2);
+        assertThat(facets.categories()).isEmpty();
+        assertThat(facets.priceBuckets()).extracting(ProductFacets.PriceBucket::count).containsOnly(0);
+    }
+
+    private ProductModel product(Long brandId, Long categoryId, int price) {
+        return ProductModel.builder()
+                .brandId(brandId).categoryId(categoryId).name("상품").description("설명")
+                .price(price).stock(10).likesCount(0)
+                .build();
+    }
+
+    private ProductModel product(Long brandId, Long categoryId, int price, Long id) {
+        ProductModel product = product(brandId, categoryId, price);
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
@@ -3,6 +3,7 @@ package com.loopers.domain.product;
 import com.loopers.domain.like.ProductLikeDomainService;
 import com.loopers.domain.like.LikeModel;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProductFilter;
 import com.loopers.domain.user.UserId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,8 +16,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +31,9 @@ class ProductLikeDomainServiceTest {
     @Mock
     private LikeRepository likeRepository;
 
+    @Mock
+    private LikedProductFilter likedProductFilter;
+
     @Mock
     private ProductModel product;
 
@@ -129,28 +138,31 @@ class ProductLikeDomainServiceTest {
         @DisplayName("좋아요를 누른 상품은 true를 반환한다.")
         void isLikedTrue() {
             // given
-            when(likeRepository.existsByUserIdAndProductId(userId, productId)).thenReturn(true);
+            when(likedProductFilter.mightBeLiked(userId, productId)).thenReturn(true);
+            when(likeRepository.isLiked(userId, productId, true)).thenReturn(true);
 
             // when
             boolean result = productLikeDomainService.isLiked(productId, userId);
 
             // then
             assertThat(result).isTrue();
-            verify(likeRepository).existsByUserIdAndProductId(userId, productId);
+            verify(likeRepository).isLiked(userId, productId, true);
         }
 
         @Test
-        @DisplayName("좋아요를 누르지 않은 상품은 false를 반환한다.")
-        void isLikedFalse() {
+        @DisplayName("좋아요 필터가 없다고 답해도 집합/DB 로 확인하며, 이때는 좋아요 전체를 적재하지 않는다.")
+        void isLikedConfirmsFilterNegative() {
             // given
-            when(likeRepository.existsByUserIdAndProductId(userId, productId)).thenReturn(false);
+            when(likedProductFilter.mightBeLiked(userId, productId)).thenReturn(false);
+            when(likeRepository.isLiked(userId, productId, false)).thenReturn(true);
 
             // when
             boolean result = productLikeDomainService.isLiked(productId, userId);
 
             // then
-            assertThat(result).isFalse();
-            verify(likeRepository).existsByUserIdAndProductId(userId, productId);
+            assertThat(result).isTrue();
+            verify(likeRepository).isLiked(userId, productId, false);
+            verify(likeRepository, never()).existsByUserIdAndProductId(any(), any());
         }
     }
 
@@ -212,4 +224,50 @@ class ProductLikeDomainServiceTest {
             verify(likeRepository).findByUserId(userId);
         }
     }
-} 
+
+    @Nested
+    @DisplayName("상품 목록의 좋아요 여부 조회 시")
+    class Find_Liked_Product_Ids {
+
+        @Test
+        @DisplayName("좋아요 필터가 있을 수 있다고 답한 상품이 있으면 모든 상품을 한 번에 조회하고, 집합이 없으면 적재한다.")
+        void findLikedProductIdsWithCandidates() {
+            // given
+            when(likedProductFilter.mightBeLiked(eq(userId), anyLong())).thenAnswer(invocation -> invocation.getArgument(1, Long.class) == 3L);
+            when(likeRepository.findLikedProductIds(userId, List.of(1L, 2L, 3L), true)).thenReturn(Set.of(3L));
+
+            // when
+            Set<Long> result = productLikeDomainService.findLikedProductIds(userId, List.of(1L, 2L, 3L, 3L));
+
+            // then
+            assertThat(result).containsExactly(3L);
+            verify(likeRepository, times(1)).findLikedProductIds(any(), any(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("좋아요 필터가 모두 없다고 답해도 조회로 확인하며, 이때는 좋아요 전체를 적재하지 않는다.")
+        void findLikedProductIdsWithoutCandidates() {
+            // given
+            when(likedProductFilter.mightBeLiked(eq(userId), anyLong())).thenReturn(false);
+            when(likeRepository.findLikedProductIds(userId, List.of(1L, 2L), false)).thenReturn(Set.of(2L));
+
+            // when
+            Set<Long> result = productLikeDomainService.findLikedProductIds(userId, List.of(1L, 2L));
+
+            // then
+            assertThat(result).containsExactly(2L);
+            verify(likeRepository).findLikedProductIds(userId, List.of(1L, 2L), false);
+        }
+
+        @Test
+        @DisplayName("상품이 없으면 조회하지 않는다.")
+        void findLikedProductIdsEmpty() {
+            // when
+            Set<Long> result = productLikeDomainService.findLikedProductIds(userId, List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(likeRepository);
+        }
+    }
+}
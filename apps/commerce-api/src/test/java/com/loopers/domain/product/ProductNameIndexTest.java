@@ -0,0 +1,65 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.like.FakeProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductNameIndexTest {
+
+    private FakeProductRepository productRepository;
+    private ProductNameIndex productNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new FakeProductRepository();
+        productRepository.save(product("Nike Air Max"));
+        productRepository.save(product("Nike Zoom"));
+        productRepository.save(product("Adidas Ultraboost"));
+        productRepository.save(product("나이키 에어포스"));
+        productNameIndex = new ProductNameIndex(productRepository, true);
+        productNameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 bigram 을 포함한 상품만 대소문자 구분 없이 후보가 된다.")
+    void bigram_교집합으로_후보_조회() {
+        assertThat(productNameIndex.findCandidateIds("nike", 100)).hasValue(new ProductNameCandidates(List.of(1L, 2L), 4L));
+        assertThat(productNameIndex.findCandidateIds("에어", 100)).hasValue(new ProductNameCandidates(List.of(4L), 4L));
+        assertThat(productNameIndex.findCandidateIds("puma", 100)).hasValue(new ProductNameCandidates(List.of(), 4L));
+    }
+
+    @Test
+    @DisplayName("후보가 maxCandidates 를 넘으면 색인을 사용하지 않는다.")
+    void 후보가_많으면_empty() {
+        assertThat(productNameIndex.findCandidateIds("nike", 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구축 이후 추가된 상품은 색인된 마지막 ID 보다 큰 ID 로 함께 조회된다.")
+    void 구축_이후_추가된_상품은_LIKE_로_조회() {
+        // given
+        productRepository.save(product("Nike Pegasus"));
+
+        // when
+        ProductNameCandidates candidates = productNameIndex.findCandidateIds("nike", 100).orElseThrow();
+        List<ProductSummary> products = productRepository.findSearchProductListWithin(
+                candidates.ids(), candidates.indexedUpToId(), 10, "Nike", null, null, ProductRangeFilter.NONE,
+                ProductSortBy.LIKES, null, null, null, null);
+
+        // then
+        assertThat(candidates.ids()).containsExactly(1L, 2L);
+        assertThat(products).extracting(ProductSummary::id).containsExactlyInAnyOrder(1L, 2L, 5L);
+    }
+
+    private ProductModel product(String name) {
+        return ProductModel.builder()
+                .brandId(1L).categoryId(1L).name(name).description("설명")
+                .price(10000).stock(10).likesCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.loopers.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSortScoreTest {
+
+    @Test
+    @DisplayName("정렬 기준에 해당하는 값이 점수가 된다.")
+    void 정렬_기준별_점수() {
+        // given
+        ProductModel product = ProductModel.builder()
+                .brandId(1L).categoryId(1L).name("Nike Air").description("스포츠 신발")
+                .price(100000).stock(10).likesCount(42)
+                .build();
+
+        // when & then
+        assertThat(ProductSortScore.of(ProductSortBy.LIKES, product)).isEqualTo(42);
+        assertThat(ProductSortScore.of(null, product)).isEqualTo(42);
+        assertThat(ProductSortScore.of(ProductSortBy.PRICE_ASC, product)).isEqualTo(100000);
+        assertThat(ProductSortScore.of(ProductSortBy.PRICE_DESC, product)).isEqualTo(100000);
+    }
+
+    @Test
+    @DisplayName("커서 값으로 계산한 점수는 정렬 기준 값과 같고, 커서 값이 없으면 null 이다.")
+    void 커서_점수() {
+        // given
+        ZonedDateTime createdAt = ZonedDateTime.parse("2025-01-01T00:00:00+09:00");
+
+        // when & then
+        assertThat(ProductSortScore.ofCursor(ProductSortBy.LIKES, 42, null, null)).isEqualTo(42.0);
+        assertThat(ProductSortScore.ofCursor(ProductSortBy.LATEST, null, null, createdAt))
+                .isEqualTo((double) createdAt.toInstant().toEpochMilli());
+        assertThat(ProductSortScore.ofCursor(ProductSortBy.PRICE_ASC, 42, null, null)).isNull();
+    }
+}
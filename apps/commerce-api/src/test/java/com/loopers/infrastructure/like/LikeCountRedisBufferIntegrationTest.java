@@ -0,0 +1,137 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCountBatch;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class LikeCountRedisBufferIntegrationTest {
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private LikeCountRedisBuffer likeCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로필에서는 write-behind 가 꺼져 있으므로 직접 생성
+        likeCountBuffer = new LikeCountRedisBuffer(redisTemplate, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Nested
+    @DisplayName("변경분을 누적할 때,")
+    class Add {
+
+        @Test
+        @DisplayName("넘겨받았지만 완료되지 않은 묶음의 변경분까지 합한 값을 반환한다.")
+        void 완료되지_않은_묶음까지_합산한다() {
+            // given
+            likeCountBuffer.add(1L, 1);
+            likeCountBuffer.add(1L, 1);
+            likeCountBuffer.claim();
+
+            // when
+            long total = likeCountBuffer.add(1L, -1);
+
+            // then
+            assertThat(total).isEqualTo(1L);
+            assertThat(likeCountBuffer.pendingDeltas(List.of(1L, 2L))).containsExactly(Map.entry(1L, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("묶음을 넘겨받고 완료할 때,")
+    class Claim_And_Complete {
+
+        @Test
+        @DisplayName("누적된 변경분이 묶음으로 넘어가고, 이후 변경분은 새로 쌓인다.")
+        void 누적된_변경분이_묶음으로_넘어간다() {
+            // given
+            likeCountBuffer.add(1L, 1);
+            likeCountBuffer.add(2L, -1);
+
+            // when
+            LikeCountBatch batch = likeCountBuffer.claim().orElseThrow();
+            likeCountBuffer.add(1L, 1);
+
+            // then
+            assertThat(batch.deltas()).containsOnly(Map.entry(1L, 1L), Map.entry(2L, -1L));
+            assertThat(likeCountBuffer.claim().orElseThrow().deltas()).containsOnly(Map.entry(1L, 1L));
+        }
+
+        @Test
+        @DisplayName("완료한 묶음은 미완료 목록과 변경분 합계에서 제외된다.")
+        void 완료한_묶음은_제외된다() {
+            // given
+            likeCountBuffer.add(1L, 1);
+            LikeCountBatch batch = likeCountBuffer.claim().orElseThrow();
+
+            // when
+            likeCountBuffer.complete(batch.batchId());
+
+            // then
+            assertThat(likeCountBuffer.unfinishedBatches()).isEmpty();
+            assertThat(likeCountBuffer.pendingDeltas(List.of(1L))).isEmpty();
+            assertThat(likeCountBuffer.add(1L, 1)).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("누적된 변경분이 없으면 묶음을 만들지 않는다.")
+        void 변경분이_없으면_묶음을_만들지_않는다() {
+            // when
+            Optional<LikeCountBatch> batch = likeCountBuffer.claim();
+
+            // then
+            assertThat(batch).isEmpty();
+            assertThat(likeCountBuffer.unfinishedBatches()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("반영 도중 노드가 죽었을 때,")
+    class Recover {
+
+        @Test
+        @DisplayName("다른 노드가 완료되지 않은 묶음을 그대로 읽어 이어서 처리할 수 있다.")
+        void 다른_노드가_미완료_묶음을_이어서_처리한다() {
+            // given
+            likeCountBuffer.add(1L, 3);
+            LikeCountBatch claimed = likeCountBuffer.claim().orElseThrow();
+            LikeCountRedisBuffer otherNode = new LikeCountRedisBuffer(redisTemplate, true);
+
+            // when
+            List<LikeCountBatch> unfinished = otherNode.unfinishedBatches();
+            otherNode.complete(unfinished.get(0).batchId());
+
+            // then
+            assertThat(unfinished).hasSize(1);
+            assertThat(unfinished.get(0).batchId()).isEqualTo(claimed.batchId());
+            assertThat(unfinished.get(0).deltas()).containsOnly(Map.entry(1L, 3L));
+            assertThat(likeCountBuffer.unfinishedBatches()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeKey;
+import com.loopers.domain.like.LikeModel;
+import com.loopers.domain.like.LikedProductFilter;
+import com.loopers.domain.user.UserId;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class LikeRepositoryImplIntegrationTest {
+
+    private static final UserId USER_ID = UserId.of("seyoung");
+
+    @Autowired
+    private LikeJpaRepository likeJpaRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private LikedProductRedisCache likedProductCache;
+    private LikeRepositoryImpl likeRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로필에서는 집합 캐시가 꺼져 있으므로 직접 생성
+        likedProductCache = new LikedProductRedisCache(
+                redisTemplate, new LikedProductFilter(true, 1_000, 0.01), true, Duration.ofMinutes(30));
+        likeRepository = new LikeRepositoryImpl(likeJpaRepository, likedProductCache);
+        likeJpaRepository.save(LikeModel.create(USER_ID, 1L));
+        likeJpaRepository.save(LikeModel.create(USER_ID, 2L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Nested
+    @DisplayName("적재되지 않은 사용자의 좋아요 여부를 확인할 때,")
+    class Cold_Set {
+
+        @Test
+        @DisplayName("적재하도록 하면 DB 의 좋아요 전체가 집합에 적재된다.")
+        void 좋아요_전체가_적재된다() {
+            // when
+            boolean liked = likeRepository.isLiked(USER_ID, 1L, true);
+
+            // then
+            assertThat(liked).isTrue();
+            assertThat(likedProductCache.likedAmong(USER_ID, List.of(1L, 2L, 3L))).hasValueSatisfying(
+                    likedIds -> assertThat(likedIds).containsExactlyInAnyOrder(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("적재하지 않도록 하면 DB 에서 해당 상품만 확인하고 집합은 적재되지 않는다.")
+        void 적재하지_않고_DB_에서_확인한다() {
+            // when
+            boolean liked = likeRepository.isLiked(USER_ID, 2L, false);
+
+            // then
+            assertThat(liked).isTrue();
+            assertThat(likedProductCache.isLiked(USER_ID, 2L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("여러 상품을 확인하면 주어진 상품 중 좋아요한 상품만 반환한다.")
+        void 여러_상품_중_좋아요한_상품만_반환한다() {
+            // when
+            Set<Long> loaded = likeRepository.findLikedProductIds(USER_ID, List.of(2L, 3L), true);
+            Set<Long> notLoaded = likeRepository.findLikedProductIds(UserId.of("other"), List.of(1L, 2L), false);
+
+            // then
+            assertThat(loaded).containsExactly(2L);
+            assertThat(notLoaded).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("적재된 사용자가 좋아요/취소할 때,")
+    class Like_And_Unlike {
+
+        @Test
+        @DisplayName("커밋 후 반영된 좋아요/취소를 DB 조회 없이 답한다.")
+        void 반영된_좋아요와_취소로_답한다() {
+            // given
+            likeRepository.isLiked(USER_ID, 1L, true);
+
+            // when
+            likeRepository.save(LikeModel.create(USER_ID, 3L));
+            likedProductCache.added(USER_ID, 3L);
+            likeRepository.delete(likeJpaRepository.findByUserIdAndProductId(USER_ID, 1L).orElseThrow());
+            likedProductCache.removed(USER_ID, 1L);
+
+            // then
+            assertThat(likeRepository.findLikedProductIds(USER_ID, List.of(1L, 2L, 3L), true))
+                    .containsExactlyInAnyOrder(2L, 3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 등록/취소 판단을 위해 확인할 때,")
+    class Exists {
+
+        @Test
+        @DisplayName("집합과 DB 가 어긋나 있어도 DB 기준으로 답한다.")
+        void 집합이_아닌_DB_기준으로_답한다() {
+            // given
+            likeRepository.isLiked(USER_ID, 1L, true);
+            // 집합에는 반영되지 않은 취소
+            likeJpaRepository.delete(likeJpaRepository.findByUserIdAndProductId(USER_ID, 1L).orElseThrow());
+
+            // when & then
+            assertThat(likeRepository.isLiked(USER_ID, 1L, true)).isTrue();
+            assertThat(likeRepository.existsByUserIdAndProductId(USER_ID, 1L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 전체를 순회할 때,")
+    class Find_Keys {
+
+        @Test
+        @DisplayName("마지막으로 읽은 쌍 다음부터 이어 읽어 모든 (사용자, 상품) 쌍을 한 번씩 반환한다.")
+        void 모든_쌍을_한_번씩_반환한다() {
+            // given
+            likeJpaRepository.save(LikeModel.create(UserId.of("alpha"), 3L));
+            likeJpaRepository.save(LikeModel.create(UserId.of("zulu"), 1L));
+
+            // when
+            List<LikeKey> keys = new ArrayList<>();
+            LikeKey last = null;
+            while (true) {
+                List<LikeKey> chunk = likeRepository.findKeysAfter(last, 2);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                keys.addAll(chunk);
+                last = chunk.get(chunk.size() - 1);
+            }
+
+            // then
+            assertThat(keys).extracting(LikeKey::userId, LikeKey::productId).containsExactly(
+                    tuple("alpha", 3L),
+                    tuple("seyoung", 1L),
+                    tuple("seyoung", 2L),
+                    tuple("zulu", 1L)
+            );
+        }
+    }
+}
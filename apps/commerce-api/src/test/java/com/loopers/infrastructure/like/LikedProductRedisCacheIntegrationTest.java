@@ -0,0 +1,150 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikedProductFilter;
+import com.loopers.domain.user.UserId;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class LikedProductRedisCacheIntegrationTest {
+
+    private static final UserId USER_ID = UserId.of("seyoung");
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private LikedProductRedisCache likedProductCache;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로필에서는 집합 캐시가 꺼져 있으므로 직접 생성
+        likedProductCache = new LikedProductRedisCache(
+                redisTemplate, new LikedProductFilter(true, 1_000, 0.01), true, Duration.ofMinutes(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Nested
+    @DisplayName("적재되지 않은 집합을 확인할 때,")
+    class Cold {
+
+        @Test
+        @DisplayName("좋아요가 반영되어 있어도 적재 표시가 없으면 모르는 것으로 답한다.")
+        void 적재_표시가_없으면_모른다() {
+            // given
+            likedProductCache.added(USER_ID, 1L);
+
+            // when & then
+            assertThat(likedProductCache.isLiked(USER_ID, 1L)).isEmpty();
+            assertThat(likedProductCache.likedAmong(USER_ID, List.of(1L, 2L))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("집합을 적재할 때,")
+    class Load {
+
+        @Test
+        @DisplayName("적재한 상품은 좋아요로, 나머지는 좋아요하지 않은 것으로 답한다.")
+        void 적재한_상품으로_답한다() {
+            // given
+            likedProductCache.load(USER_ID, likedProductCache.version(USER_ID), List.of(1L, 3L));
+
+            // when & then
+            assertThat(likedProductCache.isLiked(USER_ID, 1L)).contains(true);
+            assertThat(likedProductCache.isLiked(USER_ID, 2L)).contains(false);
+            assertThat(likedProductCache.likedAmong(USER_ID, List.of(1L, 2L, 3L))).hasValueSatisfying(
+                    liked -> assertThat(liked).containsExactlyInAnyOrder(1L, 3L));
+        }
+
+        @Test
+        @DisplayName("스크립트 한 번에 넣는 개수보다 많은 상품도 모두 적재된다.")
+        void 많은_상품도_모두_적재된다() {
+            // given
+            List<Long> productIds = LongStream.rangeClosed(1, 2_500).boxed().toList();
+
+            // when
+            likedProductCache.load(USER_ID, likedProductCache.version(USER_ID), productIds);
+
+            // then
+            assertThat(likedProductCache.likedAmong(USER_ID, List.of(1L, 1_000L, 1_001L, 2_500L, 2_501L))).hasValueSatisfying(
+                    liked -> assertThat(liked).containsExactlyInAnyOrder(1L, 1_000L, 1_001L, 2_500L));
+        }
+
+        @Test
+        @DisplayName("적재 전에 커밋된 좋아요는 적재 후에도 남는다.")
+        void 적재_전_좋아요는_남는다() {
+            // given
+            long version = likedProductCache.version(USER_ID);
+            likedProductCache.added(USER_ID, 2L);
+
+            // when
+            likedProductCache.load(USER_ID, version, List.of(1L));
+
+            // then
+            assertThat(likedProductCache.likedAmong(USER_ID, List.of(1L, 2L))).hasValueSatisfying(
+                    liked -> assertThat(liked).containsExactlyInAnyOrder(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("DB 조회 후 적재 전에 취소가 반영되면 적재하지 않아 취소한 상품이 다시 들어가지 않는다.")
+        void 적재_중_취소가_반영되면_적재하지_않는다() {
+            // given
+            long version = likedProductCache.version(USER_ID);
+            List<Long> readBeforeUnlike = List.of(1L, 2L);
+            likedProductCache.removed(USER_ID, 2L);
+
+            // when
+            likedProductCache.load(USER_ID, version, readBeforeUnlike);
+
+            // then
+            assertThat(likedProductCache.isLiked(USER_ID, 2L)).isEmpty();
+
+            // 다시 읽은 버전으로는 적재된다
+            likedProductCache.load(USER_ID, likedProductCache.version(USER_ID), List.of(1L));
+            assertThat(likedProductCache.isLiked(USER_ID, 2L)).contains(false);
+        }
+    }
+
+    @Nested
+    @DisplayName("적재된 집합에 좋아요/취소를 반영할 때,")
+    class Added_And_Removed {
+
+        @Test
+        @DisplayName("좋아요는 추가되고 취소는 제거된다.")
+        void 좋아요와_취소가_반영된다() {
+            // given
+            likedProductCache.load(USER_ID, likedProductCache.version(USER_ID), List.of(1L));
+
+            // when
+            likedProductCache.added(USER_ID, 2L);
+            likedProductCache.removed(USER_ID, 1L);
+
+            // then
+            assertThat(likedProductCache.isLiked(USER_ID, 1L)).contains(false);
+            assertThat(likedProductCache.isLiked(USER_ID, 2L)).contains(true);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductRangeFilter;
+import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class ProductListViewRepositoryImplIntegrationTest {
+
+    private static final ZonedDateTime BASE_TIME = ZonedDateTime.parse("2026-10-18T10:00:00+09:00");
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private ProductListViewRepositoryImpl productListViewRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로필에서는 읽기 모델이 꺼져 있으므로 직접 생성
+        productListViewRepository = new ProductListViewRepositoryImpl(jpaQueryFactory, true);
+        // 읽기 모델 행은 commerce-collector 가 채우므로 테스트에서는 직접 삽입
+        insertView(1L, 10L, 100L, "나이키 에어", 10_000, 5, 3, "나이키", "신발");
+        insertView(2L, 10L, 200L, "나이키 후드", 30_000, 0, 7, "나이키", "의류");
+        insertView(3L, 20L, 100L, "아디다스 슈퍼스타", 20_000, 2, 5, "아디다스", "신발");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Nested
+    @DisplayName("목록 조회 시,")
+    class FindSearchProductList {
+
+        @Test
+        @DisplayName("브랜드 필터와 좋아요순 정렬이 적용되고 브랜드/카테고리명이 함께 조회된다.")
+        void 브랜드_필터와_좋아요순_정렬() {
+            // when
+            List<ProductSummary> products = productListViewRepository.findSearchProductList(
+                    10, null, 10L, null, ProductRangeFilter.NONE, null, ProductSortBy.LIKES, null, null, null, null);
+
+            // then
+            assertThat(products).extracting(ProductSummary::id).containsExactly(2L, 1L);
+            assertThat(products.get(0).brandName()).isEqualTo("나이키");
+            assertThat(products.get(0).categoryName()).isEqualTo("의류");
+        }
+
+        @Test
+        @DisplayName("재고 있는 상품만 조회하면 재고가 0 인 상품은 제외된다.")
+        void 재고_있는_상품만_조회() {
+            // when
+            List<ProductSummary> products = productListViewRepository.findSearchProductList(
+                    10, null, null, null, ProductRangeFilter.of(null, null, true), null, ProductSortBy.LIKES, null, null, null, null);
+
+            // then
+            assertThat(products).extracting(ProductSummary::id).containsExactly(3L, 1L);
+        }
+
+        @Test
+        @DisplayName("가격 오름차순 커서 이후의 상품만 조회된다.")
+        void 가격_오름차순_커서() {
+            // when
+            List<ProductSummary> products = productListViewRepository.findSearchProductList(
+                    10, null, null, null, ProductRangeFilter.NONE, null, ProductSortBy.PRICE_ASC, 1L, null, 10_000, null);
+
+            // then
+            assertThat(products).extracting(ProductSummary::id).containsExactly(3L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("상품명 색인 후보 안에서 조회 시,")
+    class FindSearchProductListWithin {
+
+        @Test
+        @DisplayName("후보 ID 와 색인 이후 추가된 상품 중 상품명이 일치하는 상품만 조회된다.")
+        void 후보와_색인_이후_상품만_조회() {
+            // given
+            insertView(4L, 10L, 100L, "나이키 조던", 50_000, 1, 1, "나이키", "신발");
+
+            // when
+            List<ProductSummary> products = productListViewRepository.findSearchProductListWithin(
+                    List.of(1L), 3L, 10, "나이키", null, null, ProductRangeFilter.NONE, ProductSortBy.LIKES, null, null, null, null);
+
+            // then
+            assertThat(products).extracting(ProductSummary::id).containsExactly(1L, 4L);
+        }
+    }
+
+    @Nested
+    @DisplayName("ID 로 일괄 조회 시,")
+    class FindSummariesByIds {
+
+        @Test
+        @DisplayName("요청한 ID 의 상품만 조회된다.")
+        void 요청한_ID만_조회() {
+            // when
+            List<ProductSummary> products = productListViewRepository.findSummariesByIds(List.of(1L, 3L, 99L));
+
+            // then
+            assertThat(products).extracting(ProductSummary::id).containsExactlyInAnyOrder(1L, 3L);
+            assertThat(products).allMatch(ProductSummary::hasCatalogNames);
+        }
+    }
+
+    private void insertView(Long productId, Long brandId, Long categoryId, String name, int price, int stock, int likesCount,
+                            String brandName, String categoryName) {
+        jdbcTemplate.update("""
+                        INSERT INTO product_list_view
+                            (product_id, brand_id, category_id, name, price, stock, in_stock, likes_count,
+                             brand_name, category_name, product_created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                productId, brandId, categoryId, name, price, stock, stock > 0, likesCount,
+                brandName, categoryName, Timestamp.from(BASE_TIME.plusMinutes(productId).toInstant()),
+                Timestamp.from(BASE_TIME.toInstant()));
+    }
+}
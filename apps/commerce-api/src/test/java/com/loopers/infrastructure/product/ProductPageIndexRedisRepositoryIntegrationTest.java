@@ -0,0 +1,148 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductModel;
+import com.loopers.domain.product.ProductSortBy;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class ProductPageIndexRedisRepositoryIntegrationTest {
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private ProductPageIndexRedisRepository productPageIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로필에서는 인덱스가 꺼져 있으므로 직접 생성
+        productPageIndex = new ProductPageIndexRedisRepository(redisTemplate, true);
+        productPageIndex.markReady();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Nested
+    @DisplayName("상품을 색인할 때,")
+    class Index {
+
+        @Test
+        @DisplayName("정렬 값 순서대로 전체/브랜드/카테고리 범위에서 조회된다.")
+        void 범위별로_정렬되어_조회된다() {
+            // given
+            productPageIndex.index(List.of(product(1L, 10L, 100L, 5), product(2L, 10L, 200L, 7), product(3L, 20L, 100L, 3)));
+
+            // when
+            List<Long> all = productPageIndex.findPageIds(ProductSortBy.LIKES, null, null, null, null, 10).orElseThrow();
+            List<Long> brand = productPageIndex.findPageIds(ProductSortBy.LIKES, 10L, null, null, null, 10).orElseThrow();
+            List<Long> category = productPageIndex.findPageIds(ProductSortBy.LIKES, null, 100L, null, null, 10).orElseThrow();
+
+            // then
+            assertThat(all).containsExactly(2L, 1L, 3L);
+            assertThat(brand).containsExactly(2L, 1L);
+            assertThat(category).containsExactly(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("브랜드가 바뀌면 이전 브랜드 범위에서 제거된다.")
+        void 브랜드가_바뀌면_이전_범위에서_제거된다() {
+            // given
+            productPageIndex.index(List.of(product(1L, 10L, 100L, 5)));
+
+            // when
+            productPageIndex.index(List.of(product(1L, 20L, 100L, 5)));
+
+            // then
+            assertThat(productPageIndex.findPageIds(ProductSortBy.LIKES, 10L, null, null, null, 10).orElseThrow()).isEmpty();
+            assertThat(productPageIndex.findPageIds(ProductSortBy.LIKES, 20L, null, null, null, 10).orElseThrow()).containsExactly(1L);
+            assertThat(productPageIndex.findPageIds(ProductSortBy.PRICE_ASC, 10L, null, null, null, 10).orElseThrow()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("상품을 제거할 때,")
+    class Remove {
+
+        @Test
+        @DisplayName("상품 ID 만으로 색인된 모든 범위에서 제거된다.")
+        void ID만으로_모든_범위에서_제거된다() {
+            // given
+            productPageIndex.index(List.of(product(1L, 10L, 100L, 5), product(2L, 10L, 100L, 7)));
+
+            // when
+            productPageIndex.remove(1L);
+
+            // then
+            assertThat(productPageIndex.findPageIds(ProductSortBy.LIKES, null, null, null, null, 10).orElseThrow()).containsExactly(2L);
+            assertThat(productPageIndex.findPageIds(ProductSortBy.LATEST, 10L, null, null, null, 10).orElseThrow()).containsExactly(2L);
+            assertThat(productPageIndex.findPageIds(ProductSortBy.PRICE_DESC, null, 100L, null, null, 10).orElseThrow()).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("준비 표시를 확인할 때,")
+    class Ready {
+
+        @Test
+        @DisplayName("준비 표시에는 만료 시간이 있어 재구축이 멈추면 조회에 사용되지 않는다.")
+        void 준비_표시는_만료_시간을_가진다() {
+            // when
+            Long ttlSeconds = redisTemplate.getExpire("product:idx:ready");
+
+            // then
+            assertThat(productPageIndex.isReady()).isTrue();
+            assertThat(ttlSeconds).isPositive();
+        }
+
+        @Test
+        @DisplayName("구축 락을 해제하면 다시 획득할 수 있다.")
+        void 구축_락을_해제하면_다시_획득할_수_있다() {
+            // given
+            assertThat(productPageIndex.tryAcquireBuild()).isTrue();
+            assertThat(productPageIndex.tryAcquireBuild()).isFalse();
+
+            // when
+            productPageIndex.releaseBuild();
+
+            // then
+            assertThat(productPageIndex.tryAcquireBuild()).isTrue();
+        }
+    }
+
+    private ProductModel product(Long id, Long brandId, Long categoryId, int likesCount) {
+        ProductModel product = ProductModel.builder()
+                .brandId(brandId)
+                .categoryId(categoryId)
+                .name("상품" + id)
+                .description("설명")
+                .price(1000 * id.intValue())
+                .stock(10)
+                .likesCount(likesCount)
+                .build();
+        ReflectionTestUtils.setField(product, "id", id);
+        ReflectionTestUtils.setField(product, "createdAt", ZonedDateTime.now().plusSeconds(id));
+        return product;
+    }
+}
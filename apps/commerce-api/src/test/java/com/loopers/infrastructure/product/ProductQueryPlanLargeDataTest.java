@@ -0,0 +1,186 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductFacetIndex;
+import com.loopers.domain.product.ProductRangeFilter;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSelectivity;
+import com.loopers.domain.product.ProductSortBy;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.support.util.LargeSeeder;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LargeSeeder 데이터로 선택도 기반 실행 계획과 기본 계획(정렬 인덱스 순회)을 비교
+ * 실행 시간은 환경에 따라 달라지므로 결과와 MySQL 이 고른 인덱스만 검증하고 시간은 로그로 남긴다.
+ * 상품 5만 건을 적재하므로 기본 test 에서는 제외하고 largeDataTest 태스크로 실행한다.
+ */
+@Tag("large-data")
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class ProductQueryPlanLargeDataTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductQueryPlanLargeDataTest.class);
+
+    private static final int PRODUCT_COUNT = 50_000;
+    private static final int REPEAT = 5;
+    // 100,000 ~ 200,000 가격 구간 안의 좁은 범위 (LargeSeeder 가격 분포상 전체의 약 4%)
+    private static final ProductRangeFilter NARROW_RANGE = ProductRangeFilter.of(150_000, 160_000, false);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        LargeSeeder.seedProducts(connectionSupplier(), PRODUCT_COUNT, LargeSeeder.BRAND_COUNT, LargeSeeder.CATEGORY_COUNT,
+                LargeSeeder.PRODUCT_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("좁은 가격 범위를 좋아요순으로 조회하면 가격 인덱스 우선 계획을 쓰고, 기본 계획과 같은 결과를 반환한다.")
+    void 가격_인덱스_우선_계획과_기본_계획_비교() {
+        // given
+        ProductSelectivity selectivity = narrowRangeSelectivity();
+
+        // when
+        List<ProductSummary> sortIndexResult = findFirstPage(ProductSortBy.LIKES, null);
+        List<ProductSummary> rangeFirstResult = findFirstPage(ProductSortBy.LIKES, selectivity);
+        long sortIndexNanos = measure(null);
+        long rangeFirstNanos = measure(selectivity);
+        log.info("[ProductQueryPlan] 상품 {}건, 기본 계획 평균 {}ms, 가격 인덱스 우선 평균 {}ms",
+                PRODUCT_COUNT, sortIndexNanos / 1_000_000 / REPEAT, rangeFirstNanos / 1_000_000 / REPEAT);
+
+        // then
+        ProductQueryPlan plan = ProductQueryPlan.of(null, null, null, NARROW_RANGE, ProductSortBy.LIKES, Optional.of(selectivity));
+        assertThat(plan.rangeFirst()).isTrue();
+        assertThat(rangeFirstResult).isNotEmpty();
+        assertThat(rangeFirstResult).extracting(ProductSummary::id)
+                .containsExactlyElementsOf(sortIndexResult.stream().map(ProductSummary::id).toList());
+    }
+
+    @Test
+    @DisplayName("가격 인덱스를 지정하면 MySQL 은 가격 인덱스로 범위를 읽고 정렬한다.")
+    void 가격_인덱스_지정_시_실행_계획() throws SQLException {
+        // when
+        Map<String, String> explain = explain("SELECT id FROM product USE INDEX (idx_product_price)"
+                + " WHERE price >= " + NARROW_RANGE.minPrice() + " AND price <= " + NARROW_RANGE.maxPrice()
+                + " ORDER BY likes_count DESC, id DESC LIMIT 20");
+
+        // then
+        assertThat(explain.get("key")).isEqualTo("idx_product_price");
+        assertThat(explain.get("type")).isEqualTo("range");
+    }
+
+    @ParameterizedTest
+    @EnumSource(ProductSortBy.class)
+    @DisplayName("모든 정렬에서 선택도 추정 여부와 관계없이 같은 페이지를 정렬 순서대로 반환한다.")
+    void 정렬별_결과_회귀(ProductSortBy sortBy) {
+        // given
+        ProductSelectivity selectivity = narrowRangeSelectivity();
+
+        // when
+        List<ProductSummary> withEstimate = findFirstPage(sortBy, selectivity);
+        List<ProductSummary> withoutEstimate = findFirstPage(sortBy, null);
+
+        // then
+        assertThat(withEstimate).isNotEmpty();
+        assertThat(withEstimate).extracting(ProductSummary::id)
+                .containsExactlyElementsOf(withoutEstimate.stream().map(ProductSummary::id).toList());
+        assertThat(withEstimate).allSatisfy(product -> assertThat(product.price())
+                .isBetween(NARROW_RANGE.minPrice(), NARROW_RANGE.maxPrice()));
+        assertThat(withEstimate).isSortedAccordingTo(comparator(sortBy));
+    }
+
+    private ProductSelectivity narrowRangeSelectivity() {
+        ProductFacetIndex productFacetIndex = new ProductFacetIndex(productRepository, true);
+        productFacetIndex.rebuild();
+        return productFacetIndex.estimateSelectivity(
+                null, null, NARROW_RANGE.minPrice(), NARROW_RANGE.maxPrice()).orElseThrow();
+    }
+
+    private static Comparator<ProductSummary> comparator(ProductSortBy sortBy) {
+        return switch (sortBy) {
+            case LIKES -> Comparator.comparingInt(ProductSummary::likesCount).reversed()
+                    .thenComparing(ProductSummary::id, Comparator.reverseOrder());
+            case LATEST -> Comparator.comparing(ProductSummary::createdAt).reversed()
+                    .thenComparing(ProductSummary::id, Comparator.reverseOrder());
+            case PRICE_ASC -> Comparator.comparingInt(ProductSummary::price)
+                    .thenComparing(ProductSummary::id);
+            case PRICE_DESC -> Comparator.comparingInt(ProductSummary::price).reversed()
+                    .thenComparing(ProductSummary::id, Comparator.reverseOrder());
+        };
+    }
+
+    private Map<String, String> explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            assertThat(resultSet.next()).isTrue();
+            Map<String, String> row = new HashMap<>();
+            for (String column : List.of("type", "key", "Extra")) {
+                row.put(column, resultSet.getString(column));
+            }
+            return row;
+        }
+    }
+
+    private List<ProductSummary> findFirstPage(ProductSortBy sortBy, ProductSelectivity selectivity) {
+        return productRepository.findSearchProductList(
+                20, null, null, null, NARROW_RANGE, selectivity, sortBy, null, null, null, null);
+    }
+
+    private long measure(ProductSelectivity selectivity) {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            findFirstPage(ProductSortBy.LIKES, selectivity);
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    private Supplier<Connection> connectionSupplier() {
+        return () -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
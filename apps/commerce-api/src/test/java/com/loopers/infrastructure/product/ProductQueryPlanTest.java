@@ -0,0 +1,85 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductRangeFilter;
+import com.loopers.domain.product.ProductSelectivity;
+import com.loopers.domain.product.ProductSortBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.loopers.infrastructure.product.ProductQueryPlan.Condition.BRAND;
+import static com.loopers.infrastructure.product.ProductQueryPlan.Condition.CATEGORY;
+import static com.loopers.infrastructure.product.ProductQueryPlan.Condition.IN_STOCK;
+import static com.loopers.infrastructure.product.ProductQueryPlan.Condition.NAME;
+import static com.loopers.infrastructure.product.ProductQueryPlan.Condition.PRICE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductQueryPlanTest {
+
+    private static final ProductRangeFilter NARROW_RANGE = ProductRangeFilter.of(10000, 12000, true);
+
+    @Nested
+    @DisplayName("조건 목록 결정 시,")
+    class Conditions {
+
+        @Test
+        @DisplayName("선택도 추정과 무관하게 요청 조건을 고정된 순서로 둔다.")
+        void 선택도와_무관한_고정_순서() {
+            // given
+            Optional<ProductSelectivity> selectivity = Optional.of(new ProductSelectivity(1_000_000, 0.001, 0.2, 0.01));
+
+            // when
+            ProductQueryPlan plan = ProductQueryPlan.of("Nike", 1L, 2L, NARROW_RANGE, ProductSortBy.LIKES, selectivity);
+
+            // then
+            assertThat(plan.conditions()).containsExactly(BRAND, CATEGORY, PRICE, IN_STOCK, NAME);
+        }
+
+        @Test
+        @DisplayName("선택도 추정이 없으면 요청 조건을 기본 순서로 둔다.")
+        void 추정_없으면_기본_순서() {
+            // when
+            ProductQueryPlan plan = ProductQueryPlan.of(null, 1L, 2L, NARROW_RANGE, ProductSortBy.LIKES, Optional.empty());
+
+            // then
+            assertThat(plan.conditions()).containsExactly(BRAND, CATEGORY, PRICE, IN_STOCK);
+            assertThat(plan.rangeFirst()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("가격 인덱스 우선 여부 결정 시,")
+    class RangeFirst {
+
+        @Test
+        @DisplayName("가격순이 아닌 정렬에서 가격 범위가 좁고 남는 행이 적으면 가격 인덱스로 먼저 좁힌다.")
+        void 좁은_가격_범위는_범위_우선() {
+            // given
+            Optional<ProductSelectivity> selectivity = Optional.of(new ProductSelectivity(1_000_000, 1.0, 1.0, 0.01));
+
+            // when
+            ProductQueryPlan plan = ProductQueryPlan.of(null, null, null, NARROW_RANGE, ProductSortBy.LATEST, selectivity);
+
+            // then
+            assertThat(plan.rangeFirst()).isTrue();
+        }
+
+        @Test
+        @DisplayName("가격순 정렬이거나 가격 범위가 넓으면 정렬 인덱스를 그대로 사용한다.")
+        void 가격순_또는_넓은_범위는_정렬_인덱스() {
+            // given
+            Optional<ProductSelectivity> narrow = Optional.of(new ProductSelectivity(1_000_000, 1.0, 1.0, 0.01));
+            Optional<ProductSelectivity> wide = Optional.of(new ProductSelectivity(1_000_000, 1.0, 1.0, 0.4));
+
+            // when
+            ProductQueryPlan priceSort = ProductQueryPlan.of(null, null, null, NARROW_RANGE, ProductSortBy.PRICE_ASC, narrow);
+            ProductQueryPlan wideRange = ProductQueryPlan.of(null, null, null, NARROW_RANGE, ProductSortBy.LIKES, wide);
+
+            // then
+            assertThat(priceSort.rangeFirst()).isFalse();
+            assertThat(wideRange.rangeFirst()).isFalse();
+        }
+    }
+}
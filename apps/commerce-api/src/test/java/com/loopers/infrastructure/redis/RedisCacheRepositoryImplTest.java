@@ -0,0 +1,147 @@
+package com.loopers.infrastructure.redis;
+
+import com.loopers.support.cache.codec.CacheCodec;
+import com.loopers.support.cache.util.CacheMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCacheRepositoryImplTest {
+
+    private static final Duration LEASE_TIME = Duration.ofSeconds(5);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisTemplate<String, byte[]> cacheBinaryRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private CacheCodec cacheCodec;
+
+    @Mock
+    private CacheMetrics cacheMetrics;
+
+    @Mock
+    private HotKeyReplica hotKeyReplica;
+
+    private RedisCacheRepositoryImpl redisCacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisCacheRepository = new RedisCacheRepositoryImpl(
+                redisTemplate, cacheBinaryRedisTemplate, cacheCodec, cacheMetrics, hotKeyReplica
+        );
+    }
+
+    @Nested
+    @DisplayName("Redis 장애로 재구성 락을 얻지 못할 때,")
+    class TryLock_On_Redis_Failure {
+
+        @BeforeEach
+        void setUp() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class)))
+                    .thenThrow(new RedisConnectionFailureException("연결 실패"));
+        }
+
+        @Test
+        @DisplayName("노드 로컬 락으로 대체하여 같은 키는 한 번만 획득된다.")
+        void 로컬_락으로_대체하여_한번만_획득된다() {
+            // when
+            boolean first = redisCacheRepository.tryLock("cache:lock:productlist", LEASE_TIME);
+            boolean second = redisCacheRepository.tryLock("cache:lock:productlist", LEASE_TIME);
+            boolean otherKey = redisCacheRepository.tryLock("cache:lock:productdetail:1", LEASE_TIME);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(otherKey).isTrue();
+        }
+
+        @Test
+        @DisplayName("해제한 로컬 락은 다시 획득할 수 있다.")
+        void 해제한_로컬_락은_다시_획득할_수_있다() {
+            // given
+            redisCacheRepository.tryLock("cache:lock:productlist", LEASE_TIME);
+
+            // when
+            redisCacheRepository.unlock("cache:lock:productlist");
+
+            // then
+            assertThat(redisCacheRepository.tryLock("cache:lock:productlist", LEASE_TIME)).isTrue();
+        }
+
+        @Test
+        @DisplayName("리스 시간이 지난 로컬 락은 다시 획득할 수 있다.")
+        void 만료된_로컬_락은_다시_획득할_수_있다() {
+            // given
+            redisCacheRepository.tryLock("cache:lock:productlist", Duration.ZERO);
+
+            // when
+            boolean acquired = redisCacheRepository.tryLock("cache:lock:productlist", LEASE_TIME);
+
+            // then
+            assertThat(acquired).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis 장애 중 태그로 삭제할 때,")
+    class DeleteByTag_On_Redis_Failure {
+
+        @Test
+        @DisplayName("태그 조회에 실패하면 예외 없이 빈 목록을 반환한다.")
+        void 태그_조회_실패시_빈_목록() {
+            // given
+            when(cacheBinaryRedisTemplate.execute(any(RedisCallback.class)))
+                    .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+            // when
+            Set<String> deleted = redisCacheRepository.deleteByTagAndGetKeys("productlist:latest");
+
+            // then
+            assertThat(deleted).isEmpty();
+        }
+
+        @Test
+        @DisplayName("키 삭제에 실패해도 예외 없이 읽어온 키 목록을 반환해 로컬 캐시 무효화가 이어지도록 한다.")
+        void 삭제_실패시_읽어온_키_목록() {
+            // given
+            doReturn(Set.of("productlist:latest:1".getBytes(StandardCharsets.UTF_8)))
+                    .when(cacheBinaryRedisTemplate).execute(any(RedisCallback.class));
+            when(cacheBinaryRedisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+            // when
+            Set<String> deleted = redisCacheRepository.deleteByTagAndGetKeys("productlist:latest");
+
+            // then
+            assertThat(deleted).containsExactly("productlist:latest:1");
+            verify(hotKeyReplica).evictAll(deleted);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.loopers.infrastructure.redis;
+
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+class RedisCacheRepositoryIntegrationTest {
+
+    private static final String TAG_KEY = "cache:tags:productlist:latest";
+
+    @Autowired
+    private RedisCacheRepositoryImpl redisCacheRepository;
+
+    @Autowired
+    private RedisTemplate<String, byte[]> cacheBinaryRedisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Nested
+    @DisplayName("태그와 함께 저장 시,")
+    class Set_With_Tags {
+
+        @Test
+        @DisplayName("이미 만료된 키는 태그 인덱스에서 정리된다.")
+        void 만료된_키는_태그_인덱스에서_정리된다() throws InterruptedException {
+            // given
+            redisCacheRepository.set("productlist:latest:1", "목록1", Duration.ofMillis(200), Set.of("productlist:latest"));
+            Thread.sleep(300);
+
+            // when
+            redisCacheRepository.set("productlist:latest:2", "목록2", Duration.ofMinutes(1), Set.of("productlist:latest"));
+
+            // then
+            assertThat(tagMembers()).containsExactly("productlist:latest:2");
+        }
+
+        @Test
+        @DisplayName("태그 인덱스는 가장 늦게 만료되는 키보다 오래 남지 않는다.")
+        void 태그_인덱스는_가장_늦게_만료되는_키까지만_유지된다() {
+            // given
+            redisCacheRepository.set("productlist:latest:1", "목록1", Duration.ofMinutes(5), Set.of("productlist:latest"));
+
+            // when
+            redisCacheRepository.setAll(Map.of("productlist:latest:2", "목록2"), Duration.ofMinutes(1),
+                    Map.of("productlist:latest:2", Set.of("productlist:latest")));
+
+            // then
+            Long ttlSeconds = cacheBinaryRedisTemplate.getExpire(TAG_KEY);
+            assertThat(ttlSeconds).isBetween(Duration.ofMinutes(4).toSeconds(), Duration.ofMinutes(5).toSeconds());
+            assertThat(tagMembers()).containsExactlyInAnyOrder("productlist:latest:1", "productlist:latest:2");
+        }
+    }
+
+    @Nested
+    @DisplayName("태그로 삭제 시,")
+    class Delete_By_Tag {
+
+        @Test
+        @DisplayName("태그에 등록된 키가 삭제되고 태그 인덱스에서도 제거된다.")
+        void 태그에_등록된_키와_인덱스_멤버가_삭제된다() {
+            // given
+            redisCacheRepository.set("productlist:latest:1", "목록1", Duration.ofMinutes(1), Set.of("productlist:latest"));
+            redisCacheRepository.set("productlist:latest:2", "목록2", Duration.ofMinutes(1), Set.of("productlist:latest"));
+            redisCacheRepository.set("productlist:price_asc:1", "목록3", Duration.ofMinutes(1), Set.of("productlist:price_asc"));
+
+            // when
+            Set<String> deletedKeys = redisCacheRepository.deleteByTagAndGetKeys("productlist:latest");
+
+            // then
+            assertThat(deletedKeys).containsExactlyInAnyOrder("productlist:latest:1", "productlist:latest:2");
+            assertThat(redisCacheRepository.get("productlist:latest:1", String.class)).isEmpty();
+            assertThat(redisCacheRepository.get("productlist:price_asc:1", String.class)).contains("목록3");
+            assertThat(tagMembers()).isEmpty();
+        }
+    }
+
+    private Set<String> tagMembers() {
+        byte[] tagKey = TAG_KEY.getBytes(StandardCharsets.UTF_8);
+        Set<byte[]> members = cacheBinaryRedisTemplate.execute(
+                (RedisCallback<Set<byte[]>>) connection -> connection.zSetCommands().zRange(tagKey, 0, -1));
+        return members.stream()
+                .map(member -> new String(member, StandardCharsets.UTF_8))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,120 @@
+package com.loopers.infrastructure.redis;
+
+import com.loopers.cache.RedisCacheKeys;
+import com.loopers.support.cache.config.LocalCacheProperties;
+import com.loopers.support.cache.repository.CacheEnvelope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredCacheRepositoryTest {
+
+    @Mock
+    private RedisCacheRepositoryImpl redisCacheRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private TieredCacheRepository tieredCacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        tieredCacheRepository = new TieredCacheRepository(
+                redisCacheRepository, redisTemplate, new LocalCacheProperties(100, Duration.ofSeconds(30))
+        );
+    }
+
+    @Nested
+    @DisplayName("캐시 조회 시,")
+    class Get {
+
+        @Test
+        @DisplayName("Redis 에서 조회한 값은 L1 에 적재되어 다음 조회 시 Redis 를 호출하지 않는다.")
+        void Redis_히트_후_L1에서_조회된다() {
+            // given
+            when(redisCacheRepository.get("brand:1", String.class)).thenReturn(Optional.of("나이키"));
+
+            // when
+            Optional<String> first = tieredCacheRepository.get("brand:1", String.class);
+            Optional<String> second = tieredCacheRepository.get("brand:1", String.class);
+
+            // then
+            assertThat(first).contains("나이키");
+            assertThat(second).contains("나이키");
+            verify(redisCacheRepository, times(1)).get("brand:1", String.class);
+        }
+
+        @Test
+        @DisplayName("일괄 조회 시 L1 에 없는 키만 Redis 에 한 번에 조회한다.")
+        void 일괄_조회시_L1_미스만_Redis에서_조회한다() {
+            // given
+            CacheEnvelope<String> nike = CacheEnvelope.of("나이키", 0, Duration.ofMinutes(10));
+            CacheEnvelope<String> adidas = CacheEnvelope.of("아디다스", 0, Duration.ofMinutes(10));
+            tieredCacheRepository.set("brand:1", nike, Duration.ofMinutes(1));
+            when(redisCacheRepository.getAllEnvelopes(List.of("brand:2", "brand:3"), String.class))
+                    .thenReturn(Map.of("brand:2", adidas));
+
+            // when
+            Map<String, CacheEnvelope<String>> result =
+                    tieredCacheRepository.getAllEnvelopes(List.of("brand:1", "brand:2", "brand:3"), String.class);
+
+            // then
+            assertThat(result).containsOnly(entry("brand:1", nike), entry("brand:2", adidas));
+            verify(redisCacheRepository, times(1)).getAllEnvelopes(List.of("brand:2", "brand:3"), String.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 무효화 시,")
+    class Invalidate {
+
+        @Test
+        @DisplayName("삭제하면 L1 에서도 제거되고 다른 노드로 무효화 메시지를 발행한다.")
+        void 삭제하면_L1이_제거되고_메시지를_발행한다() {
+            // given
+            tieredCacheRepository.set("productdetail:1", "상품", Duration.ofMinutes(1));
+
+            // when
+            tieredCacheRepository.delete("productdetail:1");
+
+            // then
+            when(redisCacheRepository.get("productdetail:1", String.class)).thenReturn(Optional.empty());
+            assertThat(tieredCacheRepository.get("productdetail:1", String.class)).isEmpty();
+            verify(redisTemplate).execute(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("다른 노드의 패턴 무효화 메시지를 받으면 일치하는 L1 엔트리만 제거된다.")
+        void 패턴_무효화_메시지를_받으면_일치하는_L1만_제거된다() {
+            // given
+            tieredCacheRepository.set("productlist", "목록", Duration.ofMinutes(1));
+            tieredCacheRepository.set("brand:1", "브랜드", Duration.ofMinutes(1));
+
+            // when
+            tieredCacheRepository.handleInvalidationMessage(RedisCacheKeys.PATTERN_MESSAGE_PREFIX + "productlist*");
+
+            // then
+            when(redisCacheRepository.get("productlist", String.class)).thenReturn(Optional.empty());
+            assertThat(tieredCacheRepository.get("productlist", String.class)).isEmpty();
+            assertThat(tieredCacheRepository.get("brand:1", String.class)).contains("브랜드");
+            verify(redisCacheRepository, never()).get("brand:1", String.class);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.interfaces.api.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.user.BirthDate;
+import com.loopers.domain.user.Email;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.UserId;
+import com.loopers.domain.user.UserModel;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LikeV1ApiE2ETest {
+
+    private static final String ENDPOINT_LIKED_PRODUCTS = "/api/v1/like/products";
+
+    private final TestRestTemplate testRestTemplate;
+    private final UserRepository userRepository;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    public LikeV1ApiE2ETest(
+            TestRestTemplate testRestTemplate,
+            UserRepository userRepository,
+            DatabaseCleanUp databaseCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.userRepository = userRepository;
+        this.databaseCleanUp = databaseCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("GET /api/v1/like/products")
+    @Nested
+    class GetLikedProducts {
+
+        @DisplayName("좋아요한 상품이 없는 유저가 조회할 경우, 빈 목록을 반환한다.")
+        @Test
+        void getLikedProducts_withoutLikes_returnsEmptyList() {
+            // given
+            userRepository.save(UserModel.of(
+                    UserId.of("seyoung"),
+                    Email.of("seyoung@loopers.com"),
+                    Gender.FEMALE,
+                    BirthDate.of("1990-01-01")
+            ));
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("X-USER-ID", "seyoung");
+
+            // when
+            ParameterizedTypeReference<ApiResponse<LikeV1Dto.LikedProductListResponse>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<LikeV1Dto.LikedProductListResponse>> response =
+                    testRestTemplate.exchange(ENDPOINT_LIKED_PRODUCTS, HttpMethod.GET, new HttpEntity<>(null, headers), responseType);
+
+            // then
+            assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                    () -> assertThat(response.getBody().data().products()).isEmpty()
+            );
+        }
+
+        @DisplayName("X-USER-ID 헤더가 없는 경우, 400 BAD_REQUEST 응답을 반환한다.")
+        @Test
+        void getLikedProducts_withoutUserIdHeader_returns400BadRequest() {
+            // given
+            HttpHeaders headers = new HttpHeaders();
+
+            // when
+            ParameterizedTypeReference<ApiResponse<LikeV1Dto.LikedProductListResponse>> responseType = new ParameterizedTypeReference<>() {
+            };
+            ResponseEntity<ApiResponse<LikeV1Dto.LikedProductListResponse>> response =
+                    testRestTemplate.exchange(ENDPOINT_LIKED_PRODUCTS, HttpMethod.GET, new HttpEntity<>(null, headers), responseType);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
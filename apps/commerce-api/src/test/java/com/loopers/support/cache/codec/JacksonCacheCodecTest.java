@@ -0,0 +1,70 @@
+package com.loopers.support.cache.codec;
+
+import com.loopers.support.cache.repository.CacheEnvelope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonCacheCodecTest {
+
+    record Item(Long id, String name, int price) {
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JacksonCacheCodec codec = JacksonCacheCodec.smile(1024, meterRegistry);
+
+    @Nested
+    @DisplayName("인코딩한 값을 디코딩하면,")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("지정한 타입으로 바로 복원된다.")
+        void 지정한_타입으로_복원된다() {
+            // given
+            byte[] encoded = codec.encode(new Item(1L, "신발", 10000));
+
+            // when
+            Item decoded = codec.decode(encoded, Item.class);
+
+            // then
+            assertThat(decoded).isEqualTo(new Item(1L, "신발", 10000));
+        }
+
+        @Test
+        @DisplayName("임계값 이상인 목록은 압축되어 저장되고 envelope 타입으로 복원된다.")
+        void 큰_목록은_압축되어_저장된다() {
+            // given
+            List<Item> items = IntStream.rangeClosed(1, 200).mapToObj(i -> new Item((long) i, "상품" + i, i * 100)).toList();
+            CacheEnvelope<List<Item>> envelope = CacheEnvelope.of(items, 15, Duration.ofMinutes(10));
+
+            // when
+            byte[] encoded = codec.encode(envelope);
+            CacheEnvelope<List<Item>> decoded = codec.decode(encoded, codec.typeFactory().constructParametricType(
+                    CacheEnvelope.class, codec.typeFactory().constructCollectionType(List.class, Item.class)));
+
+            // then
+            assertThat(encoded[0]).isEqualTo((byte) 1);
+            assertThat(decoded.getValue()).containsExactlyElementsOf(items);
+            assertThat(decoded.getExpireAtMillis()).isEqualTo(envelope.getExpireAtMillis());
+        }
+    }
+
+    @Test
+    @DisplayName("압축 전후 크기와 처리 시간이 메트릭으로 기록된다.")
+    void 크기와_시간이_메트릭으로_기록된다() {
+        // when
+        codec.decode(codec.encode(new Item(1L, "신발", 10000)), Item.class);
+
+        // then
+        assertThat(meterRegistry.get("cache.codec.stored.size").tag("codec", "smile").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.codec.raw.size").tag("codec", "smile").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.codec.decode").tag("codec", "smile").timer().count()).isEqualTo(1);
+    }
+}
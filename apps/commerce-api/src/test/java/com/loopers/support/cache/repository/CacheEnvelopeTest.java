@@ -0,0 +1,53 @@
+package com.loopers.support.cache.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheEnvelopeTest {
+
+    @Nested
+    @DisplayName("XFetch 조기 갱신 여부를 판단할 때,")
+    class ShouldRefreshEarly {
+
+        @Test
+        @DisplayName("만료까지 남은 시간이 재계산 시간보다 충분히 길면 갱신하지 않는다.")
+        void 만료가_멀면_갱신하지_않는다() {
+            // given
+            CacheEnvelope<String> envelope = new CacheEnvelope<>("값", 100, 100_000);
+
+            // when
+            boolean result = envelope.shouldRefreshEarly(10_000, 1.0, 0.5);
+
+            // then
+            assertThat(result).isFalse();
+        }
+
+        @Test
+        @DisplayName("만료가 가까우면 재계산 시간과 난수에 따라 미리 갱신한다.")
+        void 만료가_가까우면_갱신한다() {
+            // given
+            CacheEnvelope<String> envelope = new CacheEnvelope<>("값", 100, 100_000);
+
+            // when
+            // -100 * ln(0.1) ≈ 230ms 앞당겨 만료로 판단
+            boolean result = envelope.shouldRefreshEarly(99_800, 1.0, 0.1);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("난수가 1 이면 논리 만료 시각 전까지 갱신하지 않는다.")
+        void 난수가_1이면_만료_전까지_갱신하지_않는다() {
+            // given
+            CacheEnvelope<String> envelope = new CacheEnvelope<>("값", 100, 100_000);
+
+            // when & then
+            assertThat(envelope.shouldRefreshEarly(99_999, 1.0, 1.0)).isFalse();
+            assertThat(envelope.isExpired(100_000)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.support.cache.util;
+
+import com.loopers.support.cache.config.CacheAdmissionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheAdmissionFilterTest {
+
+    @Test
+    @DisplayName("window 내 threshold 횟수 이상 요청된 키만 적재를 허용한다.")
+    void threshold_이상_요청된_키만_허용() {
+        // given
+        CacheAdmissionFilter filter = new CacheAdmissionFilter(new CacheAdmissionProperties(3, Duration.ofMinutes(1), 100));
+
+        // when & then
+        assertThat(filter.admit("productlist:likes:b=1:c=all:s=20")).isFalse();
+        assertThat(filter.admit("productlist:likes:b=1:c=all:s=20")).isFalse();
+        assertThat(filter.admit("productlist:likes:b=1:c=all:s=20")).isTrue();
+        assertThat(filter.admit("productlist:likes:b=2:c=all:s=20")).isFalse();
+    }
+
+    @Test
+    @DisplayName("threshold 가 1 이면 모든 키를 허용한다.")
+    void threshold_1이면_모두_허용() {
+        // given
+        CacheAdmissionFilter filter = new CacheAdmissionFilter(new CacheAdmissionProperties(1, Duration.ofMinutes(1), 100));
+
+        // when & then
+        assertThat(filter.admit("productlist:latest:b=all:c=3:s=20")).isTrue();
+    }
+}
@@ -0,0 +1,283 @@
+package com.loopers.support.cache.util;
+
+import com.loopers.support.cache.repository.CacheEnvelope;
+import com.loopers.support.cache.repository.CacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheUtilTest {
+
+    private static final CachePolicy POLICY = CachePolicy.of(Duration.ofMinutes(10), Duration.ofMinutes(5));
+
+    @Mock
+    private CacheRepository cacheRepository;
+
+    private CacheUtil cacheUtil;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 백그라운드 갱신을 호출 스레드에서 바로 실행
+        cacheUtil = new CacheUtil(cacheRepository, Runnable::run, new CacheMetrics(meterRegistry));
+    }
+
+    @Nested
+    @DisplayName("캐시 미스 시 재구성할 때,")
+    class GetListOrLoad {
+
+        @Test
+        @DisplayName("캐시가 있으면 loader 를 호출하지 않는다.")
+        void 캐시가_있으면_loader를_호출하지_않는다() {
+            // given
+            when(cacheRepository.getListEnvelope("productlist", String.class))
+                    .thenReturn(Optional.of(CacheEnvelope.of(List.of("상품"), 0, Duration.ofMinutes(10))));
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            List<String> result = cacheUtil.getListOrLoad("productlist", String.class, POLICY, products -> Set.of(),
+                    () -> {
+                        loadCount.incrementAndGet();
+                        return List.of("DB 상품");
+                    });
+
+            // then
+            assertThat(result).containsExactly("상품");
+            assertThat(loadCount.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("동시에 들어온 요청은 한 번의 loader 호출 결과를 공유한다.")
+        void 동시_요청은_한번만_재구성한다() throws Exception {
+            // given
+            when(cacheRepository.getListEnvelope(eq("productlist"), eq(String.class))).thenReturn(Optional.empty());
+            when(cacheRepository.tryLock(anyString(), any(Duration.class))).thenReturn(true);
+
+            int threadCount = 10;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch ready = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // when
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return cacheUtil.getListOrLoad("productlist", String.class, POLICY,
+                            products -> Set.of("productlist"), () -> {
+                                loadCount.incrementAndGet();
+                                sleep(300);
+                                return List.of("DB 상품");
+                            });
+                }));
+            }
+            ready.countDown();
+            List<List<String>> results = new ArrayList<>();
+            for (Future<List<String>> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(results).hasSize(threadCount).allSatisfy(result -> assertThat(result).containsExactly("DB 상품"));
+            assertThat(loadCount.get()).isEqualTo(1);
+            verify(cacheRepository, times(1)).set(eq("productlist"), any(), eq(POLICY.physicalTtl()), any());
+        }
+
+        @Test
+        @DisplayName("이미 캐시된 키는 admission 을 통과하지 못해도 캐시에서 응답한다.")
+        void 캐시된_키는_admission과_무관하게_캐시에서_응답한다() {
+            // given
+            when(cacheRepository.getListEnvelope("productlist:brand:1", String.class))
+                    .thenReturn(Optional.of(CacheEnvelope.of(List.of("상품"), 0, Duration.ofMinutes(10))));
+            AtomicInteger admissionCount = new AtomicInteger();
+
+            // when
+            List<String> result = cacheUtil.getListOrLoad("productlist:brand:1", String.class, POLICY, products -> Set.of(),
+                    () -> List.of("DB 상품"), key -> {
+                        admissionCount.incrementAndGet();
+                        return false;
+                    });
+
+            // then
+            assertThat(result).containsExactly("상품");
+            assertThat(admissionCount.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("admission 을 통과하지 못한 미스는 캐시에 저장하지 않고 loader 결과를 반환한다.")
+        void admission을_통과하지_못한_미스는_저장하지_않는다() {
+            // given
+            when(cacheRepository.getListEnvelope("productlist:brand:1", String.class)).thenReturn(Optional.empty());
+
+            // when
+            List<String> result = cacheUtil.getListOrLoad("productlist:brand:1", String.class, POLICY, products -> Set.of(),
+                    () -> List.of("DB 상품"), key -> false);
+
+            // then
+            assertThat(result).containsExactly("DB 상품");
+            verify(cacheRepository, never()).set(anyString(), any(), any(Duration.class), any());
+            verify(cacheRepository, never()).tryLock(anyString(), any(Duration.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("논리 만료된 캐시를 조회할 때,")
+    class StaleWhileRevalidate {
+
+        @Test
+        @DisplayName("이전 값을 반환하고 백그라운드에서 한 번 갱신한다.")
+        void 이전_값을_반환하고_백그라운드에서_갱신한다() {
+            // given
+            CacheEnvelope<List<String>> stale = new CacheEnvelope<>(List.of("이전 상품"), 10, System.currentTimeMillis() - 1);
+            when(cacheRepository.getListEnvelope("productlist", String.class)).thenReturn(Optional.of(stale));
+            when(cacheRepository.tryLock(anyString(), any(Duration.class))).thenReturn(true);
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            List<String> result = cacheUtil.getListOrLoad("productlist", String.class, POLICY,
+                    products -> Set.of("productlist"), () -> {
+                        loadCount.incrementAndGet();
+                        return List.of("새 상품");
+                    });
+
+            // then
+            assertThat(result).containsExactly("이전 상품");
+            assertThat(loadCount.get()).isEqualTo(1);
+            verify(cacheRepository).set(eq("productlist"), any(CacheEnvelope.class), eq(POLICY.physicalTtl()), eq(Set.of("productlist")));
+            verify(cacheRepository).unlock("cache:lock:productlist");
+        }
+
+        @Test
+        @DisplayName("다른 노드가 갱신 락을 가지고 있으면 갱신하지 않는다.")
+        void 다른_노드가_갱신중이면_갱신하지_않는다() {
+            // given
+            CacheEnvelope<List<String>> stale = new CacheEnvelope<>(List.of("이전 상품"), 10, System.currentTimeMillis() - 1);
+            when(cacheRepository.getListEnvelope("productlist", String.class)).thenReturn(Optional.of(stale));
+            when(cacheRepository.tryLock(anyString(), any(Duration.class))).thenReturn(false);
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            List<String> result = cacheUtil.getListOrLoad("productlist", String.class, POLICY,
+                    products -> Set.of("productlist"), () -> {
+                        loadCount.incrementAndGet();
+                        return List.of("새 상품");
+                    });
+
+            // then
+            assertThat(result).containsExactly("이전 상품");
+            assertThat(loadCount.get()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 키를 일괄 조회할 때,")
+    class GetAllOrLoad {
+
+        @Test
+        @DisplayName("미스된 항목만 loader 로 한 번에 조회하고, 요청 순서대로 반환한다.")
+        void 미스된_항목만_한번에_조회한다() {
+            // given
+            CacheEnvelope<String> hit = CacheEnvelope.of("상품2", 0, Duration.ofMinutes(10));
+            when(cacheRepository.getAllEnvelopes(List.of("product:3", "product:2", "product:1"), String.class))
+                    .thenReturn(Map.of("product:2", hit));
+            List<Set<Long>> loadedIds = new ArrayList<>();
+
+            // when
+            Map<Long, String> result = cacheUtil.getAllOrLoad(List.of(3L, 2L, 1L), id -> "product:" + id, String.class, POLICY,
+                    value -> Set.of("product"), ids -> {
+                        loadedIds.add(ids);
+                        return Map.of(1L, "상품1");
+                    });
+
+            // then
+            assertThat(loadedIds).containsExactly(Set.of(3L, 1L));
+            assertThat(result.keySet()).containsExactly(2L, 1L);
+            assertThat(result).containsEntry(1L, "상품1").containsEntry(2L, "상품2");
+            verify(cacheRepository).setAll(argThat((Map<String, CacheEnvelope<String>> values) -> values.keySet().equals(Set.of("product:1"))),
+                    eq(POLICY.physicalTtl()), eq(Map.of("product:1", Set.of("product"))));
+        }
+
+        @Test
+        @DisplayName("모두 히트하면 loader 를 호출하지 않는다.")
+        void 모두_히트하면_loader를_호출하지_않는다() {
+            // given
+            when(cacheRepository.getAllEnvelopes(List.of("product:1"), String.class))
+                    .thenReturn(Map.of("product:1", CacheEnvelope.of("상품1", 0, Duration.ofMinutes(10))));
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            Map<Long, String> result = cacheUtil.getAllOrLoad(List.of(1L), id -> "product:" + id, String.class, POLICY,
+                    value -> Set.of(), ids -> {
+                        loadCount.incrementAndGet();
+                        return Map.of();
+                    });
+
+            // then
+            assertThat(result).containsExactly(Map.entry(1L, "상품1"));
+            assertThat(loadCount.get()).isZero();
+            verify(cacheRepository, never()).setAll(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 지표를 기록할 때,")
+    class Metrics {
+
+        @Test
+        @DisplayName("키의 계열별로 히트/미스 횟수와 재구성 시간을 기록한다.")
+        void 계열별_히트와_미스를_기록한다() {
+            // given
+            when(cacheRepository.getEnvelope("productdetail:1", String.class))
+                    .thenReturn(Optional.of(CacheEnvelope.of("상품1", 0, Duration.ofMinutes(10))));
+            when(cacheRepository.getEnvelope("productdetail:2", String.class)).thenReturn(Optional.empty());
+            when(cacheRepository.tryLock(anyString(), any(Duration.class))).thenReturn(true);
+
+            // when
+            cacheUtil.getOrLoad("productdetail:1", String.class, POLICY, value -> Set.of(), () -> "DB 상품1");
+            cacheUtil.getOrLoad("productdetail:2", String.class, POLICY, value -> Set.of(), () -> "DB 상품2");
+
+            // then
+            assertThat(meterRegistry.get("cache.requests").tag("family", "productdetail").tag("result", "hit").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.get("cache.requests").tag("family", "productdetail").tag("result", "miss").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.get("cache.load.latency").tag("family", "productdetail").timer().count()).isEqualTo(1);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.loopers.support.cache.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyDetectorTest {
+
+    private static final long WINDOW_MILLIS = 10_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    @DisplayName("window 내 threshold 이상 조회된 키만 핫 키로 감지한다.")
+    void threshold_이상_조회된_키만_핫_키() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(1.0, WINDOW_MILLIS, 5, 10, now::get);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            detector.record("productdetail:1");
+        }
+        detector.record("productdetail:2");
+
+        // then
+        assertThat(detector.isHot("productdetail:1")).isTrue();
+        assertThat(detector.isHot("productdetail:2")).isFalse();
+        assertThat(detector.hotKeys()).containsOnlyKeys("productdetail:1");
+    }
+
+    @Test
+    @DisplayName("더 이상 조회되지 않는 핫 키는 두 window 가 지나면 해제된다.")
+    void 조회가_끊기면_핫_키_해제() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(1.0, WINDOW_MILLIS, 3, 10, now::get);
+        for (int i = 0; i < 3; i++) {
+            detector.record("productdetail:1");
+        }
+
+        // when
+        now.addAndGet(WINDOW_MILLIS);
+        boolean afterOneWindow = detector.isHot("productdetail:1");
+        now.addAndGet(WINDOW_MILLIS);
+        boolean afterTwoWindows = detector.isHot("productdetail:1");
+
+        // then
+        assertThat(afterOneWindow).isTrue();
+        assertThat(afterTwoWindows).isFalse();
+    }
+
+    @Test
+    @DisplayName("새 window 에서는 이전 window 의 조회 수를 이어 세지 않는다.")
+    void window_가_바뀌면_다시_센다() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(1.0, WINDOW_MILLIS, 3, 10, now::get);
+        detector.record("productdetail:1");
+        detector.record("productdetail:1");
+
+        // when
+        now.addAndGet(WINDOW_MILLIS);
+        detector.record("productdetail:1");
+
+        // then
+        assertThat(detector.isHot("productdetail:1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("핫 키 수가 최대치에 도달하면 새 키는 핫 키로 추가하지 않는다.")
+    void 최대_핫_키_수_제한() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(1.0, WINDOW_MILLIS, 1, 1, now::get);
+
+        // when
+        detector.record("productdetail:1");
+        detector.record("productdetail:2");
+
+        // then
+        assertThat(detector.hotKeys()).containsOnlyKeys("productdetail:1");
+    }
+}
@@ -0,0 +1,58 @@
+package com.loopers.support.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수 있다고 답한다.")
+    void 거짓_음성_없음() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + ":" + i);
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + ":" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 거짓 양성 비율은 설정한 확률 근처에 머문다.")
+    void 거짓_양성_비율() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + ":" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + ":" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.03);
+    }
+
+    @Test
+    @DisplayName("예상 개수와 확률로 비트 수와 해시 수를 정한다.")
+    void 크기_계산() {
+        // when
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.01);
+
+        // then
+        assertThat(filter.bitSize()).isBetween(9_500_000L, 9_700_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.support.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImmutableLongMapTest {
+
+    record Item(long id, String name) {
+    }
+
+    @Test
+    @DisplayName("등록된 키는 값을, 없는 키는 null 을 반환한다.")
+    void 등록된_키만_조회된다() {
+        // given
+        List<Item> items = LongStream.rangeClosed(1, 1000).mapToObj(id -> new Item(id, "브랜드" + id)).toList();
+
+        // when
+        ImmutableLongMap<Item> map = ImmutableLongMap.of(items, Item::id);
+
+        // then
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(map.get(1)).isEqualTo(new Item(1, "브랜드1"));
+        assertThat(map.get(1000).name()).isEqualTo("브랜드1000");
+        assertThat(map.get(1001)).isNull();
+        assertThat(map.get(0)).isNull();
+    }
+
+    @Test
+    @DisplayName("키가 중복되면 나중 값이 남는다.")
+    void 중복_키는_나중_값으로_덮어쓴다() {
+        // when
+        ImmutableLongMap<Item> map = ImmutableLongMap.of(List.of(new Item(7, "이전"), new Item(7, "최신")), Item::id);
+
+        // then
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(7).name()).isEqualTo("최신");
+    }
+
+    @Test
+    @DisplayName("빈 목록으로 만든 맵은 어떤 키도 조회되지 않는다.")
+    void 빈_맵은_조회되지_않는다() {
+        // when
+        ImmutableLongMap<Item> map = ImmutableLongMap.of(List.of(), Item::id);
+
+        // then
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1)).isNull();
+    }
+}
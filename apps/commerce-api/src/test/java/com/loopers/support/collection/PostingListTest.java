@@ -0,0 +1,52 @@
+package com.loopers.support.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingListTest {
+
+    @Nested
+    @DisplayName("포스팅 리스트 생성 시,")
+    class Build {
+
+        @Test
+        @DisplayName("오름차순으로 추가한 ID 가 그대로 복원되고, 중복 ID 는 한 번만 보관된다.")
+        void 추가한_ID_복원() {
+            // given
+            PostingList list = PostingList.builder().add(3).add(3).add(130).add(1_000_000).add(1_000_001).build();
+
+            // when & then
+            assertThat(list.toArray()).containsExactly(3, 130, 1_000_000, 1_000_001);
+            assertThat(list.size()).isEqualTo(4);
+            assertThat(list.sizeInBytes()).isLessThan(4 * Long.BYTES);
+        }
+
+        @Test
+        @DisplayName("내림차순으로 추가하면 예외가 발생한다.")
+        void 내림차순_추가시_예외() {
+            assertThatThrownBy(() -> PostingList.builder().add(10).add(5))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("정렬된 배열과의 교집합만 앞쪽에 남긴다.")
+    void 교집합() {
+        // given
+        PostingList list = PostingList.builder().add(2).add(4).add(6).add(8).add(300).build();
+        long[] candidates = {1, 4, 5, 8, 300, 400};
+
+        // when
+        int length = list.retainAll(candidates, candidates.length);
+
+        // then
+        assertThat(length).isEqualTo(3);
+        assertThat(Arrays.copyOf(candidates, length)).containsExactly(4, 8, 300);
+    }
+}
@@ -0,0 +1,137 @@
+package com.loopers.support.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderedResponseWriterTest {
+
+    record Item(Long id, String name) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RenderedResponseWriter writer = new RenderedResponseWriter(objectMapper, 1024);
+
+    @Nested
+    @DisplayName("응답 본문을 직렬화하면,")
+    class Render {
+
+        @Test
+        @DisplayName("같은 본문은 같은 ETag 를, 다른 본문은 다른 ETag 를 가진다.")
+        void 본문별로_ETag가_정해진다() {
+            // when
+            RenderedResponse first = writer.render(new Item(1L, "신발"));
+            RenderedResponse same = writer.render(new Item(1L, "신발"));
+            RenderedResponse other = writer.render(new Item(2L, "가방"));
+
+            // then
+            assertThat(first.etag()).startsWith("\"").endsWith("\"");
+            assertThat(first.etag()).isEqualTo(same.etag());
+            assertThat(first.etag()).isNotEqualTo(other.etag());
+        }
+
+        @Test
+        @DisplayName("임계치 이상이면 gzip 으로 보관한다.")
+        void 임계치_이상이면_gzip으로_보관한다() {
+            // given
+            List<Item> items = IntStream.range(0, 200).mapToObj(i -> new Item((long) i, "상품" + i)).toList();
+
+            // when
+            RenderedResponse small = writer.render(new Item(1L, "신발"));
+            RenderedResponse large = writer.render(items);
+
+            // then
+            assertThat(small.gzipped()).isFalse();
+            assertThat(large.gzipped()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("직렬화된 응답을 내보낼 때,")
+    class ToResponseEntity {
+
+        @Test
+        @DisplayName("If-None-Match 가 ETag 와 같으면 본문 없이 304 를 반환한다.")
+        void ETag가_같으면_304를_반환한다() {
+            // given
+            RenderedResponse rendered = writer.render(new Item(1L, "신발"));
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, rendered.etag());
+
+            // when
+            ResponseEntity<byte[]> response = writer.toResponseEntity(rendered, request);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(response.getHeaders().getETag()).isEqualTo("W/" + rendered.etag());
+        }
+
+        @Test
+        @DisplayName("응답에 실은 약한 ETag 를 그대로 돌려보내도 304 를 반환한다.")
+        void 약한_ETag로_재요청하면_304를_반환한다() {
+            // given
+            RenderedResponse rendered = writer.render(new Item(1L, "신발"));
+            String etag = writer.toResponseEntity(rendered, new MockHttpServletRequest()).getHeaders().getETag();
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+            // when
+            ResponseEntity<byte[]> response = writer.toResponseEntity(rendered, request);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        }
+
+        @Test
+        @DisplayName("gzip/원본 응답 모두 약한 ETag 와 Vary: Accept-Encoding 을 싣는다.")
+        void 인코딩과_무관하게_약한_ETag와_Vary를_싣는다() {
+            // given
+            List<Item> items = IntStream.range(0, 200).mapToObj(i -> new Item((long) i, "상품" + i)).toList();
+            RenderedResponse rendered = writer.render(items);
+            MockHttpServletRequest gzipRequest = new MockHttpServletRequest();
+            gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+            // when
+            ResponseEntity<byte[]> plain = writer.toResponseEntity(rendered, new MockHttpServletRequest());
+            ResponseEntity<byte[]> gzipped = writer.toResponseEntity(rendered, gzipRequest);
+
+            // then
+            assertThat(plain.getHeaders().getETag()).startsWith("W/\"");
+            assertThat(gzipped.getHeaders().getETag()).startsWith("W/\"");
+            assertThat(plain.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(gzipped.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        @Test
+        @DisplayName("gzip 을 받지 않는 클라이언트에는 압축을 풀어 원본 JSON 을 보낸다.")
+        void gzip을_받지_않으면_압축을_풀어서_보낸다() throws Exception {
+            // given
+            List<Item> items = IntStream.range(0, 200).mapToObj(i -> new Item((long) i, "상품" + i)).toList();
+            RenderedResponse rendered = writer.render(items);
+
+            // when
+            ResponseEntity<byte[]> plain = writer.toResponseEntity(rendered, new MockHttpServletRequest());
+            MockHttpServletRequest gzipRequest = new MockHttpServletRequest();
+            gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+            ResponseEntity<byte[]> gzipped = writer.toResponseEntity(rendered, gzipRequest);
+
+            // then
+            assertThat(plain.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(plain.getBody()).isEqualTo(objectMapper.writeValueAsBytes(items));
+            assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(gzipped.getBody()).isEqualTo(rendered.body());
+        }
+    }
+}
@@ -46,12 +46,16 @@ public class CacheInvalidationApplicationService {
             return;
         }
 
-        // 캐시 무효화
-        if (cacheInvalidationDomainService.isStockDepletionCacheInvalidationNeeded(
+        // 캐시 무효화 (상세는 재고 변경마다, 목록은 소진 시에만)
+        if (cacheInvalidationDomainService.isStockCacheInvalidationNeeded(
                 event.getOldStock(), event.getNewStock())) {
 
             cacheInvalidationDomainService.invalidateProductCache(
-                    event.getProductId(), "stock_depleted");
+                    event.getProductId(), "stock_adjusted");
+        }
+        if (cacheInvalidationDomainService.isStockDepletionCacheInvalidationNeeded(
+                event.getOldStock(), event.getNewStock())) {
+
             cacheInvalidationDomainService.invalidateProductListCache(
                     "latest", "stock_depleted");
         }
@@ -0,0 +1,78 @@
+package com.loopers.application.event;
+
+import com.loopers.domain.repository.ProductListViewRepository;
+import com.loopers.event.LikeChangedEvent;
+import com.loopers.event.StockAdjustedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 목록 읽기 모델(product_list_view) 프로젝터
+ * - 좋아요/재고 이벤트의 변경 후 값을 그대로 덮어쓰므로 중복 수신에도 결과가 같다.
+ * - 발생 시각이 이미 반영된 값보다 이전인 이벤트는 조건부 UPDATE 로 무시된다.
+ * - 읽기 모델이 비어 있으면 기동 시 product 테이블에서 전체 구축한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductListViewProjector {
+
+    private static final long REBUILD_CHUNK_SIZE = 5000;
+
+    private final ProductListViewRepository productListViewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public void handleLikeChangedEvent(LikeChangedEvent event) {
+        int updated = productListViewRepository.updateLikesCount(event.getProductId(), event.getNewLikeCount(), event.getOccurredAt());
+        if (updated == 0) {
+            log.debug("목록 읽기 모델 좋아요 수 미반영 (행 없음 또는 이전 이벤트) - ProductId: {}, EventId: {}",
+                    event.getProductId(), event.getEventId());
+        }
+    }
+
+    @Transactional
+    public void handleStockAdjustedEvent(StockAdjustedEvent event) {
+        int updated = productListViewRepository.updateStock(event.getProductId(), event.getNewStock(), event.getOccurredAt());
+        if (updated == 0) {
+            log.debug("목록 읽기 모델 재고 미반영 (행 없음 또는 이전 이벤트) - ProductId: {}, EventId: {}",
+                    event.getProductId(), event.getEventId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrapIfEmpty() {
+        try {
+            if (productListViewRepository.count() == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("상품 목록 읽기 모델 초기 구축 실패 - 에러: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * product/brand/category 를 ID 구간 단위로 읽어 읽기 모델 전체를 덮어쓰기
+     */
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Long maxProductId = productListViewRepository.findMaxProductId();
+        if (maxProductId == null) {
+            return;
+        }
+        long rows = 0;
+        for (long from = 0; from < maxProductId; from += REBUILD_CHUNK_SIZE) {
+            long to = Math.min(from + REBUILD_CHUNK_SIZE, maxProductId);
+            long fromId = from;
+            Integer affected = transactionTemplate.execute(status -> productListViewRepository.rebuildRange(fromId, to));
+            rows += affected == null ? 0 : affected;
+        }
+        log.info("상품 목록 읽기 모델 구축 완료 - 최대 상품ID: {}, 반영 행 수: {}, 소요시간: {}ms",
+                maxProductId, rows, System.currentTimeMillis() - startTime);
+    }
+}
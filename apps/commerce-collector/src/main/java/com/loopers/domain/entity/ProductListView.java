@@ -0,0 +1,66 @@
+package com.loopers.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 상품 목록 조회용 읽기 모델 (commerce-api 가 목록 조회에 사용)
+ * 테이블과 인덱스는 이 모듈의 db/migration 이 관리하고, 갱신도 이 모듈만 한다.
+ * collector 는 좋아요 수/재고 컬럼만 갱신하고, 전체 재구축 시 product/brand/category 에서 다시 채운다.
+ */
+@Entity
+@Table(name = "product_list_view")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductListView {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "brand_id")
+    private Long brandId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "price", nullable = false)
+    private int price;
+
+    @Column(name = "stock", nullable = false)
+    private int stock;
+
+    @Column(name = "in_stock", nullable = false)
+    private boolean inStock;
+
+    @Column(name = "likes_count", nullable = false)
+    private int likesCount;
+
+    @Column(name = "brand_name")
+    private String brandName;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "product_created_at", nullable = false)
+    private ZonedDateTime productCreatedAt;
+
+    @Column(name = "likes_updated_at")
+    private ZonedDateTime likesUpdatedAt;
+
+    @Column(name = "stock_updated_at")
+    private ZonedDateTime stockUpdatedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.repository;
+
+public interface ProductCacheRepository {
+
+    /**
+     * commerce-api 가 태그로 등록한 캐시 키를 삭제하고 각 노드의 로컬 캐시 무효화를 전파
+     *
+     * @return 삭제된 키 수
+     */
+    int evictByTag(String tag);
+}
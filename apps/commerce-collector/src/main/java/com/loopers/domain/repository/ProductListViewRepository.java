@@ -0,0 +1,25 @@
+package com.loopers.domain.repository;
+
+import java.time.ZonedDateTime;
+
+public interface ProductListViewRepository {
+
+    /**
+     * 좋아요 수 갱신 (이미 더 최근 이벤트가 반영되었으면 무시하고 0 반환)
+     */
+    int updateLikesCount(Long productId, int likesCount, ZonedDateTime occurredAt);
+
+    /**
+     * 재고 갱신 (이미 더 최근 이벤트가 반영되었으면 무시하고 0 반환)
+     */
+    int updateStock(Long productId, int stock, ZonedDateTime occurredAt);
+
+    long count();
+
+    Long findMaxProductId();
+
+    /**
+     * (fromId, toId] 구간의 상품을 product/brand/category 에서 읽어 덮어쓰기
+     */
+    int rebuildRange(long fromIdExclusive, long toIdInclusive);
+}
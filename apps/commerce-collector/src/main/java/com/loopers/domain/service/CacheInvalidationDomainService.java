@@ -1,41 +1,45 @@
 package com.loopers.domain.service;
 
+import com.loopers.domain.repository.ProductCacheRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class CacheInvalidationDomainService {
 
-    private final CacheManager cacheManager;
+    // commerce-api ProductCacheService 의 캐시 태그
+    private static final String PRODUCT_TAG_PREFIX = "product:";
+    private static final String PRODUCT_LIST_TAG_PREFIX = "productlist:";
 
-    public CacheInvalidationDomainService(CacheManager cacheManager) {
-        this.cacheManager = cacheManager;
+    private final ProductCacheRepository productCacheRepository;
+
+    public CacheInvalidationDomainService(ProductCacheRepository productCacheRepository) {
+        this.productCacheRepository = productCacheRepository;
     }
 
+    /**
+     * 상품 상세 캐시 무효화 (상품 태그에 등록된 키만 삭제)
+     */
     public void invalidateProductCache(Long productId, String reason) {
-        Cache productCache = cacheManager.getCache("product");
-        if (productCache != null) {
-            productCache.evict(productId);
-        }
-
-        Cache productDetailCache = cacheManager.getCache("productDetail");
-        if (productDetailCache != null) {
-            productDetailCache.evict(productId);
-        }
+        int evicted = productCacheRepository.evictByTag(PRODUCT_TAG_PREFIX + productId);
 
-        log.info("상품 캐시 무효화 완료 - ProductId: {}, Reason: {}", productId, reason);
+        log.info("상품 캐시 무효화 완료 - ProductId: {}, Reason: {}, 삭제된 키 수: {}", productId, reason, evicted);
     }
 
-    public void invalidateProductListCache(String cacheKey, String reason) {
-        Cache productListCache = cacheManager.getCache("productList");
-        if (productListCache != null) {
-            productListCache.evict(cacheKey);
-        }
+    /**
+     * 정렬별 상품 목록 캐시 무효화
+     *
+     * @param sortKey 정렬 이름 (latest, likes ...)
+     */
+    public void invalidateProductListCache(String sortKey, String reason) {
+        int evicted = productCacheRepository.evictByTag(PRODUCT_LIST_TAG_PREFIX + sortKey);
+
+        log.info("상품 목록 캐시 무효화 완료 - SortKey: {}, Reason: {}, 삭제된 키 수: {}", sortKey, reason, evicted);
+    }
 
-        log.info("상품 목록 캐시 무효화 완료 - CacheKey: {}, Reason: {}", cacheKey, reason);
+    public boolean isStockCacheInvalidationNeeded(int oldStock, int newStock) {
+        return oldStock != newStock; // 상세에는 재고 수량이 노출되므로 변경 시마다 무효화
     }
 
     public boolean isStockDepletionCacheInvalidationNeeded(int oldStock, int newStock) {
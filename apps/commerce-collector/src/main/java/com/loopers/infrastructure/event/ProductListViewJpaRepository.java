@@ -0,0 +1,49 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.entity.ProductListView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+@Component
+public interface ProductListViewJpaRepository extends JpaRepository<ProductListView, Long> {
+
+    @Modifying
+    @Query("UPDATE ProductListView v SET v.likesCount = :likesCount, v.likesUpdatedAt = :occurredAt, v.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE v.productId = :productId AND (v.likesUpdatedAt IS NULL OR v.likesUpdatedAt <= :occurredAt)")
+    int updateLikesCount(@Param("productId") Long productId, @Param("likesCount") int likesCount,
+                         @Param("occurredAt") ZonedDateTime occurredAt);
+
+    @Modifying
+    @Query("UPDATE ProductListView v SET v.stock = :stock, v.inStock = (:stock > 0), v.stockUpdatedAt = :occurredAt, v.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE v.productId = :productId AND (v.stockUpdatedAt IS NULL OR v.stockUpdatedAt <= :occurredAt)")
+    int updateStock(@Param("productId") Long productId, @Param("stock") int stock,
+                    @Param("occurredAt") ZonedDateTime occurredAt);
+
+    @Query(value = "SELECT MAX(id) FROM product", nativeQuery = true)
+    Long findMaxProductId();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_list_view
+                (product_id, brand_id, category_id, name, price, stock, in_stock, likes_count,
+                 brand_name, category_name, product_created_at, updated_at)
+            SELECT p.id, p.brand_id, p.category_id, p.name, p.price, p.stock, p.stock > 0, p.likes_count,
+                   b.name, c.name, p.created_at, NOW()
+            FROM product p
+            LEFT JOIN brand b ON b.id = p.brand_id
+            LEFT JOIN category c ON c.id = p.category_id
+            WHERE p.id > :fromId AND p.id <= :toId AND p.deleted_at IS NULL
+            ON DUPLICATE KEY UPDATE
+                brand_id = VALUES(brand_id), category_id = VALUES(category_id), name = VALUES(name),
+                price = VALUES(price), stock = VALUES(stock), in_stock = VALUES(in_stock),
+                likes_count = VALUES(likes_count), brand_name = VALUES(brand_name),
+                category_name = VALUES(category_name), product_created_at = VALUES(product_created_at),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    int rebuildRange(@Param("fromId") long fromIdExclusive, @Param("toId") long toIdInclusive);
+}
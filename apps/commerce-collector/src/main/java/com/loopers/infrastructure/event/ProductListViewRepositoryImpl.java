@@ -0,0 +1,39 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.repository.ProductListViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class ProductListViewRepositoryImpl implements ProductListViewRepository {
+
+    private final ProductListViewJpaRepository jpaRepository;
+
+    @Override
+    public int updateLikesCount(Long productId, int likesCount, ZonedDateTime occurredAt) {
+        return jpaRepository.updateLikesCount(productId, likesCount, occurredAt);
+    }
+
+    @Override
+    public int updateStock(Long productId, int stock, ZonedDateTime occurredAt) {
+        return jpaRepository.updateStock(productId, stock, occurredAt);
+    }
+
+    @Override
+    public long count() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    public Long findMaxProductId() {
+        return jpaRepository.findMaxProductId();
+    }
+
+    @Override
+    public int rebuildRange(long fromIdExclusive, long toIdInclusive) {
+        return jpaRepository.rebuildRange(fromIdExclusive, toIdInclusive);
+    }
+}
@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.redis;
+
+import com.loopers.cache.RedisCacheKeys;
+import com.loopers.domain.repository.ProductCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * commerce-api 의 태그 인덱스를 이용한 상품 캐시 무효화
+ * 키 형식과 무효화 메시지는 commerce-api 와 공유하는 RedisCacheKeys 를 따른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRedisCacheRepository implements ProductCacheRepository {
+
+    private static final int UNLINK_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public int evictByTag(String tag) {
+        // 태그 인덱스의 멤버는 캐시 키의 UTF-8 바이트이므로 직렬화기를 거치지 않고 읽는다
+        byte[] tagKey = RedisCacheKeys.tagKey(tag).getBytes(StandardCharsets.UTF_8);
+        Set<byte[]> members = redisTemplate.execute(
+                (RedisCallback<Set<byte[]>>) connection -> connection.zSetCommands().zRange(tagKey, 0, -1));
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+
+        List<byte[]> keys = List.copyOf(members);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < keys.size(); from += UNLINK_BATCH_SIZE) {
+                byte[][] chunk = keys.subList(from, Math.min(from + UNLINK_BATCH_SIZE, keys.size())).toArray(new byte[0][]);
+                connection.keyCommands().unlink(chunk);
+                connection.zSetCommands().zRem(tagKey, chunk);
+            }
+            return null;
+        });
+
+        List<String> deletedKeys = keys.stream().map(key -> new String(key, StandardCharsets.UTF_8)).toList();
+        publishInvalidation(RedisCacheKeys.KEYS_MESSAGE_PREFIX + String.join(RedisCacheKeys.KEYS_DELIMITER, deletedKeys));
+        return deletedKeys.size();
+    }
+
+    private void publishInvalidation(String message) {
+        try {
+            byte[] channel = RedisCacheKeys.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+            byte[] body = message.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.execute((RedisCallback<Long>) (RedisConnection connection) -> connection.publish(channel, body));
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지 발행 실패 - 메시지: {}, 에러: {}", message, e.getMessage());
+        }
+    }
+}
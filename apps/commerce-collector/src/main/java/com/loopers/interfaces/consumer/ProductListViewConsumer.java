@@ -0,0 +1,75 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.event.ConsumerEventMapper;
+import com.loopers.application.event.ProductListViewProjector;
+import com.loopers.config.kafka.KafkaConfig;
+import com.loopers.event.LikeChangedEvent;
+import com.loopers.event.StockAdjustedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductListViewConsumer {
+
+    private final ProductListViewProjector productListViewProjector;
+    private final ConsumerEventMapper eventMapper;
+
+    /**
+     * 재고 조정 이벤트 배치 처리 - 목록 읽기 모델의 재고 갱신
+     */
+    @KafkaListener(
+            topics = "${kafka.topics.stock-events}",
+            groupId = "product-list-view-group",
+            containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void handleStockAdjustedEventsBatch(
+            @Payload List<Map<String, Object>> eventDataList,
+            Acknowledgment ack
+    ) {
+        for (Map<String, Object> eventData : eventDataList) {
+            StockAdjustedEvent event = eventMapper.toStockAdjustedEvent(eventData);
+            try {
+                productListViewProjector.handleStockAdjustedEvent(event);
+            } catch (Exception e) {
+                log.error("목록 읽기 모델 재고 갱신 실패 - EventId: {}, Error: {}",
+                        event.getEventId(), e.getMessage(), e);
+                throw e; // DLQ로 전송하기 위해 예외 재발생 (조건부 갱신이므로 배치 재처리에도 결과가 같음)
+            }
+        }
+        ack.acknowledge();
+    }
+
+    /**
+     * 좋아요 변경 이벤트 배치 처리 - 목록 읽기 모델의 좋아요 수 갱신
+     */
+    @KafkaListener(
+            topics = "${kafka.topics.like-events}",
+            groupId = "product-list-view-group",
+            containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void handleLikeChangedEventsBatch(
+            @Payload List<Map<String, Object>> eventDataList,
+            Acknowledgment ack
+    ) {
+        for (Map<String, Object> eventData : eventDataList) {
+            LikeChangedEvent event = eventMapper.toLikeChangedEvent(eventData);
+            try {
+                productListViewProjector.handleLikeChangedEvent(event);
+            } catch (Exception e) {
+                log.error("목록 읽기 모델 좋아요 수 갱신 실패 - EventId: {}, Error: {}",
+                        event.getEventId(), e.getMessage(), e);
+                throw e; // DLQ로 전송하기 위해 예외 재발생 (조건부 갱신이므로 배치 재처리에도 결과가 같음)
+            }
+        }
+        ack.acknowledge();
+    }
+}
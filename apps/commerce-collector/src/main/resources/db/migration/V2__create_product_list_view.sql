@@ -0,0 +1,29 @@
+-- 상품 목록 조회용 읽기 모델 (상품 + 브랜드명 + 카테고리명 비정규화)
+CREATE TABLE product_list_view (
+    product_id BIGINT PRIMARY KEY,
+    brand_id BIGINT NULL,
+    category_id BIGINT NULL,
+    name VARCHAR(255) NOT NULL,
+    price INTEGER NOT NULL,
+    stock INTEGER NOT NULL,
+    in_stock BOOLEAN NOT NULL,
+    likes_count INTEGER NOT NULL DEFAULT 0,
+    brand_name VARCHAR(255) NULL,
+    category_name VARCHAR(255) NULL,
+    product_created_at TIMESTAMP NOT NULL,
+    -- 좋아요/재고 이벤트 발생 시각 (이전 이벤트가 최신 값을 덮어쓰지 않도록 비교)
+    likes_updated_at TIMESTAMP NULL,
+    stock_updated_at TIMESTAMP NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 정렬 기준별 (필터, 정렬 컬럼, 상품 ID) 인덱스
+CREATE INDEX idx_plv_likes ON product_list_view (likes_count, product_id);
+CREATE INDEX idx_plv_brand_likes ON product_list_view (brand_id, likes_count, product_id);
+CREATE INDEX idx_plv_category_likes ON product_list_view (category_id, likes_count, product_id);
+CREATE INDEX idx_plv_created ON product_list_view (product_created_at, product_id);
+CREATE INDEX idx_plv_brand_created ON product_list_view (brand_id, product_created_at, product_id);
+CREATE INDEX idx_plv_category_created ON product_list_view (category_id, product_created_at, product_id);
+CREATE INDEX idx_plv_price ON product_list_view (price, product_id);
+CREATE INDEX idx_plv_brand_price ON product_list_view (brand_id, price, product_id);
+CREATE INDEX idx_plv_category_price ON product_list_view (category_id, price, product_id);
@@ -0,0 +1,4 @@
+-- 재고 있는 상품만 조회할 때 재고 여부로 먼저 좁히고 정렬 컬럼 순서로 읽는 인덱스
+CREATE INDEX idx_plv_stock_likes ON product_list_view (in_stock, likes_count, product_id);
+CREATE INDEX idx_plv_stock_created ON product_list_view (in_stock, product_created_at, product_id);
+CREATE INDEX idx_plv_stock_price ON product_list_view (in_stock, price, product_id);
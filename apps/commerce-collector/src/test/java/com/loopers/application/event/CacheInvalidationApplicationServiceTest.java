@@ -0,0 +1,107 @@
+package com.loopers.application.event;
+
+import com.loopers.domain.repository.ConsumerLastProcessedRepository;
+import com.loopers.domain.repository.ProductCacheRepository;
+import com.loopers.domain.service.CacheInvalidationDomainService;
+import com.loopers.event.LikeChangedEvent;
+import com.loopers.event.StockAdjustedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationApplicationServiceTest {
+
+    private static final String CONSUMER_GROUP = "cache-invalidation-group";
+
+    @Mock
+    private IdempotentProcessor idempotentProcessor;
+
+    @Mock
+    private ConsumerLastProcessedRepository lastProcessedRepository;
+
+    @Mock
+    private ProductCacheRepository productCacheRepository;
+
+    private CacheInvalidationApplicationService cacheInvalidationService;
+
+    @BeforeEach
+    void setUp() {
+        cacheInvalidationService = new CacheInvalidationApplicationService(
+                idempotentProcessor,
+                new CacheInvalidationDomainService(productCacheRepository),
+                lastProcessedRepository
+        );
+    }
+
+    @Test
+    void 재고가_소진되면_상품_태그와_최신순_목록_태그를_무효화한다() {
+        // given
+        StockAdjustedEvent event = stockAdjusted("event-1", 1L, 5, 0);
+        when(lastProcessedRepository.findByConsumerGroupAndAggregateId(CONSUMER_GROUP, "product-1"))
+                .thenReturn(Optional.empty());
+
+        // when
+        cacheInvalidationService.handleStockAdjustedEvent(event);
+
+        // then
+        verify(productCacheRepository).evictByTag("product:1");
+        verify(productCacheRepository).evictByTag("productlist:latest");
+        verify(idempotentProcessor).markAsProcessed("event-1", CONSUMER_GROUP);
+    }
+
+    @Test
+    void 재고가_남아있으면_상품_태그만_무효화한다() {
+        // given
+        StockAdjustedEvent event = stockAdjusted("event-1", 1L, 10, 7);
+        when(lastProcessedRepository.findByConsumerGroupAndAggregateId(CONSUMER_GROUP, "product-1"))
+                .thenReturn(Optional.empty());
+
+        // when
+        cacheInvalidationService.handleStockAdjustedEvent(event);
+
+        // then
+        verify(productCacheRepository).evictByTag("product:1");
+        verifyNoMoreInteractions(productCacheRepository);
+    }
+
+    @Test
+    void 좋아요_수가_바뀌면_상품_태그와_좋아요순_목록_태그를_무효화한다() {
+        // given
+        LikeChangedEvent event = new LikeChangedEvent("event-1", 1L, "user1", "LIKE", 3, 4, 1, ZonedDateTime.now());
+
+        // when
+        cacheInvalidationService.handleLikeChangedEvent(event);
+
+        // then
+        verify(productCacheRepository).evictByTag("product:1");
+        verify(productCacheRepository).evictByTag("productlist:likes");
+        verify(idempotentProcessor).markAsProcessed("event-1", CONSUMER_GROUP);
+    }
+
+    @Test
+    void 이미_처리된_이벤트는_캐시를_무효화하지_않는다() {
+        // given
+        LikeChangedEvent event = new LikeChangedEvent("event-1", 1L, "user1", "LIKE", 3, 4, 1, ZonedDateTime.now());
+        when(idempotentProcessor.isAlreadyProcessed("event-1", CONSUMER_GROUP)).thenReturn(true);
+
+        // when
+        cacheInvalidationService.handleLikeChangedEvent(event);
+
+        // then
+        verify(productCacheRepository, never()).evictByTag(anyString());
+        verify(idempotentProcessor, never()).markAsProcessed(anyString(), anyString());
+    }
+
+    private StockAdjustedEvent stockAdjusted(String eventId, Long productId, int oldStock, int newStock) {
+        return new StockAdjustedEvent(eventId, productId, oldStock, newStock, newStock - oldStock, "ORDER", ZonedDateTime.now());
+    }
+}
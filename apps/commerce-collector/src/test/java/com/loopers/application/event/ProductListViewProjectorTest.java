@@ -0,0 +1,92 @@
+package com.loopers.application.event;
+
+import com.loopers.domain.repository.ProductListViewRepository;
+import com.loopers.event.LikeChangedEvent;
+import com.loopers.event.StockAdjustedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductListViewProjectorTest {
+
+    private static final ZonedDateTime OCCURRED_AT = ZonedDateTime.parse("2026-10-18T10:00:00+09:00");
+
+    @Mock
+    private ProductListViewRepository productListViewRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ProductListViewProjector productListViewProjector;
+
+    @BeforeEach
+    void setUp() {
+        productListViewProjector = new ProductListViewProjector(productListViewRepository, transactionTemplate);
+    }
+
+    @Test
+    void 좋아요_변경_이벤트의_변경후_값과_발생시각으로_갱신한다() {
+        // given
+        LikeChangedEvent event = new LikeChangedEvent("event-1", 1L, "user1", "LIKE", 4, 5, 1, OCCURRED_AT);
+
+        // when
+        productListViewProjector.handleLikeChangedEvent(event);
+
+        // then
+        verify(productListViewRepository).updateLikesCount(1L, 5, OCCURRED_AT);
+    }
+
+    @Test
+    void 재고_조정_이벤트의_변경후_재고와_발생시각으로_갱신한다() {
+        // given
+        StockAdjustedEvent event = new StockAdjustedEvent("event-1", 1L, 5, 0, -5, "ORDER", OCCURRED_AT);
+
+        // when
+        productListViewProjector.handleStockAdjustedEvent(event);
+
+        // then
+        verify(productListViewRepository).updateStock(1L, 0, OCCURRED_AT);
+    }
+
+    @Test
+    void 읽기_모델이_비어_있으면_상품ID_구간별로_전체_구축한다() {
+        // given
+        when(productListViewRepository.count()).thenReturn(0L);
+        when(productListViewRepository.findMaxProductId()).thenReturn(12_000L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(productListViewRepository.rebuildRange(anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        productListViewProjector.bootstrapIfEmpty();
+
+        // then
+        verify(productListViewRepository).rebuildRange(0L, 5_000L);
+        verify(productListViewRepository).rebuildRange(5_000L, 10_000L);
+        verify(productListViewRepository).rebuildRange(10_000L, 12_000L);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    void 읽기_모델이_이미_있으면_기동시_구축하지_않는다() {
+        // given
+        when(productListViewRepository.count()).thenReturn(10L);
+
+        // when
+        productListViewProjector.bootstrapIfEmpty();
+
+        // then
+        verify(productListViewRepository, never()).rebuildRange(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,87 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.event.ConsumerEventMapper;
+import com.loopers.application.event.ProductListViewProjector;
+import com.loopers.event.LikeChangedEvent;
+import com.loopers.event.StockAdjustedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductListViewConsumerTest {
+
+    @Mock
+    private ProductListViewProjector productListViewProjector;
+
+    @Mock
+    private ConsumerEventMapper eventMapper;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private ProductListViewConsumer productListViewConsumer;
+
+    @Test
+    void 좋아요_변경_배치의_모든_이벤트를_반영한_뒤_한번만_커밋한다() {
+        // given
+        Map<String, Object> first = Map.of("eventId", "event-1");
+        Map<String, Object> second = Map.of("eventId", "event-2");
+        LikeChangedEvent firstEvent = likeChanged("event-1", 1L, 5);
+        LikeChangedEvent secondEvent = likeChanged("event-2", 2L, 3);
+        when(eventMapper.toLikeChangedEvent(first)).thenReturn(firstEvent);
+        when(eventMapper.toLikeChangedEvent(second)).thenReturn(secondEvent);
+
+        // when
+        productListViewConsumer.handleLikeChangedEventsBatch(List.of(first, second), acknowledgment);
+
+        // then
+        verify(productListViewProjector).handleLikeChangedEvent(firstEvent);
+        verify(productListViewProjector).handleLikeChangedEvent(secondEvent);
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    void 재고_조정_배치의_모든_이벤트를_반영한_뒤_커밋한다() {
+        // given
+        Map<String, Object> eventData = Map.of("eventId", "event-1");
+        StockAdjustedEvent event = new StockAdjustedEvent("event-1", 1L, 5, 0, -5, "ORDER", ZonedDateTime.now());
+        when(eventMapper.toStockAdjustedEvent(eventData)).thenReturn(event);
+
+        // when
+        productListViewConsumer.handleStockAdjustedEventsBatch(List.of(eventData), acknowledgment);
+
+        // then
+        verify(productListViewProjector).handleStockAdjustedEvent(event);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void 반영_중_실패하면_커밋하지_않고_예외를_다시_던진다() {
+        // given
+        Map<String, Object> eventData = Map.of("eventId", "event-1");
+        LikeChangedEvent event = likeChanged("event-1", 1L, 5);
+        when(eventMapper.toLikeChangedEvent(eventData)).thenReturn(event);
+        doThrow(new IllegalStateException("DB 오류")).when(productListViewProjector).handleLikeChangedEvent(event);
+
+        // when & then
+        assertThatThrownBy(() -> productListViewConsumer.handleLikeChangedEventsBatch(List.of(eventData), acknowledgment))
+                .isInstanceOf(IllegalStateException.class);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private LikeChangedEvent likeChanged(String eventId, Long productId, int newLikeCount) {
+        return new LikeChangedEvent(eventId, productId, "user1", "LIKE", newLikeCount - 1, newLikeCount, 1, ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.cache;
+
+/**
+ * commerce-api 와 collector 가 함께 사용하는 캐시 태그 인덱스 키와 무효화 메시지 형식
+ */
+public final class RedisCacheKeys {
+
+    // 태그 인덱스: cache:tags:{tag} → 태그에 속한 캐시 키 Sorted Set (멤버: 캐시 키 UTF-8 바이트, score: 키 만료 시각 ms)
+    public static final String TAG_KEY_PREFIX = "cache:tags:";
+
+    // 노드 간 L1/핫 키 복제본 무효화 전파 채널
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    public static final String KEY_MESSAGE_PREFIX = "key:";
+    public static final String KEYS_MESSAGE_PREFIX = "keys:";
+    public static final String PATTERN_MESSAGE_PREFIX = "pattern:";
+    public static final String KEYS_DELIMITER = "\n";
+
+    private RedisCacheKeys() {
+    }
+
+    public static String tagKey(String tag) {
+        return TAG_KEY_PREFIX + tag;
+    }
+}